@@ -36,6 +36,7 @@ import java.util.concurrent.TimeUnit;
  *
  * @see #withTimeToLive(long, TimeUnit)
  * @see #withTimeToIdle(long, TimeUnit)
+ * @see #withRefreshAhead(double, long, TimeUnit)
  * @see Caches#forResource(Class)
  * @see Caches#named(String)
  * @since 0.5.0
@@ -86,4 +87,46 @@ public interface CacheConfigurationBuilder {
      */
     CacheConfigurationBuilder withTimeToIdle(long tti, TimeUnit ttiTimeUnit);
 
+    /**
+     * Enables refresh-ahead for the associated {@code Cache} region's entries, which requires a Time to Live.
+     * <p>
+     * An entry read after {@code refreshAfter} of its Time to Live (e.g. {@code 0.8} for 80%) is still returned from
+     * the cache, while it is reloaded from Okta once in the background. Readers of a frequently used entry then never
+     * wait for it to be fetched again. If the reload has not replaced the entry by the end of its Time to Live, for
+     * example because it failed during a brief Okta outage, the entry is served for up to {@code staleGrace} longer
+     * and reads keep retrying the reload, one at a time. After that it expires like any other entry, so
+     * {@code ttl + staleGrace} bounds how stale a returned value can be. A {@code refreshAfter} of {@code 1} only
+     * reloads expired entries, serving them meanwhile ("stale-while-revalidate").
+     * <b>Usage</b>
+     * <pre>
+     *     ...withTimeToLive(5, TimeUnit.MINUTES)
+     *        .withRefreshAhead(0.8, 1, TimeUnit.MINUTES)...
+     * </pre>
+     *
+     * @param refreshAfter       the part of the Time to Live after which entries are reloaded, greater than 0 and at
+     *                           most 1
+     * @param staleGrace         how long past its Time to Live an entry being reloaded may be served, 0 for no grace
+     * @param staleGraceTimeUnit the unit of {@code staleGrace}
+     * @return this builder
+     * @see RefreshAheadCache
+     * @since 25.1.0
+     */
+    CacheConfigurationBuilder withRefreshAhead(double refreshAfter, long staleGrace, TimeUnit staleGraceTimeUnit);
+
+    /**
+     * Bounds the associated {@code Cache} region to at most {@code maximumSize} entries, in place of the
+     * {@link CacheManagerBuilder#withMaximumSize(long) maximum size} (or weight) of the cache manager. Once full, the
+     * region evicts the entries least likely to be used again.
+     * <b>Usage</b>
+     * <pre>
+     *     ...withTimeToLive(30, TimeUnit.SECONDS)
+     *        .withMaximumSize(5_000)...
+     * </pre>
+     *
+     * @param maximumSize the maximum number of entries of the region, greater than zero
+     * @return this builder
+     * @since 25.1.0
+     */
+    CacheConfigurationBuilder withMaximumSize(long maximumSize);
+
 }
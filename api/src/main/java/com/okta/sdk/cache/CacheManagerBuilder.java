@@ -16,6 +16,7 @@
  */
 package com.okta.sdk.cache;
 
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -114,6 +115,66 @@ public interface CacheManagerBuilder {
      */
     CacheManagerBuilder withCache(CacheConfigurationBuilder builder);
 
+    /**
+     * Sets the maximum number of entries each cache region managed by the {@link #build() built}
+     * {@code CacheManager} may hold.
+     * <p>
+     * By default cache regions are only bounded by available memory: entries are softly referenced and released by
+     * the garbage collector under memory pressure. Once a maximum size (or {@link #withMaximumWeight(long, Weigher)
+     * maximum weight}) is configured, regions are instead strictly bounded and evict the entries least likely to be
+     * used again, based on how frequently and how recently they were accessed.
+     * <b>Usage</b>
+     * <pre>
+     *     ...withMaximumSize(10_000)...
+     * </pre>
+     *
+     * @param maximumSize the maximum number of entries per cache region, greater than zero
+     * @return the builder instance for method chaining.
+     * @since 25.1.0
+     */
+    CacheManagerBuilder withMaximumSize(long maximumSize);
+
+    /**
+     * Sets the maximum total weight of the entries each cache region managed by the {@link #build() built}
+     * {@code CacheManager} may hold, as computed by {@code weigher}. This replaces any
+     * {@link #withMaximumSize(long) maximum size}.
+     * <b>Usage</b>
+     * <pre>
+     *     ...withMaximumWeight(64 * 1024 * 1024, (key, value) -&gt; estimateSizeInBytes(value))...
+     * </pre>
+     *
+     * @param maximumWeight the maximum total weight per cache region, greater than zero
+     * @param weigher       computes the weight of each entry
+     * @return the builder instance for method chaining.
+     * @since 25.1.0
+     */
+    CacheManagerBuilder withMaximumWeight(long maximumWeight, Weigher weigher);
+
+    /**
+     * Adds a second cache tier on disk: the {@link #build() built} {@code CacheManager} keeps only a small number of
+     * recently used entries per cache region on the heap, and all entries as compact binary in memory-mapped files in
+     * {@code directory}, outside of the Java heap.
+     * <p>
+     * This suits applications caching many resources, like hundreds of thousands of users and groups, which would
+     * otherwise fill the heap. The files are reused when the application restarts, so it starts with the entries that
+     * have not expired yet instead of an empty cache. A {@link #withMaximumSize(long) maximum size} or
+     * {@link #withMaximumWeight(long, Weigher) weight} then bounds the on-heap tier of each region, which holds 1,000
+     * entries by default.
+     * <p>
+     * The files hold resource data, such as user profiles, in clear: the directory should only be accessible to the
+     * application. It cannot be shared by several cache managers or processes.
+     * <b>Usage</b>
+     * <pre>
+     *     ...withDiskStore(Paths.get("/var/cache/okta"), 1024 * 1024 * 1024)...
+     * </pre>
+     *
+     * @param directory    the directory of the files, created if needed
+     * @param maximumBytes the maximum total size of the files, at least 2 MiB
+     * @return the builder instance for method chaining.
+     * @since 25.1.0
+     */
+    CacheManagerBuilder withDiskStore(Path directory, long maximumBytes);
+
     /**
      * Returns a new {@link CacheManager} instance reflecting Builder's current configuration.
      *
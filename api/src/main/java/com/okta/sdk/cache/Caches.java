@@ -57,6 +57,14 @@ import com.okta.commons.lang.Classes;
  */
 public class Caches {
 
+    /**
+     * The name of the cache region storing the pages of list operations, when collection caching is enabled on the
+     * client.
+     *
+     * @since 25.1.0
+     */
+    public static final String COLLECTIONS = "com.okta.sdk.collections";
+
     /**
      * Instantiates a new {@code CacheManagerBuilder} suitable for <b>SINGLE-JVM APPLICATIONS</b>.  If your application
      * is deployed on multiple JVMs (e.g. for a distributed/clustered web app), you might not want to use this method
@@ -108,6 +116,25 @@ public class Caches {
         return named(clazz.getName());
     }
 
+    /**
+     * Returns a new {@link CacheConfigurationBuilder} to configure the cache region storing the pages of list
+     * operations, typically with a short Time to Live and a maximum size. For example:
+     *
+     * <pre>
+     * import static com.okta.sdk.cache.Caches.*
+     * ...
+     * newCacheManager()
+     *     .withCache(forCollections().withTimeToLive(30, TimeUnit.SECONDS).withMaximumSize(5_000))
+     *     .build();
+     * </pre>
+     *
+     * @return a new {@link CacheConfigurationBuilder} to configure the {@link #COLLECTIONS} cache region.
+     * @since 25.1.0
+     */
+    public static CacheConfigurationBuilder forCollections() {
+        return named(COLLECTIONS);
+    }
+
     /**
      * Returns a new {@link CacheConfigurationBuilder} used to configure a cache region with the specified name.  For
      * example:
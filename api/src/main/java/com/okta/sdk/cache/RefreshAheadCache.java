@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.cache;
+
+/**
+ * A {@link Cache} whose entries are reloaded in the background shortly before they expire, so that readers of
+ * frequently used entries are not the ones waiting on the server once the Time to Live is over.
+ * <p>
+ * Once an entry has lived for a configured part of its Time to Live, {@link #claimRefresh(Object)} hands its reload
+ * to a single caller, which reports the outcome with {@link #completeRefresh(Object, Object, String)} or
+ * {@link #refreshFailed(Object)}. Past its Time to Live, {@link #get(Object)} keeps returning the entry for a grace
+ * period, so that a slow or failing reload does not turn into a miss; after that the entry expires as usual.
+ *
+ * @param <K> The cache key type
+ * @param <V> The cache value type
+ * @see CacheConfigurationBuilder#withRefreshAhead(double, long, java.util.concurrent.TimeUnit)
+ * @since 25.1.0
+ */
+public interface RefreshAheadCache<K, V> extends Cache<K, V> {
+
+    /**
+     * Claims the reload of the entry stored under the specified {@code key}, if it is due and no other caller is
+     * reloading it.
+     *
+     * @param key the key that the value was previous added with
+     * @return {@code true} if the caller must reload the entry and report the outcome, {@code false} otherwise
+     */
+    boolean claimRefresh(K key);
+
+    /**
+     * Replaces the entry whose reload was claimed with the reloaded value. Nothing is stored if the entry was removed
+     * or replaced in the meantime, e.g. invalidated by a write, so that a reload can't bring back an outdated value.
+     *
+     * @param key   the key that the value was previous added with
+     * @param value the reloaded value
+     * @param eTag  the {@code ETag} the value was served with, or {@code null}
+     * @return {@code true} if the value was stored
+     */
+    boolean completeRefresh(K key, V value, String eTag);
+
+    /**
+     * Reports that the claimed reload of the entry failed. The entry is kept for its grace period, and the reload can
+     * be claimed again.
+     *
+     * @param key the key that the value was previous added with
+     */
+    void refreshFailed(K key);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.cache;
+
+/**
+ * A {@link Cache} that keeps the entity tag ({@code ETag}) a value was served with, so that an expired entry can be
+ * revalidated with a conditional {@code If-None-Match} request instead of being fetched again.
+ * <p>
+ * An expired entry that carries an entity tag is no longer returned by {@link #get(Object)}, but is retained until it
+ * is either {@link #revalidate(Object, String) revalidated}, replaced or removed.
+ *
+ * @param <K> The cache key type
+ * @param <V> The cache value type
+ * @since 25.1.0
+ */
+public interface ValidatingCache<K, V> extends Cache<K, V> {
+
+    /**
+     * Adds a cache entry along with the entity tag the value was served with.
+     *
+     * @param key   the key used to identify the object being stored.
+     * @param value the value to be stored in the cache.
+     * @param eTag  the {@code ETag} response header value, or {@code null} if the response did not carry one
+     * @return the previous value associated with the given {@code key} or {@code null} if there was no previous value
+     */
+    V put(K key, V value, String eTag);
+
+    /**
+     * Returns the entity tag of the entry stored under the specified {@code key}, whether or not that entry has
+     * expired.
+     *
+     * @param key the key that the value was previous added with
+     * @return the entry's entity tag or {@code null} if there is no entry or it was stored without one
+     */
+    String getETag(K key);
+
+    /**
+     * Marks the entry stored under the specified {@code key} as fresh again, after the server confirmed that the
+     * resource still matches {@code eTag} (an HTTP {@code 304 Not Modified}). The entry's Time to Live and Time to
+     * Idle restart from now.
+     *
+     * @param key  the key that the value was previous added with
+     * @param eTag the entity tag that was sent in the {@code If-None-Match} request header
+     * @return the revalidated value, or {@code null} if the entry is gone or has been replaced with a different
+     *         entity tag in the meantime
+     */
+    V revalidate(K key, String eTag);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.cache;
+
+/**
+ * Computes the relative weight of a cache entry, e.g. an estimate of its size in bytes, for caches bounded with
+ * {@link CacheManagerBuilder#withMaximumWeight(long, Weigher)}. An entry's weight is computed once, when it is added.
+ *
+ * @since 25.1.0
+ */
+@FunctionalInterface
+public interface Weigher {
+
+    /**
+     * Returns the weight of the given cache entry.
+     *
+     * @param key   the entry's key
+     * @param value the entry's value
+     * @return a non-negative weight
+     */
+    int weigh(Object key, Object value);
+}
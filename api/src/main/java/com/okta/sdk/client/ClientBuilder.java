@@ -85,6 +85,20 @@ public interface ClientBuilder {
     String DEFAULT_CLIENT_KID_PROPERTY_NAME = "okta.client.kid";
     String DEFAULT_CLIENT_REQUEST_TIMEOUT_PROPERTY_NAME = "okta.client.requestTimeout";
     String DEFAULT_CLIENT_RETRY_MAX_ATTEMPTS_PROPERTY_NAME = "okta.client.rateLimit.maxRetries";
+    String DEFAULT_CLIENT_ASYNC_ENABLED_PROPERTY_NAME = "okta.client.async.enabled";
+    String DEFAULT_CLIENT_RATE_LIMIT_PACING_ENABLED_PROPERTY_NAME = "okta.client.rateLimit.pacing.enabled";
+    String DEFAULT_CLIENT_RETRY_BUDGET_PERCENT_PROPERTY_NAME = "okta.client.rateLimit.retryBudgetPercent";
+    int DEFAULT_RETRY_BUDGET_PERCENT = 20;
+    String DEFAULT_CLIENT_CONCURRENCY_LIMIT_ENABLED_PROPERTY_NAME = "okta.client.concurrencyLimit.enabled";
+    String DEFAULT_CLIENT_CONCURRENCY_LIMIT_MAX_PROPERTY_NAME = "okta.client.concurrencyLimit.max";
+    String DEFAULT_CLIENT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT_PROPERTY_NAME = "okta.client.concurrencyLimit.queueTimeout";
+    int DEFAULT_CONCURRENCY_LIMIT_MAX = 100;
+    int DEFAULT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT = 10;
+    String DEFAULT_CLIENT_INTERACTIVE_RESERVE_PERCENT_PROPERTY_NAME = "okta.client.priority.interactiveReservePercent";
+    int DEFAULT_INTERACTIVE_RESERVE_PERCENT = 20;
+    String DEFAULT_CLIENT_STATELESS_ENABLED_PROPERTY_NAME = "okta.client.stateless.enabled";
+    String DEFAULT_CLIENT_METRICS_ENABLED_PROPERTY_NAME = "okta.client.metrics.enabled";
+    String DEFAULT_CLIENT_METRICS_JMX_ENABLED_PROPERTY_NAME = "okta.client.metrics.jmx.enabled";
     String DEFAULT_CLIENT_TESTING_DISABLE_HTTPS_CHECK_PROPERTY_NAME = "okta.testing.disableHttpsCheck";
 
     /**
@@ -307,7 +321,8 @@ public interface ClientBuilder {
     ClientBuilder setOrgUrl(String baseUrl);
 
     /**
-     * Sets the maximum number of seconds to wait when retrying before giving up.
+     * Sets the maximum number of seconds to wait when retrying before giving up. A retry is only sent if its backoff
+     * delay ends within this many seconds of the request's first failure; {@code 0} means no limit.
      *
      * @param maxElapsed retry max elapsed duration in seconds
      * @return the ClientBuilder instance for method chaining
@@ -315,13 +330,145 @@ public interface ClientBuilder {
     ClientBuilder setRetryMaxElapsed(int maxElapsed);
 
     /**
-     * Sets the maximum number of attempts to retrying before giving up.
+     * Sets the maximum number of attempts to retrying before giving up. {@code 0} disables retries, also when a
+     * {@link #setRetryMaxElapsed(int) maximum elapsed time} is set.
      *
      * @param maxAttempts retry max attempts
      * @return the ClientBuilder instance for method chaining
      */
     ClientBuilder setRetryMaxAttempts(int maxAttempts);
 
+    /**
+     * Caps retries, across all requests of the client, to a percentage of the requests sent over the last ten
+     * seconds. A small number of retries is always allowed so that a client with little traffic can still retry.
+     * This keeps a client from multiplying its load on Okta when most requests are failing. Defaults to
+     * {@value #DEFAULT_RETRY_BUDGET_PERCENT} percent; {@code 0} or less disables
+     * the budget.
+     *
+     * @param retryBudgetPercent retries allowed per 100 requests
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setRetryBudgetPercent(int retryBudgetPercent);
+
+    /**
+     * Enables the non-blocking HTTP client used by the generated {@code *Async} API methods. When enabled, the
+     * constructed {@link ApiClient} is backed by an additional async HTTP client that shares the retry, DPoP and
+     * caching behavior of the classic client. Async support is disabled by default.
+     *
+     * @param asyncEnabled whether to create the async HTTP client
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setAsyncEnabled(boolean asyncEnabled);
+
+    /**
+     * Enables client-side pacing based on the {@code x-rate-limit-limit}, {@code x-rate-limit-remaining} and
+     * {@code x-rate-limit-reset} response headers. Requests are grouped into buckets by endpoint (e.g.
+     * {@code /api/v1/users} and {@code /api/v1/apps}); once a bucket runs low, requests to it are spread over the
+     * rest of the window, and once it is exhausted they are held back until the window resets instead of being
+     * sent only to receive a 429. The bucket table is exposed through {@link ApiClient#getRateLimitStatus()}.
+     * Pacing is disabled by default.
+     *
+     * @param rateLimitPacingEnabled whether to pace requests per rate limit bucket
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setRateLimitPacingEnabled(boolean rateLimitPacingEnabled);
+
+    /**
+     * Enables an adaptive limit on the number of requests in flight, shared by the classic and async HTTP clients.
+     * The limit starts low, grows while Okta answers promptly and shrinks on 429 and 503 responses, timeouts, or
+     * rising latency, so that a burst of calls queues in the client instead of piling up on Okta. The current limit
+     * is exposed through {@link ApiClient#getConcurrencyLimitStatus()}. The limit is disabled by default.
+     *
+     * @param concurrencyLimitEnabled whether to limit the requests in flight
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled);
+
+    /**
+     * Sets the ceiling the adaptive concurrency limit can grow to. Defaults to {@value #DEFAULT_CONCURRENCY_LIMIT_MAX}.
+     *
+     * @param concurrencyLimitMax the maximum number of requests in flight
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setConcurrencyLimitMax(int concurrencyLimitMax);
+
+    /**
+     * Sets how long a request over the concurrency limit waits for a slot before it fails. {@code 0} rejects such
+     * requests right away instead of queueing them. Defaults to {@value #DEFAULT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT}
+     * seconds.
+     *
+     * @param queueTimeout the time to wait, in seconds
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setConcurrencyLimitQueueTimeout(int queueTimeout);
+
+    /**
+     * Sets the share of the concurrency limit and of each rate limit bucket that {@link RequestPriority#BATCH}
+     * requests leave to {@link RequestPriority#INTERACTIVE} ones, so that background jobs sharing the client cannot
+     * crowd out user-facing calls. Queued interactive requests are always admitted before queued batch requests.
+     * Only applies when the concurrency limit or rate limit pacing is enabled. Defaults to
+     * {@value #DEFAULT_INTERACTIVE_RESERVE_PERCENT} percent; {@code 0} only keeps the ordering.
+     *
+     * @param interactiveReservePercent percentage of the limits reserved for interactive requests, below 100
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setInteractiveReservePercent(int interactiveReservePercent);
+
+    /**
+     * Builds an {@link ApiClient} that keeps no per-thread state: the last status code and response headers are not
+     * recorded for the deprecated {@code ApiClient#getResponseHeaders()} and {@code PaginationUtil}, and no thread
+     * tracking is done for multi-threading warnings. Use {@code invokeAPIWithHttpInfo} and the {@code *Paged} methods
+     * for headers and pagination. A stateless client can be shared by any number of threads. Disabled by default.
+     *
+     * @param statelessEnabled whether to build a stateless client
+     * @return the ClientBuilder instance for method chaining
+     * @see ApiClient#setStatelessEnabled(boolean)
+     * @since 25.1.0
+     */
+    ClientBuilder setStatelessEnabled(boolean statelessEnabled);
+
+    /**
+     * Enables the built-in metrics: latency histograms per operation and status, connection lease times, bytes sent and
+     * received, retries, access token refreshes and cache hits and misses. They are available from
+     * {@link ApiClient#getMetricsRecorder()}. Disabled by default.
+     *
+     * @param metricsEnabled whether to record metrics
+     * @return the ClientBuilder instance for method chaining
+     * @see #setMetricsJmxEnabled(boolean)
+     * @since 25.1.0
+     */
+    ClientBuilder setMetricsEnabled(boolean metricsEnabled);
+
+    /**
+     * Registers the built-in metrics with the platform MBean server as {@code com.okta.sdk:type=ClientMetrics,id=<n>},
+     * so JConsole or a JMX exporter can read them. Enables metrics. The MBean keeps the client's recorder reachable
+     * until it is removed with {@code DefaultMetricsRecorder.unregister()}, call it when the client is discarded.
+     * Disabled by default.
+     *
+     * @param metricsJmxEnabled whether to register the metrics with JMX
+     * @return the ClientBuilder instance for method chaining
+     * @since 25.1.0
+     */
+    ClientBuilder setMetricsJmxEnabled(boolean metricsJmxEnabled);
+
+    /**
+     * Sends the client's measurements to {@code metricsRecorder} instead of the built-in recorder, for example to
+     * bridge them to another metrics library. Enables metrics.
+     *
+     * @param metricsRecorder the recorder receiving the measurements
+     * @return the ClientBuilder instance for method chaining
+     * @see #setMetricsEnabled(boolean)
+     * @since 25.1.0
+     */
+    ClientBuilder setMetricsRecorder(MetricsRecorder metricsRecorder);
+
     /**
      * Constructs a new {@link ApiClient} instance based on the ClientBuilder's current configuration state.
      *
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.client;
+
+/**
+ * Live view of the adaptive concurrency limit of a client, available through
+ * {@link com.okta.sdk.resource.client.ApiClient#getConcurrencyLimitStatus()} when the limit is enabled.
+ *
+ * @see ClientBuilder#setConcurrencyLimitEnabled(boolean)
+ * @since 25.1.0
+ */
+public interface ConcurrencyLimitStatus {
+
+    /**
+     * @return the number of requests currently allowed in flight
+     */
+    int getLimit();
+
+    /**
+     * @return the number of requests currently in flight
+     */
+    int getInFlight();
+
+    /**
+     * @return the number of requests waiting for one of the in-flight requests to complete
+     */
+    int getQueueDepth();
+
+    /**
+     * @return the number of requests rejected so far because the limit was reached
+     */
+    long getRejectedCount();
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Receives the measurements taken by a client: request latencies, connection leases, bytes on the wire, retries,
+ * access token refreshes and cache lookups.
+ * <p>
+ * The SDK ships a dependency-free implementation that keeps lock-free latency histograms and exposes them over JMX,
+ * enabled with {@link ClientBuilder#setMetricsEnabled(boolean)}. To feed another metrics library instead, implement
+ * the methods of interest and pass the instance to {@link ClientBuilder#setMetricsRecorder(MetricsRecorder)}; all
+ * methods default to doing nothing. Methods are called on the request path, from any thread, and must not block.
+ * <p>
+ * {@code operationId} is the id of the API operation from the Okta management API specification, for example
+ * {@code listUsers}, or {@code unknown} for requests not sent by a generated API method.
+ *
+ * @since 25.1.0
+ */
+public interface MetricsRecorder {
+
+    /**
+     * A recorder that discards every measurement.
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() { };
+
+    /**
+     * Records a completed call, including its retries, up to the response headers.
+     *
+     * @param operationId the API operation
+     * @param status the status of the final response, or {@code 0} if the call failed without a response
+     * @param durationNanos the duration of the call
+     */
+    default void recordRequest(String operationId, int status, long durationNanos) {
+    }
+
+    /**
+     * Records the time taken to lease a pooled connection, and to open it if the pool had none available.
+     *
+     * @param durationNanos the duration of the lease
+     */
+    default void recordConnectionAcquire(long durationNanos) {
+    }
+
+    /**
+     * Records a request body sent, once per attempt.
+     *
+     * @param operationId the API operation
+     * @param bytes the size of the body
+     */
+    default void recordBytesSent(String operationId, long bytes) {
+    }
+
+    /**
+     * Records a response body read.
+     *
+     * @param operationId the API operation
+     * @param bytes the number of bytes read
+     */
+    default void recordBytesReceived(String operationId, long bytes) {
+    }
+
+    /**
+     * Records a retry admitted by the retry policy.
+     *
+     * @param operationId the API operation
+     * @param status the status of the response being retried, or {@code 0} for an I/O error
+     */
+    default void recordRetry(String operationId, int status) {
+    }
+
+    /**
+     * Records a request for a new OAuth 2.0 access token.
+     *
+     * @param durationNanos the duration of the token request
+     * @param success whether a token was obtained
+     */
+    default void recordTokenRefresh(long durationNanos, boolean success) {
+    }
+
+    /**
+     * Records a lookup in one of the client's caches.
+     *
+     * @param cacheName the name of the cache, the resource class name or {@code default}
+     * @param hit whether the lookup returned a usable entry
+     */
+    default void recordCacheAccess(String cacheName, boolean hit) {
+    }
+
+    /**
+     * Registers a value read on demand, such as the number of leased connections of a pool. Called once per gauge
+     * when the client is built.
+     *
+     * @param name the name of the gauge, for example {@code pool.leased}
+     * @param value reads the current value
+     */
+    default void registerGauge(String name, LongSupplier value) {
+    }
+}
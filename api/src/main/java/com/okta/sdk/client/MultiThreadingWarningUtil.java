@@ -198,6 +198,8 @@ public class MultiThreadingWarningUtil {
             "     high-concurrency scenarios due to performance impact)\n" +
             "  3. Avoid using the SDK's collection/pagination methods in multi-threaded\n" +
             "     contexts where threads share an ApiClient instance\n" +
+            "  4. Enable stateless mode (ClientBuilder.setStatelessEnabled(true)) and use the\n" +
+            "     *Paged methods; a stateless ApiClient can be shared by any number of threads\n" +
             "\n" +
             "For more information, see: https://github.com/okta/okta-sdk-java/issues/1637\n" +
             "================================================================================\n",
@@ -232,6 +234,8 @@ public class MultiThreadingWarningUtil {
             "     \n" +
             "  3. If using Spring, consider request-scoped beans\n" +
             "  4. Avoid storing pagination state across HTTP requests\n" +
+            "  5. Enable stateless mode (ClientBuilder.setStatelessEnabled(true)), which keeps\n" +
+            "     no per-thread state and is safe to share across threads\n" +
             "\n" +
             "For more information, see: https://github.com/okta/okta-sdk-java/issues/1637\n" +
             "================================================================================\n"
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.client;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time view of one rate limit bucket, as reported by the {@code x-rate-limit-*} response headers and
+ * adjusted for the requests the client sent since.
+ *
+ * @since 25.1.0
+ */
+public final class RateLimitBucket {
+
+    private final String name;
+    private final int limit;
+    private final int remaining;
+    private final Instant resetAt;
+    private final int waiting;
+
+    public RateLimitBucket(String name, int limit, int remaining, Instant resetAt, int waiting) {
+        this.name = name;
+        this.limit = limit;
+        this.remaining = remaining;
+        this.resetAt = resetAt;
+        this.waiting = waiting;
+    }
+
+    /**
+     * The endpoint prefix requests are grouped by, e.g. {@code /api/v1/users}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Requests allowed per window ({@code x-rate-limit-limit}).
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Requests left in the current window.
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * When the current window ends, in local time.
+     */
+    public Instant getResetAt() {
+        return resetAt;
+    }
+
+    /**
+     * Requests currently held back by the client to stay within the limit.
+     */
+    public int getWaiting() {
+        return waiting;
+    }
+
+    @Override
+    public String toString() {
+        return name + " [limit=" + limit + ", remaining=" + remaining + ", resetAt=" + resetAt + ", waiting=" + waiting + "]";
+    }
+}
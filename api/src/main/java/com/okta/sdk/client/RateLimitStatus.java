@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.client;
+
+import java.util.Map;
+
+/**
+ * Live view of the rate limit buckets tracked by a client, available through
+ * {@link com.okta.sdk.resource.client.ApiClient#getRateLimitStatus()} when rate limit pacing is enabled.
+ *
+ * @see ClientBuilder#setRateLimitPacingEnabled(boolean)
+ * @since 25.1.0
+ */
+public interface RateLimitStatus {
+
+    /**
+     * Returns a snapshot of every bucket seen so far, keyed and sorted by bucket name.
+     *
+     * @return bucket name to bucket state
+     */
+    Map<String, RateLimitBucket> getBuckets();
+}
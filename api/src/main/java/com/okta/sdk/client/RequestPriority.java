@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.client;
+
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.util.Locale;
+
+/**
+ * Lane of a request when the client's concurrency limit or rate limit pacing is enabled. Interactive requests are
+ * admitted before batch requests, and a share of the limits is kept for them alone (see
+ * {@link ClientBuilder#setInteractiveReservePercent(int)}), so that background jobs sharing the client cannot
+ * starve user-facing calls.
+ * <p>
+ * Requests are {@link #INTERACTIVE} unless marked otherwise, either for the requests sent from a thread:
+ * <pre>
+ * try (RequestPriority.Scope scope = RequestPriority.BATCH.enter()) {
+ *     userApi.listUsers(...);
+ * }
+ * </pre>
+ * or for a single call, with the {@value #HEADER_NAME} header in its additional headers. The header only selects
+ * the lane, it is not sent to Okta.
+ *
+ * @since 25.1.0
+ */
+public enum RequestPriority {
+
+    /** User-facing requests, such as a session check on login. */
+    INTERACTIVE,
+    /** Background requests, such as a directory sync. */
+    BATCH;
+
+    /**
+     * Header selecting the lane of a single call, with the value {@code interactive} or {@code batch}.
+     */
+    public static final String HEADER_NAME = "X-Okta-Sdk-Priority";
+
+    /**
+     * Attribute of the HTTP client context holding the lane of a request.
+     */
+    public static final String CONTEXT_ATTRIBUTE = "com.okta.sdk.requestPriority";
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Sends the requests of the current thread in this lane until the returned scope is closed.
+     *
+     * @return the scope, restoring the previous lane when closed
+     */
+    public Scope enter() {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * @return the lane of the requests sent from the current thread
+     */
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+
+    /**
+     * Parses the value of the {@value #HEADER_NAME} header.
+     *
+     * @param value {@code interactive} or {@code batch}, in any case
+     * @return the lane
+     * @throws IllegalArgumentException if the value names no lane
+     */
+    public static RequestPriority parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @param context the HTTP client context of a request
+     * @return the lane stored in {@code context}, {@link #INTERACTIVE} if there is none
+     */
+    public static RequestPriority of(HttpContext context) {
+        Object priority = context != null ? context.getAttribute(CONTEXT_ATTRIBUTE) : null;
+        return priority instanceof RequestPriority ? (RequestPriority) priority : INTERACTIVE;
+    }
+
+    /**
+     * Scope of {@link #enter()}, closing it does not throw.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.client;
+
+/**
+ * Counters of the retry policy of a client, available through
+ * {@link com.okta.sdk.resource.client.ApiClient#getRetryStatistics()}. All counts are cumulative since the client
+ * was built.
+ *
+ * @see ClientBuilder#setRetryMaxElapsed(int)
+ * @see ClientBuilder#setRetryBudgetPercent(int)
+ * @since 25.1.0
+ */
+public interface RetryStatistics {
+
+    /**
+     * @return the number of requests sent, not counting retries
+     */
+    long getRequestCount();
+
+    /**
+     * @return the number of retries sent
+     */
+    long getRetryCount();
+
+    /**
+     * @return the number of retries not sent because the client-wide retry budget was used up
+     */
+    long getRetryBudgetExhaustedCount();
+
+    /**
+     * @return the number of retries not sent because they would have ended past the request's retry deadline
+     */
+    long getRetryDeadlineExceededCount();
+}
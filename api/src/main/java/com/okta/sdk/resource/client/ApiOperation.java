@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The static description of one API operation: operation id, HTTP method, path template, negotiated {@code Accept}
+ * and {@code Content-Type} headers, auth names and return type.
+ * <p>
+ * Generated API classes hold one instance per operation in a static field, so everything that does not depend on the
+ * call arguments is resolved once, when the API class is loaded. The path template is split into literal segments and
+ * parameter slots up front, and {@link #expandPath(ApiClient, Object...)} only fills in the escaped values.
+ *
+ * @param <T> the type of the response body, {@code Void} for operations without one
+ * @since 25.1.0
+ */
+public final class ApiOperation<T> {
+
+    /**
+     * The context attribute holding the operation id of a request, read by the client's interceptors.
+     */
+    public static final String CONTEXT_ATTRIBUTE = "com.okta.sdk.operationId";
+
+    /**
+     * The operation id of requests not sent through an {@code ApiOperation}.
+     */
+    public static final String UNKNOWN_ID = "unknown";
+
+    private final String operationId;
+    private final String method;
+    private final String pathTemplate;
+    private final String accept;
+    private final String contentType;
+    private final String[] authNames;
+    private final TypeReference<T> returnType;
+
+    // pathTemplate as literals[0] {slot 0} literals[1] {slot 1} ... literals[n], slots index the path parameter values
+    private final String[] literals;
+    private final int[] slots;
+
+    /**
+     * Creates the description of an operation.
+     *
+     * @param operationId the id of the operation in the API specification
+     * @param method the HTTP method
+     * @param pathTemplate the path, with parameters in the {@code {name}} form
+     * @param pathParams the names of the path parameters, in the order their values are passed to {@link #expandPath}
+     * @param accepts the media types the operation produces
+     * @param contentTypes the media types the operation consumes
+     * @param authNames the names of the authentications the operation accepts
+     * @param returnType the type of the response body, or {@code null} if there is none
+     */
+    public ApiOperation(String operationId, String method, String pathTemplate, String[] pathParams, String[] accepts,
+                        String[] contentTypes, String[] authNames, TypeReference<T> returnType) {
+        this.operationId = operationId;
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.accept = ApiClient.selectAccept(accepts, pathTemplate);
+        this.contentType = ApiClient.selectContentType(contentTypes);
+        this.authNames = authNames;
+        this.returnType = returnType;
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = pathTemplate.indexOf('{', start)) >= 0) {
+            int close = pathTemplate.indexOf('}', open);
+            int slot = close < 0 ? -1 : Arrays.asList(pathParams).indexOf(pathTemplate.substring(open + 1, close));
+            if (slot < 0) {
+                // not a declared parameter, keep it as part of the literal
+                int next = pathTemplate.indexOf('{', open + 1);
+                literals.add(pathTemplate.substring(start, next < 0 ? pathTemplate.length() : next));
+                slots.add(-1);
+                start = next < 0 ? pathTemplate.length() : next;
+                continue;
+            }
+            literals.add(pathTemplate.substring(start, open));
+            slots.add(slot);
+            start = close + 1;
+        }
+        literals.add(pathTemplate.substring(start));
+        this.literals = literals.toArray(new String[0]);
+        this.slots = slots.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the path of a call, with each parameter slot replaced by its escaped value.
+     *
+     * @param apiClient the client used to escape the values
+     * @param values the path parameter values, in the order of the {@code pathParams} given to the constructor
+     * @return the expanded path
+     */
+    public String expandPath(ApiClient apiClient, Object... values) {
+        if (slots.length == 0) {
+            return pathTemplate;
+        }
+        StringBuilder path = new StringBuilder(pathTemplate.length() + 16 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            path.append(literals[i]);
+            if (slots[i] >= 0) {
+                path.append(apiClient.escapeString(String.valueOf(values[slots[i]])));
+            }
+        }
+        return path.append(literals[slots.length]).toString();
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * @return the {@code Accept} header to send, or {@code null} to not set one
+     */
+    public String getAccept() {
+        return accept;
+    }
+
+    /**
+     * @return the {@code Content-Type} header to send
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return the auth names, shared between calls and not to be modified
+     */
+    public String[] getAuthNames() {
+        return authNames;
+    }
+
+    /**
+     * @return the type of the response body, or {@code null} if there is none
+     */
+    public TypeReference<T> getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public String toString() {
+        return operationId + " (" + method + " " + pathTemplate + ")";
+    }
+}
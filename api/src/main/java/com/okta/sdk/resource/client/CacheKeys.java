@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.okta.sdk.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The keys that responses are cached under.
+ * <p>
+ * A resource is cached under its URL, the key that a write to it removes. A response to a request with query
+ * parameters, such as {@code expand}, is a different representation of the same resource: it is cached under the URL
+ * with its parameters sorted by name, so that the order they were added in does not matter, followed by the version of
+ * the resource. {@link #invalidate(String) Invalidating} the resource increments its version, which makes all of its
+ * representations unreachable at once without tracking them; they leave the cache as they expire or are evicted.
+ * <p>
+ * A client with a cache scope prefixes its keys with the scope, and the versions are those of the resource without
+ * the scope. Invalidating a resource therefore changes the keys of its representations in every scope, and returns
+ * its keys in all the scopes seen so far, for the caller to remove.
+ * <p>
+ * The versions are counted in a fixed number of stripes that resources share by hash, so invalidating a resource may
+ * also invalidate the representations of another one, but never leaves a stale one reachable. They are shared by the
+ * clients that share a cache manager, and they start from the time they were created so that the representations
+ * cached by a previous process in a persistent cache are not reachable either.
+ *
+ * @since 25.1.0
+ */
+final class CacheKeys {
+
+    static final int VERSION_STRIPES = 4096;
+
+    private static final Map<CacheManager, CacheKeys> SHARED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Set<String> scopes = ConcurrentHashMap.newKeySet();
+
+    CacheKeys() {
+    }
+
+    /**
+     * Returns the keys of the clients that share a cache manager.
+     *
+     * @param cacheManager the cache manager of the client
+     * @return the keys
+     */
+    static CacheKeys of(CacheManager cacheManager) {
+        return SHARED.computeIfAbsent(cacheManager, c -> new CacheKeys());
+    }
+
+    /**
+     * Registers the scope of a client, whose keys {@link #invalidate(String)} then returns too.
+     *
+     * @param scope the cache scope of a client
+     */
+    void addScope(String scope) {
+        scopes.add(scope);
+    }
+
+    /**
+     * Returns the key of the resource at a URL, which is the URL without its query.
+     *
+     * @param url the URL of a request
+     * @return the key of the resource
+     */
+    static String resourceKey(String url) {
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+
+    /**
+     * Returns a key in a cache scope.
+     *
+     * @param scope the cache scope, or {@code null}
+     * @param key a key without scope
+     * @return the key in the scope
+     */
+    static String scoped(String scope, String key) {
+        return scope == null ? key : scope + " " + key;
+    }
+
+    /**
+     * Returns the key of the response to a request without cache scope.
+     *
+     * @param url the URL of the request
+     * @return the key of the resource if the URL has no query, the key of the representation otherwise
+     */
+    String key(String url) {
+        return key(null, url);
+    }
+
+    /**
+     * Returns the key of the response to a request.
+     *
+     * @param scope the cache scope of the client, or {@code null}
+     * @param url the URL of the request
+     * @return the key of the resource if the URL has no query, the key of the representation otherwise
+     */
+    String key(String scope, String url) {
+        int query = url.indexOf('?');
+        if (query < 0) {
+            return scoped(scope, url);
+        }
+        String resourceKey = url.substring(0, query);
+        List<String> parameters = new ArrayList<>();
+        for (String parameter : url.substring(query + 1).split("&")) {
+            if (!parameter.isEmpty()) {
+                parameters.add(parameter);
+            }
+        }
+        if (parameters.isEmpty()) {
+            return scoped(scope, resourceKey);
+        }
+        // stable, so that the values of a repeated parameter keep their order
+        parameters.sort((a, b) -> name(a).compareTo(name(b)));
+        StringBuilder key = new StringBuilder(url.length() + 16);
+        if (scope != null) {
+            key.append(scope).append(' ');
+        }
+        key.append(resourceKey);
+        char separator = '?';
+        for (String parameter : parameters) {
+            key.append(separator).append(parameter);
+            separator = '&';
+        }
+        return key.append('#').append(epoch).append('.').append(versions.get(stripe(resourceKey))).toString();
+    }
+
+    /**
+     * Makes the representations of a resource unreachable in every scope.
+     *
+     * @param resourceKey the key of the resource, without scope
+     * @return the keys of the resource itself, without scope and in each scope seen so far, to be removed
+     */
+    List<String> invalidate(String resourceKey) {
+        versions.incrementAndGet(stripe(resourceKey));
+        List<String> keys = new ArrayList<>(scopes.size() + 1);
+        keys.add(resourceKey);
+        for (String scope : scopes) {
+            keys.add(scoped(scope, resourceKey));
+        }
+        return keys;
+    }
+
+    private static String name(String parameter) {
+        int equals = parameter.indexOf('=');
+        return equals < 0 ? parameter : parameter.substring(0, equals);
+    }
+
+    private static int stripe(String resourceKey) {
+        int hash = resourceKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+}
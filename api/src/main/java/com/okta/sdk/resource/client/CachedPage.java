@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of a list operation in the {@link com.okta.sdk.cache.Caches#COLLECTIONS collections} cache: its items, and
+ * the {@code Link} headers that lead to the next page, so that a cached page is followed like a fetched one.
+ * <p>
+ * The items are held in a list of their own, and each read gets a copy of that list, so that callers modifying the
+ * list they get do not modify the cache.
+ *
+ * @since 25.1.0
+ */
+final class CachedPage {
+
+    private final Type type;
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final List<?> items;
+
+    private CachedPage(Type type, int statusCode, Map<String, List<String>> headers, List<?> items) {
+        this.type = type;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.items = items;
+    }
+
+    /**
+     * @param type the list type the items were read as
+     * @param statusCode the status of the response
+     * @param headers the headers of the response, of which only the {@code Link} headers are kept
+     * @param items the items of the page
+     * @return the page
+     */
+    static CachedPage of(Type type, int statusCode, Map<String, List<String>> headers, List<?> items) {
+        Map<String, List<String>> links = Collections.emptyMap();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if ("Link".equalsIgnoreCase(header.getKey())) {
+                links = Collections.singletonMap("Link", Collections.unmodifiableList(new ArrayList<>(header.getValue())));
+                break;
+            }
+        }
+        return new CachedPage(type, statusCode, links, new ArrayList<>(items));
+    }
+
+    /**
+     * @param type a list type
+     * @return whether the items were read as {@code type}
+     */
+    boolean isOf(Type type) {
+        return this.type.equals(type);
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return the {@code Link} headers of the page, under {@code Link}
+     */
+    Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return a copy of the items
+     */
+    List<Object> copyItems() {
+        return new ArrayList<>(items);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.util.Args;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A request entity that serializes a value as UTF-8 JSON directly into the connection's output stream.
+ * <p>
+ * Nothing is buffered up front: the body is written while the request is sent, through a generator that uses
+ * Jackson's recycled buffers. The entity is repeatable, each {@link #writeTo(OutputStream)} serializes the value again,
+ * so requests can still be retried. Since the length is not known before writing, the body is sent chunked.
+ *
+ * @since 25.1.0
+ */
+final class JsonEntity extends AbstractHttpEntity {
+
+    private final ObjectMapper objectMapper;
+    private final Object value;
+
+    JsonEntity(ObjectMapper objectMapper, Object value, ContentType contentType) {
+        super(contentType, null, true);
+        this.objectMapper = Args.notNull(objectMapper, "Object mapper");
+        this.value = value;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        Args.notNull(out, "Output stream");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // the connection owns the stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, value);
+        }
+    }
+
+    /**
+     * Only for callers that read the entity instead of writing it, the body is serialized into memory.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        return new ByteArrayInputStream(objectMapper.writeValueAsBytes(value));
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+    }
+}
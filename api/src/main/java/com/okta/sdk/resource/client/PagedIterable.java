@@ -15,8 +15,13 @@
  */
 package com.okta.sdk.resource.client;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -28,25 +33,73 @@ import java.util.function.Function;
  * Each call to iterator() creates a new, independent PagedIterator instance,
  * ensuring thread-safety and isolation of pagination state.
  *
+ * By default pages are fetched one at a time, when the previous page has been consumed.
+ * Use {@link #withPrefetch(Executor, int)} to fetch the next pages in the background
+ * while the current one is being processed.
+ *
+ * The page fetcher may return each page as a list, or as a {@link StreamedPage} whose
+ * items are decoded from the response while the loop consumes them. A streamed page holds
+ * its connection until it has been read to the end, so iterate in a try-with-resources
+ * block when the loop may stop early:
+ * <pre>
+ * try (PagedIterable&lt;User&gt; users = userApi.listUsersPaged(...)) {
+ *     for (User user : users) {
+ *         if (...) break;
+ *     }
+ * }
+ * </pre>
+ *
  * @param <T> The type of item in the collection (e.g., User)
  */
-public class PagedIterable<T> implements Iterable<T> {
+public class PagedIterable<T> implements Iterable<T>, AutoCloseable {
 
     /**
      * The "strategy" or "recipe" for fetching one page.
      * The String input is the 'nextUrl' (or null for the first page).
      * The ApiResponse output contains the page of results.
      */
-    private final Function<String, ApiResponse<List<T>>> pageFetcher;
+    private final Function<String, ? extends ApiResponse<? extends Iterable<T>>> pageFetcher;
+
+    // prefetch settings, a null executor means pages are fetched on demand by the iterating thread
+    private final Executor prefetchExecutor;
+    private final int maxPagesInFlight;
+
+    // iterators created so far, held weakly so that an abandoned one is still released once it is unreachable
+    private final Set<PagedIterator<T>> iterators = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
 
     /**
      * Constructs a new PagedIterable with the given page fetching strategy.
      *
      * @param pageFetcher A function that takes a next URL (or null for the first page)
-     *                    and returns an ApiResponse containing a list of items and headers.
+     *                    and returns an ApiResponse containing the page's items and headers.
      */
-    public PagedIterable(Function<String, ApiResponse<List<T>>> pageFetcher) {
+    public PagedIterable(Function<String, ? extends ApiResponse<? extends Iterable<T>>> pageFetcher) {
+        this(pageFetcher, null, 0);
+    }
+
+    private PagedIterable(Function<String, ? extends ApiResponse<? extends Iterable<T>>> pageFetcher, Executor prefetchExecutor,
+                          int maxPagesInFlight) {
         this.pageFetcher = pageFetcher;
+        this.prefetchExecutor = prefetchExecutor;
+        this.maxPagesInFlight = maxPagesInFlight;
+    }
+
+    /**
+     * Returns a copy of this iterable whose iterators fetch the next page on the given executor as soon as
+     * the current page arrives, instead of waiting until it has been consumed.
+     *
+     * @param executor the executor running the page requests
+     * @param maxPagesInFlight the maximum number of pages fetched (or being fetched) ahead of the consumer, at least 1
+     * @return a prefetching PagedIterable sharing this iterable's page fetching strategy
+     */
+    public PagedIterable<T> withPrefetch(Executor executor, int maxPagesInFlight) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (maxPagesInFlight < 1) {
+            throw new IllegalArgumentException("maxPagesInFlight must be at least 1");
+        }
+        return new PagedIterable<>(pageFetcher, executor, maxPagesInFlight);
     }
 
     /**
@@ -58,6 +111,24 @@ public class PagedIterable<T> implements Iterable<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return new PagedIterator<>(pageFetcher);
+        PagedIterator<T> iterator = prefetchExecutor != null
+            ? new PagedIterator<>(pageFetcher, prefetchExecutor, maxPagesInFlight)
+            : new PagedIterator<>(pageFetcher);
+        iterators.add(iterator);
+        return iterator;
+    }
+
+    /**
+     * Closes the iterators created so far, releasing the pages they still hold (see {@link PagedIterator#close()}).
+     * The iterable itself stays usable, a later {@link #iterator()} starts over from the first page.
+     */
+    @Override
+    public void close() {
+        List<PagedIterator<T>> open;
+        synchronized (iterators) {
+            open = new ArrayList<>(iterators);
+            iterators.clear();
+        }
+        open.forEach(PagedIterator::close);
     }
 }
@@ -17,12 +17,15 @@ package com.okta.sdk.resource.client;
 
 import com.okta.commons.lang.Collections;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -34,77 +37,242 @@ import java.util.regex.Pattern;
  * (the next page URL and the current page's items) for that
  * loop *only*. It is not shared, making it thread-safe.
  *
+ * In prefetch mode the request for the next page is started on an executor as soon
+ * as the current page arrives, so that the network wait overlaps with the processing
+ * of the current page. At most {@code maxPagesInFlight} pages are fetched ahead of
+ * the consumer; further pages are only requested once the consumer catches up.
+ *
+ * Items are taken straight from the iterator of each page's body, nothing is copied.
+ * A page may be a {@link StreamedPage}, whose items are decoded one at a time while
+ * the response is being read. Such a page holds its connection until its last item has
+ * been read, so an iteration that may stop early must be {@link #close() closed}.
+ *
  * @param <T> The type of item in the collection (e.g., User)
  */
-public class PagedIterator<T> implements Iterator<T> {
+public class PagedIterator<T> implements Iterator<T>, AutoCloseable {
 
     // Regex to find the "next" link in a Link header
     private static final Pattern NEXT_LINK_PATTERN = Pattern.compile("<([^>]+)>;\\s*rel=\"next\"");
     
-    private final Function<String, ApiResponse<List<T>>> pageFetcher;
+    private final Function<String, ? extends ApiResponse<? extends Iterable<T>>> pageFetcher;
     
     // --- THIS IS THE ISOLATED STATE ---
     private String nextUrl = null;
     private boolean isFirstPage = true;
-    private Queue<T> itemBuffer = new LinkedList<>();
+    // the current page and its remaining items
+    private Iterable<T> page = null;
+    private Iterator<T> items = java.util.Collections.emptyIterator();
+    private volatile boolean closed = false;
+    // ---
+
+    // --- PREFETCH STATE, guarded by pagesInFlight ---
+    private final Executor prefetchExecutor;
+    private final int maxPagesInFlight;
+    // pages requested but not yet consumed, in link order
+    private final Deque<CompletableFuture<ApiResponse<? extends Iterable<T>>>> pagesInFlight = new ArrayDeque<>();
+    // next link held back because maxPagesInFlight was reached
+    private String deferredNextUrl = null;
     // ---
 
     /**
      * Constructs a new PagedIterator with the given page fetching strategy.
      *
      * @param pageFetcher A function that takes a next URL (or null for the first page)
-     *                    and returns an ApiResponse containing a list of items and headers.
+     *                    and returns an ApiResponse containing the page's items and headers.
      */
-    public PagedIterator(Function<String, ApiResponse<List<T>>> pageFetcher) {
+    public PagedIterator(Function<String, ? extends ApiResponse<? extends Iterable<T>>> pageFetcher) {
+        this(pageFetcher, null, 0);
+    }
+
+    /**
+     * Constructs a new prefetching PagedIterator.
+     *
+     * @param pageFetcher A function that takes a next URL (or null for the first page)
+     *                    and returns an ApiResponse containing the page's items and headers.
+     * @param prefetchExecutor The executor running the page requests, or null to fetch pages on demand.
+     * @param maxPagesInFlight The maximum number of pages fetched (or being fetched) ahead of the consumer.
+     */
+    public PagedIterator(Function<String, ? extends ApiResponse<? extends Iterable<T>>> pageFetcher, Executor prefetchExecutor,
+                         int maxPagesInFlight) {
+        if (prefetchExecutor != null && maxPagesInFlight < 1) {
+            throw new IllegalArgumentException("maxPagesInFlight must be at least 1");
+        }
         this.pageFetcher = pageFetcher;
+        this.prefetchExecutor = prefetchExecutor;
+        this.maxPagesInFlight = maxPagesInFlight;
     }
 
     @Override
     public boolean hasNext() {
-        // 1. If we have items in our buffer, we're good.
-        if (!itemBuffer.isEmpty()) {
+        if (closed) {
+            return false;
+        }
+
+        // 1. If the current page has items left, we're good.
+        if (items.hasNext()) {
             return true;
         }
 
+        if (prefetchExecutor != null) {
+            takePrefetchedPage();
+            return items.hasNext();
+        }
+
         // 2. If it's the first page OR we have a next link,
         //    we must try to fetch the next page.
         if (isFirstPage || nextUrl != null) {
             fetchNextPage();
         }
 
-        // 3. After fetching, check the buffer again.
-        //    If it's still empty, we've reached the end.
-        return !itemBuffer.isEmpty();
+        // 3. After fetching, check the new page.
+        //    If it's empty, we've reached the end.
+        return items.hasNext();
     }
 
     @Override
     public T next() {
-        // hasNext() ensures the buffer is populated if needed.
+        // hasNext() ensures a page with items left is current if needed.
         if (!hasNext()) {
             throw new NoSuchElementException("No more items in pagination.");
         }
-        // Return the next item from the current page's buffer.
-        return itemBuffer.poll();
+        // Return the next item of the current page.
+        return items.next();
     }
 
     /**
      * The main engine. Calls the fetcher "strategy",
-     * fills the buffer, and saves the next link.
+     * makes the page current, and saves the next link.
      */
     private void fetchNextPage() {
         // Call the "strategy" function from API class
-        ApiResponse<List<T>> response = pageFetcher.apply(isFirstPage ? null : nextUrl);
+        ApiResponse<? extends Iterable<T>> response = pageFetcher.apply(isFirstPage ? null : nextUrl);
         
-        // Add all items from the response body to our buffer
-        if (response.getBody() != null) {
-            itemBuffer.addAll(response.getBody());
-        }
+        setCurrentPage(response);
 
         // Update our *private* state with the next link from the headers
         this.nextUrl = parseNextLinkFromHeaders(response.getHeaders());
         this.isFirstPage = false;
     }
 
+    /**
+     * Prefetch mode: waits for the oldest requested page, makes it current
+     * and resumes prefetching if it was held back.
+     */
+    private void takePrefetchedPage() {
+        CompletableFuture<ApiResponse<? extends Iterable<T>>> page;
+        synchronized (pagesInFlight) {
+            if (isFirstPage) {
+                isFirstPage = false;
+                requestPage(null);
+            }
+            page = pagesInFlight.peek();
+        }
+        if (page == null) {
+            // no page requested and no next link left: we've reached the end
+            return;
+        }
+
+        ApiResponse<? extends Iterable<T>> response;
+        try {
+            response = page.join();
+        } catch (CompletionException e) {
+            synchronized (pagesInFlight) {
+                pagesInFlight.poll();
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+
+        synchronized (pagesInFlight) {
+            pagesInFlight.poll();
+            if (deferredNextUrl != null && pagesInFlight.size() < maxPagesInFlight) {
+                String url = deferredNextUrl;
+                deferredNextUrl = null;
+                requestPage(url);
+            }
+        }
+
+        setCurrentPage(response);
+    }
+
+    private void setCurrentPage(ApiResponse<? extends Iterable<T>> response) {
+        Iterable<T> body = response.getBody();
+        if (closed) {
+            // closed while the page was being fetched
+            closePage(body);
+            return;
+        }
+        closePage(page);
+        page = body;
+        items = body != null ? body.iterator() : java.util.Collections.emptyIterator();
+    }
+
+    /**
+     * Stops the iteration: closes the current page if it still holds its response, like a {@link StreamedPage}
+     * that has not been read to the end, and discards the pages fetched ahead. {@link #hasNext()} returns false
+     * afterwards. An iteration that runs to the end releases every page on its own, so this is only needed when
+     * the loop may stop early, by a {@code break} or an exception.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        closePage(page);
+        page = null;
+        items = java.util.Collections.emptyIterator();
+
+        if (prefetchExecutor != null) {
+            synchronized (pagesInFlight) {
+                deferredNextUrl = null;
+                for (CompletableFuture<ApiResponse<? extends Iterable<T>>> pageInFlight : pagesInFlight) {
+                    pageInFlight.thenAccept(response -> closePage(response.getBody()));
+                }
+                pagesInFlight.clear();
+            }
+        }
+    }
+
+    private static void closePage(Iterable<?> page) {
+        if (page instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) page).close();
+            } catch (Exception ignored) {
+                // the page's response is released either way
+            }
+        }
+    }
+
+    /**
+     * Starts fetching a page on the prefetch executor. Must be called holding the pagesInFlight lock.
+     * The next link is followed (or deferred) before the page's future completes, so a consumer that
+     * sees the page also sees the request for the page after it.
+     */
+    private void requestPage(String url) {
+        CompletableFuture<ApiResponse<? extends Iterable<T>>> page = new CompletableFuture<>();
+        pagesInFlight.add(page);
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    ApiResponse<? extends Iterable<T>> response = pageFetcher.apply(url);
+                    String next = parseNextLinkFromHeaders(response.getHeaders());
+                    synchronized (pagesInFlight) {
+                        if (next != null && !closed) {
+                            if (pagesInFlight.size() < maxPagesInFlight) {
+                                requestPage(next);
+                            } else {
+                                deferredNextUrl = next;
+                            }
+                        }
+                    }
+                    page.complete(response);
+                } catch (RuntimeException e) {
+                    page.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // e.g. RejectedExecutionException
+            page.completeExceptionally(e);
+        }
+    }
+
     /**
      * Helper to parse the 'Link' header for rel="next"
      *
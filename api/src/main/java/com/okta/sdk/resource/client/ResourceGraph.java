@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.okta.sdk.cache.Caches;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The caching rules of the operations of the API: which responses are cached, and which cached resources a mutating
+ * operation makes stale.
+ * <p>
+ * A {@code GET} is cacheable if it returns a single resource, as opposed to a list or a primitive, unless it is
+ * declared {@link Builder#uncacheable(String...) uncacheable} because it reads a state that changes on the server
+ * without a write through the API. Query parameters do not matter here, they are part of the
+ * {@link CacheKeys cache key}.
+ * <p>
+ * A resource is cached under the path of the {@code GET} operation that returned it, in the cache named after its
+ * type. A write invalidates the cached resources along its path: {@code POST /api/v1/users/{id}/lifecycle/suspend}
+ * invalidates the user at {@code /api/v1/users/{id}}, and {@code DELETE /api/v1/apps/{appId}/grants/{grantId}}
+ * invalidates both the grant and the application. A {@code DELETE} also invalidates the singleton sub-resources
+ * below it, such as {@code /api/v1/apps/{appId}/connections/default} when the application is deleted. Sub-resources
+ * with ids of their own can't be listed from the path, they expire with their TTL.
+ * <p>
+ * The pages of a list operation are cached in the {@link Caches#COLLECTIONS collections} cache when collection
+ * caching is enabled. A write invalidates the collections along its path, and the collections of the resource it
+ * writes to or below: {@code PUT /api/v1/groups/{groupId}/users/{userId}} invalidates the users of the group, the
+ * other collections of the group, such as its applications, and the groups. Collections that a write changes from
+ * elsewhere in the API, such as the groups of the user in this example, expire with their TTL.
+ * <p>
+ * The graph of the API is built by {@link SpecResourceGraph}, which is generated from its OpenAPI description.
+ *
+ * @since 25.1.0
+ */
+final class ResourceGraph {
+
+    private static final Invalidation[] NONE = new Invalidation[0];
+
+    private static final Writes NO_WRITES = new Writes(NONE, NONE);
+
+    private final Map<String, Writes> byOperationId;
+    // per method, the path templates of the mutating operations, for requests made without an operation
+    private final Map<String, Node<Writes>> byMethod;
+    // the same for the GET operations, what they read
+    private final Map<String, Read> readsByOperationId;
+    private final Node<Read> reads;
+
+    private ResourceGraph(Map<String, Writes> byOperationId, Map<String, Node<Writes>> byMethod,
+                          Map<String, Read> readsByOperationId, Node<Read> reads) {
+        this.byOperationId = byOperationId;
+        this.byMethod = byMethod;
+        this.readsByOperationId = readsByOperationId;
+        this.reads = reads;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached resources that a mutating request can make stale, in addition to the resource at its own
+     * path.
+     *
+     * @param operationId the id of the operation, or {@code null} to look the operation up by its path
+     * @param method the request method
+     * @param path the expanded path of the request, without base path or query
+     * @return the invalidations, empty for an unknown operation
+     */
+    Invalidation[] invalidations(String operationId, String method, String path) {
+        return writes(operationId, method, path).resources;
+    }
+
+    /**
+     * Returns the cached collections that a mutating request can make stale.
+     *
+     * @param operationId the id of the operation, or {@code null} to look the operation up by its path
+     * @param method the request method
+     * @param path the expanded path of the request, without base path or query
+     * @return the invalidations, in the {@link Caches#COLLECTIONS collections} cache, empty for an unknown operation
+     */
+    Invalidation[] collectionInvalidations(String operationId, String method, String path) {
+        return writes(operationId, method, path).collections;
+    }
+
+    private Writes writes(String operationId, String method, String path) {
+        if (operationId != null) {
+            Writes writes = byOperationId.get(operationId);
+            if (writes != null) {
+                return writes;
+            }
+        }
+        Writes writes = match(byMethod.get(method), path);
+        return writes != null ? writes : NO_WRITES;
+    }
+
+    /**
+     * Returns whether the response of a {@code GET} may be served from and stored into the cache.
+     *
+     * @param operationId the id of the operation, or {@code null} to look the operation up by its path
+     * @param method the request method
+     * @param path the expanded path of the request, without base path or query
+     * @return {@code false} for a write, or an operation that is not cacheable or unknown
+     */
+    boolean isCacheable(String operationId, String method, String path) {
+        return read(operationId, method, path) == Read.RESOURCE;
+    }
+
+    /**
+     * Returns whether a {@code GET} is a list operation whose pages may be cached as a collection.
+     *
+     * @param operationId the id of the operation, or {@code null} to look the operation up by its path
+     * @param method the request method
+     * @param path the expanded path of the request, without base path or query, or {@code null} to only look the
+     *             operation up by its id
+     * @return {@code false} for a write, or an operation that does not return a cacheable list or is unknown
+     */
+    boolean isCollection(String operationId, String method, String path) {
+        return read(operationId, method, path) == Read.COLLECTION;
+    }
+
+    private Read read(String operationId, String method, String path) {
+        if (!"GET".equals(method)) {
+            return null;
+        }
+        if (operationId != null) {
+            Read read = readsByOperationId.get(operationId);
+            if (read != null) {
+                return read;
+            }
+        }
+        return match(reads, path);
+    }
+
+    private static <V> V match(Node<V> root, String path) {
+        if (root == null || path == null || !path.startsWith("/")) {
+            return null;
+        }
+        return root.match(path.substring(1).split("/"), 0);
+    }
+
+    private enum Read {
+        RESOURCE, COLLECTION, UNCACHEABLE
+    }
+
+    private static final class Writes {
+
+        private final Invalidation[] resources;
+        private final Invalidation[] collections;
+
+        Writes(Invalidation[] resources, Invalidation[] collections) {
+            this.resources = resources;
+            this.collections = collections;
+        }
+    }
+
+    /**
+     * A cached resource to remove, identified relative to the path of the mutating request.
+     */
+    static final class Invalidation {
+
+        private final String cacheName;
+        // the resource path is the first `segments` segments of the request path, followed by `suffix`
+        private final int segments;
+        private final String suffix;
+
+        Invalidation(String cacheName, int segments, String suffix) {
+            this.cacheName = cacheName;
+            this.segments = segments;
+            this.suffix = suffix;
+        }
+
+        /**
+         * @return the name of the cache holding the resource, the name of its type or of the collections cache
+         */
+        String getCacheName() {
+            return cacheName;
+        }
+
+        /**
+         * @param path the expanded path of the mutating request
+         * @return the path of the resource
+         */
+        String resourcePath(String path) {
+            int end = 0;
+            for (int i = 0; i < segments && end >= 0; i++) {
+                end = path.indexOf('/', end + 1);
+            }
+            return (end < 0 ? path : path.substring(0, end)) + suffix;
+        }
+
+        @Override
+        public String toString() {
+            return cacheName + "@" + segments + suffix;
+        }
+    }
+
+    /**
+     * A path template trie, literal segments are preferred over parameters.
+     */
+    private static final class Node<V> {
+
+        private final Map<String, Node<V>> literals = new HashMap<>();
+        private Node<V> parameter;
+        private V value;
+
+        void add(String[] template, V value) {
+            Node<V> node = this;
+            for (String segment : template) {
+                if (isParameter(segment)) {
+                    node = node.parameter != null ? node.parameter : (node.parameter = new Node<>());
+                } else {
+                    node = node.literals.computeIfAbsent(segment, s -> new Node<>());
+                }
+            }
+            node.value = value;
+        }
+
+        V match(String[] segments, int index) {
+            if (index == segments.length) {
+                return value;
+            }
+            Node<V> literal = literals.get(segments[index]);
+            V match = literal != null ? literal.match(segments, index + 1) : null;
+            if (match == null && parameter != null) {
+                match = parameter.match(segments, index + 1);
+            }
+            return match;
+        }
+    }
+
+    private static boolean isParameter(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static String[] segments(String pathTemplate) {
+        return pathTemplate.substring(pathTemplate.startsWith("/") ? 1 : 0).split("/");
+    }
+
+    // the template with its parameters unnamed, so that /users/{id} and /users/{userId} are the same resource
+    private static String shape(String[] template, int length) {
+        StringBuilder shape = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            shape.append('/').append(isParameter(template[i]) ? "{}" : template[i]);
+        }
+        return shape.toString();
+    }
+
+    static final class Builder {
+
+        private final List<Operation> operations = new ArrayList<>();
+        private final Set<String> uncacheable = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an operation of the API.
+         *
+         * @param operationId the id of the operation
+         * @param method the request method
+         * @param pathTemplate the path, with parameters in braces
+         * @param cacheName for a {@code GET} returning a single resource, the name of the cache it is stored in, the
+         *                  fully qualified name of its type; otherwise {@code null}
+         * @return this builder
+         */
+        Builder operation(String operationId, String method, String pathTemplate, String cacheName) {
+            return operation(operationId, method, pathTemplate, cacheName, false);
+        }
+
+        /**
+         * Adds an operation of the API.
+         *
+         * @param operationId the id of the operation
+         * @param method the request method
+         * @param pathTemplate the path, with parameters in braces
+         * @param cacheName for a {@code GET} returning a single resource, the name of the cache it is stored in, the
+         *                  fully qualified name of its type; otherwise {@code null}
+         * @param list whether the operation returns a list
+         * @return this builder
+         */
+        Builder operation(String operationId, String method, String pathTemplate, String cacheName, boolean list) {
+            operations.add(new Operation(operationId, method, segments(pathTemplate), cacheName, list));
+            return this;
+        }
+
+        /**
+         * Declares {@code GET} operations whose responses must not be cached, although they return a single resource
+         * or a list.
+         *
+         * @param operationIds the ids of the operations
+         * @return this builder
+         */
+        Builder uncacheable(String... operationIds) {
+            uncacheable.addAll(Arrays.asList(operationIds));
+            return this;
+        }
+
+        ResourceGraph build() {
+            // shape of each cacheable resource path -> cache name
+            Map<String, String> resources = new HashMap<>();
+            // the templates of the cacheable collections, by shape
+            Map<String, String[]> collections = new HashMap<>();
+            for (Operation operation : operations) {
+                if (!"GET".equals(operation.method) || uncacheable.contains(operation.id)) {
+                    continue;
+                }
+                String shape = shape(operation.template, operation.template.length);
+                if (operation.cacheName != null) {
+                    resources.put(shape, operation.cacheName);
+                } else if (operation.list) {
+                    collections.put(shape, operation.template);
+                }
+            }
+
+            Map<String, Writes> byOperationId = new HashMap<>();
+            Map<String, Node<Writes>> byMethod = new HashMap<>();
+            Map<String, Read> readsByOperationId = new HashMap<>();
+            Node<Read> reads = new Node<>();
+            for (Operation operation : operations) {
+                String[] template = operation.template;
+                if ("GET".equals(operation.method)) {
+                    Read read = uncacheable.contains(operation.id) ? Read.UNCACHEABLE
+                        : operation.cacheName != null ? Read.RESOURCE
+                        : operation.list ? Read.COLLECTION
+                        : Read.UNCACHEABLE;
+                    readsByOperationId.put(operation.id, read);
+                    reads.add(template, read);
+                    continue;
+                }
+                Writes writes = new Writes(invalidations(operation.method, template, resources),
+                    collectionInvalidations(template, collections));
+                byOperationId.put(operation.id, writes);
+                byMethod.computeIfAbsent(operation.method, m -> new Node<>()).add(template, writes);
+            }
+            return new ResourceGraph(byOperationId, byMethod, readsByOperationId, reads);
+        }
+
+        private static Invalidation[] invalidations(String method, String[] template, Map<String, String> resources) {
+            List<Invalidation> invalidations = new ArrayList<>();
+            // the resource itself and its parents
+            for (int length = 1; length <= template.length; length++) {
+                String cacheName = resources.get(shape(template, length));
+                if (cacheName != null) {
+                    invalidations.add(new Invalidation(cacheName, length, ""));
+                }
+            }
+            // the singleton sub-resources of a deleted resource
+            if ("DELETE".equals(method)) {
+                String prefix = shape(template, template.length) + "/";
+                for (Map.Entry<String, String> resource : resources.entrySet()) {
+                    String shape = resource.getKey();
+                    if (shape.startsWith(prefix) && shape.indexOf("{}", prefix.length()) < 0) {
+                        invalidations.add(new Invalidation(resource.getValue(), template.length, shape.substring(prefix.length() - 1)));
+                    }
+                }
+            }
+            return invalidations.isEmpty() ? NONE : invalidations.toArray(NONE);
+        }
+
+        private static Invalidation[] collectionInvalidations(String[] template, Map<String, String[]> collections) {
+            // by resource path relative to the request, to add each collection once
+            Map<String, Invalidation> invalidations = new LinkedHashMap<>();
+            for (String[] collection : collections.values()) {
+                int length = collection.length;
+                String last = collection[length - 1];
+                if (length <= template.length && shape(collection, length).equals(shape(template, length))) {
+                    // a collection along the path, such as the members of a group on a membership change
+                    invalidations.put(length + "", new Invalidation(Caches.COLLECTIONS, length, ""));
+                } else if (length - 1 <= template.length && !isParameter(last) && hasParameter(collection, length - 1)
+                    && shape(collection, length - 1).equals(shape(template, length - 1))) {
+                    // a collection of a resource along the path, such as the applications of a group
+                    invalidations.put((length - 1) + "/" + last, new Invalidation(Caches.COLLECTIONS, length - 1, "/" + last));
+                }
+            }
+            return invalidations.isEmpty() ? NONE : invalidations.values().toArray(NONE);
+        }
+
+        private static boolean hasParameter(String[] template, int length) {
+            for (int i = 0; i < length; i++) {
+                if (isParameter(template[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Operation {
+
+        private final String id;
+        private final String method;
+        private final String[] template;
+        private final String cacheName;
+        private final boolean list;
+
+        Operation(String id, String method, String[] template, String cacheName, boolean list) {
+            this.id = id;
+            this.method = method;
+            this.template = template;
+            this.cacheName = cacheName;
+            this.list = list;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+/**
+ * Reads {@code _links.self.href} from a deserialized resource, used as the resource's cache key.
+ * <p>
+ * Generated models expose their links through {@code getLinks()}, whose type differs per model ({@code UserLinks},
+ * {@code LinksSelf}, ...) but always has a {@code getSelf()} whose value has a {@code getHref()}. The getters are
+ * looked up once per class and then invoked directly, so no intermediate map or token buffer is built.
+ *
+ * @since 25.1.0
+ */
+final class SelfLinks {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<MethodHandle> GET_LINKS = getter("getLinks");
+    private static final ClassValue<MethodHandle> GET_SELF = getter("getSelf");
+    private static final ClassValue<MethodHandle> GET_HREF = getter("getHref");
+
+    private SelfLinks() {
+    }
+
+    /**
+     * Returns the {@code _links.self.href} of {@code resource}, or {@code null} if it has none.
+     *
+     * @param resource a deserialized model, or a {@code Map} of a JSON object
+     * @return the resource's self link or {@code null}
+     */
+    static String of(Object resource) {
+        Object links = get(resource, "_links", GET_LINKS);
+        Object self = get(links, "self", GET_SELF);
+        Object href = get(self, "href", GET_HREF);
+        return href instanceof String ? (String) href : null;
+    }
+
+    private static Object get(Object target, String jsonName, ClassValue<MethodHandle> getter) {
+        if (target == null) {
+            return null;
+        }
+        if (target instanceof Map) {
+            return ((Map<?, ?>) target).get(jsonName);
+        }
+        MethodHandle handle = getter.get(target.getClass());
+        if (handle == null) {
+            return null;
+        }
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static ClassValue<MethodHandle> getter(String name) {
+        return new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> type) {
+                try {
+                    Method method = type.getMethod(name);
+                    if (method.getReturnType() == void.class || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                        return null;
+                    }
+                    return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    return null;
+                }
+            }
+        };
+    }
+}
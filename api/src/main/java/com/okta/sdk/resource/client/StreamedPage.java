@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * One page of a list operation, decoded element by element from the live response stream.
+ * <p>
+ * Only the element being read is held in memory, and the first element is available as soon as it has arrived, before
+ * the rest of the page is downloaded. Like a {@code DirectoryStream}, the page can only be iterated once. The response
+ * is closed when the last element has been read, when reading fails, or by {@link #close()}, which
+ * {@link PagedIterator#close()} and {@link PagedIterable#close()} call for the page being read. A page that is
+ * abandoned half read without being closed keeps its pooled connection leased until it is garbage collected, which
+ * under load can exhaust the connection pool.
+ *
+ * @param <T> the type of the elements
+ * @see ApiClient#setPageStreaming(boolean)
+ * @since 25.1.0
+ */
+public final class StreamedPage<T> implements Iterable<T>, Closeable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final Cleaner.Cleanable cleanable;
+    private boolean iterated;
+    private boolean closed;
+
+    /**
+     * Takes ownership of {@code response} and positions {@code parser} on the first element. Like
+     * {@link ApiClient#deserialize}, a list wrapped in an object, e.g. {@code {"items": [...]}}, is unwrapped.
+     */
+    StreamedPage(CloseableHttpResponse response, JsonParser parser, ObjectReader reader) throws IOException {
+        this.parser = parser;
+        this.reader = reader;
+        // the action must not reference this page, or the page would never become unreachable
+        this.cleanable = CLEANER.register(this, new CloseAction(response, parser));
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT && parser.nextToken() == JsonToken.FIELD_NAME) {
+                token = parser.nextToken();
+            }
+            if (token == null) {
+                // empty body
+                close();
+            } else if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array but found " + token);
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("A streamed page can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<T>() {
+
+            // whether the parser is on the start of an element that next() has not returned yet
+            private Boolean ahead;
+
+            @Override
+            public boolean hasNext() {
+                if (ahead == null) {
+                    ahead = advance();
+                }
+                return ahead;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ahead = null;
+                try {
+                    return reader.readValue(parser);
+                } catch (IOException e) {
+                    close();
+                    throw new RuntimeException("Failed to read page", new ApiException(e));
+                }
+            }
+        };
+    }
+
+    private boolean advance() {
+        if (closed) {
+            return false;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Failed to read page", new ApiException(e));
+        }
+    }
+
+    /**
+     * Closes the response. Elements that have not been read yet are skipped.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            cleanable.clean();
+        }
+    }
+
+    private static final class CloseAction implements Runnable {
+
+        private final CloseableHttpResponse response;
+        private final JsonParser parser;
+
+        CloseAction(CloseableHttpResponse response, JsonParser parser) {
+            this.response = response;
+            this.parser = parser;
+        }
+
+        @Override
+        public void run() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // the response is closed below either way
+            }
+            try {
+                response.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+    }
+}
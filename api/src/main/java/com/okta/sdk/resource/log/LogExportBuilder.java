@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.log;
+
+import com.okta.commons.lang.Classes;
+import com.okta.sdk.resource.api.SystemLogApi;
+import com.okta.sdk.resource.model.LogEvent;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Exports a bounded window of System Log events by splitting {@code [since, until)} into time slices that are
+ * paginated in parallel.
+ * <p>
+ * Slices that turn out to be dense (their first page covers only a small part of the slice's window) are split
+ * further while they are being read, so a burst of events does not serialize the whole export on one slice.
+ *
+ * @since 25.1.0
+ */
+public interface LogExportBuilder {
+
+    static LogExportBuilder instance() {
+        return Classes.newInstance("com.okta.sdk.impl.resource.DefaultLogExportBuilder");
+    }
+
+    /**
+     * Inclusive lower bound of the export window, required.
+     */
+    LogExportBuilder setSince(OffsetDateTime since);
+
+    /**
+     * Exclusive upper bound of the export window, defaults to the time the export starts.
+     */
+    LogExportBuilder setUntil(OffsetDateTime until);
+
+    LogExportBuilder setFilter(String filter);
+
+    LogExportBuilder setQuery(String q);
+
+    /**
+     * Number of equally sized slices the window is initially split into, defaults to {@code 4}.
+     */
+    LogExportBuilder setSlices(int slices);
+
+    /**
+     * Maximum number of slices fetched at the same time across the whole export, defaults to {@code 4}.
+     */
+    LogExportBuilder setMaxConcurrency(int maxConcurrency);
+
+    /**
+     * Page size ({@code limit}) of each request, defaults to {@code 1000}.
+     */
+    LogExportBuilder setPageSize(int pageSize);
+
+    /**
+     * A slice is split further when its first page suggests at least this many pages remain, defaults to {@code 10}.
+     */
+    LogExportBuilder setDenseSliceThreshold(int pages);
+
+    /**
+     * Slices are never split below this duration, defaults to one second.
+     */
+    LogExportBuilder setMinSliceDuration(Duration minSliceDuration);
+
+    /**
+     * Returns all events of the window in ascending {@code published} order. Slices are fetched ahead of the
+     * consumer, bounded by a few pages per slice. Closing the stream cancels the remaining requests.
+     */
+    Stream<LogEvent> stream(SystemLogApi client);
+
+    /**
+     * Fetches all slices and hands each page of events to {@code consumer} as soon as it arrives. The consumer is
+     * invoked concurrently for different slices, but in order within a slice. Returns once every slice completed.
+     */
+    void forEachSlice(SystemLogApi client, LogSliceConsumer consumer);
+}
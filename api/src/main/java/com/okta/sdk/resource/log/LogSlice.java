@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.log;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * A {@code [since, until)} time window of a System Log export.
+ *
+ * @since 25.1.0
+ */
+public final class LogSlice {
+
+    private final OffsetDateTime since;
+    private final OffsetDateTime until;
+
+    public LogSlice(OffsetDateTime since, OffsetDateTime until) {
+        this.since = since;
+        this.until = until;
+    }
+
+    public OffsetDateTime getSince() {
+        return since;
+    }
+
+    public OffsetDateTime getUntil() {
+        return until;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LogSlice)) {
+            return false;
+        }
+        LogSlice other = (LogSlice) o;
+        return since.isEqual(other.since) && until.isEqual(other.until);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(since.toInstant(), until.toInstant());
+    }
+
+    @Override
+    public String toString() {
+        return "[" + since + ", " + until + ")";
+    }
+}
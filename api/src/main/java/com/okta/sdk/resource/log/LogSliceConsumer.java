@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.log;
+
+import com.okta.sdk.resource.model.LogEvent;
+
+import java.util.List;
+
+/**
+ * Receives the events of a {@link LogSlice} page by page.
+ *
+ * @since 25.1.0
+ */
+@FunctionalInterface
+public interface LogSliceConsumer {
+
+    void accept(LogSlice slice, List<LogEvent> events);
+}
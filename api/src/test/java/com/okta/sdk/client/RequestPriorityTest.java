@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.client;
+
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class RequestPriorityTest {
+
+    @Test
+    public void testScopesNestAndRestore() {
+        assertEquals(RequestPriority.current(), RequestPriority.INTERACTIVE);
+        try (RequestPriority.Scope batch = RequestPriority.BATCH.enter()) {
+            assertEquals(RequestPriority.current(), RequestPriority.BATCH);
+            try (RequestPriority.Scope interactive = RequestPriority.INTERACTIVE.enter()) {
+                assertEquals(RequestPriority.current(), RequestPriority.INTERACTIVE);
+            }
+            assertEquals(RequestPriority.current(), RequestPriority.BATCH);
+        }
+        assertEquals(RequestPriority.current(), RequestPriority.INTERACTIVE);
+    }
+
+    @Test
+    public void testScopeIsPerThread() throws InterruptedException {
+        try (RequestPriority.Scope batch = RequestPriority.BATCH.enter()) {
+            RequestPriority[] other = new RequestPriority[1];
+            Thread thread = new Thread(() -> other[0] = RequestPriority.current());
+            thread.start();
+            thread.join();
+            assertEquals(other[0], RequestPriority.INTERACTIVE);
+        }
+    }
+
+    @Test
+    public void testParseAndContext() {
+        assertEquals(RequestPriority.parse(" Batch "), RequestPriority.BATCH);
+        assertEquals(RequestPriority.parse("interactive"), RequestPriority.INTERACTIVE);
+        assertThrows(IllegalArgumentException.class, () -> RequestPriority.parse("urgent"));
+
+        HttpClientContext context = HttpClientContext.create();
+        assertEquals(RequestPriority.of(context), RequestPriority.INTERACTIVE);
+        assertEquals(RequestPriority.of(null), RequestPriority.INTERACTIVE);
+        context.setAttribute(RequestPriority.CONTEXT_ATTRIBUTE, RequestPriority.BATCH);
+        assertEquals(RequestPriority.of(context), RequestPriority.BATCH);
+    }
+}
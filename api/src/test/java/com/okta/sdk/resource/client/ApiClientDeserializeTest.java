@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.okta.sdk.cache.CacheManager;
+import com.okta.sdk.resource.model.User;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.testng.annotations.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.*;
+
+public class ApiClientDeserializeTest {
+
+    private final ApiClient apiClient = new ApiClient(HttpClients.createDefault(), mock(CacheManager.class));
+
+    @Test
+    public void testDeserializeObject() throws Exception {
+        User user = apiClient.deserialize(
+            response("{\"id\":\"00u1\",\"profile\":{\"login\":\"joe@example.com\"}}", ContentType.APPLICATION_JSON),
+            new TypeReference<User>() {});
+
+        assertEquals(user.getId(), "00u1");
+        assertEquals(user.getProfile().getLogin(), "joe@example.com");
+    }
+
+    @Test
+    public void testDeserializeList() throws Exception {
+        List<User> users = apiClient.deserialize(
+            response("[{\"id\":\"00u1\"},{\"id\":\"00u2\"}]", ContentType.APPLICATION_JSON),
+            new TypeReference<List<User>>() {});
+
+        assertEquals(users.size(), 2);
+        assertEquals(users.get(1).getId(), "00u2");
+    }
+
+    @Test
+    public void testDeserializeListWithRootElement() throws Exception {
+        List<User> users = apiClient.deserialize(
+            response("{\"users\": [{\"id\":\"00u1\"},{\"id\":\"00u2\"}]}", ContentType.APPLICATION_JSON),
+            new TypeReference<List<User>>() {});
+
+        assertEquals(users.size(), 2);
+        assertEquals(users.get(0).getId(), "00u1");
+    }
+
+    @Test
+    public void testDeserializeEmptyBody() throws Exception {
+        assertNull(apiClient.deserialize(response("", ContentType.APPLICATION_JSON), new TypeReference<User>() {}));
+    }
+
+    @Test
+    public void testDeserializeDeclaredCharset() throws Exception {
+        Charset latin1 = StandardCharsets.ISO_8859_1;
+        User user = apiClient.deserialize(
+            response("{\"id\":\"00u1\",\"profile\":{\"firstName\":\"Jörg\"}}", ContentType.APPLICATION_JSON.withCharset(latin1)),
+            new TypeReference<User>() {});
+
+        assertEquals(user.getProfile().getFirstName(), "Jörg");
+    }
+
+    private static CloseableHttpResponse response(String body, ContentType contentType) {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200);
+        response.setHeader("Content-Type", contentType.toString());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        response.setEntity(new ByteArrayEntity(body.getBytes(charset), contentType));
+        return CloseableHttpResponse.adapt(response);
+    }
+}
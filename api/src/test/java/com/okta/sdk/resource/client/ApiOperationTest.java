@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.okta.sdk.cache.CacheManager;
+import com.okta.sdk.resource.model.User;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.*;
+
+public class ApiOperationTest {
+
+    private final ApiClient apiClient = new ApiClient(HttpClients.createDefault(), mock(CacheManager.class));
+
+    private static final String[] JSON = { "application/json" };
+    private static final String[] CONTENT_TYPES = { "text/xml", "application/json" };
+    private static final String[] AUTH_NAMES = { "apiToken", "oauth2" };
+
+    @Test
+    public void testExpandPath() {
+        ApiOperation<List<User>> operation = new ApiOperation<>("listGroupUsers", "GET", "/api/v1/groups/{groupId}/users",
+            new String[] { "groupId" }, JSON, CONTENT_TYPES, AUTH_NAMES, new TypeReference<List<User>>() {});
+
+        assertEquals(operation.expandPath(apiClient, "00g1"), "/api/v1/groups/00g1/users");
+        assertEquals(operation.expandPath(apiClient, "a b/c+d"), "/api/v1/groups/a%20b%2Fc%2Bd/users");
+        assertEquals(operation.getOperationId(), "listGroupUsers");
+        assertEquals(operation.getMethod(), "GET");
+        assertEquals(operation.getReturnType().getType().getTypeName(), "java.util.List<com.okta.sdk.resource.model.User>");
+    }
+
+    @Test
+    public void testExpandPathFollowsParameterOrder() {
+        ApiOperation<Void> operation = new ApiOperation<>("assignUserToGroup", "PUT", "/api/v1/groups/{groupId}/users/{userId}",
+            new String[] { "userId", "groupId" }, new String[0], CONTENT_TYPES, AUTH_NAMES, null);
+
+        assertEquals(operation.expandPath(apiClient, "00u1", "00g1"), "/api/v1/groups/00g1/users/00u1");
+        assertNull(operation.getReturnType());
+    }
+
+    @Test
+    public void testStaticPathAndUnknownPlaceholders() {
+        ApiOperation<User> noParams = new ApiOperation<>("getCurrentUser", "GET", "/api/v1/users/me",
+            new String[0], JSON, CONTENT_TYPES, AUTH_NAMES, new TypeReference<User>() {});
+        assertSame(noParams.expandPath(apiClient), noParams.getPathTemplate());
+
+        ApiOperation<User> unknown = new ApiOperation<>("getUser", "GET", "/api/v1/{version}/users/{id}",
+            new String[] { "id" }, JSON, CONTENT_TYPES, AUTH_NAMES, new TypeReference<User>() {});
+        assertEquals(unknown.expandPath(apiClient, "00u1"), "/api/v1/{version}/users/00u1");
+    }
+
+    @Test
+    public void testHeadersAreResolvedLikeApiClient() {
+        ApiOperation<User> json = new ApiOperation<>("getUser", "GET", "/api/v1/users/{id}", new String[] { "id" },
+            JSON, CONTENT_TYPES, AUTH_NAMES, new TypeReference<User>() {});
+        assertEquals(json.getAccept(), apiClient.selectHeaderAccept(JSON, "/api/v1/users/00u1"));
+        assertEquals(json.getContentType(), apiClient.selectHeaderContentType(CONTENT_TYPES));
+        assertSame(json.getAuthNames(), AUTH_NAMES);
+
+        String[] metadata = { "application/xml", "text/xml" };
+        ApiOperation<String> saml = new ApiOperation<>("previewSAMLMetadataForApplication", "GET",
+            "/api/v1/apps/{appId}/sso/saml/metadata", new String[] { "appId" }, metadata, CONTENT_TYPES, AUTH_NAMES, new TypeReference<String>() {});
+        assertEquals(saml.getAccept(), "text/xml");
+
+        String[] upload = { "text/xml", "application/json", "multipart/form-data" };
+        ApiOperation<Void> multipart = new ApiOperation<>("uploadBrandThemeLogo", "POST",
+            "/api/v1/brands/{brandId}/themes/{themeId}/logo", new String[] { "brandId", "themeId" }, JSON, upload, AUTH_NAMES, null);
+        assertEquals(multipart.getContentType(), "multipart/form-data");
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.testng.Assert.*;
+
+public class CacheKeysTest {
+
+    private static final String USER = "https://example.okta.com/api/v1/users/00u1";
+
+    private final CacheKeys keys = new CacheKeys();
+
+    @Test
+    public void testResourceKeyIsUrlWithoutQuery() {
+        assertEquals(keys.key(USER), USER);
+        assertEquals(keys.key(USER + "?"), USER);
+        assertEquals(CacheKeys.resourceKey(USER + "?expand=blocks"), USER);
+        assertEquals(CacheKeys.resourceKey(USER), USER);
+    }
+
+    @Test
+    public void testQueryParametersAreSortedByName() {
+        String key = keys.key(USER + "?expand=blocks&activate=true");
+        assertTrue(key.startsWith(USER + "?activate=true&expand=blocks#"), key);
+        assertEquals(keys.key(USER + "?activate=true&expand=blocks"), key);
+        assertEquals(keys.key(USER + "?&expand=blocks&&activate=true"), key);
+        assertNotEquals(keys.key(USER + "?expand=groups&activate=true"), key);
+    }
+
+    @Test
+    public void testRepeatedParametersKeepTheirOrder() {
+        assertNotEquals(keys.key(USER + "?scope=a&x=1&scope=b"), keys.key(USER + "?scope=b&scope=a&x=1"));
+        assertEquals(keys.key(USER + "?scope=a&x=1&scope=b"), keys.key(USER + "?x=1&scope=a&scope=b"));
+    }
+
+    @Test
+    public void testInvalidateChangesTheKeysOfRepresentations() {
+        String expanded = keys.key(USER + "?expand=blocks");
+        keys.invalidate(USER);
+        assertNotEquals(keys.key(USER + "?expand=blocks"), expanded);
+        assertEquals(keys.key(USER), USER);
+    }
+
+    @Test
+    public void testScopedKeys() {
+        assertEquals(keys.key("client1", USER), "client1 " + USER);
+        assertTrue(keys.key("client1", USER + "?expand=blocks").startsWith("client1 " + USER + "?expand=blocks#"));
+        assertNotEquals(keys.key("client1", USER + "?expand=blocks"), keys.key("client2", USER + "?expand=blocks"));
+    }
+
+    @Test
+    public void testInvalidateReachesEveryScope() {
+        keys.addScope("client1");
+        keys.addScope("client2");
+        String expanded = keys.key("client1", USER + "?expand=blocks");
+
+        assertEquals(new HashSet<>(keys.invalidate(USER)), new HashSet<>(Arrays.asList(USER, "client1 " + USER, "client2 " + USER)));
+        assertNotEquals(keys.key("client1", USER + "?expand=blocks"), expanded);
+    }
+
+    @Test
+    public void testKeysOfOtherProcessesDoNotMatch() throws InterruptedException {
+        String expanded = keys.key(USER + "?expand=blocks");
+        Thread.sleep(5);
+        assertNotEquals(new CacheKeys().key(USER + "?expand=blocks"), expanded);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.okta.sdk.cache.CacheManager;
+import com.okta.sdk.resource.model.User;
+import com.okta.sdk.resource.model.UserProfile;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.*;
+
+public class JsonEntityTest {
+
+    private final ApiClient apiClient = new ApiClient(HttpClients.createDefault(), mock(CacheManager.class));
+
+    @Test
+    public void testJsonBodyIsStreamedAndRepeatable() throws Exception {
+        User user = new User().profile(new UserProfile().login("joe@example.com").firstName("Jöe"));
+        HttpEntity entity = apiClient.serialize(user, Collections.emptyMap(), ContentType.APPLICATION_JSON);
+        String expected = apiClient.getObjectMapper().writeValueAsString(user);
+
+        assertTrue(entity instanceof JsonEntity);
+        assertTrue(entity.isRepeatable());
+        assertTrue(entity.isChunked());
+        assertEquals(entity.getContentLength(), -1);
+        assertEquals(entity.getContentType(), "application/json; charset=UTF-8");
+
+        // written once per attempt, e.g. when the retry strategy resends the request
+        for (int attempt = 0; attempt < 2; attempt++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            entity.writeTo(out);
+            assertEquals(out.toString(StandardCharsets.UTF_8.name()), expected);
+        }
+        assertEquals(EntityUtils.toString(entity), expected);
+    }
+
+    @Test
+    public void testConnectionStreamIsNotClosed() throws Exception {
+        HttpEntity entity = apiClient.serialize(Collections.singletonMap("name", "value"), Collections.emptyMap(),
+            ContentType.APPLICATION_JSON);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        boolean[] closed = { false };
+
+        entity.writeTo(new FilterOutputStream(buffer) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        });
+
+        assertFalse(closed[0]);
+        assertTrue(buffer.toString(StandardCharsets.UTF_8.name()).contains("\"name\""));
+    }
+}
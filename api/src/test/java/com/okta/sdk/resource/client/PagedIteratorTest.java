@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+public class PagedIteratorTest {
+
+    private static final int PAGES = 5;
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterMethod
+    public void teardown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testSerialIteration() {
+        AtomicInteger fetches = new AtomicInteger();
+        List<String> items = collect(new PagedIterable<>(pages(fetches)));
+
+        assertEquals(items, expectedItems());
+        assertEquals(fetches.get(), PAGES);
+    }
+
+    @Test
+    public void testPrefetchIterationKeepsOrder() {
+        AtomicInteger fetches = new AtomicInteger();
+        List<String> items = collect(new PagedIterable<>(pages(fetches)).withPrefetch(executor, 3));
+
+        assertEquals(items, expectedItems());
+        assertEquals(fetches.get(), PAGES);
+    }
+
+    @Test
+    public void testPrefetchWithDirectExecutor() {
+        AtomicInteger fetches = new AtomicInteger();
+        List<String> items = collect(new PagedIterable<>(pages(fetches)).withPrefetch(Runnable::run, 2));
+
+        assertEquals(items, expectedItems());
+        assertEquals(fetches.get(), PAGES);
+    }
+
+    @Test
+    public void testPrefetchIsBounded() throws InterruptedException {
+        AtomicInteger fetches = new AtomicInteger();
+        PagedIterator<String> iterator = (PagedIterator<String>) new PagedIterable<>(pages(fetches)).withPrefetch(executor, 2).iterator();
+
+        // consume the first item of the first page, then give the executor time to run ahead
+        assertEquals(iterator.next(), "item-0-0");
+        Thread.sleep(300);
+
+        // the consumed page plus at most two pages ahead
+        assertEquals(fetches.get(), 3);
+
+        List<String> items = new ArrayList<>(Collections.singletonList("item-0-0"));
+        iterator.forEachRemaining(items::add);
+        assertEquals(items, expectedItems());
+    }
+
+    @Test
+    public void testPrefetchPropagatesFailure() {
+        Function<String, ApiResponse<List<String>>> failingSecondPage = nextUrl -> {
+            if (nextUrl == null) {
+                return page(0);
+            }
+            throw new RuntimeException("Failed to fetch page");
+        };
+        PagedIterable<String> iterable = new PagedIterable<>(failingSecondPage).withPrefetch(executor, 2);
+
+        List<String> items = new ArrayList<>();
+        try {
+            for (String item : iterable) {
+                items.add(item);
+            }
+            fail("expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertEquals(e.getMessage(), "Failed to fetch page");
+        }
+        assertEquals(items, Arrays.asList("item-0-0", "item-0-1"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidMaxPagesInFlight() {
+        new PagedIterable<>(pages(new AtomicInteger())).withPrefetch(executor, 0);
+    }
+
+    private static Function<String, ApiResponse<List<String>>> pages(AtomicInteger fetches) {
+        return nextUrl -> {
+            fetches.incrementAndGet();
+            int page = nextUrl == null ? 0 : Integer.parseInt(nextUrl.substring(nextUrl.lastIndexOf('=') + 1));
+            return page(page);
+        };
+    }
+
+    private static ApiResponse<List<String>> page(int page) {
+        Map<String, List<String>> headers = page + 1 < PAGES
+            ? Collections.singletonMap("link", Collections.singletonList(
+                "<https://example.okta.com/api/v1/users?after=" + (page + 1) + ">; rel=\"next\""))
+            : Collections.emptyMap();
+        return new ApiResponse<>(200, headers, Arrays.asList("item-" + page + "-0", "item-" + page + "-1"));
+    }
+
+    private static List<String> expectedItems() {
+        List<String> items = new ArrayList<>();
+        for (int page = 0; page < PAGES; page++) {
+            items.add("item-" + page + "-0");
+            items.add("item-" + page + "-1");
+        }
+        return items;
+    }
+
+    private static List<String> collect(Iterable<String> iterable) {
+        List<String> items = new ArrayList<>();
+        iterable.forEach(items::add);
+        return items;
+    }
+}
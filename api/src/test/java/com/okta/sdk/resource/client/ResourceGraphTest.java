@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.okta.sdk.cache.Caches;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class ResourceGraphTest {
+
+    private static final String USER = "com.okta.sdk.resource.model.User";
+    private static final String APPLICATION = "com.okta.sdk.resource.model.Application";
+    private static final String GRANT = "com.okta.sdk.resource.model.OAuth2ScopeConsentGrant";
+    private static final String CONNECTION = "com.okta.sdk.resource.model.ProvisioningConnectionResponse";
+    private static final String TRANSACTION = "com.okta.sdk.resource.model.UserFactorPushTransaction";
+
+    private final ResourceGraph graph = ResourceGraph.builder()
+        .operation("getUser", "GET", "/api/v1/users/{id}", USER)
+        .operation("getCurrentUser", "GET", "/api/v1/users/me", USER)
+        .operation("listUsers", "GET", "/api/v1/users", null)
+        .operation("replaceUser", "PUT", "/api/v1/users/{id}", USER)
+        .operation("suspendUser", "POST", "/api/v1/users/{id}/lifecycle/suspend", null)
+        .operation("getApplication", "GET", "/api/v1/apps/{appId}", APPLICATION)
+        .operation("deleteApplication", "DELETE", "/api/v1/apps/{appId}", null)
+        .operation("getDefaultProvisioningConnectionForApplication", "GET", "/api/v1/apps/{appId}/connections/default", CONNECTION)
+        .operation("getScopeConsentGrant", "GET", "/api/v1/apps/{appId}/grants/{grantId}", GRANT)
+        .operation("revokeScopeConsentGrant", "DELETE", "/api/v1/apps/{appId}/grants/{grantId}", null)
+        .operation("assignUserToGroup", "PUT", "/api/v1/groups/{groupId}/users/{userId}", null)
+        .operation("getFactorTransactionStatus", "GET", "/api/v1/users/{userId}/factors/{factorId}/transactions/{transactionId}", TRANSACTION)
+        .uncacheable("getFactorTransactionStatus")
+        .build();
+
+    @Test
+    public void testParentOfSubResource() {
+        assertEquals(resolve("suspendUser", "POST", "/api/v1/users/00u1/lifecycle/suspend"),
+            list(USER + "=/api/v1/users/00u1"));
+    }
+
+    @Test
+    public void testResourceAndParents() {
+        assertEquals(resolve("revokeScopeConsentGrant", "DELETE", "/api/v1/apps/0oa1/grants/oag1"),
+            list(APPLICATION + "=/api/v1/apps/0oa1", GRANT + "=/api/v1/apps/0oa1/grants/oag1"));
+        assertEquals(resolve("replaceUser", "PUT", "/api/v1/users/00u1"), list(USER + "=/api/v1/users/00u1"));
+    }
+
+    @Test
+    public void testDeleteInvalidatesSingletonChildren() {
+        // the grants have ids of their own and are left to expire
+        assertEquals(resolve("deleteApplication", "DELETE", "/api/v1/apps/0oa1"),
+            list(APPLICATION + "=/api/v1/apps/0oa1", CONNECTION + "=/api/v1/apps/0oa1/connections/default"));
+    }
+
+    @Test
+    public void testLookupByPathWithoutOperationId() {
+        assertEquals(resolve(null, "POST", "/api/v1/users/00u1/lifecycle/suspend"), list(USER + "=/api/v1/users/00u1"));
+        assertEquals(resolve("unknownOperation", "DELETE", "/api/v1/apps/0oa1/grants/oag1").size(), 2);
+        assertTrue(resolve(null, "PATCH", "/api/v1/users/00u1").isEmpty());
+        assertTrue(resolve(null, "POST", "/api/v1/unknown/00u1").isEmpty());
+    }
+
+    @Test
+    public void testParameterNamesDoNotMatter() {
+        // /api/v1/groups/{groupId} has no cacheable GET in this graph, and the user is not a parent of the membership
+        assertTrue(resolve("assignUserToGroup", "PUT", "/api/v1/groups/00g1/users/00u1").isEmpty());
+
+        ResourceGraph renamed = ResourceGraph.builder()
+            .operation("getUser", "GET", "/api/v1/users/{userId}", USER)
+            .operation("suspendUser", "POST", "/api/v1/users/{id}/lifecycle/suspend", null)
+            .build();
+        assertEquals(renamed.invalidations("suspendUser", "POST", "/api/v1/users/00u1/lifecycle/suspend").length, 1);
+    }
+
+    @Test
+    public void testCacheableOperations() {
+        assertTrue(graph.isCacheable("getUser", "GET", "/api/v1/users/00u1"));
+        assertTrue(graph.isCacheable("getScopeConsentGrant", "GET", "/api/v1/apps/0oa1/grants/oag1"));
+        assertFalse(graph.isCacheable("listUsers", "GET", "/api/v1/users"));
+        assertFalse(graph.isCacheable("getFactorTransactionStatus", "GET", "/api/v1/users/00u1/factors/ufs1/transactions/v2mst1"));
+        // writes and unknown operations are not cached
+        assertFalse(graph.isCacheable("replaceUser", "PUT", "/api/v1/users/00u1"));
+        assertFalse(graph.isCacheable("unknownOperation", "GET", "/api/v1/unknown/00u1"));
+    }
+
+    @Test
+    public void testCacheableLookupByPathWithoutOperationId() {
+        assertTrue(graph.isCacheable(null, "GET", "/api/v1/users/00u1"));
+        assertTrue(graph.isCacheable(null, "GET", "/api/v1/users/me"));
+        assertTrue(graph.isCacheable(null, "GET", "/api/v1/apps/0oa1/connections/default"));
+        assertFalse(graph.isCacheable(null, "GET", "/api/v1/users"));
+        assertFalse(graph.isCacheable(null, "GET", "/api/v1/users/00u1/factors/ufs1/transactions/v2mst1"));
+        assertFalse(graph.isCacheable(null, "GET", "/api/v1/users/00u1/lifecycle/suspend"));
+        assertFalse(graph.isCacheable(null, "GET", null));
+    }
+
+    @Test
+    public void testCollectionInvalidations() {
+        ResourceGraph groups = ResourceGraph.builder()
+            .operation("listGroups", "GET", "/api/v1/groups", null, true)
+            .operation("updateGroup", "PUT", "/api/v1/groups/{groupId}", null)
+            .operation("listGroupUsers", "GET", "/api/v1/groups/{groupId}/users", null, true)
+            .operation("listAssignedApplicationsForGroup", "GET", "/api/v1/groups/{groupId}/apps", null, true)
+            .operation("assignUserToGroup", "PUT", "/api/v1/groups/{groupId}/users/{userId}", null)
+            .operation("listUserGroups", "GET", "/api/v1/users/{userId}/groups", null, true)
+            .operation("listLogEvents", "GET", "/api/v1/logs", null, true)
+            .uncacheable("listLogEvents")
+            .build();
+
+        assertTrue(groups.isCollection("listGroupUsers", "GET", "/api/v1/groups/00g1/users"));
+        assertTrue(groups.isCollection(null, "GET", "/api/v1/groups/00g1/apps"));
+        assertFalse(groups.isCollection("listLogEvents", "GET", "/api/v1/logs"));
+        assertFalse(groups.isCollection("assignUserToGroup", "PUT", "/api/v1/groups/00g1/users/00u1"));
+        assertFalse(groups.isCacheable("listGroupUsers", "GET", "/api/v1/groups/00g1/users"));
+
+        // the members, the other collections of the group and the groups; the groups of the user expire with their TTL
+        List<String> resolved = new ArrayList<>();
+        for (ResourceGraph.Invalidation invalidation : groups.collectionInvalidations("assignUserToGroup", "PUT", "/api/v1/groups/00g1/users/00u1")) {
+            assertEquals(invalidation.getCacheName(), Caches.COLLECTIONS);
+            resolved.add(invalidation.resourcePath("/api/v1/groups/00g1/users/00u1"));
+        }
+        resolved.sort(null);
+        assertEquals(resolved, list("/api/v1/groups", "/api/v1/groups/00g1/apps", "/api/v1/groups/00g1/users"));
+
+        assertEquals(groups.collectionInvalidations(null, "PUT", "/api/v1/groups/00g1").length, 3);
+        assertEquals(groups.invalidations("assignUserToGroup", "PUT", "/api/v1/groups/00g1/users/00u1").length, 0);
+    }
+
+    private List<String> resolve(String operationId, String method, String path) {
+        List<String> resolved = new ArrayList<>();
+        for (ResourceGraph.Invalidation invalidation : graph.invalidations(operationId, method, path)) {
+            resolved.add(invalidation.getCacheName() + "=" + invalidation.resourcePath(path));
+        }
+        return resolved;
+    }
+
+    private static List<String> list(String... values) {
+        return Arrays.asList(values);
+    }
+}
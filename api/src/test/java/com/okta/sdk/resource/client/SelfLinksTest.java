@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.okta.sdk.resource.model.Group;
+import com.okta.sdk.resource.model.User;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class SelfLinksTest {
+
+    private final ApiClient apiClient = new ApiClient();
+
+    @Test
+    public void testModelSelfLink() throws Exception {
+        User user = apiClient.getObjectMapper().readValue(
+            "{\"id\":\"00u1\",\"_links\":{\"self\":{\"href\":\"https://example.okta.com/api/v1/users/00u1\"}}}", User.class);
+
+        assertEquals(SelfLinks.of(user), "https://example.okta.com/api/v1/users/00u1");
+    }
+
+    @Test
+    public void testOtherModelTypes() throws Exception {
+        Group group = apiClient.getObjectMapper().readValue(
+            "{\"id\":\"00g1\",\"_links\":{\"self\":{\"href\":\"https://example.okta.com/api/v1/groups/00g1\"}}}", Group.class);
+
+        assertEquals(SelfLinks.of(group), "https://example.okta.com/api/v1/groups/00g1");
+    }
+
+    @Test
+    public void testMissingLinks() throws Exception {
+        User user = apiClient.getObjectMapper().readValue("{\"id\":\"00u1\"}", User.class);
+
+        assertNull(SelfLinks.of(user));
+        assertNull(SelfLinks.of("00u1"));
+        assertNull(SelfLinks.of(null));
+    }
+
+    @Test
+    public void testMapSelfLink() {
+        Map<String, Object> resource = Collections.singletonMap("_links",
+            Collections.singletonMap("self", Collections.singletonMap("href", "https://example.okta.com/api/v1/apps/0oa1")));
+
+        assertEquals(SelfLinks.of(resource), "https://example.okta.com/api/v1/apps/0oa1");
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okta.sdk.cache.CacheManager;
+import com.okta.sdk.resource.model.User;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.*;
+
+public class StreamedPageTest {
+
+    private final ObjectMapper objectMapper = new ApiClient(HttpClients.createDefault(), mock(CacheManager.class)).getObjectMapper();
+
+    @Test
+    public void testStreamsItemsAndClosesAtTheEnd() throws IOException {
+        TrackingStream body = new TrackingStream("[{\"id\":\"00u1\"},{\"id\":\"00u2\"},{\"id\":\"00u3\"}]");
+        Iterator<User> users = page(body).iterator();
+
+        assertEquals(users.next().getId(), "00u1");
+        assertFalse(body.closed);
+        assertEquals(users.next().getId(), "00u2");
+        assertEquals(users.next().getId(), "00u3");
+        assertFalse(users.hasNext());
+        assertTrue(body.closed);
+    }
+
+    @Test
+    public void testRootElementIsStripped() throws IOException {
+        List<String> ids = new ArrayList<>();
+        page(new TrackingStream("{\"users\": [{\"id\":\"00u1\"},{\"id\":\"00u2\"}]}")).forEach(user -> ids.add(user.getId()));
+
+        assertEquals(ids.size(), 2);
+        assertEquals(ids.get(1), "00u2");
+    }
+
+    @Test
+    public void testEmptyBodyIsAnEmptyPage() throws IOException {
+        TrackingStream body = new TrackingStream("");
+        assertFalse(page(body).iterator().hasNext());
+        assertTrue(body.closed);
+    }
+
+    @Test
+    public void testCloseReleasesAPartlyReadPage() throws IOException {
+        TrackingStream body = new TrackingStream("[{\"id\":\"00u1\"},{\"id\":\"00u2\"}]");
+        StreamedPage<User> page = page(body);
+        Iterator<User> users = page.iterator();
+        users.next();
+
+        page.close();
+        assertTrue(body.closed);
+        assertFalse(users.hasNext());
+    }
+
+    @Test
+    public void testNotAnArray() {
+        TrackingStream body = new TrackingStream("{\"id\":\"00u1\"}");
+        expectThrows(IOException.class, () -> page(body));
+        assertTrue(body.closed);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testIteratesOnlyOnce() throws IOException {
+        StreamedPage<User> page = page(new TrackingStream("[]"));
+        page.iterator();
+        page.iterator();
+    }
+
+    @Test
+    public void testPagedIterableOverStreamedPages() {
+        List<String> ids = new ArrayList<>();
+        new PagedIterable<User>(nextUrl -> {
+            try {
+                if (nextUrl == null) {
+                    Map<String, List<String>> headers = Collections.singletonMap("link",
+                        Collections.singletonList("<https://example.okta.com/api/v1/users?after=00u2>; rel=\"next\""));
+                    return new ApiResponse<>(200, headers, page(new TrackingStream("[{\"id\":\"00u1\"},{\"id\":\"00u2\"}]")));
+                }
+                return new ApiResponse<>(200, Collections.emptyMap(), page(new TrackingStream("[{\"id\":\"00u3\"}]")));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to fetch page", e);
+            }
+        }).forEach(user -> ids.add(user.getId()));
+
+        assertEquals(ids.size(), 3);
+        assertEquals(ids.get(2), "00u3");
+    }
+
+    @Test
+    public void testClosingThePagedIterableReleasesThePageBeingRead() {
+        TrackingStream body = new TrackingStream("[{\"id\":\"00u1\"},{\"id\":\"00u2\"}]");
+        try (PagedIterable<User> users = new PagedIterable<>(nextUrl -> {
+            try {
+                return new ApiResponse<>(200, Collections.emptyMap(), page(body));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to fetch page", e);
+            }
+        })) {
+            for (User user : users) {
+                assertEquals(user.getId(), "00u1");
+                break;
+            }
+            assertFalse(body.closed);
+        }
+        assertTrue(body.closed);
+    }
+
+    @Test
+    public void testClosedPagedIteratorStops() {
+        TrackingStream body = new TrackingStream("[{\"id\":\"00u1\"},{\"id\":\"00u2\"}]");
+        PagedIterator<User> users = new PagedIterator<>(nextUrl -> {
+            try {
+                return new ApiResponse<>(200, Collections.emptyMap(), page(body));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to fetch page", e);
+            }
+        });
+        users.next();
+
+        users.close();
+        assertTrue(body.closed);
+        assertFalse(users.hasNext());
+    }
+
+    private StreamedPage<User> page(TrackingStream body) throws IOException {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200);
+        response.setEntity(new InputStreamEntity(body, ContentType.APPLICATION_JSON));
+        return new StreamedPage<>(CloseableHttpResponse.adapt(response), objectMapper.getFactory().createParser(body),
+            objectMapper.readerFor(User.class));
+    }
+
+    private static final class TrackingStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        TrackingStream(String json) {
+            super(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.okta.sdk.cache.Cache;
+import com.okta.sdk.impl.cache.BoundedCache;
+import com.okta.sdk.impl.cache.DefaultCache;
+import com.okta.sdk.impl.util.SoftHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the memory-sensitive {@link DefaultCache} with the size-bounded {@link BoundedCache}: uncontended and
+ * contended reads, and a mixed read/write workload. Keys follow a skewed distribution (a few hot users and groups,
+ * a long tail), over a key space twice the bounded cache's capacity.
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar CacheBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    private static final int KEY_SPACE = 1 << 14;
+    private static final int CAPACITY = KEY_SPACE / 2;
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Param({"default", "bounded"})
+    public String cacheType;
+
+    private Cache<String, Object> cache;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = "bounded".equals(cacheType)
+            ? new BoundedCache<>("benchmark", CAPACITY, TTL, TTL)
+            : new DefaultCache<>("benchmark", new SoftHashMap<>(), TTL, TTL);
+
+        keys = new String[KEY_SPACE];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < KEY_SPACE; i++) {
+            // roughly Zipfian: small indexes are drawn far more often
+            int rank = (int) Math.floor(Math.pow(KEY_SPACE, random.nextDouble())) - 1;
+            keys[i] = "https://example.okta.com/api/v1/users/00u" + rank;
+        }
+        for (String key : keys) {
+            cache.put(key, key);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index = (int) Thread.currentThread().getId() * 7919;
+    }
+
+    private String nextKey(ThreadState state) {
+        return keys[state.index++ & (KEY_SPACE - 1)];
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object readUncontended(ThreadState state) {
+        return cache.get(nextKey(state));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object readContended(ThreadState state) {
+        return cache.get(nextKey(state));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(6)
+    public Object readWrite_get(ThreadState state) {
+        return cache.get(nextKey(state));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public Object readWrite_put(ThreadState state) {
+        String key = nextKey(state);
+        return cache.put(key, key);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.okta.sdk.authc.credentials.TokenClientCredentials;
+import com.okta.sdk.client.Clients;
+import com.okta.sdk.resource.client.ApiClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ClientBuilder.build()}: reading the configuration sources, creating the cache manager and HTTP
+ * clients, and setting up the object mapper. {@code build_cold} is the first build in a fresh JVM, as at application
+ * startup, {@code build_warm} a build once the classes are loaded and compiled.
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar ClientBuilderBenchmark
+ * </pre>
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientBuilderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean asyncEnabled;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public ApiClient build_cold() throws IOException {
+        return build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public ApiClient build_warm() throws IOException {
+        return build();
+    }
+
+    private ApiClient build() throws IOException {
+        ApiClient apiClient = Clients.builder()
+            .setOrgUrl("https://example.okta.com")
+            .setClientCredentials(new TokenClientCredentials("benchmark"))
+            .setAsyncEnabled(asyncEnabled)
+            .build();
+        // release the connection pools and I/O threads right away
+        apiClient.getHttpClient().close();
+        if (apiClient.getAsyncHttpClient() != null) {
+            apiClient.getAsyncHttpClient().close();
+        }
+        return apiClient;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.okta.sdk.authc.credentials.TokenClientCredentials;
+import com.okta.sdk.cache.Caches;
+import com.okta.sdk.client.Clients;
+import com.okta.sdk.resource.client.ApiClient;
+import com.okta.sdk.resource.client.ApiException;
+import com.okta.sdk.resource.client.ApiOperation;
+import com.okta.sdk.resource.client.Pair;
+import com.okta.sdk.resource.model.CreateUserRequest;
+import com.okta.sdk.resource.model.User;
+import com.okta.sdk.resource.model.UserProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ApiClient.invokeAPI} end to end against an {@link OktaStub}, with caching disabled: request
+ * building, authentication, the HTTP client's interceptor chain, and reading the response into a model.
+ * <ul>
+ *     <li>{@code getUser} and {@code getUser_contended} read a user, from one and eight threads</li>
+ *     <li>{@code createUser} sends a JSON body</li>
+ *     <li>{@code getUser_async} reads a user on the async client</li>
+ * </ul>
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar InvokeApiBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvokeApiBenchmark {
+
+    private static final String[] JSON = { "application/json" };
+    private static final String[] AUTH_NAMES = { "apiToken" };
+
+    private static final ApiOperation<User> GET_USER = new ApiOperation<>("getUser", "GET", "/api/v1/users/{id}",
+        new String[] { "id" }, JSON, JSON, AUTH_NAMES, new TypeReference<User>() {});
+    private static final ApiOperation<User> CREATE_USER = new ApiOperation<>("createUser", "POST", "/api/v1/users",
+        new String[0], JSON, JSON, AUTH_NAMES, new TypeReference<User>() {});
+
+    private OktaStub stub;
+    private ApiClient apiClient;
+    private CreateUserRequest createUserRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stub = new OktaStub(1, 1);
+        apiClient = Clients.builder()
+            .setOrgUrl("https://example.okta.com")
+            .setClientCredentials(new TokenClientCredentials("benchmark"))
+            .setCacheManager(Caches.newDisabledCacheManager())
+            .setAsyncEnabled(true)
+            .build();
+        apiClient.setBasePath(stub.getBaseUrl());
+        createUserRequest = new CreateUserRequest().profile(new UserProfile()
+            .firstName("Isaac")
+            .lastName("Brock")
+            .email("isaac.brock@example.com")
+            .login("isaac.brock@example.com"));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        stub.close();
+    }
+
+    @Benchmark
+    public User getUser() throws ApiException {
+        return apiClient.invokeAPI(GET_USER, GET_USER.expandPath(apiClient, "00u1ero7vZFVEIYLWPBN"),
+            new ArrayList<>(), new ArrayList<>(), "", null, new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public User getUser_contended() throws ApiException {
+        return getUser();
+    }
+
+    @Benchmark
+    public User createUser() throws ApiException {
+        List<Pair> queryParams = new ArrayList<>(apiClient.parameterToPair("activate", false));
+        return apiClient.invokeAPI(CREATE_USER, CREATE_USER.getPathTemplate(), queryParams, new ArrayList<>(), "",
+            createUserRequest, new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+
+    @Benchmark
+    public User getUser_async() {
+        return apiClient.invokeAPIAsync(GET_USER, GET_USER.expandPath(apiClient, "00u1ero7vZFVEIYLWPBN"),
+            new ArrayList<>(), new ArrayList<>(), "", null, new HashMap<>(), new HashMap<>(), new HashMap<>()).join();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.okta.sdk.impl.oauth2.AccessTokenRetrieverService;
+import com.okta.sdk.impl.oauth2.OAuth2AccessToken;
+import com.okta.sdk.impl.oauth2.OAuth2ClientCredentials;
+import com.okta.sdk.resource.client.Pair;
+import com.okta.sdk.resource.client.auth.Authentication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of {@code OAuth2ClientCredentials.applyToParams}, which every request runs, from 1, 4 and
+ * 16 threads. The {@code synchronized*} methods run the former implementation that serialized all requests on one
+ * monitor ({@link SynchronizedOAuth2ClientCredentials}), the {@code lockFree*} methods the current one.
+ * <p>
+ * Tokens come from a local stand-in for the token endpoint that answers after {@code tokenLatencyMillis}, like the
+ * JWT signing and POST to {@code /oauth2/v1/token} would. With a {@code tokenLifetimeSeconds} of 301 the former
+ * implementation refreshes every second while holding the lock; with 3600 no refresh falls into a run and only the
+ * cost of the lock itself is measured.
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar OAuth2TokenBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OAuth2TokenBenchmark {
+
+    @Param({"301", "3600"})
+    public int tokenLifetimeSeconds;
+
+    @Param({"20"})
+    public int tokenLatencyMillis;
+
+    private ScheduledExecutorService refreshExecutor;
+    private SynchronizedOAuth2ClientCredentials synchronizedCredentials;
+    private OAuth2ClientCredentials lockFreeCredentials;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "okta-oauth2-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        synchronizedCredentials = new SynchronizedOAuth2ClientCredentials(new TokenEndpointStandIn());
+        lockFreeCredentials = new OAuth2ClientCredentials(new TokenEndpointStandIn(), refreshExecutor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Map<String, String> synchronized_1() {
+        return apply(synchronizedCredentials);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, String> synchronized_4() {
+        return apply(synchronizedCredentials);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Map<String, String> synchronized_16() {
+        return apply(synchronizedCredentials);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Map<String, String> lockFree_1() {
+        return apply(lockFreeCredentials);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, String> lockFree_4() {
+        return apply(lockFreeCredentials);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Map<String, String> lockFree_16() {
+        return apply(lockFreeCredentials);
+    }
+
+    private static Map<String, String> apply(Authentication credentials) {
+        List<Pair> queryParams = Collections.emptyList();
+        Map<String, String> headerParams = new HashMap<>(4);
+        credentials.applyToParams(queryParams, headerParams, Collections.emptyMap());
+        return headerParams;
+    }
+
+    /**
+     * Issues a new token of {@code tokenLifetimeSeconds} after {@code tokenLatencyMillis}.
+     */
+    private final class TokenEndpointStandIn implements AccessTokenRetrieverService {
+
+        private final AtomicLong issued = new AtomicLong();
+
+        @Override
+        public OAuth2AccessToken getOAuth2AccessToken() {
+            try {
+                Thread.sleep(tokenLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            OAuth2AccessToken token = new OAuth2AccessToken();
+            token.setTokenType("Bearer");
+            token.setExpiresIn(tokenLifetimeSeconds);
+            token.setAccessToken("token-" + issued.incrementAndGet());
+            return token;
+        }
+    }
+}
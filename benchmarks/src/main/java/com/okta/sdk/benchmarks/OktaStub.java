@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process HTTP server answering like an Okta org with recorded payloads, so that benchmarks measure the client
+ * and not the network:
+ * <ul>
+ *     <li>{@code GET /api/v1/users/{id}} and {@code POST /api/v1/users} return the recorded user</li>
+ *     <li>{@code GET /api/v1/users} returns {@code pages} pages of {@code pageSize} users, linked with {@code Link}
+ *     headers and an {@code after} cursor</li>
+ *     <li>{@code GET /api/v1/groups/{id}} returns the recorded group</li>
+ * </ul>
+ * Responses are rendered once up front.
+ */
+public final class OktaStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final byte[] user;
+    private final byte[] group;
+    private final byte[] page;
+    private final int pages;
+
+    public OktaStub(int pageSize, int pages) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        server.setExecutor(executor);
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        // point the recorded links at the stub, so that self links match the request URLs
+        String userJson = resource("/com/okta/sdk/resource/client/user.json").replace("https://example.okta.com", baseUrl);
+        user = userJson.getBytes(StandardCharsets.UTF_8);
+        group = resource("group.json").replace("https://example.okta.com", baseUrl).getBytes(StandardCharsets.UTF_8);
+        page = usersPage(userJson, pageSize).getBytes(StandardCharsets.UTF_8);
+        this.pages = pages;
+
+        server.createContext("/api/v1/users", this::users);
+        server.createContext("/api/v1/groups/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, group);
+        });
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public byte[] getUser() {
+        return user;
+    }
+
+    public byte[] getGroup() {
+        return group;
+    }
+
+    public byte[] getPage() {
+        return page;
+    }
+
+    private void users(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        URI uri = exchange.getRequestURI();
+        if (!"GET".equals(exchange.getRequestMethod()) || !"/api/v1/users".equals(uri.getPath())) {
+            respond(exchange, 200, user);
+            return;
+        }
+        int index = pageIndex(uri.getQuery());
+        if (index + 1 < pages) {
+            exchange.getResponseHeaders().add("Link", "<" + baseUrl + "/api/v1/users?after=" + (index + 1) + ">; rel=\"next\"");
+        }
+        respond(exchange, 200, page);
+    }
+
+    private static int pageIndex(String query) {
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("after=")) {
+                    return Integer.parseInt(parameter.substring("after=".length()));
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * @return a JSON array of {@code size} copies of the recorded user, each with its own id
+     */
+    static String usersPage(String userJson, int size) {
+        StringJoiner page = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) {
+            page.add(userJson.replace("00u1ero7vZFVEIYLWPBN", String.format("00u%017d", i)));
+        }
+        return page.toString();
+    }
+
+    /**
+     * @return a JSON array of {@code size} copies of the recorded System Log event, each with its own uuid
+     */
+    static String logsPage(String logEventJson, int size) {
+        StringJoiner page = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) {
+            page.add(logEventJson.replace("8d3f9a52-d8a6-11ee-a1b5-f5d1c7e2a0b4", String.format("8d3f9a52-d8a6-11ee-a1b5-%012d", i)));
+        }
+        return page.toString();
+    }
+
+    static String resource(String name) {
+        try (InputStream in = OktaStub.class.getResourceAsStream(name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
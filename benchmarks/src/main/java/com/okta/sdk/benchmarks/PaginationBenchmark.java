@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.okta.sdk.authc.credentials.TokenClientCredentials;
+import com.okta.sdk.cache.Caches;
+import com.okta.sdk.client.Clients;
+import com.okta.sdk.resource.client.ApiClient;
+import com.okta.sdk.resource.client.ApiException;
+import com.okta.sdk.resource.client.ApiOperation;
+import com.okta.sdk.resource.client.ApiResponse;
+import com.okta.sdk.resource.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures iterating a paginated list of users the way the generated {@code *Paged} methods do: a
+ * {@code PagedIterable} following the {@code Link} headers of an {@link OktaStub} over {@code pages} pages of
+ * {@code pageSize} users. Pages are either read into lists on demand ({@code buffered}), prefetched in the background
+ * ({@code prefetch}) or decoded item by item from the response ({@code streamed}). The score is the time to iterate all
+ * users.
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar PaginationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+
+    private static final ApiOperation<List<User>> LIST_USERS = new ApiOperation<>("listUsers", "GET", "/api/v1/users",
+        new String[0], new String[] { "application/json" }, new String[] { "application/json" },
+        new String[] { "apiToken" }, new TypeReference<List<User>>() {});
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    @Param({"10"})
+    public int pages;
+
+    @Param({"buffered", "prefetch", "streamed"})
+    public String mode;
+
+    private OktaStub stub;
+    private ApiClient apiClient;
+    private ExecutorService prefetchExecutor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stub = new OktaStub(pageSize, pages);
+        apiClient = Clients.builder()
+            .setOrgUrl("https://example.okta.com")
+            .setClientCredentials(new TokenClientCredentials("benchmark"))
+            .setCacheManager(Caches.newDisabledCacheManager())
+            .build();
+        apiClient.setBasePath(stub.getBaseUrl());
+        if ("prefetch".equals(mode)) {
+            prefetchExecutor = Executors.newFixedThreadPool(2);
+            apiClient.setPagePrefetch(prefetchExecutor, 2);
+        }
+        apiClient.setPageStreaming("streamed".equals(mode));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        stub.close();
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public int iterateAllUsers(Blackhole blackhole) {
+        int count = 0;
+        for (User user : apiClient.<User>pagedIterable(this::fetchPage)) {
+            blackhole.consume(user);
+            count++;
+        }
+        return count;
+    }
+
+    private ApiResponse<? extends Iterable<User>> fetchPage(String nextUrl) {
+        try {
+            if (nextUrl == null) {
+                return apiClient.invokeAPIForPage(LIST_USERS, LIST_USERS.getPathTemplate(),
+                    new ArrayList<>(apiClient.parameterToPair("limit", pageSize)), new ArrayList<>(), "", null,
+                    new HashMap<>(), new HashMap<>(), new HashMap<>());
+            }
+            return apiClient.invokeAPIForPageFullURL(LIST_USERS, nextUrl, new HashMap<>());
+        } catch (ApiException e) {
+            throw new RuntimeException("Failed to fetch page", e);
+        }
+    }
+}
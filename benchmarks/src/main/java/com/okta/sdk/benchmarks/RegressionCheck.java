@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file with a baseline recorded the same way and exits with status 1 when a score got
+ * worse by more than the threshold. Throughput scores regress when they drop, time scores when they grow. Benchmarks
+ * missing from the baseline are reported and ignored.
+ * <pre>
+ *     java -cp benchmarks/target/benchmarks.jar com.okta.sdk.benchmarks.RegressionCheck result.json baseline.json 10
+ * </pre>
+ * The {@code benchmark-regression} profile of this module runs the suites and then this check.
+ */
+public final class RegressionCheck {
+
+    private RegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: RegressionCheck <result.json> <baseline.json> [threshold percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        File baselineFile = new File(args[1]);
+        if (!baselineFile.isFile()) {
+            System.out.println("No baseline at " + baselineFile + ", nothing to compare. Keep " + args[0]
+                + " as the baseline to enable the check.");
+            return;
+        }
+
+        List<String> regressions = compare(read(new File(args[0])), read(baselineFile), threshold);
+        if (!regressions.isEmpty()) {
+            System.err.println(regressions.size() + " benchmark(s) regressed by more than " + threshold + "%:");
+            regressions.forEach(line -> System.err.println("  " + line));
+            System.exit(1);
+        }
+    }
+
+    static List<String> compare(Map<String, JsonNode> results, Map<String, JsonNode> baseline, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((key, result) -> {
+            JsonNode expected = baseline.get(key);
+            if (expected == null) {
+                System.out.println("new     " + key);
+                return;
+            }
+            double score = result.path("primaryMetric").path("score").asDouble();
+            double baselineScore = expected.path("primaryMetric").path("score").asDouble();
+            if (baselineScore == 0) {
+                return;
+            }
+            // positive when worse, whatever the direction of the mode
+            double change = (score - baselineScore) / baselineScore * 100;
+            if ("thrpt".equals(result.path("mode").asText())) {
+                change = -change;
+            }
+            String line = String.format("%-7s %s: %.3f -> %.3f %s (%+.1f%%)", change > threshold ? "WORSE" : "ok",
+                key, baselineScore, score, result.path("primaryMetric").path("scoreUnit").asText(), change);
+            System.out.println(line);
+            if (change > threshold) {
+                regressions.add(line);
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * Reads a JMH result file, keyed by benchmark, mode and parameters.
+     */
+    static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            String key = result.path("benchmark").asText() + " [" + result.path("mode").asText() + "]"
+                + (params.isEmpty() ? "" : " " + params);
+            results.put(key, result);
+        }
+        return results;
+    }
+}
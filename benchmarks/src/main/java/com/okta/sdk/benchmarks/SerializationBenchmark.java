@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okta.sdk.authc.credentials.TokenClientCredentials;
+import com.okta.sdk.client.Clients;
+import com.okta.sdk.resource.client.ApiClient;
+import com.okta.sdk.resource.client.ApiException;
+import com.okta.sdk.resource.common.PagedList;
+import com.okta.sdk.resource.model.Group;
+import com.okta.sdk.resource.model.LogEvent;
+import com.okta.sdk.resource.model.User;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing models with the {@code ObjectMapper} of a built client, so that the SDK's custom
+ * serializers and deserializers (user and group profiles, role assignments, ...) are part of the measurement. The
+ * payloads are a recorded user and group, and pages of {@code pageSize} users ({@code /api/v1/users}) and System Log
+ * events ({@code /api/v1/logs}).
+ * <p>
+ * The {@code deserialize*} pairs compare reading a response the way {@code ApiClient.deserialize} did before it parsed
+ * from the entity stream ({@code Buffered}: the body decoded into a String first) with the current method
+ * ({@code Streamed}). Run them with the GC profiler to see the allocation per page next to the latency:
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar SerializationBenchmark
+ *     java -jar benchmarks/target/benchmarks.jar "SerializationBenchmark.deserialize" -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private static final TypeReference<List<User>> USER_LIST = new TypeReference<List<User>>() {};
+    private static final TypeReference<List<LogEvent>> LOG_EVENT_LIST = new TypeReference<List<LogEvent>>() {};
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private ApiClient apiClient;
+    private ObjectMapper objectMapper;
+    private byte[] userJson;
+    private byte[] groupJson;
+    private byte[] pageJson;
+    private byte[] logsJson;
+    private User user;
+    private List<User> page;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        apiClient = Clients.builder()
+            .setOrgUrl("https://example.okta.com")
+            .setClientCredentials(new TokenClientCredentials("benchmark"))
+            .build();
+        objectMapper = apiClient.getObjectMapper();
+        String user = OktaStub.resource("/com/okta/sdk/resource/client/user.json");
+        userJson = user.getBytes(StandardCharsets.UTF_8);
+        groupJson = OktaStub.resource("group.json").getBytes(StandardCharsets.UTF_8);
+        pageJson = OktaStub.usersPage(user, pageSize).getBytes(StandardCharsets.UTF_8);
+        logsJson = OktaStub.logsPage(OktaStub.resource("log-event.json"), pageSize).getBytes(StandardCharsets.UTF_8);
+        this.user = objectMapper.readValue(userJson, User.class);
+        this.page = objectMapper.readValue(pageJson, USER_LIST);
+    }
+
+    @Benchmark
+    public User readUser() throws IOException {
+        return objectMapper.readValue(userJson, User.class);
+    }
+
+    @Benchmark
+    public Group readGroup() throws IOException {
+        return objectMapper.readValue(groupJson, Group.class);
+    }
+
+    @Benchmark
+    public List<User> readUserPage() throws IOException {
+        return objectMapper.readValue(pageJson, USER_LIST);
+    }
+
+    @Benchmark
+    public byte[] writeUser() throws IOException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] writeUserPage() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<User> deserializeUserPageBuffered() throws IOException, ParseException {
+        return bufferedDeserialize(response(pageJson), USER_LIST);
+    }
+
+    @Benchmark
+    public List<User> deserializeUserPageStreamed() throws ApiException, IOException, ParseException {
+        return apiClient.deserialize(response(pageJson), USER_LIST);
+    }
+
+    @Benchmark
+    public List<LogEvent> deserializeLogsPageBuffered() throws IOException, ParseException {
+        return bufferedDeserialize(response(logsJson), LOG_EVENT_LIST);
+    }
+
+    @Benchmark
+    public List<LogEvent> deserializeLogsPageStreamed() throws ApiException, IOException, ParseException {
+        return apiClient.deserialize(response(logsJson), LOG_EVENT_LIST);
+    }
+
+    /**
+     * The JSON branch of {@code ApiClient.deserialize} as it was before responses were parsed from the entity stream,
+     * kept as the baseline of the {@code deserialize*} pairs.
+     */
+    private <T> T bufferedDeserialize(CloseableHttpResponse response, TypeReference<T> valueType) throws IOException, ParseException {
+        String content = EntityUtils.toString(response.getEntity());
+
+        if ("".equals(content)) {
+            return null;
+        }
+
+        if (valueType.getType().getTypeName().contains("java.util.List")) {
+            if (content.startsWith("{\"")) {
+                content = content.substring(content.indexOf(":") + 1);
+                content = content.substring(0, content.length() - 1);
+            }
+        }
+
+        T value = objectMapper.readValue(content, valueType);
+        return value instanceof List ? PagedList.constructPagedList(response, value) : value;
+    }
+
+    private static CloseableHttpResponse response(byte[] body) {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200);
+        response.setHeader("Content-Type", ContentType.APPLICATION_JSON.toString());
+        response.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        return CloseableHttpResponse.adapt(response);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.benchmarks;
+
+import com.okta.sdk.impl.oauth2.AccessTokenRetrieverService;
+import com.okta.sdk.impl.oauth2.OAuth2AccessToken;
+import com.okta.sdk.resource.client.Pair;
+import com.okta.sdk.resource.client.auth.OAuth;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code OAuth2ClientCredentials} as it was before the token became readable without a lock: every request goes
+ * through one monitor, and the request that finds the token within 5 minutes of expiry retrieves a new one while
+ * holding it. Kept as the baseline of {@link OAuth2TokenBenchmark}.
+ */
+class SynchronizedOAuth2ClientCredentials extends OAuth {
+
+    private final AccessTokenRetrieverService accessTokenRetrieverService;
+    private OAuth2AccessToken oAuth2AccessToken;
+    private volatile boolean isRefreshing = false;
+
+    SynchronizedOAuth2ClientCredentials(AccessTokenRetrieverService accessTokenRetrieverService) {
+        this.accessTokenRetrieverService = accessTokenRetrieverService;
+    }
+
+    @Override
+    public synchronized void applyToParams(List<Pair> queryParams, Map<String, String> headerParams, Map<String, String> cookieParams) {
+        if (!isRefreshing) {
+            boolean tokenExpiring = oAuth2AccessToken != null &&
+                oAuth2AccessToken.getExpiresAt().minus(5, ChronoUnit.MINUTES).isBefore(Instant.now());
+            boolean tokenMissingButWasSet = oAuth2AccessToken == null && getAccessToken() == null;
+
+            if (tokenExpiring || tokenMissingButWasSet) {
+                oAuth2AccessToken = null;
+                setAccessToken(null);
+                try {
+                    refreshOAuth2AccessToken();
+                } catch (Exception e) {
+                    // the request proceeds without a token, as before
+                }
+            }
+        }
+        super.applyToParams(queryParams, headerParams, cookieParams);
+    }
+
+    private void refreshOAuth2AccessToken() throws Exception {
+        isRefreshing = true;
+        try {
+            oAuth2AccessToken = accessTokenRetrieverService.getOAuth2AccessToken();
+            // AccessTokenRetrieverServiceImpl publishes the token through the ApiClient, which lands here
+            setAccessToken(oAuth2AccessToken.getAccessToken());
+        } finally {
+            isRefreshing = false;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.resource.client;
+
+import com.okta.sdk.cache.Cache;
+import com.okta.sdk.cache.CacheManager;
+import com.okta.sdk.cache.Caches;
+import com.okta.sdk.resource.api.UserApi;
+import com.okta.sdk.resource.model.User;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how a cacheable {@code getUser} derives its cache key from {@code _links.self.href}.
+ * <ul>
+ *     <li>{@code selfLink_convertValue} is the previous approach: converting the deserialized {@link User} back into
+ *     a {@code LinkedHashMap} and walking it.</li>
+ *     <li>{@code selfLink_direct} is {@link SelfLinks#of(Object)}, reading the link through the model's getters.</li>
+ *     <li>{@code getUser_miss} and {@code getUser_hit} are full {@code UserApi.getUser} calls with caching enabled,
+ *     against an in-process HTTP server serving a recorded user. Run them against a build before and after a change
+ *     to compare the cost of a cache miss.</li>
+ * </ul>
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar SelfLinkBenchmark
+ * </pre>
+ * The benchmark lives in the {@code com.okta.sdk.resource.client} package because {@link SelfLinks} is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelfLinkBenchmark {
+
+    private static final String USER_ID = "00u1ero7vZFVEIYLWPBN";
+
+    private HttpServer server;
+    private ApiClient apiClient;
+    private UserApi userApi;
+    private Cache<String, Object> userCache;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        // point the recorded self link at the stub, so it matches the request URL and cache hits are possible
+        byte[] body;
+        try (InputStream in = SelfLinkBenchmark.class.getResourceAsStream("user.json")) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                .replace("https://example.okta.com", baseUrl)
+                .getBytes(StandardCharsets.UTF_8);
+        }
+
+        server.createContext("/api/v1/users/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        CacheManager cacheManager = Caches.newCacheManager()
+            .withDefaultTimeToLive(1, TimeUnit.HOURS)
+            .build();
+        apiClient = new ApiClient(HttpClients.createDefault(), cacheManager);
+        apiClient.setBasePath(baseUrl);
+        userApi = new UserApi(apiClient);
+        userCache = cacheManager.getCache(User.class.getName());
+        user = apiClient.getObjectMapper().readValue(body, User.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object selfLink_convertValue() {
+        Map<String, ?> map = apiClient.getObjectMapper().convertValue(user, LinkedHashMap.class);
+        Map<String, Map<String, String>> links = (Map<String, Map<String, String>>) map.get("_links");
+        return links.get("self").get("href");
+    }
+
+    @Benchmark
+    public Object selfLink_direct() {
+        return SelfLinks.of(user);
+    }
+
+    @Benchmark
+    public User getUser_miss() throws ApiException {
+        userCache.clear();
+        return userApi.getUser(USER_ID, null, null);
+    }
+
+    @Benchmark
+    public User getUser_hit() throws ApiException {
+        return userApi.getUser(USER_ID, null, null);
+    }
+}
@@ -40,6 +40,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -373,6 +374,45 @@ public class ReadmeSnippets {
             .build(); //build the CacheManager
     }
 
+    private void boundedCaching() {
+        Caches.newCacheManager()
+            .withDefaultTimeToLive(300, TimeUnit.SECONDS)
+            .withMaximumSize(10_000) // per cache region
+            .build();
+    }
+
+    private void diskCaching() {
+        Caches.newCacheManager()
+            .withDefaultTimeToLive(1, TimeUnit.HOURS)
+            .withDiskStore(Paths.get("/var/cache/my-app/okta"), 1024L * 1024 * 1024) // 1 GiB of files
+            .build();
+    }
+
+    private void refreshAheadCaching() {
+        Caches.newCacheManager()
+            .withDefaultTimeToLive(300, TimeUnit.SECONDS)
+            .withCache(forResource(User.class)
+                .withTimeToLive(10, TimeUnit.MINUTES)
+                .withRefreshAhead(0.8, 2, TimeUnit.MINUTES)) // reload after 8 minutes, serve stale for up to 2 more
+            .build();
+    }
+
+    private void collectionCaching() {
+        ApiClient client = Clients.builder()
+            .setCacheManager(Caches.newCacheManager()
+                .withCache(Caches.forCollections()
+                    .withTimeToLive(30, TimeUnit.SECONDS)
+                    .withMaximumSize(5_000)) // pages, across all list operations
+                .build())
+            .build();
+        client.setCollectionCaching(true);
+
+        // repeated within 30 seconds, iterating the members again makes no request
+        for (User member : new GroupApi(client).listGroupUsersPaged("{groupId}", null, 200)) {
+            // ...
+        }
+    }
+
     private void disableCaching() {
         ApiClient client = Clients.builder()
             .setCacheManager(Caches.newDisabledCacheManager())
@@ -0,0 +1,858 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.cache.RefreshAheadCache;
+import com.okta.sdk.cache.ValidatingCache;
+import com.okta.sdk.cache.Weigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A strictly bounded {@link com.okta.sdk.cache.Cache Cache}, holding at most a maximum number of entries or a maximum
+ * total {@link Weigher weight} of entries.
+ * <b>Eviction</b>
+ * New entries enter a small admission window (1% of the capacity) ordered by recency. An entry leaving the window
+ * only displaces the least recently used entry of the main space if it has been used more often recently, as
+ * estimated by a {@link FrequencySketch} ("W-TinyLFU"). This keeps popular entries in the cache when a burst of
+ * one-off lookups passes through it.
+ * <b>Concurrency</b>
+ * Entries are held in a {@link ConcurrentHashMap}, so reads never lock. Accesses are recorded in small striped, lossy
+ * buffers, and additions and removals in a write queue; both are replayed against the eviction policy in batches by
+ * whichever thread manages to acquire the eviction lock, so no caller ever waits on another.
+ * <b>Expiration</b>
+ * Time to Live and Time to Idle are kept as nanoseconds and checked with a single clock read per {@link #get(Object)}.
+ * Expired entries are also swept in order of age during maintenance, so they do not linger until read.
+ * As with {@link DefaultCache}, expired entries that carry an entity tag are retained for
+ * {@link #revalidate(Object, String) revalidation} until they are evicted. With
+ * {@link #setRefreshAhead(double, Duration) refresh-ahead} enabled, entries are served and swept only once their stale
+ * grace period is over too.
+ *
+ * @since 25.1.0
+ */
+public class BoundedCache<K, V> implements ValidatingCache<K, V>, RefreshAheadCache<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedCache.class);
+
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+    private static final int READ_BUFFER_STRIPES = Integer.highestOneBit(Math.max(1, NCPU - 1)) << 1;
+    private static final int READ_BUFFER_SIZE = 16;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+    private static final int WRITE_QUEUE_DRAIN_LIMIT = 1024;
+
+    private static final int IDLE = 0;
+    private static final int REQUIRED = 1;
+
+    private final String name;
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final long maximum;
+    private final long windowMaximum;
+    private final Weigher weigher;
+
+    private volatile long timeToLiveNanos;
+    private volatile long timeToIdleNanos;
+    // refresh-ahead, disabled while refreshAfter is 0
+    private volatile double refreshAfter;
+    private volatile long staleGraceNanos;
+
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final Queue<Runnable> writeQueue = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private volatile int drainStatus = IDLE;
+
+    // guarded by evictionLock
+    private final FrequencySketch sketch;
+    private final NodeList<K, V> window = new NodeList<>(false);
+    private final NodeList<K, V> main = new NodeList<>(false);
+    private final NodeList<K, V> writeOrder = new NodeList<>(true);
+    private long windowWeight;
+    private long weightedSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache holding at most {@code maximumSize} entries.
+     *
+     * @param name        name to assign to this instance, expected to be unique among all other caches in the parent
+     *                    {@code CacheManager}.
+     * @param maximumSize the maximum number of entries, greater than zero
+     * @param timeToLive  the amount of time cache entries may exist until they should be removed from the cache, or
+     *                    {@code null} if they may live indefinitely.
+     * @param timeToIdle  the amount of time cache entries may remain idle until they should be removed from the
+     *                    cache, or {@code null} if they may remain idle indefinitely.
+     */
+    public BoundedCache(String name, long maximumSize, Duration timeToLive, Duration timeToIdle) {
+        this(name, maximumSize, null, timeToLive, timeToIdle);
+    }
+
+    /**
+     * Creates a cache holding entries up to a total weight of {@code maximumWeight}, as computed by {@code weigher}.
+     * If {@code weigher} is {@code null} every entry weighs {@code 1}, bounding the number of entries instead.
+     *
+     * @param name          name to assign to this instance, expected to be unique among all other caches in the
+     *                      parent {@code CacheManager}.
+     * @param maximumWeight the maximum total weight of all entries, greater than zero
+     * @param weigher       computes the weight of each entry, or {@code null}
+     * @param timeToLive    the amount of time cache entries may exist until they should be removed from the cache,
+     *                      or {@code null} if they may live indefinitely.
+     * @param timeToIdle    the amount of time cache entries may remain idle until they should be removed from the
+     *                      cache, or {@code null} if they may remain idle indefinitely.
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(String name, long maximumWeight, Weigher weigher, Duration timeToLive, Duration timeToIdle) {
+        Assert.notNull(name, "Cache name cannot be null.");
+        Assert.isTrue(maximumWeight > 0, "maximum size or weight must be greater than zero");
+        DefaultCache.assertTtl(timeToLive);
+        DefaultCache.assertTti(timeToIdle);
+        this.name = name;
+        this.maximum = maximumWeight;
+        this.windowMaximum = Math.max(1, maximumWeight / 100);
+        this.weigher = weigher;
+        this.timeToLiveNanos = toNanos(timeToLive);
+        this.timeToIdleNanos = toNanos(timeToIdle);
+        this.sketch = new FrequencySketch(weigher == null ? maximumWeight : Math.min(maximumWeight, 1024));
+        this.readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    private static long toNanos(Duration duration) {
+        return duration != null ? duration.toNanos() : 0L;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (isExpired(node, now)) {
+            missCount.increment();
+            if (node.eTag == null) {
+                if (data.remove(key, node)) {
+                    logger.trace("Removing {} from cache due to expiration", key);
+                    afterWrite(new RemoveTask(node));
+                }
+            } else {
+                // keep it away from the eviction end while it is being revalidated
+                afterRead(node);
+            }
+            return null;
+        }
+
+        if (timeToIdleNanos > 0) {
+            node.accessTimeNanos = now;
+        }
+        afterRead(node);
+        hitCount.increment();
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return put(key, value, null);
+    }
+
+    @Override
+    public V put(K key, V value, String eTag) {
+        Assert.notNull(key, "Cache key cannot be null.");
+        Node<K, V> node = newNode(key, value, eTag);
+        Node<K, V> previous = data.put(key, node);
+        if (previous != null) {
+            afterWrite(new RemoveTask(previous));
+        }
+        afterWrite(new AddTask(node));
+        return previous != null ? previous.value : null;
+    }
+
+    /**
+     * Returns whether there is an entry for {@code key}, expired or not, without counting it as an access.
+     */
+    boolean contains(K key) {
+        return data.containsKey(key);
+    }
+
+    /**
+     * Adds an entry that was written {@code ageNanos} ago elsewhere, so that it expires when the original would. The
+     * entry does not replace a current one, only a missing or expired one.
+     *
+     * @return {@code true} if the entry was added
+     */
+    boolean load(K key, V value, String eTag, long ageNanos) {
+        long now = System.nanoTime();
+        int weight = weigher != null ? weigher.weigh(key, value) : 1;
+        Assert.isTrue(weight >= 0, "Weigher returned a negative weight");
+        Node<K, V> node = new Node<>(key, value, eTag, weight, now - Math.max(0, ageNanos));
+        // loading it counts as an access
+        node.accessTimeNanos = now;
+        Node<K, V> existing = data.putIfAbsent(key, node);
+        if (existing != null) {
+            if (!isExpired(existing, now) || !data.replace(key, existing, node)) {
+                return false;
+            }
+            afterWrite(new RemoveTask(existing));
+        }
+        afterWrite(new AddTask(node));
+        return true;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> previous = data.remove(key);
+        if (previous == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        afterWrite(new RemoveTask(previous));
+        return previous.value;
+    }
+
+    @Override
+    public String getETag(K key) {
+        Node<K, V> node = data.get(key);
+        return node != null ? node.eTag : null;
+    }
+
+    @Override
+    public V revalidate(K key, String eTag) {
+        Node<K, V> node = data.get(key);
+        if (node == null || eTag == null || !eTag.equals(node.eTag)) {
+            return null;
+        }
+        // a new node restarts both the TTL and the TTI
+        Node<K, V> revalidated = new Node<>(key, node.value, eTag, node.weight, System.nanoTime());
+        if (!data.replace(key, node, revalidated)) {
+            return null;
+        }
+        afterWrite(new RemoveTask(node));
+        afterWrite(new AddTask(revalidated));
+        return node.value;
+    }
+
+    private Node<K, V> newNode(K key, V value, String eTag) {
+        int weight = weigher != null ? weigher.weigh(key, value) : 1;
+        Assert.isTrue(weight >= 0, "Weigher returned a negative weight");
+        return new Node<>(key, value, eTag, weight, System.nanoTime());
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        long ttl = timeToLiveNanos;
+        if (ttl > 0 && now - node.writeTimeNanos > maximumAgeNanos(ttl)) {
+            return true;
+        }
+        long tti = timeToIdleNanos;
+        return tti > 0 && now - node.accessTimeNanos > tti;
+    }
+
+    /**
+     * Returns how long entries are served: the Time to Live, plus the stale grace period if refresh-ahead is enabled.
+     */
+    private long maximumAgeNanos(long ttl) {
+        return refreshAfter > 0 ? ttl + staleGraceNanos : ttl;
+    }
+
+    @Override
+    public boolean claimRefresh(K key) {
+        long ttl = timeToLiveNanos;
+        double refreshAfter = this.refreshAfter;
+        if (ttl <= 0 || refreshAfter <= 0) {
+            return false;
+        }
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return false;
+        }
+        long age = System.nanoTime() - node.writeTimeNanos;
+        if (age < ttl * refreshAfter || age > maximumAgeNanos(ttl)) {
+            return false;
+        }
+        return Node.REFRESHING.compareAndSet(node, 0, 1);
+    }
+
+    @Override
+    public boolean completeRefresh(K key, V value, String eTag) {
+        Node<K, V> node = data.get(key);
+        if (node == null || node.refreshing == 0) {
+            return false;
+        }
+        Node<K, V> refreshed = newNode(key, value, eTag);
+        if (!data.replace(key, node, refreshed)) {
+            return false;
+        }
+        afterWrite(new RemoveTask(node));
+        afterWrite(new AddTask(refreshed));
+        return true;
+    }
+
+    @Override
+    public void refreshFailed(K key) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            logger.debug("Failed to refresh {}, serving the cached value until it expires", key);
+            node.refreshing = 0;
+        }
+    }
+
+    private void afterRead(Node<K, V> node) {
+        ReadBuffer<K, V> buffer = readBuffers[stripe()];
+        // a full buffer simply drops the access, the policy only needs a sample
+        int pending = buffer.offer(node);
+        if (pending >= READ_BUFFER_DRAIN_THRESHOLD) {
+            drainStatus = REQUIRED;
+            tryDrain();
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        writeQueue.add(task);
+        drainStatus = REQUIRED;
+        tryDrain();
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (READ_BUFFER_STRIPES - 1);
+    }
+
+    /**
+     * Runs maintenance if it is pending and no other thread is doing so. A thread that fails to acquire the lock
+     * can leave: the holder re-checks {@link #drainStatus} after releasing it.
+     */
+    private void tryDrain() {
+        while (drainStatus == REQUIRED && evictionLock.tryLock()) {
+            try {
+                drainStatus = IDLE;
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Forces all pending reads and writes to be applied and expired entries to be swept.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            do {
+                drainStatus = IDLE;
+                maintenance();
+            } while (drainStatus == REQUIRED);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // guarded by evictionLock
+    private void maintenance() {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drainTo(this);
+        }
+        Runnable task;
+        int drained = 0;
+        while (drained++ < WRITE_QUEUE_DRAIN_LIMIT && (task = writeQueue.poll()) != null) {
+            task.run();
+        }
+        if (!writeQueue.isEmpty()) {
+            drainStatus = REQUIRED;
+        }
+        expireEntries();
+        evictEntries();
+    }
+
+    // guarded by evictionLock
+    private void onAccess(Node<K, V> node) {
+        if (node.list == null) {
+            return;
+        }
+        sketch.increment(node.key);
+        node.list.moveToBack(node);
+    }
+
+    // guarded by evictionLock
+    private void expireEntries() {
+        long now = System.nanoTime();
+        long ttl = timeToLiveNanos;
+        if (ttl > 0) {
+            Node<K, V> node;
+            long maximumAge = maximumAgeNanos(ttl);
+            while ((node = writeOrder.head) != null && now - node.writeTimeNanos > maximumAge) {
+                if (node.eTag != null) {
+                    // no longer fresh, but still useful for revalidation until evicted
+                    writeOrder.remove(node);
+                } else {
+                    evict(node);
+                }
+            }
+        }
+        long tti = timeToIdleNanos;
+        if (tti > 0) {
+            expireIdle(window, now, tti);
+            expireIdle(main, now, tti);
+        }
+    }
+
+    private void expireIdle(NodeList<K, V> list, long now, long tti) {
+        Node<K, V> node;
+        while ((node = list.head) != null && now - node.accessTimeNanos > tti) {
+            evict(node);
+        }
+    }
+
+    // guarded by evictionLock
+    private void evictEntries() {
+        // entries leaving the admission window compete with the main space's least recently used entry
+        while (windowWeight > windowMaximum) {
+            Node<K, V> candidate = window.head;
+            window.remove(candidate);
+            windowWeight -= candidate.weight;
+            Node<K, V> victim = main.head;
+            if (weightedSize > maximum && victim != null
+                && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                evictUnlinked(candidate);
+                continue;
+            }
+            main.addLast(candidate);
+        }
+        while (weightedSize > maximum) {
+            Node<K, V> victim = main.head != null ? main.head : window.head;
+            if (victim == null) {
+                break;
+            }
+            evict(victim);
+        }
+    }
+
+    // guarded by evictionLock
+    private void evict(Node<K, V> node) {
+        if (node.list == window) {
+            windowWeight -= node.weight;
+        }
+        unlink(node);
+        evictUnlinked(node);
+    }
+
+    private void evictUnlinked(Node<K, V> node) {
+        if (node.inWriteOrder) {
+            writeOrder.remove(node);
+        }
+        weightedSize -= node.weight;
+        node.removed = true;
+        if (data.remove(node.key, node)) {
+            evictionCount.increment();
+        }
+    }
+
+    // guarded by evictionLock
+    private void unlink(Node<K, V> node) {
+        if (node.list != null) {
+            node.list.remove(node);
+        }
+        if (node.inWriteOrder) {
+            writeOrder.remove(node);
+        }
+    }
+
+    private final class AddTask implements Runnable {
+        private final Node<K, V> node;
+
+        AddTask(Node<K, V> node) {
+            this.node = node;
+        }
+
+        @Override
+        public void run() {
+            if (node.removed) {
+                return;
+            }
+            weightedSize += node.weight;
+            windowWeight += node.weight;
+            window.addLast(node);
+            if (timeToLiveNanos > 0) {
+                writeOrder.addLast(node);
+            }
+            if (weigher != null && data.size() > sketch.capacity()) {
+                sketch.ensureCapacity(data.size());
+            }
+            sketch.increment(node.key);
+        }
+    }
+
+    private final class RemoveTask implements Runnable {
+        private final Node<K, V> node;
+
+        RemoveTask(Node<K, V> node) {
+            this.node = node;
+        }
+
+        @Override
+        public void run() {
+            if (node.removed) {
+                return;
+            }
+            node.removed = true;
+            if (node.list != null || node.inWriteOrder) {
+                if (node.list == window) {
+                    windowWeight -= node.weight;
+                }
+                unlink(node);
+                weightedSize -= node.weight;
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of time a cache entry may exist after first being created before it will expire.
+     *
+     * @return the Time to Live, or {@code null} if entries may live indefinitely.
+     */
+    public Duration getTimeToLive() {
+        long ttl = timeToLiveNanos;
+        return ttl > 0 ? Duration.ofNanos(ttl) : null;
+    }
+
+    /**
+     * Sets the amount of time a cache entry may exist after first being created before it will expire.
+     * Only entries added after this call are swept by maintenance if no Time to Live was set before.
+     *
+     * @param timeToLive the Time to Live, or {@code null} if entries may live indefinitely.
+     */
+    public void setTimeToLive(Duration timeToLive) {
+        DefaultCache.assertTtl(timeToLive);
+        this.timeToLiveNanos = toNanos(timeToLive);
+    }
+
+    /**
+     * Returns the amount of time a cache entry may be idle - unused (not accessed) - before it will expire.
+     *
+     * @return the Time to Idle, or {@code null} if entries may remain idle indefinitely.
+     */
+    public Duration getTimeToIdle() {
+        long tti = timeToIdleNanos;
+        return tti > 0 ? Duration.ofNanos(tti) : null;
+    }
+
+    /**
+     * Sets the amount of time a cache entry may be idle - unused (not accessed) - before it will expire.
+     *
+     * @param timeToIdle the Time to Idle, or {@code null} if entries may remain idle indefinitely.
+     */
+    public void setTimeToIdle(Duration timeToIdle) {
+        DefaultCache.assertTti(timeToIdle);
+        this.timeToIdleNanos = toNanos(timeToIdle);
+    }
+
+    /**
+     * Enables refresh-ahead: an entry read after {@code refreshAfter} of its Time to Live can be
+     * {@link #claimRefresh(Object) claimed} for a background reload, and is still served for up to
+     * {@code staleGracePeriod} past its Time to Live. Refresh-ahead has no effect without a Time to Live.
+     *
+     * @param refreshAfter     the part of the Time to Live after which entries are reloaded, between 0 and 1, or
+     *                         {@code 0} to disable refresh-ahead
+     * @param staleGracePeriod how long past their Time to Live entries are served while they are reloaded, or
+     *                         {@code null} for no grace period
+     * @since 25.1.0
+     */
+    public void setRefreshAhead(double refreshAfter, Duration staleGracePeriod) {
+        DefaultCache.assertRefreshAfter(refreshAfter);
+        this.staleGraceNanos = toNanos(staleGracePeriod);
+        this.refreshAfter = refreshAfter;
+    }
+
+    /**
+     * Returns the maximum number of entries, or maximum total weight if a {@link Weigher} is used.
+     *
+     * @return the maximum number of entries or total weight
+     */
+    public long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Returns the total weight of the entries currently in the cache, equal to their number if no {@link Weigher}
+     * is used. Pending writes are applied first.
+     *
+     * @return the total weight of the entries currently in the cache
+     */
+    public long getWeightedSize() {
+        cleanUp();
+        evictionLock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of attempts to return a cache entry, through {@link #get(Object)} or
+     * {@link #remove(Object)}.
+     *
+     * @return the number of attempts to return a cache entry
+     */
+    public long getAccessCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    /**
+     * Returns the total number of times an access attempt successfully returned a cache entry.
+     *
+     * @return the total number of times an access attempt successfully returned a cache entry.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the total number of times an access attempt did not return a cache entry.
+     *
+     * @return the total number of times an access attempt did not return a cache entry.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries removed to stay within the maximum size or weight, or because they expired.
+     *
+     * @return the number of evicted entries
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the ratio of {@link #getHitCount() hitCount} to {@link #getAccessCount() accessCount}.
+     *
+     * @return the ratio of {@link #getHitCount() hitCount} to {@link #getAccessCount() accessCount}.
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long accesses = hits + getMissCount();
+        return accesses > 0 ? (double) hits / accesses : 0;
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear() {
+        for (Node<K, V> node : data.values()) {
+            if (data.remove(node.key, node)) {
+                afterWrite(new RemoveTask(node));
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of cache entries currently available in this cache.
+     *
+     * @return the total number of cache entries currently available in this cache.
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Returns this cache instance's name.
+     *
+     * @return this cache instance's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public String toString() {
+        return new StringBuilder("    {\n      \"name\": \"").append(name).append("\",\n")
+                .append("      \"size\": ").append(data.size()).append(",\n")
+                .append("      \"maximum\": ").append(maximum).append(",\n")
+                .append("      \"accessCount\": ").append(getAccessCount()).append(",\n")
+                .append("      \"hitCount\": ").append(getHitCount()).append(",\n")
+                .append("      \"missCount\": ").append(getMissCount()).append(",\n")
+                .append("      \"evictionCount\": ").append(getEvictionCount()).append(",\n")
+                .append("      \"hitRatio\": ").append(getHitRatio()).append("\n")
+                .append("    }")
+                .toString();
+    }
+
+    /**
+     * A cache entry. The value and metadata are immutable, a replaced or revalidated entry is a new node.
+     */
+    private static final class Node<K, V> {
+        @SuppressWarnings("rawtypes")
+        static final AtomicIntegerFieldUpdater<Node> REFRESHING = AtomicIntegerFieldUpdater.newUpdater(Node.class, "refreshing");
+
+        final K key;
+        final V value;
+        final String eTag;
+        final int weight;
+        final long writeTimeNanos;
+        volatile long accessTimeNanos;
+        // 1 while a background reload of the entry is in progress
+        volatile int refreshing;
+
+        // guarded by evictionLock
+        NodeList<K, V> list;
+        Node<K, V> prev;
+        Node<K, V> next;
+        boolean inWriteOrder;
+        Node<K, V> prevInWriteOrder;
+        Node<K, V> nextInWriteOrder;
+        boolean removed;
+
+        Node(K key, V value, String eTag, int weight, long nowNanos) {
+            this.key = key;
+            this.value = value;
+            this.eTag = eTag;
+            this.weight = weight;
+            this.writeTimeNanos = nowNanos;
+            this.accessTimeNanos = nowNanos;
+        }
+    }
+
+    /**
+     * An intrusive doubly linked list, ordered either by access (window and main space) or by creation.
+     */
+    private static final class NodeList<K, V> {
+        private final boolean writeOrder;
+        Node<K, V> head;
+        Node<K, V> tail;
+
+        NodeList(boolean writeOrder) {
+            this.writeOrder = writeOrder;
+        }
+
+        void addLast(Node<K, V> node) {
+            if (writeOrder) {
+                node.inWriteOrder = true;
+                node.prevInWriteOrder = tail;
+                node.nextInWriteOrder = null;
+                if (tail == null) {
+                    head = node;
+                } else {
+                    tail.nextInWriteOrder = node;
+                }
+            } else {
+                node.list = this;
+                node.prev = tail;
+                node.next = null;
+                if (tail == null) {
+                    head = node;
+                } else {
+                    tail.next = node;
+                }
+            }
+            tail = node;
+        }
+
+        void remove(Node<K, V> node) {
+            Node<K, V> prev = writeOrder ? node.prevInWriteOrder : node.prev;
+            Node<K, V> next = writeOrder ? node.nextInWriteOrder : node.next;
+            if (prev == null) {
+                head = next;
+            } else if (writeOrder) {
+                prev.nextInWriteOrder = next;
+            } else {
+                prev.next = next;
+            }
+            if (next == null) {
+                tail = prev;
+            } else if (writeOrder) {
+                next.prevInWriteOrder = prev;
+            } else {
+                next.prev = prev;
+            }
+            if (writeOrder) {
+                node.inWriteOrder = false;
+                node.prevInWriteOrder = null;
+                node.nextInWriteOrder = null;
+            } else {
+                node.list = null;
+                node.prev = null;
+                node.next = null;
+            }
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * A fixed-size ring of recent reads, written to by any thread and drained under the eviction lock. Offers are
+     * dropped when the ring is full.
+     */
+    private static final class ReadBuffer<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> ring = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        // only written under the eviction lock
+        private volatile long readCounter;
+
+        /**
+         * @return the number of pending reads after this offer
+         */
+        int offer(Node<K, V> node) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            long size = tail - head;
+            if (size >= READ_BUFFER_SIZE) {
+                return (int) size;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                ring.lazySet((int) (tail & (READ_BUFFER_SIZE - 1)), node);
+            }
+            return (int) (size + 1);
+        }
+
+        // guarded by evictionLock
+        void drainTo(BoundedCache<K, V> cache) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & (READ_BUFFER_SIZE - 1));
+                Node<K, V> node = ring.get(index);
+                if (node == null) {
+                    // claimed but not yet published, pick it up in the next drain
+                    break;
+                }
+                ring.lazySet(index, null);
+                cache.onAccess(node);
+            }
+            readCounter = head;
+        }
+    }
+}
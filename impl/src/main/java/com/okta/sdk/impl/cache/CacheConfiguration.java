@@ -45,4 +45,31 @@ public interface CacheConfiguration {
      * @return the Time-to-Idle setting to apply for all entries in the associated {@code Cache}.
      */
     Duration getTimeToIdle();
+
+    /**
+     * Returns the part of the Time-to-Live after which entries of the associated {@code Cache} are reloaded in the
+     * background, or {@code 0} if refresh-ahead is disabled.
+     *
+     * @return the part of the Time-to-Live after which entries are reloaded, or {@code 0}.
+     * @since 25.1.0
+     */
+    double getRefreshAfter();
+
+    /**
+     * Returns how long past their Time-to-Live entries being reloaded may still be served, or {@code null} for no
+     * grace period.
+     *
+     * @return how long past their Time-to-Live entries being reloaded may still be served.
+     * @since 25.1.0
+     */
+    Duration getStaleGracePeriod();
+
+    /**
+     * Returns the maximum number of entries of the associated {@code Cache}, or {@code 0} to use the bounds of the
+     * cache manager.
+     *
+     * @return the maximum number of entries, or {@code 0}.
+     * @since 25.1.0
+     */
+    long getMaximumSize();
 }
@@ -18,23 +18,33 @@ package com.okta.sdk.impl.cache;
 
 import com.okta.commons.lang.Assert;
 import com.okta.sdk.cache.Cache;
+import com.okta.sdk.cache.RefreshAheadCache;
+import com.okta.sdk.cache.ValidatingCache;
 import com.okta.sdk.impl.util.SoftHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A {@code DefaultCache} is a {@link Cache Cache} implementation that uses a backing {@link Map} instance to store
  * and retrieve cached data.
+ * <p>
+ * Entries may be stored with the entity tag they were served with (see {@link #put(Object, Object, String)}). Such
+ * entries are kept after they expire, so that they can be {@link #revalidate(Object, String) revalidated} with a
+ * conditional request instead of being fetched again.
+ * <p>
+ * With {@link #setRefreshAhead(double, Duration) refresh-ahead} enabled, entries are reloaded by the client in the
+ * background before they expire, see {@link RefreshAheadCache}.
  * <b>Thread Safety</b>
  * This implementation is thread-safe <em>only</em> if the backing map is thread-safe.
  *
  * @since 0.5.0
  */
-public class DefaultCache<K, V> implements Cache<K, V> {
+public class DefaultCache<K, V> implements ValidatingCache<K, V>, RefreshAheadCache<K, V> {
 
     private final Logger logger = LoggerFactory.getLogger(DefaultCache.class);
 
@@ -55,6 +65,17 @@ public class DefaultCache<K, V> implements Cache<K, V> {
      */
     private volatile Duration timeToIdle;
 
+    /**
+     * The part of the {@link #timeToLive} after which entries are reloaded in the background, {@code 0} if disabled.
+     */
+    private volatile double refreshAfter;
+
+    /**
+     * How long past their {@link #timeToLive} entries are still served while they are reloaded, if refresh-ahead is
+     * enabled.
+     */
+    private volatile Duration staleGracePeriod;
+
     /**
      * The name of this cache.
      */
@@ -151,6 +172,10 @@ public class DefaultCache<K, V> implements Cache<K, V> {
         }
     }
 
+    static void assertRefreshAfter(double refreshAfter) {
+        Assert.isTrue(refreshAfter >= 0 && refreshAfter <= 1, "refreshAfter must be between 0 and 1");
+    }
+
     public V get(K key) {
 
         this.accessCount.incrementAndGet();
@@ -169,10 +194,10 @@ public class DefaultCache<K, V> implements Cache<K, V> {
 
         if (ttl != null) {
             Duration sinceCreation = Duration.ofMillis(nowMillis - entry.getCreationTimeMillis());
-            if (sinceCreation.compareTo(ttl) > 0) {
-                map.remove(key);
+            if (sinceCreation.compareTo(maximumAge(ttl)) > 0) {
+                expire(key, entry);
                 missCount.incrementAndGet(); //count an expired TTL as a miss
-                logger.trace("Removing {} from cache due to TTL, sinceCreation: {}", key, sinceCreation);
+                logger.trace("Expiring {} from cache due to TTL, sinceCreation: {}", key, sinceCreation);
                 return null;
             }
         }
@@ -180,9 +205,9 @@ public class DefaultCache<K, V> implements Cache<K, V> {
         if (tti != null) {
             Duration sinceLastAccess = Duration.ofMillis(nowMillis - entry.getLastAccessTimeMillis());
             if (sinceLastAccess.compareTo(tti) > 0) {
-                map.remove(key);
+                expire(key, entry);
                 missCount.incrementAndGet(); //count an expired TTI as a miss
-                logger.trace("Removing {} from cache due to TTI, sinceLastAccess: {}", key, sinceLastAccess);
+                logger.trace("Expiring {} from cache due to TTI, sinceLastAccess: {}", key, sinceLastAccess);
                 return null;
             }
         }
@@ -194,8 +219,68 @@ public class DefaultCache<K, V> implements Cache<K, V> {
         return entry.getValue();
     }
 
+    /**
+     * Returns how long entries are served: the Time to Live, plus the stale grace period if refresh-ahead is enabled.
+     */
+    private Duration maximumAge(Duration ttl) {
+        Duration grace = this.staleGracePeriod;
+        return refreshAfter > 0 && grace != null ? ttl.plus(grace) : ttl;
+    }
+
+    @Override
+    public boolean claimRefresh(K key) {
+        Duration ttl = this.timeToLive;
+        double refreshAfter = this.refreshAfter;
+        if (ttl == null || refreshAfter <= 0) {
+            return false;
+        }
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return false;
+        }
+        long sinceCreation = System.currentTimeMillis() - entry.getCreationTimeMillis();
+        if (sinceCreation < ttl.toMillis() * refreshAfter || sinceCreation > maximumAge(ttl).toMillis()) {
+            return false;
+        }
+        boolean claimed = entry.claimRefresh();
+        if (claimed) {
+            logger.trace("Refreshing {} ahead of expiry, sinceCreation: {}ms", key, sinceCreation);
+        }
+        return claimed;
+    }
+
+    @Override
+    public boolean completeRefresh(K key, V value, String eTag) {
+        Entry<V> entry = map.get(key);
+        // a new entry restarts both the TTL and the TTI
+        return entry != null && entry.isRefreshing() && map.replace(key, entry, new Entry<V>(value, eTag));
+    }
+
+    @Override
+    public void refreshFailed(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry != null) {
+            logger.debug("Failed to refresh {}, serving the cached value until it expires", key);
+            entry.releaseRefresh();
+        }
+    }
+
+    /**
+     * Removes an expired entry, unless it carries an entity tag and can still be revalidated.
+     */
+    private void expire(K key, Entry<V> entry) {
+        if (entry.getETag() == null) {
+            map.remove(key);
+        }
+    }
+
     public V put(K key, V value) {
-        Entry<V> newEntry = new Entry<V>(value);
+        return put(key, value, null);
+    }
+
+    @Override
+    public V put(K key, V value, String eTag) {
+        Entry<V> newEntry = new Entry<V>(value, eTag);
         Entry<V> previous = map.put(key, newEntry);
         if (previous != null) {
             return previous.value;
@@ -203,6 +288,26 @@ public class DefaultCache<K, V> implements Cache<K, V> {
         return null;
     }
 
+    @Override
+    public String getETag(K key) {
+        Entry<V> entry = map.get(key);
+        return entry != null ? entry.getETag() : null;
+    }
+
+    @Override
+    public V revalidate(K key, String eTag) {
+        Entry<V> entry = map.get(key);
+        if (entry == null || eTag == null || !eTag.equals(entry.getETag())) {
+            return null;
+        }
+        // a new entry restarts both the TTL and the TTI
+        if (!map.replace(key, entry, new Entry<V>(entry.getValue(), eTag))) {
+            return null;
+        }
+        logger.trace("Revalidated {} with ETag {}", key, eTag);
+        return entry.getValue();
+    }
+
     @Override
     public V remove(K key) {
         accessCount.incrementAndGet();
@@ -266,6 +371,44 @@ public class DefaultCache<K, V> implements Cache<K, V> {
         this.timeToIdle = timeToIdle;
     }
 
+    /**
+     * Returns the part of the {@link #getTimeToLive() timeToLive} after which entries are reloaded in the background,
+     * or {@code 0} if refresh-ahead is disabled.
+     *
+     * @return the part of the Time to Live after which entries are reloaded, or {@code 0}.
+     * @since 25.1.0
+     */
+    public double getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    /**
+     * Returns how long past their {@link #getTimeToLive() timeToLive} entries are served while they are reloaded.
+     *
+     * @return the stale grace period, or {@code null} if there is none.
+     * @since 25.1.0
+     */
+    public Duration getStaleGracePeriod() {
+        return staleGracePeriod;
+    }
+
+    /**
+     * Enables refresh-ahead: an entry read after {@code refreshAfter} of its {@link #getTimeToLive() timeToLive} can
+     * be {@link #claimRefresh(Object) claimed} for a background reload, and is still served for up to
+     * {@code staleGracePeriod} past its Time to Live. Refresh-ahead has no effect without a Time to Live.
+     *
+     * @param refreshAfter     the part of the Time to Live after which entries are reloaded, between 0 and 1, or
+     *                         {@code 0} to disable refresh-ahead
+     * @param staleGracePeriod how long past their Time to Live entries are served while they are reloaded, or
+     *                         {@code null} for no grace period
+     * @since 25.1.0
+     */
+    public void setRefreshAhead(double refreshAfter, Duration staleGracePeriod) {
+        assertRefreshAfter(refreshAfter);
+        this.staleGracePeriod = staleGracePeriod;
+        this.refreshAfter = refreshAfter;
+    }
+
     /**
      * Returns the number of attempts to return a cache entry.  Note that because {@link #remove(Object)} will return
      * a value, calls to both {@link #get(Object)} and {@link #remove(Object)} will increment this number.
@@ -366,9 +509,16 @@ public class DefaultCache<K, V> implements Cache<K, V> {
      */
     public static class Entry<V> {
 
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Entry> REFRESHING =
+            AtomicIntegerFieldUpdater.newUpdater(Entry.class, "refreshing");
+
         private final V value;
+        private final String eTag;
         private final long creationTimeMillis;
         private volatile long lastAccessTimeMillis;
+        // 1 while a background reload of the entry is in progress
+        private volatile int refreshing;
 
         /**
          * Creates a new Entry instance wrapping the specified {@code value}, defaulting both the
@@ -378,7 +528,19 @@ public class DefaultCache<K, V> implements Cache<K, V> {
          * @param value the cache entry to store.
          */
         public Entry(V value) {
+            this(value, null);
+        }
+
+        /**
+         * Creates a new Entry instance wrapping the specified {@code value} and the entity tag it was served with.
+         *
+         * @param value the cache entry to store.
+         * @param eTag  the value's entity tag, or {@code null} if it has none.
+         * @since 25.1.0
+         */
+        public Entry(V value, String eTag) {
             this.value = value;
+            this.eTag = eTag;
             this.creationTimeMillis = System.currentTimeMillis();
             this.lastAccessTimeMillis = this.creationTimeMillis;
         }
@@ -392,6 +554,16 @@ public class DefaultCache<K, V> implements Cache<K, V> {
             return value;
         }
 
+        /**
+         * Returns the entity tag the value was served with, used to revalidate the entry once it expires.
+         *
+         * @return the value's entity tag, or {@code null} if it has none.
+         * @since 25.1.0
+         */
+        public String getETag() {
+            return eTag;
+        }
+
         /**
          * Returns the creation time in millis since Epoch when this {@code Entry} instance was created.  This is used to
          * support expunging cache entries when this value is older than the cache's
@@ -413,5 +585,17 @@ public class DefaultCache<K, V> implements Cache<K, V> {
         public long getLastAccessTimeMillis() {
             return lastAccessTimeMillis;
         }
+
+        boolean claimRefresh() {
+            return REFRESHING.compareAndSet(this, 0, 1);
+        }
+
+        boolean isRefreshing() {
+            return refreshing == 1;
+        }
+
+        void releaseRefresh() {
+            refreshing = 0;
+        }
     }
 }
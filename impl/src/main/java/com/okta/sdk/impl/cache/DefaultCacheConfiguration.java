@@ -29,12 +29,35 @@ public class DefaultCacheConfiguration implements CacheConfiguration {
     private final String name;
     private final Duration timeToLive;
     private final Duration timeToIdle;
+    private final double refreshAfter;
+    private final Duration staleGracePeriod;
+    private final long maximumSize;
 
     public DefaultCacheConfiguration(String name, Duration timeToLive, Duration timeToIdle) {
+        this(name, timeToLive, timeToIdle, 0, null);
+    }
+
+    /**
+     * @since 25.1.0
+     */
+    public DefaultCacheConfiguration(String name, Duration timeToLive, Duration timeToIdle, double refreshAfter,
+                                     Duration staleGracePeriod) {
+        this(name, timeToLive, timeToIdle, refreshAfter, staleGracePeriod, 0);
+    }
+
+    /**
+     * @since 25.1.0
+     */
+    public DefaultCacheConfiguration(String name, Duration timeToLive, Duration timeToIdle, double refreshAfter,
+                                     Duration staleGracePeriod, long maximumSize) {
         Assert.hasText(name, "Cache Region name cannot be null or empty.");
+        DefaultCache.assertRefreshAfter(refreshAfter);
         this.name = name;
         this.timeToLive = timeToLive;
         this.timeToIdle = timeToIdle;
+        this.refreshAfter = refreshAfter;
+        this.staleGracePeriod = staleGracePeriod;
+        this.maximumSize = maximumSize;
     }
 
     static Duration toDuration(long value, TimeUnit tu) {
@@ -60,12 +83,30 @@ public class DefaultCacheConfiguration implements CacheConfiguration {
         return this.timeToIdle;
     }
 
+    @Override
+    public double getRefreshAfter() {
+        return this.refreshAfter;
+    }
+
+    @Override
+    public Duration getStaleGracePeriod() {
+        return this.staleGracePeriod;
+    }
+
+    @Override
+    public long getMaximumSize() {
+        return this.maximumSize;
+    }
+
     @Override
     public String toString() {
         return "DefaultCacheConfiguration{" +
                 "name='" + name + '\'' +
                 ", timeToLive=" + timeToLive +
                 ", timeToIdle=" + timeToIdle +
+                ", refreshAfter=" + refreshAfter +
+                ", staleGracePeriod=" + staleGracePeriod +
+                ", maximumSize=" + maximumSize +
                 '}';
     }
 }
@@ -30,6 +30,9 @@ public class DefaultCacheConfigurationBuilder implements CacheConfigurationBuild
     private final String name;
     private Duration timeToLive;
     private Duration timeToIdle;
+    private double refreshAfter;
+    private Duration staleGracePeriod;
+    private long maximumSize;
 
     public DefaultCacheConfigurationBuilder(String name) {
         Assert.hasText(name, "Cache Region name cannot be null or empty.");
@@ -48,6 +51,23 @@ public class DefaultCacheConfigurationBuilder implements CacheConfigurationBuild
         return this;
     }
 
+    @Override
+    public CacheConfigurationBuilder withRefreshAhead(double refreshAfter, long staleGrace, TimeUnit staleGraceTimeUnit) {
+        DefaultCache.assertRefreshAfter(refreshAfter);
+        Assert.isTrue(refreshAfter > 0, "refreshAfter must be greater than zero");
+        Assert.isTrue(staleGrace >= 0, "staleGrace cannot be negative");
+        this.refreshAfter = refreshAfter;
+        this.staleGracePeriod = DefaultCacheConfiguration.toDuration(staleGrace, staleGraceTimeUnit);
+        return this;
+    }
+
+    @Override
+    public CacheConfigurationBuilder withMaximumSize(long maximumSize) {
+        Assert.isTrue(maximumSize > 0, "maximumSize must be greater than zero");
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
     public String getName() {
         return name;
     }
@@ -60,7 +80,29 @@ public class DefaultCacheConfigurationBuilder implements CacheConfigurationBuild
         return timeToIdle;
     }
 
+    /**
+     * @since 25.1.0
+     */
+    public double getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    /**
+     * @since 25.1.0
+     */
+    public Duration getStaleGracePeriod() {
+        return staleGracePeriod;
+    }
+
+    /**
+     * @since 25.1.0
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
     public CacheConfiguration build() {
-        return new DefaultCacheConfiguration(getName(), getTimeToLive(), getTimeToIdle());
+        return new DefaultCacheConfiguration(getName(), getTimeToLive(), getTimeToIdle(), getRefreshAfter(),
+            getStaleGracePeriod(), getMaximumSize());
     }
 }
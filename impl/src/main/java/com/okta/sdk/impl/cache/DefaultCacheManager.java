@@ -19,6 +19,7 @@ package com.okta.sdk.impl.cache;
 import com.okta.commons.lang.Assert;
 import com.okta.sdk.cache.Cache;
 import com.okta.sdk.cache.CacheManager;
+import com.okta.sdk.cache.Weigher;
 import com.okta.sdk.impl.util.SoftHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,6 +67,16 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * The {@link #setDefaultTimeToLive(Duration) defaultTimeToLive} setting is only
  * applied to newly created {@code Cache} instances.  It does not affect already existing {@code Cache}s.
+ * <h2>Maximum Size</h2>
+ * By default caches are backed by a {@link SoftHashMap} and only bounded by available memory. If a
+ * {@link #setMaximumSize(long) maximumSize} or {@link #setMaximumWeight(long, Weigher) maximumWeight} is set, newly
+ * created caches are {@link BoundedCache}s instead, each holding at most that many entries (or that much weight).
+ * A {@link CacheConfiguration#getMaximumSize() maximum size} configured for a region takes precedence for that
+ * region, bounded or not otherwise.
+ * <h2>Refresh-ahead</h2>
+ * Cache regions configured with {@link com.okta.sdk.cache.CacheConfigurationBuilder#withRefreshAhead(double, long,
+ * TimeUnit) refresh-ahead} reload their entries in the background before they expire, see
+ * {@link com.okta.sdk.cache.RefreshAheadCache}.
  * <h2>Thread Safety</h2>
  * This implementation and the cache instances it creates are thread-safe and usable in concurrent environments.
  *
@@ -90,6 +101,8 @@ public class DefaultCacheManager implements CacheManager {
 
     private volatile Duration defaultTimeToLive;
     private volatile Duration defaultTimeToIdle;
+    private volatile long maximumWeight;
+    private volatile Weigher weigher;
 
     /**
      * Default no-arg constructor that instantiates an internal name-to-cache {@code ConcurrentMap}.
@@ -171,6 +184,42 @@ public class DefaultCacheManager implements CacheManager {
         setDefaultTimeToIdle(Duration.ofSeconds(seconds));
     }
 
+    /**
+     * Returns the maximum number of entries (or total weight, if a {@link Weigher} is set) of each newly created
+     * cache, or {@code 0} if caches are only bounded by available memory.
+     *
+     * @return the maximum number of entries or total weight of each newly created cache.
+     * @since 25.1.0
+     */
+    public long getMaximumSize() {
+        return maximumWeight;
+    }
+
+    /**
+     * Bounds each newly created cache to at most {@code maximumSize} entries, using a {@link BoundedCache}. This
+     * setting does not affect existing caches.
+     *
+     * @param maximumSize the maximum number of entries of each cache, greater than zero.
+     * @since 25.1.0
+     */
+    public void setMaximumSize(long maximumSize) {
+        setMaximumWeight(maximumSize, null);
+    }
+
+    /**
+     * Bounds each newly created cache to entries with a total weight of at most {@code maximumWeight}, as computed
+     * by {@code weigher}, using a {@link BoundedCache}. This setting does not affect existing caches.
+     *
+     * @param maximumWeight the maximum total weight of the entries of each cache, greater than zero.
+     * @param weigher       computes the weight of each entry, or {@code null} to count entries.
+     * @since 25.1.0
+     */
+    public void setMaximumWeight(long maximumWeight, Weigher weigher) {
+        Assert.isTrue(maximumWeight > 0, "maximum size or weight must be greater than zero");
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
     /**
      * Sets cache-specific configuration entries, to be utilized when creating cache instances.
      *
@@ -224,8 +273,15 @@ public class DefaultCacheManager implements CacheManager {
         Duration ttl = this.defaultTimeToLive != null ? Duration.from(this.defaultTimeToLive) : null;
         Duration tti = this.defaultTimeToIdle != null ? Duration.from(this.defaultTimeToIdle) : null;
 
+        long maximumWeight = this.maximumWeight;
+        Weigher weigher = this.weigher;
+
         CacheConfiguration config = this.configs.get(name);
         if (config != null) {
+            if (config.getMaximumSize() > 0) {
+                maximumWeight = config.getMaximumSize();
+                weigher = null;
+            }
             Duration d = config.getTimeToLive();
             if (d != null) {
                 ttl = d;
@@ -236,7 +292,18 @@ public class DefaultCacheManager implements CacheManager {
             }
         }
 
-        return new DefaultCache(name, new SoftHashMap(), ttl, tti);
+        if (maximumWeight > 0) {
+            BoundedCache cache = new BoundedCache(name, maximumWeight, weigher, ttl, tti);
+            if (config != null && config.getRefreshAfter() > 0) {
+                cache.setRefreshAhead(config.getRefreshAfter(), config.getStaleGracePeriod());
+            }
+            return cache;
+        }
+        DefaultCache cache = new DefaultCache(name, new SoftHashMap(), ttl, tti);
+        if (config != null && config.getRefreshAfter() > 0) {
+            cache.setRefreshAhead(config.getRefreshAfter(), config.getStaleGracePeriod());
+        }
+        return cache;
     }
 
     public String toString() {
@@ -21,7 +21,9 @@ import com.okta.commons.lang.Collections;
 import com.okta.sdk.cache.CacheConfigurationBuilder;
 import com.okta.sdk.cache.CacheManager;
 import com.okta.sdk.cache.CacheManagerBuilder;
+import com.okta.sdk.cache.Weigher;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -34,6 +36,10 @@ public class DefaultCacheManagerBuilder implements CacheManagerBuilder {
 
     private Duration defaultTimeToLive;
     private Duration defaultTimeToIdle;
+    private long maximumWeight;
+    private Weigher weigher;
+    private Path diskStoreDirectory;
+    private long diskStoreMaximumBytes;
 
     private final Set<CacheConfiguration> configs = new LinkedHashSet<CacheConfiguration>();
 
@@ -61,9 +67,38 @@ public class DefaultCacheManagerBuilder implements CacheManagerBuilder {
         return this;
     }
 
+    @Override
+    public CacheManagerBuilder withMaximumSize(long maximumSize) {
+        Assert.isTrue(maximumSize > 0, "maximumSize must be greater than zero");
+        this.maximumWeight = maximumSize;
+        this.weigher = null;
+        return this;
+    }
+
+    @Override
+    public CacheManagerBuilder withMaximumWeight(long maximumWeight, Weigher weigher) {
+        Assert.isTrue(maximumWeight > 0, "maximumWeight must be greater than zero");
+        Assert.notNull(weigher, "weigher cannot be null.");
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        return this;
+    }
+
+    @Override
+    public CacheManagerBuilder withDiskStore(Path directory, long maximumBytes) {
+        Assert.notNull(directory, "directory cannot be null.");
+        Assert.isTrue(maximumBytes >= 2L * DiskStore.MIN_SEGMENT_SIZE,
+            "maximumBytes must be at least " + 2 * DiskStore.MIN_SEGMENT_SIZE + " bytes");
+        this.diskStoreDirectory = directory;
+        this.diskStoreMaximumBytes = maximumBytes;
+        return this;
+    }
+
     @Override
     public CacheManager build() {
-        DefaultCacheManager manager = new DefaultCacheManager();
+        DefaultCacheManager manager = this.diskStoreDirectory != null
+            ? new TieredCacheManager(this.diskStoreDirectory, this.diskStoreMaximumBytes)
+            : new DefaultCacheManager();
 
         if (this.defaultTimeToLive != null) {
             manager.setDefaultTimeToLive(this.defaultTimeToLive);
@@ -73,6 +108,10 @@ public class DefaultCacheManagerBuilder implements CacheManagerBuilder {
             manager.setDefaultTimeToIdle(this.defaultTimeToIdle);
         }
 
+        if (this.maximumWeight > 0) {
+            manager.setMaximumWeight(this.maximumWeight, this.weigher);
+        }
+
         if (!Collections.isEmpty(configs)) {
             manager.setCacheConfigurations(configs);
         }
@@ -0,0 +1,699 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache;
+
+import com.okta.commons.lang.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * The second tier of a {@link TieredCacheManager}: cache entries as serialized bytes in memory-mapped files, outside of
+ * the Java heap, that are reused when the application restarts.
+ * <b>Layout</b>
+ * The store is a log of records spread over fixed-size segment files in one directory. Every write appends a record:
+ * an entry, a removal of an entry (a tombstone) or the clearing of a region. Records carry their region, key, write
+ * time, entity tag, value type and a checksum. On the heap, the store only keeps an index from each key to the
+ * position of its current record.
+ * <b>Compaction</b>
+ * Once all segments are used, the oldest segment is reclaimed to make room: its current records are appended again
+ * if they are in use, read since they were written or held by the first tier, or if most of the segment is garbage
+ * anyway, the others are evicted.
+ * Since nothing older remains, its tombstones can be dropped. Records of a region with a Time to Live are dropped
+ * once expired, unless they carry an entity tag and can still be revalidated.
+ * <b>Recovery</b>
+ * Opening a directory replays its segments in order, stopping at the first incomplete or corrupt record of each, so a
+ * crash at worst loses the latest writes. The replayed entries are subject to the Time to Live of their region. A
+ * lock file keeps two stores, in the same or in different processes, from using one directory.
+ * <b>Concurrency</b>
+ * Reads do not lock: they look up the index and copy the record out of the mapped segment. Writes are serialized.
+ *
+ * @since 25.1.0
+ */
+final class DiskStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskStore.class);
+
+    static final int MIN_SEGMENT_SIZE = 1 << 20;
+    static final int MAX_SEGMENT_SIZE = 64 << 20;
+    // the maximum size is split in this many segments, within the bounds above
+    private static final int SEGMENT_COUNT = 16;
+
+    private static final int MAGIC = 0x4F4B5443;
+    private static final int VERSION = 1;
+    private static final int SEGMENT_HEADER_SIZE = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String LOCK_FILE = "store.lock";
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte CLEAR = 3;
+    // length, checksum, type, write time
+    private static final int RECORD_HEADER_SIZE = 4 + 4 + 1 + 8;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maximumSegments;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    // guarded by this, oldest first, the last one is written to
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private long nextSegmentId;
+    private boolean closed;
+
+    private DiskStore(Path directory, int segmentSize, int maximumSegments, FileChannel lockChannel, FileLock lock) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maximumSegments = maximumSegments;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+    }
+
+    /**
+     * Opens the store in {@code directory}, creating it if needed, and replays the segments found there.
+     *
+     * @param directory    the directory of the segment files
+     * @param maximumBytes the maximum total size of the segment files
+     * @return the opened store
+     * @throws UncheckedIOException  if the directory cannot be used
+     * @throws IllegalStateException if the directory is used by another store
+     */
+    static DiskStore open(Path directory, long maximumBytes) {
+        Assert.notNull(directory, "directory cannot be null.");
+        int segmentSize = (int) Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, maximumBytes / SEGMENT_COUNT));
+        Assert.isTrue(maximumBytes >= 2L * segmentSize,
+            "maximumBytes must be at least " + 2 * MIN_SEGMENT_SIZE + " bytes");
+        int maximumSegments = (int) Math.min(Integer.MAX_VALUE, maximumBytes / segmentSize);
+
+        FileChannel lockChannel = null;
+        try {
+            if (!Files.isDirectory(directory)) {
+                Files.createDirectories(directory, ownerOnly("rwx------"));
+            }
+            lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = lockChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                throw new IllegalStateException("Cache directory " + directory + " is used by another cache manager");
+            }
+            DiskStore store = new DiskStore(directory, segmentSize, maximumSegments, lockChannel, lock);
+            store.recover();
+            return store;
+        } catch (IOException e) {
+            closeQuietly(lockChannel);
+            throw new UncheckedIOException("Failed to open cache directory " + directory, e);
+        } catch (RuntimeException e) {
+            closeQuietly(lockChannel);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the region {@code name}, whose entries expire {@code timeToLive} after they were written.
+     *
+     * @param resident tells whether a key is in the first tier, such entries are in use and kept on compaction
+     */
+    Region region(String name, Duration timeToLive, Predicate<String> resident) {
+        Region region = regions.computeIfAbsent(name, Region::new);
+        region.timeToLiveMillis = timeToLive != null ? timeToLive.toMillis() : 0;
+        region.resident = resident;
+        return region;
+    }
+
+    /**
+     * Reads the current record of {@code key}, expired or not.
+     *
+     * @param withValue whether to copy the value too
+     * @return the record, or {@code null} if there is none
+     */
+    Record get(Region region, String key, boolean withValue) {
+        Slot slot = region.slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+        slot.referenced = true;
+        return read(slot, withValue);
+    }
+
+    /**
+     * Stores an entry, replacing the current one.
+     *
+     * @param writeTimeMillis when the value was written, in milliseconds since the epoch
+     * @param valueType       the class name of the value
+     * @return {@code true} if the entry was stored, {@code false} if it is too large, in which case the current
+     *         entry is removed
+     */
+    synchronized boolean put(Region region, String key, long writeTimeMillis, String eTag, String valueType, byte[] value) {
+        if (closed) {
+            return false;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] eTagBytes = eTag != null ? eTag.getBytes(StandardCharsets.UTF_8) : null;
+        byte[] typeBytes = valueType.getBytes(StandardCharsets.UTF_8);
+        int length = recordLength(region, keyBytes, eTagBytes, typeBytes, value.length);
+        if (length > segmentSize - SEGMENT_HEADER_SIZE) {
+            logger.debug("Not storing {} in cache region {}, {} bytes exceed the segment size", key, region.name, length);
+            remove(region, key);
+            return false;
+        }
+        Slot slot = append(region, keyBytes, PUT, writeTimeMillis, eTagBytes, typeBytes, value, length);
+        index(region, key, slot);
+        return true;
+    }
+
+    /**
+     * Stores the current entry of {@code key} again, with a new write time, if it still has entity tag {@code eTag}.
+     *
+     * @return the stored record, or {@code null} if there is no such entry
+     */
+    synchronized Record restamp(Region region, String key, String eTag, long writeTimeMillis) {
+        Slot slot = region.slots.get(key);
+        if (closed || slot == null) {
+            return null;
+        }
+        Record record = read(slot, true);
+        if (eTag == null || !eTag.equals(record.getETag())) {
+            return null;
+        }
+        put(region, key, writeTimeMillis, eTag, record.getValueType(), record.getValue());
+        return new Record(writeTimeMillis, eTag, record.getValueType(), record.getValue());
+    }
+
+    /**
+     * Removes the entry of {@code key}.
+     *
+     * @return {@code true} if there was one
+     */
+    synchronized boolean remove(Region region, String key) {
+        Slot slot = region.slots.get(key);
+        if (closed || slot == null) {
+            return false;
+        }
+        // the tombstone keeps older records of the key from being replayed
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        append(region, keyBytes, REMOVE, System.currentTimeMillis(), null, new byte[0], new byte[0],
+            recordLength(region, keyBytes, null, new byte[0], 0));
+        index(region, key, null);
+        return true;
+    }
+
+    /**
+     * Removes all entries of {@code region}.
+     */
+    synchronized void clear(Region region) {
+        if (closed || region.slots.isEmpty()) {
+            return;
+        }
+        append(region, new byte[0], CLEAR, System.currentTimeMillis(), null, new byte[0], new byte[0],
+            recordLength(region, new byte[0], null, new byte[0], 0));
+        for (Slot slot : region.slots.values()) {
+            slot.segment.liveBytes -= slot.length;
+        }
+        region.slots.clear();
+    }
+
+    /**
+     * Flushes the segments to disk and releases the directory. The store is not written to anymore.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Segment active = segments.peekLast();
+        if (active != null) {
+            active.buffer.force();
+        }
+        try {
+            lock.release();
+        } catch (IOException e) {
+            logger.debug("Failed to release the lock of cache directory {}", directory, e);
+        }
+        closeQuietly(lockChannel);
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    int getSegmentSize() {
+        return segmentSize;
+    }
+
+    synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    private static int recordLength(Region region, byte[] key, byte[] eTag, byte[] type, int valueLength) {
+        return RECORD_HEADER_SIZE
+            + 2 + region.nameBytes.length
+            + 4 + key.length
+            + 2 + (eTag != null ? eTag.length : 0)
+            + 2 + type.length
+            + valueLength;
+    }
+
+    // guarded by this
+    private Slot append(Region region, byte[] key, byte type, long writeTimeMillis, byte[] eTag, byte[] valueType,
+                        byte[] value, int length) {
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.writeOffset + length > segment.buffer.capacity()) {
+            segment = roll();
+        }
+        int offset = segment.writeOffset;
+        ByteBuffer buffer = segment.buffer.duplicate();
+        buffer.position(offset + 8);
+        buffer.put(type);
+        buffer.putLong(writeTimeMillis);
+        buffer.putShort((short) region.nameBytes.length).put(region.nameBytes);
+        buffer.putInt(key.length).put(key);
+        if (eTag != null) {
+            buffer.putShort((short) eTag.length).put(eTag);
+        } else {
+            buffer.putShort((short) -1);
+        }
+        buffer.putShort((short) valueType.length).put(valueType);
+        buffer.put(value);
+        // the length goes last, a torn record is one that is zero or fails the checksum
+        buffer.putInt(offset + 4, checksum(segment.buffer, offset, length));
+        buffer.putInt(offset, length);
+        segment.writeOffset = offset + length;
+        return new Slot(segment, offset, length, writeTimeMillis, eTag != null);
+    }
+
+    // guarded by this
+    private void index(Region region, String key, Slot slot) {
+        Slot previous = slot != null ? region.slots.put(key, slot) : region.slots.remove(key);
+        if (previous != null) {
+            previous.segment.liveBytes -= previous.length;
+        }
+        if (slot != null) {
+            slot.segment.liveBytes += slot.length;
+        }
+    }
+
+    /**
+     * Starts a new segment, reclaiming the oldest ones beyond the maximum.
+     */
+    // guarded by this
+    private Segment roll() {
+        Segment segment;
+        try {
+            segment = Segment.create(directory.resolve(SEGMENT_PREFIX + nextSegmentId + SEGMENT_SUFFIX), segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create a cache segment in " + directory, e);
+        }
+        nextSegmentId++;
+        Segment previous = segments.peekLast();
+        if (previous != null) {
+            previous.buffer.force();
+        }
+        segments.addLast(segment);
+        while (segments.size() > maximumSegments) {
+            reclaim(segments.removeFirst());
+        }
+        return segment;
+    }
+
+    /**
+     * Moves the current records of {@code oldest} worth keeping to the segment written to, evicts the others and
+     * deletes the segment.
+     */
+    // guarded by this
+    private void reclaim(Segment oldest) {
+        boolean mostlyGarbage = oldest.liveBytes <= (oldest.writeOffset - SEGMENT_HEADER_SIZE) / 2;
+        // leave at least half of a new segment for new records
+        Segment active = segments.getLast();
+        int budget = Math.min((segmentSize - SEGMENT_HEADER_SIZE) / 2, active.buffer.capacity() - active.writeOffset);
+        long now = System.currentTimeMillis();
+        int moved = 0;
+        int evicted = 0;
+        for (Current current : currentRecords(oldest)) {
+            Slot slot = current.slot;
+            Region region = current.region;
+            String key = current.key;
+            boolean keep = (mostlyGarbage || slot.referenced || region.resident.test(key))
+                && slot.length <= budget && !isDroppable(region, slot, now);
+            if (keep) {
+                Record record = read(slot, true);
+                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                byte[] eTagBytes = record.getETag() != null ? record.getETag().getBytes(StandardCharsets.UTF_8) : null;
+                Slot copy = append(region, keyBytes, PUT, record.getWriteTimeMillis(), eTagBytes,
+                    record.getValueType().getBytes(StandardCharsets.UTF_8), record.getValue(), slot.length);
+                // accessed again before the next reclaim, or evicted then
+                copy.referenced = false;
+                index(region, key, copy);
+                budget -= slot.length;
+                moved++;
+            } else {
+                index(region, key, null);
+                evicted++;
+            }
+        }
+        logger.debug("Reclaimed cache segment {}: {} entries moved, {} evicted", oldest.file, moved, evicted);
+        oldest.delete();
+    }
+
+    /**
+     * Returns the records of {@code segment} that are current, with their keys.
+     */
+    // guarded by this
+    private List<Current> currentRecords(Segment segment) {
+        if (segment.liveBytes <= 0) {
+            return Collections.emptyList();
+        }
+        List<Current> current = new ArrayList<>();
+        for (Region region : regions.values()) {
+            for (Map.Entry<String, Slot> entry : region.slots.entrySet()) {
+                if (entry.getValue().segment == segment) {
+                    current.add(new Current(region, entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+        return current;
+    }
+
+    private static boolean isDroppable(Region region, Slot slot, long now) {
+        long ttl = region.timeToLiveMillis;
+        return ttl > 0 && now - slot.writeTimeMillis > ttl && !slot.hasETag;
+    }
+
+    private Record read(Slot slot, boolean withValue) {
+        ByteBuffer buffer = slot.segment.buffer.duplicate();
+        buffer.position(slot.offset + RECORD_HEADER_SIZE);
+        skip(buffer, buffer.getShort());
+        skip(buffer, buffer.getInt());
+        String eTag = readString(buffer, buffer.getShort());
+        String valueType = readString(buffer, buffer.getShort());
+        byte[] value = null;
+        if (withValue) {
+            value = new byte[slot.offset + slot.length - buffer.position()];
+            buffer.get(value);
+        }
+        return new Record(slot.writeTimeMillis, eTag, valueType, value);
+    }
+
+    /**
+     * Replays the segments of the directory, oldest first.
+     */
+    private synchronized void recover() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    ids.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    logger.debug("Ignoring unexpected file {} in cache directory", file);
+                }
+            }
+        }
+        Collections.sort(ids);
+        for (long id : ids) {
+            Path file = directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+            nextSegmentId = id + 1;
+            Segment segment = Segment.open(file);
+            if (segment == null) {
+                logger.debug("Deleting unreadable cache segment {}", file);
+                Files.deleteIfExists(file);
+                continue;
+            }
+            segments.addLast(segment);
+            replay(segment);
+        }
+        if (segments.isEmpty()) {
+            roll();
+            return;
+        }
+        logger.debug("Recovered {} cache entries from {}", regions.values().stream().mapToInt(r -> r.slots.size()).sum(), directory);
+        // writing continues after the last complete record, a new segment would evict the oldest one right away
+        while (segments.size() > maximumSegments) {
+            reclaim(segments.removeFirst());
+        }
+    }
+
+    // guarded by this
+    private void replay(Segment segment) {
+        ByteBuffer buffer = segment.buffer.duplicate();
+        int offset = SEGMENT_HEADER_SIZE;
+        int limit = buffer.capacity();
+        while (offset + RECORD_HEADER_SIZE <= limit) {
+            int length = buffer.getInt(offset);
+            if (length < RECORD_HEADER_SIZE || length > limit - offset
+                || buffer.getInt(offset + 4) != checksum(segment.buffer, offset, length)) {
+                // the end of the segment, or a record torn by a crash
+                break;
+            }
+            buffer.position(offset + 8);
+            byte type = buffer.get();
+            long writeTimeMillis = buffer.getLong();
+            String regionName = readString(buffer, buffer.getShort());
+            String key = readString(buffer, buffer.getInt());
+            Region region = regions.computeIfAbsent(regionName, Region::new);
+            if (type == PUT) {
+                index(region, key, new Slot(segment, offset, length, writeTimeMillis, buffer.getShort() >= 0));
+            } else if (type == REMOVE) {
+                index(region, key, null);
+            } else if (type == CLEAR) {
+                for (Slot slot : region.slots.values()) {
+                    slot.segment.liveBytes -= slot.length;
+                }
+                region.slots.clear();
+            }
+            offset += length;
+        }
+        segment.writeOffset = offset;
+    }
+
+    private static int checksum(ByteBuffer segment, int offset, int length) {
+        ByteBuffer record = segment.duplicate();
+        record.position(offset + 8);
+        record.limit(offset + length);
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private static void skip(ByteBuffer buffer, int length) {
+        buffer.position(buffer.position() + length);
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static FileAttribute<?>[] ownerOnly(String permissions) {
+        // the segments hold user and group profiles
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[] { PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions)) };
+        }
+        return new FileAttribute<?>[0];
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // nothing left to do
+            }
+        }
+    }
+
+    /**
+     * The entries of one cache, by key.
+     */
+    static final class Region {
+        private final String name;
+        private final byte[] nameBytes;
+        private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+        // 0 for entries that do not expire, or a region not opened yet
+        private volatile long timeToLiveMillis;
+        private volatile Predicate<String> resident = key -> false;
+
+        private Region(String name) {
+            this.name = name;
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        }
+
+        int size() {
+            return slots.size();
+        }
+    }
+
+    /**
+     * A stored entry.
+     */
+    static final class Record {
+        private final long writeTimeMillis;
+        private final String eTag;
+        private final String valueType;
+        private final byte[] value;
+
+        Record(long writeTimeMillis, String eTag, String valueType, byte[] value) {
+            this.writeTimeMillis = writeTimeMillis;
+            this.eTag = eTag;
+            this.valueType = valueType;
+            this.value = value;
+        }
+
+        long getWriteTimeMillis() {
+            return writeTimeMillis;
+        }
+
+        String getETag() {
+            return eTag;
+        }
+
+        String getValueType() {
+            return valueType;
+        }
+
+        byte[] getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * The position of the current record of a key.
+     */
+    private static final class Slot {
+        final Segment segment;
+        final int offset;
+        final int length;
+        final long writeTimeMillis;
+        final boolean hasETag;
+        // read since written, see reclaim
+        volatile boolean referenced;
+
+        Slot(Segment segment, int offset, int length, long writeTimeMillis, boolean hasETag) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.writeTimeMillis = writeTimeMillis;
+            this.hasETag = hasETag;
+        }
+    }
+
+    private static final class Current {
+        final Region region;
+        final String key;
+        final Slot slot;
+
+        Current(Region region, String key, Slot slot) {
+            this.region = region;
+            this.key = key;
+            this.slot = slot;
+        }
+    }
+
+    private static final class Segment {
+        final Path file;
+        final MappedByteBuffer buffer;
+        // guarded by the store
+        int writeOffset = SEGMENT_HEADER_SIZE;
+        long liveBytes;
+
+        private Segment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path file, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, createOptions(), ownerOnly("rw-------"))) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                return new Segment(file, buffer);
+            }
+        }
+
+        /**
+         * Maps an existing segment, or returns {@code null} if it is not one of this version.
+         */
+        static Segment open(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = channel.size();
+                if (size < SEGMENT_HEADER_SIZE || size > MAX_SEGMENT_SIZE) {
+                    return null;
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    return null;
+                }
+                return new Segment(file, buffer);
+            }
+        }
+
+        private static Set<StandardOpenOption> createOptions() {
+            return EnumSet.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        /**
+         * Deletes the file. Readers still holding a position in the segment can use the mapping until it is garbage
+         * collected.
+         */
+        void delete() {
+            // a segment that cannot be deleted, while mapped on Windows, must not be replayed
+            buffer.putInt(0, 0);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.debug("Failed to delete cache segment {}, it is ignored on the next start", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache;
+
+/**
+ * A Count-Min sketch of 4-bit counters estimating how often keys were used recently, the "TinyLFU" admission filter
+ * of {@link BoundedCache}. Sixteen counters are packed per {@code long}; each key maps to one counter in four
+ * different slots. Once the number of increments reaches ten times the table capacity all counters are halved, so
+ * that the estimate favours recent popularity.
+ * <p>
+ * Not thread-safe, callers hold the owning cache's eviction lock.
+ *
+ * @since 25.1.0
+ */
+final class FrequencySketch {
+
+    private static final long[] SEED = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch(long expectedEntries) {
+        ensureCapacity(expectedEntries);
+    }
+
+    /**
+     * Grows the table for the given number of entries, discarding the collected frequencies if it was resized.
+     */
+    void ensureCapacity(long expectedEntries) {
+        int capacity = (int) Math.min(Math.max(expectedEntries, 8), MAXIMUM_CAPACITY);
+        if (table != null && table.length >= capacity) {
+            return;
+        }
+        table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        tableMask = table.length - 1;
+        sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+        size = 0;
+    }
+
+    int capacity() {
+        return table.length;
+    }
+
+    /**
+     * Returns the estimated number of recent uses of {@code key}, at most 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records a use of {@code key}.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEED[i]) * SEED[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
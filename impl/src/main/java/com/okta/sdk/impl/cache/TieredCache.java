@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.cache.RefreshAheadCache;
+import com.okta.sdk.cache.ValidatingCache;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link com.okta.sdk.cache.Cache Cache} in two tiers: a small on-heap {@link BoundedCache} in front of a region of
+ * a {@link DiskStore}, which holds the entries as serialized bytes outside of the Java heap.
+ * <p>
+ * Writes go to both tiers. A read that misses the first tier is served from the second one, and the deserialized
+ * value is kept in the first tier until it expires or is evicted again. Entries keep their original write time in
+ * both tiers, so they expire after the same Time to Live wherever they are read from. The Time to Idle, and
+ * refresh-ahead, only apply to the first tier.
+ * <p>
+ * Only values of the SDK's resource types with {@code String} keys reach the second tier, other values are only kept
+ * on the heap. Until the cache manager is given the client's {@code ObjectMapper}, the second tier is not read and
+ * writes only remove its entries, so it never serves a value older than the first tier's.
+ *
+ * @since 25.1.0
+ */
+public class TieredCache<K, V> implements ValidatingCache<K, V>, RefreshAheadCache<K, V> {
+
+    private final BoundedCache<K, V> memory;
+    private final DiskStore store;
+    private final DiskStore.Region region;
+    private final ValueCodec codec;
+    private final long timeToLiveMillis;
+
+    TieredCache(BoundedCache<K, V> memory, DiskStore store, ValueCodec codec) {
+        Assert.notNull(memory, "memory cache cannot be null.");
+        this.memory = memory;
+        this.store = store;
+        this.codec = codec;
+        Duration ttl = memory.getTimeToLive();
+        this.timeToLiveMillis = ttl != null ? ttl.toMillis() : 0;
+        @SuppressWarnings("unchecked")
+        BoundedCache<Object, V> keys = (BoundedCache<Object, V>) memory;
+        this.region = store.region(memory.getName(), ttl, keys::contains);
+    }
+
+    @Override
+    public V get(K key) {
+        V value = memory.get(key);
+        if (value != null || !(key instanceof String) || !codec.isReady()) {
+            return value;
+        }
+        DiskStore.Record record = store.get(region, (String) key, true);
+        if (record == null) {
+            return null;
+        }
+        long age = System.currentTimeMillis() - record.getWriteTimeMillis();
+        if (timeToLiveMillis > 0 && age > timeToLiveMillis) {
+            // kept for revalidation if it has an entity tag, dropped on compaction otherwise
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        V decoded = (V) codec.decode(record.getValueType(), record.getValue());
+        if (decoded == null) {
+            store.remove(region, (String) key);
+            return null;
+        }
+        memory.load(key, decoded, record.getETag(), TimeUnit.MILLISECONDS.toNanos(age));
+        return decoded;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return put(key, value, null);
+    }
+
+    @Override
+    public V put(K key, V value, String eTag) {
+        V previous = memory.put(key, value, eTag);
+        store(key, value, eTag);
+        return previous;
+    }
+
+    /**
+     * Removes the entry from both tiers.
+     *
+     * @return the value of the entry in the first tier, or {@code null} if it was only in the second one
+     */
+    @Override
+    public V remove(K key) {
+        V previous = memory.remove(key);
+        if (key instanceof String) {
+            store.remove(region, (String) key);
+        }
+        return previous;
+    }
+
+    @Override
+    public String getETag(K key) {
+        String eTag = memory.getETag(key);
+        if (eTag != null || !(key instanceof String) || !codec.isReady()) {
+            return eTag;
+        }
+        DiskStore.Record record = store.get(region, (String) key, false);
+        return record != null ? record.getETag() : null;
+    }
+
+    @Override
+    public V revalidate(K key, String eTag) {
+        V value = memory.revalidate(key, eTag);
+        if (!(key instanceof String) || !codec.isReady()) {
+            return value;
+        }
+        DiskStore.Record record = store.restamp(region, (String) key, eTag, System.currentTimeMillis());
+        if (value != null || record == null) {
+            return value;
+        }
+        @SuppressWarnings("unchecked")
+        V decoded = (V) codec.decode(record.getValueType(), record.getValue());
+        if (decoded != null) {
+            memory.load(key, decoded, eTag, 0);
+        }
+        return decoded;
+    }
+
+    @Override
+    public boolean claimRefresh(K key) {
+        return memory.claimRefresh(key);
+    }
+
+    @Override
+    public boolean completeRefresh(K key, V value, String eTag) {
+        if (!memory.completeRefresh(key, value, eTag)) {
+            return false;
+        }
+        store(key, value, eTag);
+        return true;
+    }
+
+    @Override
+    public void refreshFailed(K key) {
+        memory.refreshFailed(key);
+    }
+
+    private void store(K key, V value, String eTag) {
+        if (!(key instanceof String)) {
+            return;
+        }
+        byte[] bytes = codec.encode(value);
+        if (bytes != null) {
+            store.put(region, (String) key, System.currentTimeMillis(), eTag, value.getClass().getName(), bytes);
+        } else {
+            // an older value must not be read back from the second tier
+            store.remove(region, (String) key);
+        }
+    }
+
+    /**
+     * Removes all entries of both tiers.
+     */
+    public void clear() {
+        memory.clear();
+        store.clear(region);
+    }
+
+    /**
+     * Returns the number of entries in the second tier, expired or not, which holds all entries of the first one
+     * that could be serialized.
+     *
+     * @return the number of entries in the second tier
+     */
+    public int size() {
+        return region.size();
+    }
+
+    /**
+     * Returns the first tier.
+     *
+     * @return the on-heap cache in front of the second tier
+     */
+    public BoundedCache<K, V> getMemoryCache() {
+        return memory;
+    }
+
+    public String getName() {
+        return memory.getName();
+    }
+
+    public String toString() {
+        return new StringBuilder("    {\n      \"name\": \"").append(getName()).append("\",\n")
+                .append("      \"memorySize\": ").append(memory.size()).append(",\n")
+                .append("      \"diskSize\": ").append(region.size()).append(",\n")
+                .append("      \"hitCount\": ").append(memory.getHitCount()).append(",\n")
+                .append("      \"missCount\": ").append(memory.getMissCount()).append("\n")
+                .append("    }")
+                .toString();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okta.sdk.cache.Cache;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+/**
+ * A {@link DefaultCacheManager} whose caches are {@link TieredCache}s: a small on-heap {@link BoundedCache} per cache,
+ * in front of a {@link DiskStore} shared by all of them that holds the entries as compact binary in memory-mapped
+ * files.
+ * <p>
+ * Large caches then barely add to the heap: only recently used values are kept as objects, the others cost an index
+ * entry. The files are reused when the application restarts, so it starts with a warm cache instead of reloading
+ * every resource from Okta, subject to the caches' Time to Live.
+ * <p>
+ * The {@link #setMaximumSize(long) maximum size} (or weight) applies to the on-heap tier of each cache and defaults
+ * to {@value #DEFAULT_MEMORY_SIZE} entries. The second tier is bounded by the maximum size of the files.
+ * <p>
+ * Values are serialized with the client's {@link ObjectMapper}, which the client builder
+ * {@link #setObjectMapper(ObjectMapper) passes} to the cache manager. The files hold resource data in clear, so the
+ * directory should only be accessible to the application; where supported it is created with owner-only
+ * permissions. One directory can only be used by one cache manager at a time.
+ *
+ * @since 25.1.0
+ */
+public class TieredCacheManager extends DefaultCacheManager implements Closeable {
+
+    /**
+     * The default maximum number of entries of the on-heap tier of each cache.
+     */
+    public static final long DEFAULT_MEMORY_SIZE = 1_000;
+
+    private final DiskStore store;
+    private final ValueCodec codec = new ValueCodec();
+
+    /**
+     * Creates a cache manager storing its second tier in {@code directory}, reusing the entries stored there.
+     *
+     * @param directory    the directory of the second tier, created if needed
+     * @param maximumBytes the maximum total size of the files of the second tier, at least 2 MiB
+     * @throws java.io.UncheckedIOException if the directory cannot be used
+     * @throws IllegalStateException        if the directory is used by another cache manager
+     */
+    public TieredCacheManager(Path directory, long maximumBytes) {
+        this.store = DiskStore.open(directory, maximumBytes);
+        setMaximumSize(DEFAULT_MEMORY_SIZE);
+    }
+
+    /**
+     * Sets the mapper whose configuration serializes the cached resources. Until it is set, the second tier is not
+     * used.
+     *
+     * @param objectMapper the client's object mapper
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        codec.setObjectMapper(objectMapper);
+    }
+
+    /**
+     * Returns the directory of the second tier.
+     *
+     * @return the directory of the second tier
+     */
+    public Path getDirectory() {
+        return store.getDirectory();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Cache createCache(String name) {
+        // bounded, since a maximum size is always set
+        BoundedCache memory = (BoundedCache) super.createCache(name);
+        return new TieredCache<>(memory, store, codec);
+    }
+
+    /**
+     * Flushes the second tier to disk and releases its directory. Entries are written to the files as they are
+     * cached, so closing is not required for them to be reused, but it makes them safe from an operating system
+     * crash too.
+     */
+    @Override
+    public void close() {
+        store.close();
+    }
+}
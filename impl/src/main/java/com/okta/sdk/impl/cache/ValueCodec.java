@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes cached resources for a {@link DiskStore} as Smile, the binary form of JSON, with the configuration of the
+ * client's {@link ObjectMapper}: its modules, custom (de)serializers and mix-ins.
+ * <p>
+ * Only the SDK's generated models are serialized, which also bounds the classes that stored bytes may be read as.
+ * Other cached values, such as the pages of collections, are only kept in memory.
+ *
+ * @since 25.1.0
+ */
+final class ValueCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValueCodec.class);
+
+    static final String MODEL_PACKAGE = "com.okta.sdk.resource.model.";
+
+    private final Map<String, Class<?>> types = new ConcurrentHashMap<>();
+    private volatile ObjectMapper objectMapper;
+
+    /**
+     * Sets the mapper whose configuration is used, nothing is serialized until one is set.
+     */
+    void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper != null ? objectMapper.copyWith(new SmileFactory()) : null;
+    }
+
+    boolean isReady() {
+        return objectMapper != null;
+    }
+
+    boolean canEncode(Object value) {
+        return value != null && value.getClass().getName().startsWith(MODEL_PACKAGE);
+    }
+
+    /**
+     * @return the serialized value, or {@code null} if it cannot be serialized
+     */
+    byte[] encode(Object value) {
+        ObjectMapper mapper = this.objectMapper;
+        if (mapper == null || !canEncode(value)) {
+            return null;
+        }
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            logger.debug("Failed to serialize cached {}", value.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the deserialized value, or {@code null} if it cannot be deserialized
+     */
+    Object decode(String type, byte[] bytes) {
+        ObjectMapper mapper = this.objectMapper;
+        if (mapper == null || !type.startsWith(MODEL_PACKAGE)) {
+            return null;
+        }
+        try {
+            return mapper.readValue(bytes, type(type));
+        } catch (ClassNotFoundException | IOException e) {
+            logger.debug("Failed to deserialize cached {}", type, e);
+            return null;
+        }
+    }
+
+    private Class<?> type(String name) throws ClassNotFoundException {
+        Class<?> type = types.get(name);
+        if (type == null) {
+            type = Class.forName(name, false, ValueCodec.class.getClassLoader());
+            types.put(name, type);
+        }
+        return type;
+    }
+}
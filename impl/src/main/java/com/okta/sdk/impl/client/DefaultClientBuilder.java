@@ -32,7 +32,11 @@ import com.okta.sdk.cache.Caches;
 import com.okta.sdk.client.AuthenticationScheme;
 import com.okta.sdk.client.AuthorizationMode;
 import com.okta.sdk.client.ClientBuilder;
+import com.okta.sdk.client.MetricsRecorder;
 import com.okta.sdk.impl.api.DefaultClientCredentialsResolver;
+import com.okta.sdk.impl.cache.TieredCacheManager;
+import com.okta.sdk.impl.concurrency.AdaptiveConcurrencyLimiter;
+import com.okta.sdk.impl.concurrency.ConcurrencyLimitInterceptor;
 import com.okta.sdk.impl.config.*;
 import com.okta.sdk.impl.deserializer.AssignRoleToClientResponseDeserializer;
 import com.okta.sdk.impl.deserializer.AssignRoleToGroupResponseDeserializer;
@@ -49,6 +53,8 @@ import com.okta.sdk.impl.io.ClasspathResource;
 import com.okta.sdk.impl.io.DefaultResourceFactory;
 import com.okta.sdk.impl.io.Resource;
 import com.okta.sdk.impl.io.ResourceFactory;
+import com.okta.sdk.impl.metrics.DefaultMetricsRecorder;
+import com.okta.sdk.impl.metrics.MetricsInterceptor;
 import com.okta.sdk.impl.oauth2.AccessTokenRetrieverService;
 import com.okta.sdk.impl.oauth2.AccessTokenRetrieverServiceImpl;
 import com.okta.sdk.impl.oauth2.DPoPInterceptor;
@@ -59,7 +65,10 @@ import com.okta.sdk.impl.serializer.UserProfileSerializer;
 import com.okta.sdk.impl.util.ConfigUtil;
 import com.okta.sdk.impl.util.DefaultBaseUrlResolver;
 
+import com.okta.sdk.impl.ratelimit.RateLimitInterceptor;
+import com.okta.sdk.impl.ratelimit.RateLimitScheduler;
 import com.okta.sdk.impl.retry.OktaHttpRequestRetryStrategy;
+import com.okta.sdk.impl.retry.RetryBudget;
 import com.okta.sdk.resource.client.auth.Authentication;
 import com.okta.sdk.resource.model.AssignRoleToClient200Response;
 import com.okta.sdk.resource.model.AssignRoleToGroup200Response;
@@ -73,15 +82,23 @@ import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
 import org.apache.hc.client5.http.impl.DefaultAuthenticationStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.DefaultBackoffStrategy;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.*;
 import org.apache.hc.core5.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.hc.core5.pool.ConnPoolControl;
 import org.apache.hc.core5.util.Timeout;
 
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -97,6 +114,7 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.security.PrivateKey;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -134,6 +152,11 @@ public class DefaultClientBuilder implements ClientBuilder {
     private boolean allowNonHttpsForTesting = false;
     private final ClientConfiguration clientConfig = new ClientConfiguration();
     private AccessTokenRetrieverService accessTokenRetrieverService;
+    private DPoPInterceptor dpopInterceptor;
+    private RateLimitInterceptor rateLimitInterceptor;
+    private OktaHttpRequestRetryStrategy retryStrategy;
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private MetricsInterceptor metricsInterceptor;
 
     public DefaultClientBuilder() {
         this(new DefaultResourceFactory());
@@ -278,6 +301,49 @@ public class DefaultClientBuilder implements ClientBuilder {
         if (Strings.hasText(props.get(DEFAULT_CLIENT_RETRY_MAX_ATTEMPTS_PROPERTY_NAME))) {
             clientConfig.setRetryMaxAttempts(Integer.parseInt(props.get(DEFAULT_CLIENT_RETRY_MAX_ATTEMPTS_PROPERTY_NAME)));
         }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_ASYNC_ENABLED_PROPERTY_NAME))) {
+            clientConfig.setAsyncEnabled(Boolean.parseBoolean(props.get(DEFAULT_CLIENT_ASYNC_ENABLED_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_RATE_LIMIT_PACING_ENABLED_PROPERTY_NAME))) {
+            clientConfig.setRateLimitPacingEnabled(Boolean.parseBoolean(props.get(DEFAULT_CLIENT_RATE_LIMIT_PACING_ENABLED_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_RETRY_BUDGET_PERCENT_PROPERTY_NAME))) {
+            clientConfig.setRetryBudgetPercent(Integer.parseInt(props.get(DEFAULT_CLIENT_RETRY_BUDGET_PERCENT_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_CONCURRENCY_LIMIT_ENABLED_PROPERTY_NAME))) {
+            clientConfig.setConcurrencyLimitEnabled(Boolean.parseBoolean(props.get(DEFAULT_CLIENT_CONCURRENCY_LIMIT_ENABLED_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_CONCURRENCY_LIMIT_MAX_PROPERTY_NAME))) {
+            clientConfig.setConcurrencyLimitMax(Integer.parseInt(props.get(DEFAULT_CLIENT_CONCURRENCY_LIMIT_MAX_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT_PROPERTY_NAME))) {
+            clientConfig.setConcurrencyLimitQueueTimeout(Integer.parseInt(props.get(DEFAULT_CLIENT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_INTERACTIVE_RESERVE_PERCENT_PROPERTY_NAME))) {
+            clientConfig.setInteractiveReservePercent(Integer.parseInt(props.get(DEFAULT_CLIENT_INTERACTIVE_RESERVE_PERCENT_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_STATELESS_ENABLED_PROPERTY_NAME))) {
+            clientConfig.setStatelessEnabled(Boolean.parseBoolean(props.get(DEFAULT_CLIENT_STATELESS_ENABLED_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_METRICS_ENABLED_PROPERTY_NAME))) {
+            clientConfig.setMetricsEnabled(Boolean.parseBoolean(props.get(DEFAULT_CLIENT_METRICS_ENABLED_PROPERTY_NAME)));
+        }
+
+        if (Strings.hasText(props.get(DEFAULT_CLIENT_METRICS_JMX_ENABLED_PROPERTY_NAME))) {
+            clientConfig.setMetricsJmxEnabled(Boolean.parseBoolean(props.get(DEFAULT_CLIENT_METRICS_JMX_ENABLED_PROPERTY_NAME)));
+            if (clientConfig.isMetricsJmxEnabled()) {
+                clientConfig.setMetricsEnabled(true);
+            }
+        }
     }
 
     @Override
@@ -324,6 +390,78 @@ public class DefaultClientBuilder implements ClientBuilder {
         return this;
     }
 
+    @Override
+    public ClientBuilder setAsyncEnabled(boolean asyncEnabled) {
+        this.clientConfig.setAsyncEnabled(asyncEnabled);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setRateLimitPacingEnabled(boolean rateLimitPacingEnabled) {
+        this.clientConfig.setRateLimitPacingEnabled(rateLimitPacingEnabled);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setRetryBudgetPercent(int retryBudgetPercent) {
+        this.clientConfig.setRetryBudgetPercent(retryBudgetPercent);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled) {
+        this.clientConfig.setConcurrencyLimitEnabled(concurrencyLimitEnabled);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setConcurrencyLimitMax(int concurrencyLimitMax) {
+        this.clientConfig.setConcurrencyLimitMax(concurrencyLimitMax);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setConcurrencyLimitQueueTimeout(int queueTimeout) {
+        this.clientConfig.setConcurrencyLimitQueueTimeout(queueTimeout);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setInteractiveReservePercent(int interactiveReservePercent) {
+        Assert.isTrue(interactiveReservePercent >= 0 && interactiveReservePercent < 100, "interactiveReservePercent must be >= 0 and < 100");
+        this.clientConfig.setInteractiveReservePercent(interactiveReservePercent);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setStatelessEnabled(boolean statelessEnabled) {
+        this.clientConfig.setStatelessEnabled(statelessEnabled);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setMetricsEnabled(boolean metricsEnabled) {
+        this.clientConfig.setMetricsEnabled(metricsEnabled);
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setMetricsJmxEnabled(boolean metricsJmxEnabled) {
+        this.clientConfig.setMetricsJmxEnabled(metricsJmxEnabled);
+        if (metricsJmxEnabled) {
+            this.clientConfig.setMetricsEnabled(true);
+        }
+        return this;
+    }
+
+    @Override
+    public ClientBuilder setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        Assert.notNull(metricsRecorder, "metricsRecorder must not be null");
+        this.clientConfig.setMetricsRecorder(metricsRecorder);
+        this.clientConfig.setMetricsEnabled(true);
+        return this;
+    }
+
     @Override
     public ApiClient build() {
 
@@ -350,6 +488,19 @@ public class DefaultClientBuilder implements ClientBuilder {
             this.clientConfig.setBaseUrlResolver(new DefaultBaseUrlResolver(this.clientConfig.getBaseUrl()));
         }
 
+        // one interceptor per client, shared by the classic and async HTTP clients so both use the same DPoP key and nonce
+        this.dpopInterceptor = isOAuth2Flow() && !hasAccessToken() ? new DPoPInterceptor() : null;
+        // likewise one rate limit table per client, both HTTP clients draw from the same buckets
+        this.rateLimitInterceptor = clientConfig.isRateLimitPacingEnabled() ? createRateLimitInterceptor(clientConfig) : null;
+        // and one retry policy, so the retry budget covers the traffic of both
+        this.retryStrategy = createRetryStrategy(clientConfig);
+        // and one concurrency limit, requests of both HTTP clients count against it
+        this.concurrencyLimitInterceptor = clientConfig.isConcurrencyLimitEnabled() ? createConcurrencyLimitInterceptor(clientConfig) : null;
+        // and one metrics recorder
+        this.metricsInterceptor = clientConfig.isMetricsEnabled() ? createMetricsInterceptor(clientConfig) : null;
+        MetricsRecorder metricsRecorder = clientConfig.isMetricsEnabled() ? getMetricsInterceptor().getRecorder() : MetricsRecorder.NOOP;
+        getRetryStrategy().setMetricsRecorder(metricsRecorder);
+
         HttpClientBuilder httpClientBuilder = createHttpClientBuilder(clientConfig);
 
         if (clientConfig.getProxy() != null) {
@@ -358,6 +509,27 @@ public class DefaultClientBuilder implements ClientBuilder {
 
         ApiClient apiClient = new ApiClient(httpClientBuilder.build(), this.cacheManager);
         apiClient.setBasePath(this.clientConfig.getBaseUrl());
+        apiClient.setStatelessEnabled(clientConfig.isStatelessEnabled());
+        if (clientConfig.isRateLimitPacingEnabled()) {
+            apiClient.setRateLimitStatus(getRateLimitInterceptor().getScheduler());
+        }
+        apiClient.setRetryStatistics(getRetryStrategy());
+        if (clientConfig.isConcurrencyLimitEnabled()) {
+            apiClient.setConcurrencyLimitStatus(getConcurrencyLimitInterceptor().getLimiter());
+        }
+        apiClient.setMetricsRecorder(metricsRecorder);
+
+        if (clientConfig.isAsyncEnabled()) {
+            HttpAsyncClientBuilder httpAsyncClientBuilder = createHttpAsyncClientBuilder(clientConfig);
+
+            if (clientConfig.getProxy() != null) {
+                setProxy(httpAsyncClientBuilder, clientConfig);
+            }
+
+            CloseableHttpAsyncClient asyncHttpClient = httpAsyncClientBuilder.build();
+            asyncHttpClient.start();
+            apiClient.setAsyncHttpClient(asyncHttpClient);
+        }
 
         String userAgentValue = ApplicationInfo.get().entrySet().stream()
             .map(entry -> entry.getKey() + "/" + entry.getValue())
@@ -365,6 +537,10 @@ public class DefaultClientBuilder implements ClientBuilder {
         apiClient.setUserAgent(userAgentValue);
 
         addCustomSerializerAndDeserializers(apiClient);
+        if (this.cacheManager instanceof TieredCacheManager) {
+            // the second cache tier serializes resources like the client does
+            ((TieredCacheManager) this.cacheManager).setObjectMapper(apiClient.getObjectMapper());
+        }
 
         if (!isOAuth2Flow()) {
             if (this.clientConfig.getClientCredentialsResolver() == null && this.clientCredentials != null) {
@@ -379,13 +555,17 @@ public class DefaultClientBuilder implements ClientBuilder {
             this.clientConfig.setAuthenticationScheme(AuthenticationScheme.OAUTH2_PRIVATE_KEY);
 
             validateOAuth2ClientConfig(this.clientConfig);
+            // clients that share a cache manager only share the responses they are authorized to see
+            apiClient.setCacheScope(clientConfig.getClientId() + " " + String.join(" ", new TreeSet<>(clientConfig.getScopes())));
 
             if (hasAccessToken()) {
                 log.debug("Will use client provided Access token for OAuth2 authentication (private key, if supplied would be ignored)");
                 apiClient.setAccessToken(this.clientConfig.getOAuth2AccessToken());
             } else {
                 log.debug("Will retrieve Access Token automatically from Okta for OAuth2 authentication");
-                accessTokenRetrieverService = new AccessTokenRetrieverServiceImpl(clientConfig, apiClient);
+                AccessTokenRetrieverServiceImpl tokenRetrieverService = new AccessTokenRetrieverServiceImpl(clientConfig, apiClient);
+                tokenRetrieverService.setMetricsRecorder(metricsRecorder);
+                accessTokenRetrieverService = tokenRetrieverService;
 
                 OAuth2ClientCredentials oAuth2ClientCredentials =
                     new OAuth2ClientCredentials(accessTokenRetrieverService);
@@ -405,20 +585,69 @@ public class DefaultClientBuilder implements ClientBuilder {
      * @return an {@link HttpClientBuilder} initialized with default configuration
      */
     protected HttpClientBuilder createHttpClientBuilder(ClientConfiguration clientConfig) {
+        PoolingHttpClientConnectionManager connectionManager = createHttpClientConnectionManagerBuilder(clientConfig).build();
         HttpClientBuilder httpClientBuilder = HttpClients.custom()
             .setDefaultRequestConfig(createHttpRequestConfigBuilder(clientConfig).build())
-            .setConnectionManager(createHttpClientConnectionManagerBuilder(clientConfig).build())
-            .setRetryStrategy(new OktaHttpRequestRetryStrategy(clientConfig.getRetryMaxAttempts()))
+            .setConnectionManager(connectionManager)
+            .setRetryStrategy(getRetryStrategy())
             .setConnectionBackoffStrategy(new DefaultBackoffStrategy())
             .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy())
             .setConnectionReuseStrategy(new DefaultConnectionReuseStrategy())
             .disableCookieManagement();
+        // ahead of the connection lease, so that requests waiting for their lane do not hold a pooled connection
+        if (clientConfig.isRateLimitPacingEnabled()) {
+            httpClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "rateLimit", getRateLimitInterceptor());
+        }
+        if (clientConfig.isConcurrencyLimitEnabled()) {
+            httpClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "concurrencyLimit", getConcurrencyLimitInterceptor());
+        }
+        if (clientConfig.isMetricsEnabled()) {
+            // first, to time the whole call including retries; the lease is timed once the limits let the request through
+            httpClientBuilder.addExecInterceptorFirst("metrics", getMetricsInterceptor());
+            httpClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "connectionAcquireStart", getMetricsInterceptor().connectionAcquireStart());
+            httpClientBuilder.addExecInterceptorAfter(ChainElement.CONNECT.name(), "connectionAcquireEnd", getMetricsInterceptor().connectionAcquireEnd());
+            registerPoolGauges("pool", connectionManager);
+        }
         if (isOAuth2Flow() && !hasAccessToken()) {
-            httpClientBuilder.addExecInterceptorLast("dpop", new DPoPInterceptor());
+            httpClientBuilder.addExecInterceptorLast("dpop", getDPoPInterceptor());
         }
         return httpClientBuilder;
     }
 
+    /**
+     * Override to customize the async client used by the generated {@code *Async} API methods, allowing one to add
+     * additional interceptors. Only called when async support is enabled.
+     * @param clientConfig the current ClientConfiguration
+     * @return an {@link HttpAsyncClientBuilder} initialized with default configuration
+     */
+    protected HttpAsyncClientBuilder createHttpAsyncClientBuilder(ClientConfiguration clientConfig) {
+        PoolingAsyncClientConnectionManager connectionManager = createHttpAsyncClientConnectionManagerBuilder(clientConfig).build();
+        HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
+            .setDefaultRequestConfig(createHttpRequestConfigBuilder(clientConfig).build())
+            .setConnectionManager(connectionManager)
+            .setRetryStrategy(getRetryStrategy())
+            .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy())
+            .setConnectionReuseStrategy(new DefaultConnectionReuseStrategy())
+            .disableCookieManagement();
+        // ahead of the connection lease, so that requests waiting for their lane do not hold a pooled connection
+        if (clientConfig.isRateLimitPacingEnabled()) {
+            httpAsyncClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "rateLimit", getRateLimitInterceptor());
+        }
+        if (clientConfig.isConcurrencyLimitEnabled()) {
+            httpAsyncClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "concurrencyLimit", getConcurrencyLimitInterceptor());
+        }
+        if (clientConfig.isMetricsEnabled()) {
+            httpAsyncClientBuilder.addExecInterceptorFirst("metrics", getMetricsInterceptor());
+            httpAsyncClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "connectionAcquireStart", getMetricsInterceptor().connectionAcquireStart());
+            httpAsyncClientBuilder.addExecInterceptorAfter(ChainElement.CONNECT.name(), "connectionAcquireEnd", getMetricsInterceptor().connectionAcquireEnd());
+            registerPoolGauges("asyncPool", connectionManager);
+        }
+        if (isOAuth2Flow() && !hasAccessToken()) {
+            httpAsyncClientBuilder.addExecInterceptorLast("dpop", getDPoPInterceptor());
+        }
+        return httpAsyncClientBuilder;
+    }
+
     /**
      * Override to customize the request config
      * @param clientConfig the current clientConfig
@@ -442,6 +671,106 @@ public class DefaultClientBuilder implements ClientBuilder {
                 .build());
     }
 
+    /**
+     * Override to customize the async connection manager, allowing the increase of max connections
+     * @param clientConfig the current clientConfig
+     * @return a {@link PoolingAsyncClientConnectionManagerBuilder} initialized with default configuration
+     */
+    protected PoolingAsyncClientConnectionManagerBuilder createHttpAsyncClientConnectionManagerBuilder(ClientConfiguration clientConfig) {
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofSeconds(clientConfig.getConnectionTimeout()))
+                .build());
+    }
+
+    private DPoPInterceptor getDPoPInterceptor() {
+        if (dpopInterceptor == null) {
+            dpopInterceptor = new DPoPInterceptor();
+        }
+        return dpopInterceptor;
+    }
+
+    private OktaHttpRequestRetryStrategy getRetryStrategy() {
+        if (retryStrategy == null) {
+            retryStrategy = createRetryStrategy(clientConfig);
+        }
+        return retryStrategy;
+    }
+
+    private static OktaHttpRequestRetryStrategy createRetryStrategy(ClientConfiguration clientConfig) {
+        return new OktaHttpRequestRetryStrategy(clientConfig.getRetryMaxAttempts(),
+            Duration.ofSeconds(Math.max(clientConfig.getRetryMaxElapsed(), 0)),
+            clientConfig.getRetryBudgetPercent() > 0 ? new RetryBudget(clientConfig.getRetryBudgetPercent()) : null);
+    }
+
+    private RateLimitInterceptor getRateLimitInterceptor() {
+        if (rateLimitInterceptor == null) {
+            rateLimitInterceptor = createRateLimitInterceptor(clientConfig);
+        }
+        return rateLimitInterceptor;
+    }
+
+    private static RateLimitInterceptor createRateLimitInterceptor(ClientConfiguration clientConfig) {
+        return new RateLimitInterceptor(new RateLimitScheduler(interactiveReserve(clientConfig)));
+    }
+
+    private ConcurrencyLimitInterceptor getConcurrencyLimitInterceptor() {
+        if (concurrencyLimitInterceptor == null) {
+            concurrencyLimitInterceptor = createConcurrencyLimitInterceptor(clientConfig);
+        }
+        return concurrencyLimitInterceptor;
+    }
+
+    private static ConcurrencyLimitInterceptor createConcurrencyLimitInterceptor(ClientConfiguration clientConfig) {
+        return new ConcurrencyLimitInterceptor(new AdaptiveConcurrencyLimiter(clientConfig.getConcurrencyLimitMax(),
+            Math.max(clientConfig.getConcurrencyLimitQueueTimeout(), 0), TimeUnit.SECONDS, interactiveReserve(clientConfig)));
+    }
+
+    private MetricsInterceptor getMetricsInterceptor() {
+        if (metricsInterceptor == null) {
+            metricsInterceptor = createMetricsInterceptor(clientConfig);
+        }
+        return metricsInterceptor;
+    }
+
+    private static MetricsInterceptor createMetricsInterceptor(ClientConfiguration clientConfig) {
+        if (clientConfig.getMetricsRecorder() != null) {
+            return new MetricsInterceptor(clientConfig.getMetricsRecorder());
+        }
+        DefaultMetricsRecorder recorder = new DefaultMetricsRecorder();
+        if (clientConfig.isMetricsJmxEnabled()) {
+            // the MBean server holds on to the recorder until it is unregistered
+            recorder.register();
+        }
+        return new MetricsInterceptor(recorder);
+    }
+
+    private void registerPoolGauges(String name, ConnPoolControl<?> pool) {
+        MetricsRecorder recorder = getMetricsInterceptor().getRecorder();
+        recorder.registerGauge(name + ".leased", () -> pool.getTotalStats().getLeased());
+        recorder.registerGauge(name + ".pending", () -> pool.getTotalStats().getPending());
+        recorder.registerGauge(name + ".available", () -> pool.getTotalStats().getAvailable());
+        recorder.registerGauge(name + ".max", () -> pool.getTotalStats().getMax());
+    }
+
+    private static double interactiveReserve(ClientConfiguration clientConfig) {
+        return Math.min(Math.max(clientConfig.getInteractiveReservePercent(), 0), 99) / 100.0;
+    }
+
+    private void setProxy(HttpAsyncClientBuilder clientBuilder, ClientConfiguration clientConfig) {
+        clientBuilder.useSystemProperties();
+        clientBuilder.setProxy(new HttpHost(clientConfig.getProxyHost(), clientConfig.getProxyPort()));
+        if (clientConfig.getProxyUsername() != null) {
+            final BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+            AuthScope authScope = new AuthScope(clientConfig.getProxyHost(), clientConfig.getProxyPort());
+            UsernamePasswordCredentials usernamePasswordCredentials =
+                new UsernamePasswordCredentials(clientConfig.getProxyUsername(), clientConfig.getProxyPassword().toCharArray());
+            credentialsProvider.setCredentials(authScope, usernamePasswordCredentials);
+            clientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+            clientBuilder.setProxyAuthenticationStrategy(new DefaultAuthenticationStrategy());
+        }
+    }
+
     private void setProxy(HttpClientBuilder clientBuilder, ClientConfiguration clientConfig) {
         clientBuilder.useSystemProperties();
         clientBuilder.setProxy(new HttpHost(clientConfig.getProxyHost(), clientConfig.getProxyPort()));
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.concurrency;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.client.ConcurrencyLimitStatus;
+import com.okta.sdk.client.RequestPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of requests in flight and adapts the limit to what the server absorbs (AIMD).
+ * <p>
+ * Each completed request reports its latency and whether the server pushed back. While latencies stay within
+ * {@code latencyTolerance} times the lowest latency seen recently and the limit is actually used, the limit grows by
+ * about one per round of {@code limit} requests. A 429, 503 or timeout, or a latency above the tolerance, shrinks
+ * it by {@code backoffRatio}.
+ * <p>
+ * A request over the limit waits in a FIFO queue of at most {@code maxQueueSize} requests, until a permit frees up
+ * or {@code queueTimeout} elapses. With a zero queue timeout or a full queue it is rejected right away.
+ * <p>
+ * Requests are admitted per {@link RequestPriority} lane: queued interactive requests get free permits before
+ * queued batch requests, and batch requests never hold more than {@code 1 - interactiveReserve} of the limit, so
+ * that an interactive request finds a free permit even while a batch job saturates its share.
+ *
+ * @since 25.1.0
+ */
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimitStatus {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    static final int DEFAULT_INITIAL_LIMIT = 20;
+    static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    private static final int MIN_LIMIT = 1;
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    private static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+    // the latency baseline is relearned regularly, so that it follows a slower (or faster) org
+    private static final int BASELINE_SAMPLES = 500;
+
+    /**
+     * How a request ended, as far as the limit is concerned.
+     */
+    public enum Outcome {
+        /** The server answered normally. */
+        SUCCESS,
+        /** The server pushed back: 429, 503, or a timeout. */
+        DROPPED,
+        /** Says nothing about the server's capacity, e.g. a connection failure. */
+        IGNORED
+    }
+
+    private final int maxLimit;
+    private final long queueTimeoutNanos;
+    private final int maxQueueSize;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final double interactiveReserve;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Waiter> interactiveQueue = new ArrayDeque<>();
+    private final Deque<Waiter> batchQueue = new ArrayDeque<>();
+    private final LongAdder rejected = new LongAdder();
+
+    // guarded by lock
+    private double limit;
+    private int inFlight;
+    private int batchInFlight;
+    private long baselineNanos = Long.MAX_VALUE;
+    private int baselineSamples;
+
+    public AdaptiveConcurrencyLimiter(int maxLimit, long queueTimeout, TimeUnit unit) {
+        this(Math.min(DEFAULT_INITIAL_LIMIT, maxLimit), maxLimit, queueTimeout, unit, DEFAULT_MAX_QUEUE_SIZE,
+            DEFAULT_BACKOFF_RATIO, DEFAULT_LATENCY_TOLERANCE, 0);
+    }
+
+    public AdaptiveConcurrencyLimiter(int maxLimit, long queueTimeout, TimeUnit unit, double interactiveReserve) {
+        this(Math.min(DEFAULT_INITIAL_LIMIT, maxLimit), maxLimit, queueTimeout, unit, DEFAULT_MAX_QUEUE_SIZE,
+            DEFAULT_BACKOFF_RATIO, DEFAULT_LATENCY_TOLERANCE, interactiveReserve);
+    }
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit, long queueTimeout, TimeUnit unit, int maxQueueSize,
+                                      double backoffRatio, double latencyTolerance) {
+        this(initialLimit, maxLimit, queueTimeout, unit, maxQueueSize, backoffRatio, latencyTolerance, 0);
+    }
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit, long queueTimeout, TimeUnit unit, int maxQueueSize,
+                                      double backoffRatio, double latencyTolerance, double interactiveReserve) {
+        Assert.isTrue(maxLimit >= MIN_LIMIT, "maxLimit must be >= " + MIN_LIMIT);
+        Assert.isTrue(initialLimit >= MIN_LIMIT && initialLimit <= maxLimit, "initialLimit must be between 1 and maxLimit");
+        Assert.isTrue(queueTimeout >= 0, "queueTimeout must be >= 0");
+        Assert.isTrue(maxQueueSize >= 0, "maxQueueSize must be >= 0");
+        Assert.isTrue(backoffRatio > 0 && backoffRatio < 1, "backoffRatio must be between 0 and 1");
+        Assert.isTrue(latencyTolerance >= 1, "latencyTolerance must be >= 1");
+        Assert.isTrue(interactiveReserve >= 0 && interactiveReserve < 1, "interactiveReserve must be >= 0 and < 1");
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.queueTimeoutNanos = unit.toNanos(queueTimeout);
+        this.maxQueueSize = maxQueueSize;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.interactiveReserve = interactiveReserve;
+    }
+
+    /**
+     * Takes an interactive permit, waiting in the queue if the limit is reached.
+     *
+     * @return {@code true} once a permit is taken, {@code false} if the request is rejected
+     * @throws InterruptedException if interrupted while queued
+     */
+    public boolean acquire() throws InterruptedException {
+        return acquire(RequestPriority.INTERACTIVE);
+    }
+
+    /**
+     * Takes a permit in the lane of {@code priority}, waiting in the queue if the limit is reached.
+     *
+     * @param priority lane of the request
+     * @return {@code true} once a permit is taken, {@code false} if the request is rejected
+     * @throws InterruptedException if interrupted while queued
+     */
+    public boolean acquire(RequestPriority priority) throws InterruptedException {
+        lock.lock();
+        try {
+            if (tryTake(priority)) {
+                return true;
+            }
+            if (!canQueue()) {
+                rejected.increment();
+                return false;
+            }
+            Waiter waiter = new Waiter(priority, lock.newCondition(), null);
+            waiter.queue().addLast(waiter);
+            long remaining = queueTimeoutNanos;
+            try {
+                while (!waiter.granted && remaining > 0) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (!waiter.granted) {
+                    waiter.queue().remove(waiter);
+                    throw e;
+                }
+                // granted concurrently, keep the permit and the interrupt
+                Thread.currentThread().interrupt();
+            }
+            if (!waiter.granted) {
+                waiter.queue().remove(waiter);
+                rejected.increment();
+                return false;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes an interactive permit without blocking, see {@link #acquireAsync(RequestPriority, Runnable)}.
+     *
+     * @param onAcquired run once the permit is taken
+     * @return a handle to cancel the wait, or {@code null} if the request is rejected
+     */
+    public Cancellable acquireAsync(Runnable onAcquired) {
+        return acquireAsync(RequestPriority.INTERACTIVE, onAcquired);
+    }
+
+    /**
+     * Takes a permit in the lane of {@code priority} without blocking. {@code onAcquired} is run right away if a
+     * permit is free, otherwise it is queued and run by the thread releasing a permit.
+     *
+     * @param priority lane of the request
+     * @param onAcquired run once the permit is taken
+     * @return a handle to cancel the wait, or {@code null} if the request is rejected
+     */
+    public Cancellable acquireAsync(RequestPriority priority, Runnable onAcquired) {
+        lock.lock();
+        try {
+            if (!tryTake(priority)) {
+                if (!canQueue()) {
+                    rejected.increment();
+                    return null;
+                }
+                Waiter waiter = new Waiter(priority, null, onAcquired);
+                waiter.queue().addLast(waiter);
+                return waiter;
+            }
+        } finally {
+            lock.unlock();
+        }
+        onAcquired.run();
+        return () -> false;
+    }
+
+    /**
+     * Returns an interactive permit and feeds the outcome of its request to the limit.
+     *
+     * @param latencyNanos the time from sending the request to receiving the response head
+     * @param outcome how the request ended
+     */
+    public void release(long latencyNanos, Outcome outcome) {
+        release(RequestPriority.INTERACTIVE, latencyNanos, outcome);
+    }
+
+    /**
+     * Returns a permit of the lane of {@code priority} and feeds the outcome of its request to the limit.
+     *
+     * @param priority lane the permit was taken in
+     * @param latencyNanos the time from sending the request to receiving the response head
+     * @param outcome how the request ended
+     */
+    public void release(RequestPriority priority, long latencyNanos, Outcome outcome) {
+        List<Runnable> granted;
+        lock.lock();
+        try {
+            inFlight--;
+            if (priority == RequestPriority.BATCH) {
+                batchInFlight--;
+            }
+            update(latencyNanos, outcome);
+            granted = grant();
+        } finally {
+            lock.unlock();
+        }
+        for (Runnable callback : granted) {
+            callback.run();
+        }
+    }
+
+    // a request may only take a permit ahead of the queue of its own lane, and of the interactive queue for batch
+    private boolean tryTake(RequestPriority priority) {
+        boolean free = priority == RequestPriority.BATCH
+            ? interactiveQueue.isEmpty() && batchQueue.isEmpty() && hasBatchPermit()
+            : interactiveQueue.isEmpty() && inFlight < (int) limit;
+        if (free) {
+            take(priority);
+        }
+        return free;
+    }
+
+    private boolean hasBatchPermit() {
+        // at least one, so that a small limit does not stall batch work altogether
+        int batchLimit = Math.max(MIN_LIMIT, (int) ((int) limit * (1 - interactiveReserve)));
+        return inFlight < (int) limit && batchInFlight < batchLimit;
+    }
+
+    private void take(RequestPriority priority) {
+        inFlight++;
+        if (priority == RequestPriority.BATCH) {
+            batchInFlight++;
+        }
+    }
+
+    private boolean canQueue() {
+        return queueTimeoutNanos > 0 && interactiveQueue.size() + batchQueue.size() < maxQueueSize;
+    }
+
+    private void update(long latencyNanos, Outcome outcome) {
+        double previous = limit;
+        if (outcome == Outcome.DROPPED) {
+            limit = Math.max(MIN_LIMIT, limit * backoffRatio);
+        } else if (outcome == Outcome.SUCCESS) {
+            if (++baselineSamples > BASELINE_SAMPLES) {
+                baselineSamples = 0;
+                baselineNanos = Long.MAX_VALUE;
+            }
+            baselineNanos = Math.min(baselineNanos, latencyNanos);
+            if (latencyNanos > baselineNanos * latencyTolerance) {
+                limit = Math.max(MIN_LIMIT, limit * backoffRatio);
+            } else if ((inFlight + 1) * 2 >= limit) {
+                // only grow a limit that is actually used
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+        if ((int) previous != (int) limit) {
+            log.debug("Concurrency limit changed from {} to {} after a {} request", (int) previous, (int) limit, outcome);
+        }
+    }
+
+    // hands free permits to the queues, interactive first; the async callbacks are returned to be run outside the lock
+    private List<Runnable> grant() {
+        List<Runnable> callbacks = null;
+        while (true) {
+            Waiter waiter;
+            if (!interactiveQueue.isEmpty() && inFlight < (int) limit) {
+                waiter = interactiveQueue.pollFirst();
+            } else if (interactiveQueue.isEmpty() && !batchQueue.isEmpty() && hasBatchPermit()) {
+                waiter = batchQueue.pollFirst();
+            } else {
+                break;
+            }
+            waiter.granted = true;
+            take(waiter.priority);
+            if (waiter.callback != null) {
+                if (callbacks == null) {
+                    callbacks = new ArrayList<>();
+                }
+                callbacks.add(waiter.callback);
+            } else {
+                waiter.condition.signal();
+            }
+        }
+        return callbacks != null ? callbacks : Collections.emptyList();
+    }
+
+    long getQueueTimeoutNanos() {
+        return queueTimeoutNanos;
+    }
+
+    @Override
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return interactiveQueue.size() + batchQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimiter[limit=" + getLimit() + ", inFlight=" + getInFlight()
+            + ", queueDepth=" + getQueueDepth() + ", rejected=" + getRejectedCount() + "]";
+    }
+
+    /**
+     * Handle of a queued async request.
+     */
+    @FunctionalInterface
+    public interface Cancellable {
+
+        /**
+         * Removes the request from the queue.
+         *
+         * @return {@code true} if it was still queued and is now rejected, {@code false} if it already holds a permit
+         */
+        boolean cancel();
+    }
+
+    private final class Waiter implements Cancellable {
+
+        private final RequestPriority priority;
+        private final Condition condition;
+        private final Runnable callback;
+        private boolean granted;
+
+        private Waiter(RequestPriority priority, Condition condition, Runnable callback) {
+            this.priority = priority;
+            this.condition = condition;
+            this.callback = callback;
+        }
+
+        private Deque<Waiter> queue() {
+            return priority == RequestPriority.BATCH ? batchQueue : interactiveQueue;
+        }
+
+        @Override
+        public boolean cancel() {
+            lock.lock();
+            try {
+                if (granted || !queue().remove(this)) {
+                    return false;
+                }
+                rejected.increment();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
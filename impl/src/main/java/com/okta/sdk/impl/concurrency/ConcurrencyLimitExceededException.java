@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.concurrency;
+
+import java.io.InterruptedIOException;
+
+/**
+ * Thrown when a request is rejected by the {@link AdaptiveConcurrencyLimiter}, because the queue is full or the
+ * request waited longer than the queue timeout. It extends {@link InterruptedIOException} so that the retry strategy
+ * does not retry it, which would only add to the overload.
+ *
+ * @since 25.1.0
+ */
+public class ConcurrencyLimitExceededException extends InterruptedIOException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.concurrency;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.client.RequestPriority;
+import com.okta.sdk.impl.concurrency.AdaptiveConcurrencyLimiter.Cancellable;
+import com.okta.sdk.impl.concurrency.AdaptiveConcurrencyLimiter.Outcome;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Interceptor that admits requests through an {@link AdaptiveConcurrencyLimiter} and reports their latency and
+ * status back to it. Classic requests over the limit wait on the calling thread; async requests are queued without
+ * blocking and sent by the thread that frees a permit. Each request takes its permit in the lane of the
+ * {@link RequestPriority} stored in its context. The same instance can be registered on both the classic and the
+ * async HTTP client, so that both share one limit.
+ * <p>
+ * A permit is held until the response body has been read or discarded, since the connection is in use until then:
+ * a classic response's entity returns it when it is read to the end or closed, an async exchange when it completes.
+ * The latency reported to the limiter includes the transfer of the body.
+ */
+public class ConcurrencyLimitInterceptor implements ExecChainHandler, AsyncExecChainHandler {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private volatile ScheduledExecutorService timer;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        Assert.notNull(limiter, "limiter must not be null");
+        this.limiter = limiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain execChain)
+        throws IOException, HttpException {
+        RequestPriority priority = RequestPriority.of(scope.clientContext);
+        try {
+            if (!limiter.acquire(priority)) {
+                throw rejected(request);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the concurrency limit");
+        }
+        Permit permit = new Permit(priority);
+        ClassicHttpResponse response;
+        try {
+            response = execChain.proceed(request, scope);
+        } catch (InterruptedIOException e) {
+            permit.release(Outcome.DROPPED);
+            throw e;
+        } catch (IOException | HttpException | RuntimeException e) {
+            permit.release(Outcome.IGNORED);
+            throw e;
+        }
+
+        Outcome outcome = outcomeOf(response);
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            permit.release(outcome);
+        } else {
+            response.setEntity(new PermitReleasingEntity(entity, permit, outcome));
+        }
+        return response;
+    }
+
+    @Override
+    public void execute(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+                        AsyncExecChain chain, AsyncExecCallback asyncExecCallback) {
+        RequestPriority priority = RequestPriority.of(scope.clientContext);
+        AtomicBoolean started = new AtomicBoolean();
+        Cancellable wait = limiter.acquireAsync(priority, () -> {
+            started.set(true);
+            proceed(priority, request, entityProducer, scope, chain, asyncExecCallback);
+        });
+        if (wait == null) {
+            asyncExecCallback.failed(rejected(request));
+        } else if (!started.get()) {
+            timer().schedule(() -> {
+                if (wait.cancel()) {
+                    asyncExecCallback.failed(rejected(request));
+                }
+            }, limiter.getQueueTimeoutNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void proceed(RequestPriority priority, HttpRequest request, AsyncEntityProducer entityProducer,
+                         AsyncExecChain.Scope scope, AsyncExecChain chain, AsyncExecCallback asyncExecCallback) {
+        ReleasingCallback callback = new ReleasingCallback(priority, asyncExecCallback);
+        try {
+            chain.proceed(request, entityProducer, scope, callback);
+        } catch (HttpException | IOException | RuntimeException e) {
+            callback.failed(e);
+        }
+    }
+
+    private static Outcome outcomeOf(HttpResponse response) {
+        switch (response.getCode()) {
+            case HttpStatus.SC_TOO_MANY_REQUESTS:
+            case HttpStatus.SC_SERVICE_UNAVAILABLE:
+            case HttpStatus.SC_GATEWAY_TIMEOUT:
+                return Outcome.DROPPED;
+            default:
+                return Outcome.SUCCESS;
+        }
+    }
+
+    private ConcurrencyLimitExceededException rejected(HttpRequest request) {
+        return new ConcurrencyLimitExceededException("Concurrency limit of " + limiter.getLimit() + " requests reached, "
+            + request.getMethod() + " " + request.getPath() + " was rejected");
+    }
+
+    private ScheduledExecutorService timer() {
+        ScheduledExecutorService result = timer;
+        if (result == null) {
+            synchronized (this) {
+                result = timer;
+                if (result == null) {
+                    timer = result = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "okta-concurrency-limit-timer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A permit taken from the limiter, returned once together with the latency since it was taken.
+     */
+    private final class Permit {
+
+        private final RequestPriority priority;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(RequestPriority priority) {
+            this.priority = priority;
+        }
+
+        private void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(priority, System.nanoTime() - start, outcome);
+            }
+        }
+    }
+
+    /**
+     * Returns the permit of a classic request once its body has been read to the end or closed.
+     */
+    private static final class PermitReleasingEntity extends HttpEntityWrapper {
+
+        private final Permit permit;
+        private final Outcome outcome;
+
+        private PermitReleasingEntity(HttpEntity entity, Permit permit, Outcome outcome) {
+            super(entity);
+            this.permit = permit;
+            this.outcome = outcome;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            InputStream content = super.getContent();
+            if (content == null) {
+                permit.release(outcome);
+                return null;
+            }
+            return new FilterInputStream(content) {
+
+                @Override
+                public int read() throws IOException {
+                    return released(super.read());
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return released(super.read(b, off, len));
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.release(outcome);
+                    }
+                }
+
+                private int released(int read) {
+                    if (read < 0) {
+                        permit.release(outcome);
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            try {
+                super.writeTo(outStream);
+            } finally {
+                permit.release(outcome);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                permit.release(outcome);
+            }
+        }
+    }
+
+    private final class ReleasingCallback implements AsyncExecCallback {
+
+        private final Permit permit;
+        private final AsyncExecCallback delegate;
+        private volatile Outcome outcome = Outcome.IGNORED;
+
+        private ReleasingCallback(RequestPriority priority, AsyncExecCallback delegate) {
+            this.permit = new Permit(priority);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails) throws HttpException, IOException {
+            // released once the body has been consumed
+            outcome = outcomeOf(response);
+            return delegate.handleResponse(response, entityDetails);
+        }
+
+        @Override
+        public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+            delegate.handleInformationResponse(response);
+        }
+
+        @Override
+        public void completed() {
+            permit.release(outcome);
+            delegate.completed();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            permit.release(cause instanceof InterruptedIOException ? Outcome.DROPPED : Outcome.IGNORED);
+            delegate.failed(cause);
+        }
+    }
+}
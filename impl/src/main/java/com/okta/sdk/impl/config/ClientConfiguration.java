@@ -22,6 +22,8 @@ import com.okta.commons.lang.Strings;
 import com.okta.sdk.cache.CacheConfigurationBuilder;
 import com.okta.sdk.client.AuthenticationScheme;
 import com.okta.sdk.client.AuthorizationMode;
+import com.okta.sdk.client.ClientBuilder;
+import com.okta.sdk.client.MetricsRecorder;
 import com.okta.sdk.impl.api.ClientCredentialsResolver;
 
 import java.util.HashSet;
@@ -57,6 +59,17 @@ public class ClientConfiguration extends HttpClientConfiguration {
     private String kid;
     private UnaryOperator<byte[]> jwtSigner;
     private String jwtSigningAlgorithm;
+    private boolean asyncEnabled;
+    private boolean rateLimitPacingEnabled;
+    private int retryBudgetPercent = ClientBuilder.DEFAULT_RETRY_BUDGET_PERCENT;
+    private boolean concurrencyLimitEnabled;
+    private int concurrencyLimitMax = ClientBuilder.DEFAULT_CONCURRENCY_LIMIT_MAX;
+    private int concurrencyLimitQueueTimeout = ClientBuilder.DEFAULT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT;
+    private int interactiveReservePercent = ClientBuilder.DEFAULT_INTERACTIVE_RESERVE_PERCENT;
+    private boolean statelessEnabled;
+    private boolean metricsEnabled;
+    private boolean metricsJmxEnabled;
+    private MetricsRecorder metricsRecorder;
 
     public String getApiToken() {
         return apiToken;
@@ -171,6 +184,109 @@ public class ClientConfiguration extends HttpClientConfiguration {
         return jwtSigner != null && jwtSigningAlgorithm != null;
     }
 
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    public boolean isRateLimitPacingEnabled() {
+        return rateLimitPacingEnabled;
+    }
+
+    public void setRateLimitPacingEnabled(boolean rateLimitPacingEnabled) {
+        this.rateLimitPacingEnabled = rateLimitPacingEnabled;
+    }
+
+    /**
+     * Retries allowed per 100 requests across the client, {@code 0} or less if retries are not budgeted.
+     * @return the retry budget in percent
+     */
+    public int getRetryBudgetPercent() {
+        return retryBudgetPercent;
+    }
+
+    public void setRetryBudgetPercent(int retryBudgetPercent) {
+        this.retryBudgetPercent = retryBudgetPercent;
+    }
+
+    public boolean isConcurrencyLimitEnabled() {
+        return concurrencyLimitEnabled;
+    }
+
+    public void setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled) {
+        this.concurrencyLimitEnabled = concurrencyLimitEnabled;
+    }
+
+    public int getConcurrencyLimitMax() {
+        return concurrencyLimitMax;
+    }
+
+    public void setConcurrencyLimitMax(int concurrencyLimitMax) {
+        this.concurrencyLimitMax = concurrencyLimitMax;
+    }
+
+    /**
+     * Time a request over the concurrency limit waits for a slot, in seconds, {@code 0} if it is rejected right away.
+     * @return seconds to wait for a slot
+     */
+    public int getConcurrencyLimitQueueTimeout() {
+        return concurrencyLimitQueueTimeout;
+    }
+
+    public void setConcurrencyLimitQueueTimeout(int concurrencyLimitQueueTimeout) {
+        this.concurrencyLimitQueueTimeout = concurrencyLimitQueueTimeout;
+    }
+
+    /**
+     * Percentage of the concurrency limit and rate limit buckets that batch requests leave to interactive ones.
+     * @return the interactive reserve in percent
+     */
+    public int getInteractiveReservePercent() {
+        return interactiveReservePercent;
+    }
+
+    public void setInteractiveReservePercent(int interactiveReservePercent) {
+        this.interactiveReservePercent = interactiveReservePercent;
+    }
+
+    public boolean isStatelessEnabled() {
+        return statelessEnabled;
+    }
+
+    public void setStatelessEnabled(boolean statelessEnabled) {
+        this.statelessEnabled = statelessEnabled;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isMetricsJmxEnabled() {
+        return metricsJmxEnabled;
+    }
+
+    public void setMetricsJmxEnabled(boolean metricsJmxEnabled) {
+        this.metricsJmxEnabled = metricsJmxEnabled;
+    }
+
+    /**
+     * @return the recorder set with {@code ClientBuilder.setMetricsRecorder}, or {@code null} for the built-in one
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
     /**
      * Time to idle for cache manager in seconds
      * @return seconds until time to idle expires
@@ -229,6 +345,16 @@ public class ClientConfiguration extends HttpClientConfiguration {
             ", retryMaxElapsed=" + getRetryMaxElapsed() +
             ", retryMaxAttempts=" + getRetryMaxAttempts() +
             ", proxy=" + getProxy() +
+            ", asyncEnabled=" + asyncEnabled +
+            ", rateLimitPacingEnabled=" + rateLimitPacingEnabled +
+            ", retryBudgetPercent=" + retryBudgetPercent +
+            ", concurrencyLimitEnabled=" + concurrencyLimitEnabled +
+            ", concurrencyLimitMax=" + concurrencyLimitMax +
+            ", concurrencyLimitQueueTimeout=" + concurrencyLimitQueueTimeout +
+            ", interactiveReservePercent=" + interactiveReservePercent +
+            ", statelessEnabled=" + statelessEnabled +
+            ", metricsEnabled=" + metricsEnabled +
+            ", metricsJmxEnabled=" + metricsJmxEnabled +
             " }";
     }
 }
\ No newline at end of file
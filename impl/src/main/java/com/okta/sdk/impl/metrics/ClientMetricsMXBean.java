@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of a {@link DefaultMetricsRecorder}, registered as {@code com.okta.sdk:type=ClientMetrics,id=<n>}.
+ * Durations are in microseconds.
+ *
+ * @since 25.1.0
+ */
+public interface ClientMetricsMXBean {
+
+    /**
+     * @return the latency of the calls, keyed by operation id and final status, for example {@code listUsers 200}
+     */
+    Map<String, LatencySnapshot> getRequestLatencies();
+
+    /**
+     * @return the time taken to lease a connection from the pool, including opening it when needed
+     */
+    LatencySnapshot getConnectionAcquireLatency();
+
+    /**
+     * @return the latency of the OAuth 2.0 access token requests
+     */
+    LatencySnapshot getTokenRefreshLatency();
+
+    long getTokenRefreshFailureCount();
+
+    /**
+     * @return the number of retries, keyed by operation id
+     */
+    Map<String, Long> getRetryCounts();
+
+    long getBytesSent();
+
+    long getBytesReceived();
+
+    /**
+     * @return the number of cache hits, keyed by cache name
+     */
+    Map<String, Long> getCacheHits();
+
+    /**
+     * @return the number of cache misses, keyed by cache name
+     */
+    Map<String, Long> getCacheMisses();
+
+    /**
+     * @return the current value of the registered gauges, such as the connection pool statistics
+     */
+    Map<String, Long> getGauges();
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.metrics;
+
+import com.okta.sdk.client.MetricsRecorder;
+import com.okta.sdk.resource.client.ApiOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The built-in {@link MetricsRecorder}: keeps a {@link LatencyHistogram} per operation id and status, and counters for
+ * retries, bytes and cache lookups, all updated without locks. The values are read through the
+ * {@link ClientMetricsMXBean} methods, locally or over JMX once {@link #register()} is called.
+ *
+ * @since 25.1.0
+ */
+public class DefaultMetricsRecorder implements MetricsRecorder, ClientMetricsMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DefaultMetricsRecorder.class);
+
+    private static final String OBJECT_NAME_PREFIX = "com.okta.sdk:type=ClientMetrics,id=";
+    private static final AtomicInteger IDS = new AtomicInteger();
+    private static final int STATUS_CODES = 600;
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final LatencyHistogram connectionAcquireLatency = new LatencyHistogram();
+    private final LatencyHistogram tokenRefreshLatency = new LatencyHistogram();
+    private final LongAdder tokenRefreshFailures = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final Map<String, CacheCounters> caches = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName;
+
+    @Override
+    public void recordRequest(String operationId, int status, long durationNanos) {
+        operation(operationId).histogram(status).record(durationNanos);
+    }
+
+    @Override
+    public void recordConnectionAcquire(long durationNanos) {
+        connectionAcquireLatency.record(durationNanos);
+    }
+
+    @Override
+    public void recordBytesSent(String operationId, long bytes) {
+        bytesSent.add(bytes);
+    }
+
+    @Override
+    public void recordBytesReceived(String operationId, long bytes) {
+        bytesReceived.add(bytes);
+    }
+
+    @Override
+    public void recordRetry(String operationId, int status) {
+        operation(operationId).retries.increment();
+    }
+
+    @Override
+    public void recordTokenRefresh(long durationNanos, boolean success) {
+        tokenRefreshLatency.record(durationNanos);
+        if (!success) {
+            tokenRefreshFailures.increment();
+        }
+    }
+
+    @Override
+    public void recordCacheAccess(String cacheName, boolean hit) {
+        CacheCounters counters = caches.computeIfAbsent(cacheName, name -> new CacheCounters());
+        (hit ? counters.hits : counters.misses).increment();
+    }
+
+    @Override
+    public void registerGauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    @Override
+    public Map<String, LatencySnapshot> getRequestLatencies() {
+        Map<String, LatencySnapshot> result = new TreeMap<>();
+        operations.forEach((operationId, metrics) -> {
+            for (int status = 0; status < STATUS_CODES; status++) {
+                LatencyHistogram histogram = metrics.byStatus.get(status);
+                if (histogram != null) {
+                    result.put(operationId + " " + status, histogram.snapshot());
+                }
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public LatencySnapshot getConnectionAcquireLatency() {
+        return connectionAcquireLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getTokenRefreshLatency() {
+        return tokenRefreshLatency.snapshot();
+    }
+
+    @Override
+    public long getTokenRefreshFailureCount() {
+        return tokenRefreshFailures.sum();
+    }
+
+    @Override
+    public Map<String, Long> getRetryCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        operations.forEach((operationId, metrics) -> {
+            long retries = metrics.retries.sum();
+            if (retries > 0) {
+                result.put(operationId, retries);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public Map<String, Long> getCacheHits() {
+        Map<String, Long> result = new TreeMap<>();
+        caches.forEach((name, counters) -> result.put(name, counters.hits.sum()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getCacheMisses() {
+        Map<String, Long> result = new TreeMap<>();
+        caches.forEach((name, counters) -> result.put(name, counters.misses.sum()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> result = new TreeMap<>();
+        gauges.forEach((name, value) -> result.put(name, value.getAsLong()));
+        return result;
+    }
+
+    /**
+     * Registers this recorder with the platform MBean server. A failure is logged and otherwise ignored, metrics are
+     * still recorded.
+     *
+     * @return the name the recorder was registered under, or {@code null} if registration failed
+     */
+    public ObjectName register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME_PREFIX + IDS.incrementAndGet());
+            server.registerMBean(this, name);
+            objectName = name;
+            return name;
+        } catch (JMException | SecurityException e) {
+            log.warn("Could not register client metrics with JMX: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Removes this recorder from the platform MBean server, if it was registered.
+     */
+    public void unregister() {
+        ObjectName name = objectName;
+        if (name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (JMException e) {
+                log.debug("Could not unregister {}: {}", name, e.getMessage());
+            }
+            objectName = null;
+        }
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    private OperationMetrics operation(String operationId) {
+        String id = operationId != null ? operationId : ApiOperation.UNKNOWN_ID;
+        OperationMetrics metrics = operations.get(id);
+        return metrics != null ? metrics : operations.computeIfAbsent(id, key -> new OperationMetrics());
+    }
+
+    private static final class OperationMetrics {
+
+        // indexed by status code, 0 for calls that failed without a response
+        private final AtomicReferenceArray<LatencyHistogram> byStatus = new AtomicReferenceArray<>(STATUS_CODES);
+        private final LongAdder retries = new LongAdder();
+
+        private LatencyHistogram histogram(int status) {
+            int index = status > 0 && status < STATUS_CODES ? status : 0;
+            LatencyHistogram histogram = byStatus.get(index);
+            if (histogram == null) {
+                byStatus.compareAndSet(index, null, new LatencyHistogram());
+                histogram = byStatus.get(index);
+            }
+            return histogram;
+        }
+    }
+
+    private static final class CacheCounters {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.metrics;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.client.MetricsRecorder;
+import com.okta.sdk.resource.client.ApiOperation;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Interceptor that reports the latency, final status and body sizes of each call to a {@link MetricsRecorder}, keyed
+ * by the operation id stored in the call's context. Registered first in the chain, so that the latency covers
+ * redirects, retries and their delays, up to the response headers of the final attempt. The same instance can be
+ * registered on both the classic and the async HTTP client.
+ * <p>
+ * {@link #connectionAcquireStart()} and {@link #connectionAcquireEnd()} are two further handlers, registered right
+ * before and after the connection step, that time the connection lease of every attempt.
+ */
+public class MetricsInterceptor implements ExecChainHandler, AsyncExecChainHandler {
+
+    private static final String LEASE_START_ATTRIBUTE = MetricsInterceptor.class.getName() + ".leaseStart";
+
+    private final MetricsRecorder recorder;
+
+    public MetricsInterceptor(MetricsRecorder recorder) {
+        Assert.notNull(recorder, "recorder must not be null");
+        this.recorder = recorder;
+    }
+
+    public MetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain execChain)
+        throws IOException, HttpException {
+        String operationId = operationId(scope.clientContext);
+        // the chain works on a copy of the caller's request, wrapping its entity does not leak out
+        if (request.getEntity() != null) {
+            request.setEntity(new CountingRequestEntity(request.getEntity(), operationId));
+        }
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            ClassicHttpResponse response = execChain.proceed(request, scope);
+            status = response.getCode();
+            if (response.getEntity() != null) {
+                response.setEntity(new CountingResponseEntity(response.getEntity(), operationId));
+            }
+            return response;
+        } finally {
+            recorder.recordRequest(operationId, status, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void execute(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+                        AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+        String operationId = operationId(scope.clientContext);
+        if (entityProducer != null && entityProducer.getContentLength() > 0) {
+            recorder.recordBytesSent(operationId, entityProducer.getContentLength());
+        }
+        chain.proceed(request, entityProducer, scope, new RecordingCallback(operationId, asyncExecCallback));
+    }
+
+    /**
+     * @return the handler to register right before the connection step
+     */
+    public ConnectionAcquireHandler connectionAcquireStart() {
+        return new ConnectionAcquireHandler(true);
+    }
+
+    /**
+     * @return the handler to register right after the connection step
+     */
+    public ConnectionAcquireHandler connectionAcquireEnd() {
+        return new ConnectionAcquireHandler(false);
+    }
+
+    private static String operationId(HttpContext context) {
+        Object operationId = context != null ? context.getAttribute(ApiOperation.CONTEXT_ATTRIBUTE) : null;
+        return operationId instanceof String ? (String) operationId : ApiOperation.UNKNOWN_ID;
+    }
+
+    /**
+     * Marks the start of the connection lease in the context, or records its duration from that mark.
+     */
+    public final class ConnectionAcquireHandler implements ExecChainHandler, AsyncExecChainHandler {
+
+        private final boolean start;
+
+        private ConnectionAcquireHandler(boolean start) {
+            this.start = start;
+        }
+
+        @Override
+        public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain execChain)
+            throws IOException, HttpException {
+            mark(scope.clientContext);
+            return execChain.proceed(request, scope);
+        }
+
+        @Override
+        public void execute(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+                            AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+            mark(scope.clientContext);
+            chain.proceed(request, entityProducer, scope, asyncExecCallback);
+        }
+
+        private void mark(HttpContext context) {
+            if (start) {
+                context.setAttribute(LEASE_START_ATTRIBUTE, System.nanoTime());
+            } else {
+                Object leaseStart = context.removeAttribute(LEASE_START_ATTRIBUTE);
+                if (leaseStart instanceof Long) {
+                    recorder.recordConnectionAcquire(System.nanoTime() - (Long) leaseStart);
+                }
+            }
+        }
+    }
+
+    private final class CountingRequestEntity extends HttpEntityWrapper {
+
+        private final String operationId;
+
+        private CountingRequestEntity(HttpEntity entity, String operationId) {
+            super(entity);
+            this.operationId = operationId;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            CountingOutputStream counting = new CountingOutputStream(out);
+            try {
+                super.writeTo(counting);
+            } finally {
+                recorder.recordBytesSent(operationId, counting.count);
+            }
+        }
+    }
+
+    private final class CountingResponseEntity extends HttpEntityWrapper {
+
+        private final String operationId;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private CountingResponseEntity(HttpEntity entity, String operationId) {
+            super(entity);
+            this.operationId = operationId;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new CountingInputStream(super.getContent(), this);
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            CountingOutputStream counting = new CountingOutputStream(out);
+            try {
+                super.writeTo(counting);
+            } finally {
+                record(counting.count);
+            }
+        }
+
+        private void record(long bytes) {
+            if (recorded.compareAndSet(false, true)) {
+                recorder.recordBytesReceived(operationId, bytes);
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Counts the bytes read and reports them when the body is fully read or the stream is closed.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final CountingResponseEntity entity;
+        private long count;
+
+        private CountingInputStream(InputStream in, CountingResponseEntity entity) {
+            super(in);
+            this.entity = entity;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                count++;
+            } else {
+                entity.record(count);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            } else if (n < 0) {
+                entity.record(count);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            entity.record(count);
+            super.close();
+        }
+    }
+
+    private final class RecordingCallback implements AsyncExecCallback {
+
+        private final String operationId;
+        private final AsyncExecCallback delegate;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private RecordingCallback(String operationId, AsyncExecCallback delegate) {
+            this.operationId = operationId;
+            this.delegate = delegate;
+        }
+
+        private void record(int status) {
+            if (recorded.compareAndSet(false, true)) {
+                recorder.recordRequest(operationId, status, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails) throws HttpException, IOException {
+            record(response.getCode());
+            AsyncDataConsumer consumer = delegate.handleResponse(response, entityDetails);
+            return consumer != null ? new CountingDataConsumer(operationId, consumer) : null;
+        }
+
+        @Override
+        public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+            delegate.handleInformationResponse(response);
+        }
+
+        @Override
+        public void completed() {
+            delegate.completed();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            record(0);
+            delegate.failed(cause);
+        }
+    }
+
+    private final class CountingDataConsumer implements AsyncDataConsumer {
+
+        private final String operationId;
+        private final AsyncDataConsumer delegate;
+        private long count;
+
+        private CountingDataConsumer(String operationId, AsyncDataConsumer delegate) {
+            this.operationId = operationId;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            delegate.updateCapacity(capacityChannel);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            count += src.remaining();
+            delegate.consume(src);
+        }
+
+        @Override
+        public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException {
+            recorder.recordBytesReceived(operationId, count);
+            delegate.streamEnd(trailers);
+        }
+
+        @Override
+        public void releaseResources() {
+            delegate.releaseResources();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.okta.commons.lang.Assert;
 import com.okta.commons.lang.Strings;
 import com.okta.sdk.client.AuthenticationScheme;
 import com.okta.sdk.client.AuthorizationMode;
+import com.okta.sdk.client.MetricsRecorder;
 import com.okta.sdk.impl.api.DefaultClientCredentialsResolver;
 import com.okta.sdk.impl.config.ClientConfiguration;
 import com.okta.sdk.impl.util.ConfigUtil;
@@ -109,6 +110,7 @@ public class AccessTokenRetrieverServiceImpl implements AccessTokenRetrieverServ
     private final ClientConfiguration tokenClientConfiguration;
     private final ApiClient apiClient;
     private final CustomJwtSigningAlgorithm customJwtSigningAlgorithm = new CustomJwtSigningAlgorithm();
+    private volatile MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
 
     public AccessTokenRetrieverServiceImpl(ClientConfiguration apiClientConfiguration, ApiClient apiClient) {
         Assert.notNull(apiClientConfiguration, "apiClientConfiguration must not be null.");
@@ -117,11 +119,33 @@ public class AccessTokenRetrieverServiceImpl implements AccessTokenRetrieverServ
         this.tokenClientConfiguration = constructTokenClientConfig(apiClientConfiguration);
     }
 
+    /**
+     * Sets the recorder that the duration and outcome of the token requests are reported to.
+     *
+     * @param metricsRecorder the recorder, {@code null} for none
+     * @since 25.1.0
+     */
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder != null ? metricsRecorder : MetricsRecorder.NOOP;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public OAuth2AccessToken getOAuth2AccessToken() throws IOException, InvalidKeyException, OAuth2TokenRetrieverException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            OAuth2AccessToken token = requestOAuth2AccessToken();
+            success = true;
+            return token;
+        } finally {
+            metricsRecorder.recordTokenRefresh(System.nanoTime() - start, success);
+        }
+    }
+
+    private OAuth2AccessToken requestOAuth2AccessToken() throws IOException, InvalidKeyException, OAuth2TokenRetrieverException {
         log.debug("Attempting to get OAuth2 access token for client id {} from {}",
             tokenClientConfiguration.getClientId(), tokenClientConfiguration.getBaseUrl() + TOKEN_URI);
 
@@ -158,7 +182,7 @@ public class AccessTokenRetrieverServiceImpl implements AccessTokenRetrieverServ
             return oAuth2AccessToken;
         } catch (DPoPHandshakeException e) {
             if (e.continueHandshake) {
-                return getOAuth2AccessToken();
+                return requestOAuth2AccessToken();
             }
             throw new OAuth2HttpException(e.getMessage(), e, false);
         } catch (ApiException e) {
@@ -27,6 +27,9 @@ import java.util.Date;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
 import org.apache.hc.client5.http.classic.ExecChain;
 import org.apache.hc.client5.http.classic.ExecChainHandler;
 import org.apache.hc.core5.http.ClassicHttpRequest;
@@ -34,6 +37,7 @@ import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,10 +54,12 @@ import io.jsonwebtoken.security.PrivateJwk;
 /**
  * Interceptor that handle DPoP handshake during auth and adds DPoP header to regular requests.
  * It is always enabled, but is only active when a DPoP error is received during auth.
+ * The same instance can be registered on both the classic and the async HTTP client, so that requests sent
+ * by the async client reuse the key and nonce negotiated by the token requests of the classic client.
  *
  * @see <a href="https://developer.okta.com/docs/guides/dpop/oktaresourceserver/main/">documentation</a>
  */
-public class DPoPInterceptor implements ExecChainHandler {
+public class DPoPInterceptor implements ExecChainHandler, AsyncExecChainHandler {
 
     private static final Logger log = LoggerFactory.getLogger(DPoPInterceptor.class);
 
@@ -111,6 +117,20 @@ public class DPoPInterceptor implements ExecChainHandler {
         return response;
     }
 
+    @Override
+    public void execute(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+                        AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+        // token requests are always sent by the classic client, so the handshake never happens here
+        if (nonce != null && nonceValidUntil.isBefore(Instant.now())) {
+            log.info("DPoP nonce expired on API request, triggering token refresh");
+            throw new DPoPNonceExpiredException();
+        }
+        if (jwk != null) {
+            processRequest(request, false);
+        }
+        chain.proceed(request, entityProducer, scope, asyncExecCallback);
+    }
+
     private void processRequest(HttpRequest request, boolean tokenRequest) {
         JwtBuilder builder = Jwts.builder()
             .header()
@@ -23,15 +23,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.security.InvalidKeyException;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This implementation represents client credentials specific to OAuth2 Authentication scheme.
+ * <p>
+ * The current access token is published through volatile fields and read without locking. A refresh is scheduled
+ * on a background timer ahead of the token's expiry, and concurrent refresh attempts are coalesced into a single
+ * in-flight token request. Callers only block when no valid token is available at all.
+ * <p>
+ * The timer only holds the credentials weakly: once the client using them is no longer reachable, its pending
+ * refresh does nothing and no further token is requested.
  *
  * @since 1.6.0
  */
@@ -39,60 +54,192 @@ public class OAuth2ClientCredentials extends OAuth implements ClientCredentials<
 
     private static final Logger log = LoggerFactory.getLogger(OAuth2ClientCredentials.class);
 
-    private OAuth2AccessToken oAuth2AccessToken;
+    // start refreshing this long before the token expires
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+    // delay before retrying a failed background refresh, as long as the current token stays valid
+    private static final Duration REFRESH_RETRY_DELAY = Duration.ofSeconds(10);
+
+    private volatile OAuth2AccessToken oAuth2AccessToken;
+    private volatile String accessToken;
     private final AccessTokenRetrieverService accessTokenRetrieverService;
-    
-    // Flag to prevent recursive refresh attempts during token retrieval
-    private volatile boolean isRefreshing = false;
+
+    // single-flight refresh: all callers needing a token while a refresh is running share this future
+    private final AtomicReference<CompletableFuture<OAuth2AccessToken>> inFlightRefresh = new AtomicReference<>();
+    // thread currently performing the token request, its own (recursive) applyToParams call must not wait on itself
+    private volatile Thread refreshingThread;
+
+    private final ScheduledExecutorService refreshExecutor;
+    private ScheduledFuture<?> scheduledRefresh;
 
     public OAuth2ClientCredentials(AccessTokenRetrieverService accessTokenRetrieverService) {
+        this(accessTokenRetrieverService, SharedRefreshExecutor.INSTANCE);
+    }
+
+    public OAuth2ClientCredentials(AccessTokenRetrieverService accessTokenRetrieverService, ScheduledExecutorService refreshExecutor) {
         Assert.notNull(accessTokenRetrieverService, "accessTokenRetrieverService must not be null");
+        Assert.notNull(refreshExecutor, "refreshExecutor must not be null");
         this.accessTokenRetrieverService = accessTokenRetrieverService;
+        this.refreshExecutor = refreshExecutor;
     }
 
     @Override
-    public synchronized void applyToParams(List<Pair> queryParams, Map<String, String> headerParams, Map<String, String> cookieParams) {
-        // Skip refresh check if we're already in the middle of refreshing (prevents recursive calls)
-        if (!isRefreshing) {
-            // Determine if token refresh is needed:
-            // 1. Token exists but is about to expire (within 5 minutes) - original behavior
-            // 2. Token is null but was previously set (stuck state after failed refresh) - fix for GFS customer issue
-            boolean tokenExpiring = oAuth2AccessToken != null && 
-                oAuth2AccessToken.getExpiresAt().minus(5, ChronoUnit.MINUTES).isBefore(Instant.now());
-            boolean tokenMissingButWasSet = oAuth2AccessToken == null && getAccessToken() == null;
-            
-            if (tokenExpiring || tokenMissingButWasSet) {
-                // Clear existing token state before refresh attempt
-                oAuth2AccessToken = null;
-                setAccessToken(null);
-                
-                try {
-                    refreshOAuth2AccessToken();
-                } catch (Exception e) {
-                    log.error("Failed to refresh OAuth2 access token. Will retry on next API call.", e);
-                    // Don't rethrow - let the API call proceed and fail with 401/403
-                    // The next API call will trigger another refresh attempt
-                }
+    public void applyToParams(List<Pair> queryParams, Map<String, String> headerParams, Map<String, String> cookieParams) {
+        // the token request itself is sent through the ApiClient, it must neither trigger another refresh
+        // nor carry the (possibly stale) bearer token
+        if (refreshingThread == Thread.currentThread()) {
+            return;
+        }
+
+        OAuth2AccessToken currentToken = oAuth2AccessToken;
+        String currentAccessToken = accessToken;
+
+        if (currentAccessToken != null && (currentToken == null || !currentToken.hasExpired())) {
+            // valid token, refresh in the background if the scheduled refresh did not run in time
+            if (currentToken != null && !Instant.now().isBefore(refreshDueAt(currentToken))) {
+                refreshInBackground();
+            }
+        } else {
+            // no valid token at all: wait for the (shared) refresh
+            try {
+                currentAccessToken = refresh().join().getAccessToken();
+            } catch (CompletionException e) {
+                log.error("Failed to refresh OAuth2 access token. Will retry on next API call.", e.getCause());
+                // Don't rethrow - let the API call proceed and fail with 401/403
+                // The next API call will trigger another refresh attempt
+                currentAccessToken = null;
             }
         }
-        super.applyToParams(queryParams, headerParams, cookieParams);
+
+        if (currentAccessToken != null) {
+            headerParams.put("Authorization", "Bearer " + currentAccessToken);
+        }
     }
 
+    /**
+     * Retrieves a new access token, blocking until it is available. If a refresh is already in flight the
+     * caller waits for that one instead of issuing another token request.
+     *
+     * @throws OAuth2TokenRetrieverException if the token could not be retrieved
+     */
     public void refreshOAuth2AccessToken() {
+        try {
+            refresh().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OAuth2TokenRetrieverException("Failed to get OAuth2 access token", e.getCause());
+        }
+    }
+
+    /**
+     * Joins the in-flight refresh, or performs one on the calling thread when none is running.
+     */
+    private CompletableFuture<OAuth2AccessToken> refresh() {
+        while (true) {
+            CompletableFuture<OAuth2AccessToken> inFlight = inFlightRefresh.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+            CompletableFuture<OAuth2AccessToken> refresh = new CompletableFuture<>();
+            if (inFlightRefresh.compareAndSet(null, refresh)) {
+                doRefresh(refresh);
+                return refresh;
+            }
+        }
+    }
+
+    private void refreshInBackground() {
+        CompletableFuture<OAuth2AccessToken> refresh = new CompletableFuture<>();
+        if (inFlightRefresh.compareAndSet(null, refresh)) {
+            try {
+                refreshExecutor.execute(() -> doRefresh(refresh));
+            } catch (RuntimeException e) {
+                // executor shut down, the next caller without a valid token refreshes on its own thread
+                inFlightRefresh.compareAndSet(refresh, null);
+                refresh.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void doRefresh(CompletableFuture<OAuth2AccessToken> refresh) {
         log.debug("Attempting to refresh OAuth2 access token...");
 
-        isRefreshing = true;
+        refreshingThread = Thread.currentThread();
         try {
-            oAuth2AccessToken = accessTokenRetrieverService.getOAuth2AccessToken();
-            
-            if (oAuth2AccessToken == null) {
+            OAuth2AccessToken token = accessTokenRetrieverService.getOAuth2AccessToken();
+
+            if (token == null) {
                 throw new OAuth2TokenRetrieverException("Failed to get OAuth2 access token");
             }
+
+            accessToken = token.getAccessToken();
+            oAuth2AccessToken = token;
+            scheduleRefresh(refreshDueAt(token));
+            refresh.complete(token);
         } catch (IOException | InvalidKeyException e) {
-            throw new OAuth2TokenRetrieverException("Failed to get OAuth2 access token", e);
+            failRefresh(refresh, new OAuth2TokenRetrieverException("Failed to get OAuth2 access token", e));
+        } catch (RuntimeException e) {
+            failRefresh(refresh, e);
         } finally {
-            isRefreshing = false;
+            refreshingThread = null;
+            inFlightRefresh.compareAndSet(refresh, null);
+        }
+    }
+
+    private void failRefresh(CompletableFuture<OAuth2AccessToken> refresh, RuntimeException e) {
+        OAuth2AccessToken currentToken = oAuth2AccessToken;
+        if (currentToken != null && !currentToken.hasExpired()) {
+            log.warn("Failed to refresh OAuth2 access token ahead of expiry, will retry in {}", REFRESH_RETRY_DELAY, e);
+            scheduleRefresh(Instant.now().plus(REFRESH_RETRY_DELAY));
         }
+        refresh.completeExceptionally(e);
+    }
+
+    private synchronized void scheduleRefresh(Instant dueAt) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        long delayMillis = Math.max(0, Duration.between(Instant.now(), dueAt).toMillis());
+        try {
+            scheduledRefresh = refreshExecutor.schedule(refreshTask(new WeakReference<>(this)), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // executor shut down, refreshes fall back to the request path
+            scheduledRefresh = null;
+        }
+    }
+
+    /**
+     * The scheduled refresh must not keep the credentials, and with them the client, reachable.
+     */
+    private static Runnable refreshTask(WeakReference<OAuth2ClientCredentials> credentials) {
+        return () -> {
+            OAuth2ClientCredentials current = credentials.get();
+            if (current != null) {
+                current.refreshInBackground();
+            }
+        };
+    }
+
+    /**
+     * Refresh is due {@link #REFRESH_AHEAD} before expiry, but never before half of the token's lifetime has passed
+     * so that short-lived tokens are not refreshed continuously.
+     */
+    private static Instant refreshDueAt(OAuth2AccessToken token) {
+        Instant expiresAt = token.getExpiresAt();
+        Instant halfLife = token.getIssuedAt().plus(Duration.between(token.getIssuedAt(), expiresAt).dividedBy(2));
+        Instant refreshAhead = expiresAt.minus(REFRESH_AHEAD);
+        return refreshAhead.isAfter(halfLife) ? refreshAhead : halfLife;
+    }
+
+    @Override
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    @Override
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
     }
 
     public OAuth2AccessToken getCredentials() {
@@ -108,4 +255,23 @@ public class OAuth2ClientCredentials extends OAuth implements ClientCredentials<
         // never ever print the secret
         return "<OAuth2ClientCredentials>";
     }
+
+    /**
+     * One daemon timer shared by all credentials created without their own executor.
+     */
+    private static final class SharedRefreshExecutor {
+
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "okta-oauth2-token-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // a replaced refresh does not stay queued until its original due time
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
 }
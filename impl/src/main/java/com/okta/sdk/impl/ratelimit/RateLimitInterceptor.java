@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.ratelimit;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.client.RequestPriority;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor that paces requests according to a {@link RateLimitScheduler} and feeds it the rate limit headers
+ * of every response. Classic requests wait on the calling thread; async requests are delayed on a timer so that
+ * no I/O thread is blocked. The same instance can be registered on both the classic and the async HTTP client.
+ */
+public class RateLimitInterceptor implements ExecChainHandler, AsyncExecChainHandler {
+
+    private final RateLimitScheduler scheduler;
+    private volatile ScheduledExecutorService timer;
+
+    public RateLimitInterceptor(RateLimitScheduler scheduler) {
+        Assert.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+    }
+
+    public RateLimitScheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain execChain)
+        throws IOException, HttpException {
+        String path = request.getPath();
+        long delay = scheduler.reserve(path, RequestPriority.of(scope.clientContext));
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the rate limit of " + RateLimitScheduler.bucketOf(path));
+            } finally {
+                scheduler.waited(path);
+            }
+        }
+        ClassicHttpResponse response = execChain.proceed(request, scope);
+        scheduler.update(path, response);
+        return response;
+    }
+
+    @Override
+    public void execute(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+                        AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+        String path = request.getPath();
+        AsyncExecCallback callback = new UpdatingCallback(path, asyncExecCallback);
+        long delay = scheduler.reserve(path, RequestPriority.of(scope.clientContext));
+        if (delay <= 0) {
+            chain.proceed(request, entityProducer, scope, callback);
+            return;
+        }
+        timer().schedule(() -> {
+            scheduler.waited(path);
+            try {
+                chain.proceed(request, entityProducer, scope, callback);
+            } catch (HttpException | IOException | RuntimeException e) {
+                callback.failed(e);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private ScheduledExecutorService timer() {
+        ScheduledExecutorService result = timer;
+        if (result == null) {
+            synchronized (this) {
+                result = timer;
+                if (result == null) {
+                    timer = result = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "okta-rate-limit-scheduler");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return result;
+    }
+
+    private final class UpdatingCallback implements AsyncExecCallback {
+
+        private final String path;
+        private final AsyncExecCallback delegate;
+
+        private UpdatingCallback(String path, AsyncExecCallback delegate) {
+            this.path = path;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails) throws HttpException, IOException {
+            scheduler.update(path, response);
+            return delegate.handleResponse(response, entityDetails);
+        }
+
+        @Override
+        public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+            delegate.handleInformationResponse(response);
+        }
+
+        @Override
+        public void completed() {
+            delegate.completed();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            delegate.failed(cause);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.ratelimit;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.client.RateLimitBucket;
+import com.okta.sdk.client.RateLimitStatus;
+import com.okta.sdk.client.RequestPriority;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tracks the {@code x-rate-limit-*} headers per endpoint bucket and decides how long a request has to wait
+ * before it is sent.
+ * <p>
+ * Every request reserves a slot in its bucket. While plenty of requests remain it is sent right away; once the
+ * remaining requests drop below {@code paceBelow} of the limit, the rest are spread evenly over the remainder of
+ * the window; once the bucket is exhausted, requests are queued into the next window. Buckets are only known
+ * after their first response, requests to unknown buckets are never delayed.
+ * <p>
+ * Endpoints that share a bucket may still have their own counters on the server, which shows as a different
+ * {@code x-rate-limit-limit}. A bucket follows the limit of the window it is tracking and ignores the headers of
+ * other limits until that window is over.
+ * <p>
+ * {@link RequestPriority#BATCH} requests leave {@code interactiveReserve} of each bucket's limit to interactive
+ * requests: they are paced and queued as if the bucket ended there. Each lane is paced on its own, so interactive
+ * requests are not queued behind paced batch requests.
+ */
+public class RateLimitScheduler implements RateLimitStatus {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitScheduler.class);
+
+    static final String LIMIT_HEADER = "x-rate-limit-limit";
+    static final String REMAINING_HEADER = "x-rate-limit-remaining";
+    static final String RESET_HEADER = "x-rate-limit-reset";
+
+    // Okta rate limit windows are one minute long
+    private static final long WINDOW_MILLIS = 60_000;
+    // safety margin after a reset, same as the one used when retrying a 429
+    private static final long RESET_BUFFER_MILLIS = 1000;
+    // the local estimate of the reset time is only accurate to the second
+    private static final long SAME_WINDOW_TOLERANCE_MILLIS = 1000;
+    private static final double DEFAULT_PACE_BELOW = 0.1;
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final double paceBelow;
+    private final double interactiveReserve;
+    private final Clock clock;
+
+    public RateLimitScheduler() {
+        this(0);
+    }
+
+    public RateLimitScheduler(double interactiveReserve) {
+        this(DEFAULT_PACE_BELOW, interactiveReserve, Clock.systemUTC());
+    }
+
+    public RateLimitScheduler(double paceBelow, Clock clock) {
+        this(paceBelow, 0, clock);
+    }
+
+    public RateLimitScheduler(double paceBelow, double interactiveReserve, Clock clock) {
+        Assert.isTrue(paceBelow >= 0 && paceBelow <= 1, "paceBelow must be between 0 and 1");
+        Assert.isTrue(interactiveReserve >= 0 && interactiveReserve < 1, "interactiveReserve must be >= 0 and < 1");
+        Assert.notNull(clock, "clock must not be null");
+        this.paceBelow = paceBelow;
+        this.interactiveReserve = interactiveReserve;
+        this.clock = clock;
+    }
+
+    /**
+     * Maps a request path to its bucket: the first three path segments, e.g. {@code /api/v1/users/00u1?limit=2}
+     * belongs to {@code /api/v1/users}.
+     */
+    public static String bucketOf(String path) {
+        int end = path.length();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int segments = 0;
+        for (int i = 0; i < end; i++) {
+            if (path.charAt(i) == '/' && i > 0 && ++segments == 3) {
+                return path.substring(0, i);
+            }
+        }
+        return path.substring(0, end);
+    }
+
+    /**
+     * Reserves a slot for an interactive request to {@code path}.
+     *
+     * @return milliseconds the request has to wait before it is sent, {@code 0} to send it right away
+     */
+    public long reserve(String path) {
+        return reserve(path, RequestPriority.INTERACTIVE);
+    }
+
+    /**
+     * Reserves a slot for a request to {@code path} in the lane of {@code priority}.
+     *
+     * @return milliseconds the request has to wait before it is sent, {@code 0} to send it right away
+     */
+    public long reserve(String path, RequestPriority priority) {
+        Bucket bucket = buckets.get(bucketOf(path));
+        return bucket != null ? bucket.reserve(clock.millis(), priority == RequestPriority.BATCH) : 0;
+    }
+
+    /**
+     * Marks a request that had to wait as sent, see {@link RateLimitBucket#getWaiting()}.
+     */
+    public void waited(String path) {
+        Bucket bucket = buckets.get(bucketOf(path));
+        if (bucket != null) {
+            bucket.waited();
+        }
+    }
+
+    /**
+     * Updates the bucket of {@code path} from the rate limit headers of {@code response}, responses without them
+     * are ignored.
+     */
+    public void update(String path, HttpResponse response) {
+        Header limitHeader = response.getFirstHeader(LIMIT_HEADER);
+        Header remainingHeader = response.getFirstHeader(REMAINING_HEADER);
+        Header resetHeader = response.getFirstHeader(RESET_HEADER);
+        if (limitHeader == null || remainingHeader == null || resetHeader == null) {
+            return;
+        }
+
+        int limit;
+        int remaining;
+        long resetEpochMillis;
+        try {
+            limit = Integer.parseInt(limitHeader.getValue().trim());
+            remaining = Integer.parseInt(remainingHeader.getValue().trim());
+            resetEpochMillis = Long.parseLong(resetHeader.getValue().trim()) * 1000L;
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed rate limit headers: {}", e.getMessage());
+            return;
+        }
+
+        long now = clock.millis();
+        // the reset header is in server time, shift it by the server's clock offset when the Date header allows
+        Long serverNow = serverTime(response);
+        long resetAt = serverNow != null ? now + (resetEpochMillis - serverNow) : resetEpochMillis;
+        if (response.getCode() == HttpStatus.SC_TOO_MANY_REQUESTS) {
+            remaining = 0;
+        }
+
+        buckets.computeIfAbsent(bucketOf(path), Bucket::new).update(limit, remaining, resetAt, now);
+    }
+
+    @Override
+    public Map<String, RateLimitBucket> getBuckets() {
+        Map<String, RateLimitBucket> snapshot = new TreeMap<>();
+        buckets.forEach((name, bucket) -> snapshot.put(name, bucket.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private static Long serverTime(HttpResponse response) {
+        Header date = response.getFirstHeader("Date");
+        if (date == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(date.getValue(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private final class Bucket {
+
+        private final String name;
+
+        // all guarded by this
+        private int limit;
+        private int remaining;
+        private long resetAt;
+        // earliest time the next paced or queued request of each lane may be sent
+        private long nextSendAt;
+        private long nextBatchSendAt;
+        // requests queued into the window after resetAt
+        private int borrowed;
+        private int waiting;
+
+        private Bucket(String name) {
+            this.name = name;
+        }
+
+        private synchronized long reserve(long now, boolean batch) {
+            if (now >= resetAt) {
+                // the window is over, assume a fresh one until the next response tells otherwise
+                remaining = Math.max(0, limit - borrowed);
+                resetAt = now + WINDOW_MILLIS;
+                borrowed = 0;
+            }
+
+            // batch requests see the bucket without the interactive reserve
+            int reserved = batch ? (int) Math.ceil(limit * interactiveReserve) : 0;
+            long next = batch ? nextBatchSendAt : nextSendAt;
+            long sendAt;
+            if (remaining > reserved) {
+                remaining--;
+                if (remaining - reserved >= limit * paceBelow) {
+                    return 0;
+                }
+                // running low: spread the remaining requests over the rest of the window
+                long spacing = (resetAt - now) / (remaining - reserved + 1);
+                sendAt = Math.max(now, next);
+                next = sendAt + spacing;
+            } else {
+                // exhausted: queue into the next window, paced so the queue does not burst at the reset
+                borrowed++;
+                sendAt = Math.max(resetAt + RESET_BUFFER_MILLIS, next);
+                next = sendAt + WINDOW_MILLIS / Math.max(1, limit - reserved);
+            }
+            if (batch) {
+                nextBatchSendAt = next;
+            } else {
+                nextSendAt = next;
+            }
+
+            long delay = sendAt - now;
+            if (delay > 0) {
+                waiting++;
+                log.debug("Rate limit bucket {} is low ({} of {} remaining), delaying request by {} ms", name, remaining, limit, delay);
+            }
+            return delay;
+        }
+
+        private synchronized void waited() {
+            if (waiting > 0) {
+                waiting--;
+            }
+        }
+
+        private synchronized void update(int limit, int remaining, long resetAt, long now) {
+            if (limit != this.limit && now < this.resetAt) {
+                // a different server counter, merging its remaining count would throttle the wrong endpoint
+                log.debug("Ignoring rate limit headers with limit {} for bucket {} tracking limit {}", limit, name, this.limit);
+                return;
+            }
+            this.limit = limit;
+            if (Math.abs(resetAt - this.resetAt) <= SAME_WINDOW_TOLERANCE_MILLIS) {
+                // same window, responses may arrive out of order: the lowest count is the most recent
+                this.remaining = Math.min(this.remaining, remaining);
+            } else if (resetAt > this.resetAt) {
+                this.remaining = Math.max(0, remaining - borrowed);
+                this.resetAt = resetAt;
+                this.borrowed = 0;
+            }
+            // otherwise a late response from a previous window, ignore it
+        }
+
+        private synchronized RateLimitBucket snapshot() {
+            return new RateLimitBucket(name, limit, remaining, Instant.ofEpochMilli(resetAt), waiting);
+        }
+    }
+}
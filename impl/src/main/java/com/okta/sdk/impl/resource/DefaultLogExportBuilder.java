@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.resource;
+
+import com.okta.commons.lang.Assert;
+import com.okta.sdk.resource.api.SystemLogApi;
+import com.okta.sdk.resource.client.PagedIterable;
+import com.okta.sdk.resource.log.LogExportBuilder;
+import com.okta.sdk.resource.log.LogSlice;
+import com.okta.sdk.resource.log.LogSliceConsumer;
+import com.okta.sdk.resource.model.LogEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parallel, time-sliced System Log export.
+ * <p>
+ * Each slice is paginated with {@link SystemLogApi#listLogEventsPaged} on a worker pool of
+ * {@code maxConcurrency} threads that is shared by all slices of one export. Pending slices are served earliest
+ * first. For {@link #stream(SystemLogApi)} a slice pauses once it buffered a few pages ahead of the consumer and
+ * is resumed when the consumer catches up, so workers never block and memory stays bounded.
+ */
+public class DefaultLogExportBuilder implements LogExportBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(DefaultLogExportBuilder.class);
+
+    private static final String SORT_ORDER = "ASCENDING";
+    // pages a slice may buffer ahead of an ordered consumer before it pauses
+    private static final int MAX_BUFFERED_PAGES = 4;
+    private static final Object END = new Object();
+    private static final AtomicInteger EXPORT_COUNT = new AtomicInteger();
+
+    private OffsetDateTime since;
+    private OffsetDateTime until;
+    private String filter;
+    private String q;
+    private int slices = 4;
+    private int maxConcurrency = 4;
+    private int pageSize = 1000;
+    private int denseSliceThreshold = 10;
+    private Duration minSliceDuration = Duration.ofSeconds(1);
+
+    @Override
+    public LogExportBuilder setSince(OffsetDateTime since) {
+        this.since = since;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setUntil(OffsetDateTime until) {
+        this.until = until;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setFilter(String filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setQuery(String q) {
+        this.q = q;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setSlices(int slices) {
+        Assert.isTrue(slices > 0, "slices must be greater than 0");
+        this.slices = slices;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setMaxConcurrency(int maxConcurrency) {
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setPageSize(int pageSize) {
+        Assert.isTrue(pageSize > 0, "pageSize must be greater than 0");
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setDenseSliceThreshold(int pages) {
+        Assert.isTrue(pages > 0, "denseSliceThreshold must be greater than 0");
+        this.denseSliceThreshold = pages;
+        return this;
+    }
+
+    @Override
+    public LogExportBuilder setMinSliceDuration(Duration minSliceDuration) {
+        Assert.isTrue(minSliceDuration != null && minSliceDuration.toMillis() > 0, "minSliceDuration must be at least one millisecond");
+        this.minSliceDuration = minSliceDuration;
+        return this;
+    }
+
+    @Override
+    public Stream<LogEvent> stream(SystemLogApi client) {
+        Export export = new Export(client, null);
+        export.start();
+        Iterator<LogEvent> iterator = export.new OrderedIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(export::shutdown);
+    }
+
+    @Override
+    public void forEachSlice(SystemLogApi client, LogSliceConsumer consumer) {
+        Assert.notNull(consumer, "consumer must not be null");
+        Export export = new Export(client, consumer);
+        try {
+            export.start();
+            export.await();
+        } finally {
+            export.shutdown();
+        }
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException("Failed to export System Log events", e);
+    }
+
+    private static String format(Instant instant) {
+        return DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+
+    /**
+     * Marks a slice that was split: its remaining events are produced by {@code children}.
+     */
+    private static final class Split {
+        private final List<?> children;
+
+        private Split(List<?> children) {
+            this.children = children;
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * A single run of the builder, configuration is captured when it is created.
+     */
+    private final class Export {
+
+        private final SystemLogApi client;
+        private final LogSliceConsumer consumer;
+        private final String filter = DefaultLogExportBuilder.this.filter;
+        private final String q = DefaultLogExportBuilder.this.q;
+        private final int maxConcurrency = DefaultLogExportBuilder.this.maxConcurrency;
+        private final int pageSize = DefaultLogExportBuilder.this.pageSize;
+        private final int denseSliceThreshold = DefaultLogExportBuilder.this.denseSliceThreshold;
+        private final Duration minSliceDuration = DefaultLogExportBuilder.this.minSliceDuration;
+        private final List<Slice> rootSlices;
+        private final ThreadPoolExecutor executor;
+
+        // forEachSlice bookkeeping: slices not yet finished, completed when it drops to zero
+        private final AtomicInteger running = new AtomicInteger();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile boolean cancelled;
+
+        private Export(SystemLogApi client, LogSliceConsumer consumer) {
+            Assert.notNull(client, "client must not be null");
+            Assert.notNull(since, "since must be set");
+            Instant from = since.toInstant();
+            Instant to = until != null ? until.toInstant() : Instant.now();
+            Assert.isTrue(from.isBefore(to), "since must be before until");
+
+            this.client = client;
+            this.consumer = consumer;
+            this.rootSlices = split(from, to, slices);
+
+            int exportId = EXPORT_COUNT.incrementAndGet();
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 30, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "okta-log-export-" + exportId + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        private List<Slice> split(Instant from, Instant to, int parts) {
+            long millis = Duration.between(from, to).toMillis();
+            int count = (int) Math.max(1, Math.min(parts, millis / minSliceDuration.toMillis()));
+            List<Slice> result = new ArrayList<>(count);
+            Instant start = from;
+            for (int i = 1; i <= count; i++) {
+                Instant end = i == count ? to : from.plusMillis(millis * i / count);
+                result.add(new Slice(start, end));
+                start = end;
+            }
+            return result;
+        }
+
+        private void start() {
+            running.set(rootSlices.size());
+            rootSlices.forEach(this::submit);
+        }
+
+        private void submit(Slice slice) {
+            try {
+                executor.execute(slice);
+            } catch (RejectedExecutionException e) {
+                if (!cancelled) {
+                    throw e;
+                }
+            }
+        }
+
+        private void await() {
+            try {
+                done.get();
+            } catch (ExecutionException e) {
+                throw propagate(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while exporting System Log events", e);
+            }
+        }
+
+        private void shutdown() {
+            cancelled = true;
+            executor.shutdownNow();
+        }
+
+        private final class Slice implements Runnable, Comparable<Slice> {
+
+            private final Instant since;
+            private final Instant until;
+            private final LogSlice view;
+            // ordered mode: pages, then END or a Split marker, or a Failure
+            private final BlockingQueue<Object> output = new LinkedBlockingQueue<>();
+
+            // only touched by the worker currently running this slice
+            private PagedIterable<LogEvent> pages;
+            private Iterator<LogEvent> events;
+            private boolean firstPageChecked;
+
+            // guarded by this
+            private int buffered;
+            private boolean paused;
+
+            private Slice(Instant since, Instant until) {
+                this.since = since;
+                this.until = until;
+                this.view = new LogSlice(since.atOffset(ZoneOffset.UTC), until.atOffset(ZoneOffset.UTC));
+            }
+
+            @Override
+            public void run() {
+                try {
+                    produce();
+                } catch (Throwable e) {
+                    closePages();
+                    if (consumer == null) {
+                        output.add(new Failure(e));
+                    } else {
+                        done.completeExceptionally(e);
+                    }
+                }
+            }
+
+            private void produce() {
+                if (events == null) {
+                    pages = client.listLogEventsPaged(format(since), format(until), null, filter, q, pageSize, SORT_ORDER);
+                    events = pages.iterator();
+                }
+                List<LogEvent> page = new ArrayList<>(pageSize);
+                while (!cancelled && events.hasNext()) {
+                    page.add(events.next());
+                    if (page.size() < pageSize) {
+                        continue;
+                    }
+                    if (!firstPageChecked) {
+                        firstPageChecked = true;
+                        List<Slice> children = splitIfDense(page);
+                        if (children != null) {
+                            closePages();
+                            finish(children);
+                            return;
+                        }
+                    }
+                    if (!emit(page, true)) {
+                        // paused, resumed by the consumer once it caught up
+                        return;
+                    }
+                    page = new ArrayList<>(pageSize);
+                }
+                // releases a streamed page left half read by a cancellation
+                closePages();
+                if (!page.isEmpty()) {
+                    emit(page, false);
+                }
+                finish(null);
+            }
+
+            private void closePages() {
+                if (pages != null) {
+                    pages.close();
+                }
+            }
+
+            /**
+             * Splits the rest of this slice when its first (full) page covers only a small part of the window.
+             * Events published at the split instant are left to the first child, which reads them again.
+             */
+            private List<Slice> splitIfDense(List<LogEvent> firstPage) {
+                OffsetDateTime lastPublished = firstPage.get(firstPage.size() - 1).getPublished();
+                if (lastPublished == null) {
+                    return null;
+                }
+                Instant splitAt = lastPublished.toInstant();
+                long coveredMillis = Duration.between(since, splitAt).toMillis();
+                Duration remaining = Duration.between(splitAt, until);
+                if (coveredMillis <= 0 || remaining.compareTo(minSliceDuration.multipliedBy(2)) < 0) {
+                    return null;
+                }
+                long remainingPages = remaining.toMillis() / coveredMillis;
+                if (remainingPages < denseSliceThreshold) {
+                    return null;
+                }
+
+                int parts = (int) Math.min(maxConcurrency, Math.max(2, remainingPages / denseSliceThreshold));
+                log.debug("System Log slice {} is dense (~{} pages left), splitting [{}, {}) into {} slices",
+                    view, remainingPages, splitAt, until, parts);
+
+                List<LogEvent> head = firstPage.stream()
+                    .filter(event -> event.getPublished() != null && event.getPublished().toInstant().isBefore(splitAt))
+                    .collect(Collectors.toList());
+                if (!head.isEmpty()) {
+                    emit(head, false);
+                }
+                return split(splitAt, until, parts);
+            }
+
+            /**
+             * Hands a page to the consumer, returns {@code false} if this slice should pause.
+             */
+            private boolean emit(List<LogEvent> page, boolean mayPause) {
+                if (consumer != null) {
+                    consumer.accept(view, page);
+                    return true;
+                }
+                synchronized (this) {
+                    output.add(page);
+                    buffered++;
+                    if (mayPause && buffered >= MAX_BUFFERED_PAGES) {
+                        paused = true;
+                        return false;
+                    }
+                    return true;
+                }
+            }
+
+            private void finish(List<Slice> children) {
+                if (children != null) {
+                    running.addAndGet(children.size());
+                    output.add(new Split(children));
+                    children.forEach(Export.this::submit);
+                } else {
+                    output.add(END);
+                }
+                if (running.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            }
+
+            private void pageTaken() {
+                boolean resume;
+                synchronized (this) {
+                    buffered--;
+                    resume = paused && buffered < MAX_BUFFERED_PAGES;
+                    if (resume) {
+                        paused = false;
+                    }
+                }
+                if (resume) {
+                    submit(this);
+                }
+            }
+
+            @Override
+            public int compareTo(Slice other) {
+                return since.compareTo(other.since);
+            }
+        }
+
+        /**
+         * Walks the slices in time order, descending into the children of split slices.
+         */
+        private final class OrderedIterator implements Iterator<LogEvent> {
+
+            private final Deque<Slice> pending = new ArrayDeque<>(rootSlices);
+            private Slice current;
+            private Iterator<LogEvent> page = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext()) {
+                    if (!nextPage()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public LogEvent next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+
+            @SuppressWarnings("unchecked")
+            private boolean nextPage() {
+                while (true) {
+                    if (current == null) {
+                        current = pending.poll();
+                        if (current == null) {
+                            shutdown();
+                            return false;
+                        }
+                    }
+                    Object item = take(current.output);
+                    if (item instanceof List) {
+                        current.pageTaken();
+                        page = ((List<LogEvent>) item).iterator();
+                        return true;
+                    }
+                    if (item instanceof Failure) {
+                        shutdown();
+                        throw propagate(((Failure) item).cause);
+                    }
+                    if (item instanceof Split) {
+                        List<Slice> children = (List<Slice>) ((Split) item).children;
+                        for (int i = children.size() - 1; i >= 0; i--) {
+                            pending.addFirst(children.get(i));
+                        }
+                    }
+                    current = null;
+                }
+            }
+
+            private Object take(BlockingQueue<Object> output) {
+                try {
+                    return output.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    shutdown();
+                    throw new IllegalStateException("Interrupted while exporting System Log events", e);
+                }
+            }
+        }
+    }
+}
@@ -15,7 +15,11 @@
  */
 package com.okta.sdk.impl.retry;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.okta.commons.lang.Assert;
+import com.okta.sdk.client.MetricsRecorder;
+import com.okta.sdk.client.RetryStatistics;
+import com.okta.sdk.resource.client.ApiOperation;
 import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
 import org.apache.hc.core5.concurrent.CancellableDependency;
 import org.apache.hc.core5.http.*;
@@ -30,28 +34,88 @@ import java.io.InterruptedIOException;
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
-public final class OktaHttpRequestRetryStrategy extends DefaultHttpRequestRetryStrategy {
+/**
+ * Retries requests that failed with a retriable status code or I/O error, up to {@code maxRetries} times. A
+ * {@code maxRetries} of 0 disables retries.
+ * <p>
+ * Backoff delays use decorrelated jitter, for I/O errors as well as status codes, or the {@code x-rate-limit-reset}
+ * header of a 429 plus a random spread.
+ * A retry is not sent if its delay would end past {@code maxElapsed} after the first failure of the request, or if the
+ * client-wide {@link RetryBudget} is used up. Both are optional.
+ */
+public final class OktaHttpRequestRetryStrategy extends DefaultHttpRequestRetryStrategy implements RetryStatistics {
 
     private static final Logger logger = LoggerFactory.getLogger(OktaHttpRequestRetryStrategy.class);
 
+    // per-exchange state, the context is shared by all attempts of one request
+    private static final String START_ATTRIBUTE = OktaHttpRequestRetryStrategy.class.getName() + ".start";
+    private static final String DELAY_ATTRIBUTE = OktaHttpRequestRetryStrategy.class.getName() + ".delay";
+
+    /**
+     * Upper bound of the random spread added to a 429 delay, so that clients waiting for the same reset do not all
+     * retry at once.
+     */
+    private static final long RATE_LIMIT_JITTER_MS = 1000;
+
     private final int maxRetries;
     private final Set<Class<? extends IOException>> nonRetriableIOExceptionClasses;
     private final Set<Integer> retriableCodes;
+    private final long maxElapsedNanos;
+    private final RetryBudget retryBudget;
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+    private final LongAdder deadlineExceededCount = new LongAdder();
+
+    private volatile MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
 
     public OktaHttpRequestRetryStrategy(int maxRetries, Collection<Class<? extends IOException>> clazzes, Collection<Integer> codes) {
+        this(maxRetries, null, null, clazzes, codes);
+    }
+
+    /**
+     * @param maxRetries the maximum number of retries per request
+     * @param maxElapsed the time after the first failure of a request past which it is not retried, {@code null} or
+     *                   zero for no limit
+     * @param retryBudget the client-wide retry budget, {@code null} for none
+     * @param clazzes the I/O exceptions that are not retried
+     * @param codes the status codes that are retried
+     * @since 25.1.0
+     */
+    public OktaHttpRequestRetryStrategy(int maxRetries, Duration maxElapsed, RetryBudget retryBudget,
+                                        Collection<Class<? extends IOException>> clazzes, Collection<Integer> codes) {
         Assert.isTrue(maxRetries >= 0, "maxRetries should be >= 0");
         this.maxRetries = maxRetries;
         this.nonRetriableIOExceptionClasses = new HashSet<>(clazzes);
         this.retriableCodes = new HashSet<>(codes);
+        this.maxElapsedNanos = maxElapsed != null ? maxElapsed.toNanos() : 0;
+        this.retryBudget = retryBudget;
     }
 
     public OktaHttpRequestRetryStrategy(int maxRetries) {
-        this(maxRetries, Arrays.asList(InterruptedIOException.class,
+        this(maxRetries, null, null);
+    }
+
+    /**
+     * @param maxRetries the maximum number of retries per request
+     * @param maxElapsed the time after the first failure of a request past which it is not retried, {@code null} or
+     *                   zero for no limit
+     * @param retryBudget the client-wide retry budget, {@code null} for none
+     * @since 25.1.0
+     */
+    public OktaHttpRequestRetryStrategy(int maxRetries, Duration maxElapsed, RetryBudget retryBudget) {
+        this(maxRetries, maxElapsed, retryBudget, Arrays.asList(InterruptedIOException.class,
                 UnknownHostException.class, ConnectException.class, ConnectionClosedException.class,
-                NoRouteToHostException.class, SSLException.class),
+                NoRouteToHostException.class, SSLException.class,
+                // a request body that cannot be serialized fails the same way on every attempt
+                JsonProcessingException.class),
             Arrays.asList(429, 503, 504));
     }
 
@@ -59,7 +123,8 @@ public final class OktaHttpRequestRetryStrategy extends DefaultHttpRequestRetryS
     public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
         Assert.notNull(request, "request");
         Assert.notNull(exception, "exception");
-        if (execCount > this.maxRetries) {
+        recordAttempt(execCount, context);
+        if (exceedsMaxRetries(execCount)) {
             return false;
         } else if (this.nonRetriableIOExceptionClasses.contains(exception.getClass())) {
             return false;
@@ -73,7 +138,17 @@ public final class OktaHttpRequestRetryStrategy extends DefaultHttpRequestRetryS
                         return false;
                     }
 
-                    return this.handleAsIdempotent(request);
+                    if (!this.handleAsIdempotent(request)) {
+                        return false;
+                    }
+                    long delay = jitteredDelay(context);
+                    if (!admitRetry(0, delay, context)) {
+                        return false;
+                    }
+                    if (context != null) {
+                        context.setAttribute(DELAY_ATTRIBUTE, delay);
+                    }
+                    return true;
                 }
 
                 rejectException = (Class) var5.next();
@@ -86,25 +161,131 @@ public final class OktaHttpRequestRetryStrategy extends DefaultHttpRequestRetryS
     @Override
     public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
         Assert.notNull(response, "response");
-        if (this.maxRetries == 0) {
+        recordAttempt(execCount, context);
+        if (exceedsMaxRetries(execCount) || !this.retriableCodes.contains(response.getCode())) {
+            return false;
+        }
+        long delay = computeDelay(response, context);
+        if (!admitRetry(response.getCode(), delay, context)) {
             return false;
         }
-        return execCount <= this.maxRetries && this.retriableCodes.contains(response.getCode());
+        if (context != null) {
+            context.setAttribute(DELAY_ATTRIBUTE, delay);
+        }
+        return true;
     }
 
     @Override
     public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
         Assert.notNull(response, "response");
 
-        long delay;
-        if (response.getCode() == 429) {
-            delay = RetryUtil.get429DelayMillis(response);
-        } else {
-            delay = RetryUtil.getDefaultDelayMillis(execCount);
-        }
+        // computed when the retry was admitted
+        Object admitted = context != null ? context.getAttribute(DELAY_ATTRIBUTE) : null;
+        long delay = admitted instanceof Long ? (Long) admitted : computeDelay(response, context);
 
         logger.info("Retry # {} after {} ms delay", execCount, delay);
 
         return TimeValue.of(delay, TimeUnit.MILLISECONDS);
     }
+
+    @Override
+    public TimeValue getRetryInterval(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+        // computed when the retry was admitted
+        Object admitted = context != null ? context.getAttribute(DELAY_ATTRIBUTE) : null;
+        long delay = admitted instanceof Long ? (Long) admitted : jitteredDelay(context);
+
+        logger.info("Retry # {} after {} ms delay", execCount, delay);
+
+        return TimeValue.of(delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the recorder that admitted retries are reported to.
+     *
+     * @param metricsRecorder the recorder, {@code null} for none
+     * @since 25.1.0
+     */
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder != null ? metricsRecorder : MetricsRecorder.NOOP;
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    @Override
+    public long getRetryBudgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    @Override
+    public long getRetryDeadlineExceededCount() {
+        return deadlineExceededCount.sum();
+    }
+
+    private boolean exceedsMaxRetries(int execCount) {
+        return execCount > maxRetries;
+    }
+
+    private void recordAttempt(int execCount, HttpContext context) {
+        if (execCount != 1) {
+            return;
+        }
+        requestCount.increment();
+        if (retryBudget != null) {
+            retryBudget.recordRequest();
+        }
+        if (context != null) {
+            context.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            context.removeAttribute(DELAY_ATTRIBUTE);
+        }
+    }
+
+    /**
+     * Checks a retry that would be sent after {@code delay} ms against the deadline and the retry budget.
+     *
+     * @param status the status of the response to retry, 0 for an I/O error
+     */
+    private boolean admitRetry(int status, long delay, HttpContext context) {
+        Object start = context != null ? context.getAttribute(START_ATTRIBUTE) : null;
+        if (maxElapsedNanos > 0 && start instanceof Long
+            && System.nanoTime() - (Long) start + TimeUnit.MILLISECONDS.toNanos(delay) > maxElapsedNanos) {
+            deadlineExceededCount.increment();
+            logger.debug("Not retrying, a {} ms delay would exceed the retry deadline", delay);
+            return false;
+        }
+        if (retryBudget != null && !retryBudget.tryAcquire()) {
+            budgetExhaustedCount.increment();
+            logger.debug("Not retrying, the retry budget is exhausted");
+            return false;
+        }
+        retryCount.increment();
+        Object operationId = context != null ? context.getAttribute(ApiOperation.CONTEXT_ATTRIBUTE) : null;
+        metricsRecorder.recordRetry(operationId instanceof String ? (String) operationId : ApiOperation.UNKNOWN_ID, status);
+        return true;
+    }
+
+    private long computeDelay(HttpResponse response, HttpContext context) {
+        if (response.getCode() == 429) {
+            long delay = RetryUtil.get429DelayMillis(response);
+            if (delay >= 0) {
+                return delay + ThreadLocalRandom.current().nextLong(RATE_LIMIT_JITTER_MS);
+            }
+        }
+        return jitteredDelay(context);
+    }
+
+    /**
+     * The next decorrelated jitter delay, growing from the delay of the previous retry of the same request.
+     */
+    private static long jitteredDelay(HttpContext context) {
+        Object previous = context != null ? context.getAttribute(DELAY_ATTRIBUTE) : null;
+        return RetryUtil.getDecorrelatedJitterDelayMillis(previous instanceof Long ? (Long) previous : 0, ThreadLocalRandom.current());
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.retry;
+
+import com.okta.commons.lang.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the retries of a client to a share of the requests it sent recently.
+ * <p>
+ * Requests and retries are counted in one-second buckets over a sliding window. A retry is allowed while the retries
+ * in the window stay below {@code percent} of the requests, or below a small fixed floor so that a client with little
+ * traffic can still retry. When most requests fail, as during an outage, retries are then limited to a fraction of
+ * the traffic instead of multiplying it.
+ * <p>
+ * Counting is lock-free. A bucket being recycled by one thread may drop a concurrent increment, which only makes the
+ * budget slightly approximate.
+ *
+ * @since 25.1.0
+ */
+public final class RetryBudget {
+
+    static final int WINDOW_SECONDS = 10;
+    static final int MIN_RETRIES_PER_WINDOW = 10;
+
+    private final double ratio;
+    private final int minRetriesPerWindow;
+    private final LongSupplier nanoClock;
+
+    // bucket i counts the second stored in seconds[i]
+    private final AtomicLongArray seconds = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray requests = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray retries = new AtomicLongArray(WINDOW_SECONDS);
+
+    public RetryBudget(int percent) {
+        this(percent, MIN_RETRIES_PER_WINDOW, System::nanoTime);
+    }
+
+    RetryBudget(int percent, int minRetriesPerWindow, LongSupplier nanoClock) {
+        Assert.isTrue(percent > 0, "percent should be > 0");
+        this.ratio = percent / 100.0;
+        this.minRetriesPerWindow = minRetriesPerWindow;
+        this.nanoClock = nanoClock;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            seconds.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Records a request sent for the first time.
+     */
+    public void recordRequest() {
+        requests.incrementAndGet(bucket(currentSecond()));
+    }
+
+    /**
+     * Takes a retry from the budget.
+     *
+     * @return {@code true} if the retry may be sent, {@code false} if the budget is used up
+     */
+    public boolean tryAcquire() {
+        long now = currentSecond();
+        long requestCount = 0;
+        long retryCount = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            long second = seconds.get(i);
+            if (second > now - WINDOW_SECONDS && second <= now) {
+                requestCount += requests.get(i);
+                retryCount += retries.get(i);
+            }
+        }
+        if (retryCount >= Math.max(minRetriesPerWindow, (long) (requestCount * ratio))) {
+            return false;
+        }
+        retries.incrementAndGet(bucket(now));
+        return true;
+    }
+
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(nanoClock.getAsLong());
+    }
+
+    private int bucket(long second) {
+        int index = (int) Math.floorMod(second, (long) WINDOW_SECONDS);
+        long current = seconds.get(index);
+        if (current != second && seconds.compareAndSet(index, current, second)) {
+            requests.set(index, 0);
+            retries.set(index, 0);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{percent=" + Math.round(ratio * 100) + ", window=" + WINDOW_SECONDS + "s}";
+    }
+}
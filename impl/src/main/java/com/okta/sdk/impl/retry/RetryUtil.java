@@ -26,6 +26,7 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
+import java.util.Random;
 
 public class RetryUtil {
 
@@ -72,6 +73,22 @@ public class RetryUtil {
         return millis;
     }
 
+    /**
+     * Calculates the next backoff delay with decorrelated jitter: a random delay between the initial backoff and three
+     * times the previous delay, capped at MAX_BACKOFF. Unlike plain exponential backoff, clients that failed at the
+     * same moment spread their retries instead of sending them in lockstep.
+     *
+     * @param previousDelayMillis the previous delay of the same request, or 0 for its first retry
+     * @param random the source of randomness
+     * @return The calculated delay in milliseconds
+     */
+    static long getDecorrelatedJitterDelayMillis(long previousDelayMillis, Random random) {
+        long upper = Math.min(Math.max(previousDelayMillis, INITIAL_BACKOFF_MS) * 3, DEFAULT_MAX_BACKOFF_IN_MILLISECONDS);
+        long millis = INITIAL_BACKOFF_MS + (long) (random.nextDouble() * (upper - INITIAL_BACKOFF_MS));
+        logger.debug("getDecorrelatedJitterDelayMillis: [{}]", millis);
+        return millis;
+    }
+
     /**
      * Calculates the delay in milliseconds for a 429 (Too Many Requests) response.
      * Uses the x-rate-limit-reset header to determine when the rate limit resets.
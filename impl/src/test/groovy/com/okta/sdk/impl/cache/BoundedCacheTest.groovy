@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache
+
+import com.okta.sdk.cache.Caches
+import org.testng.annotations.Test
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+
+import static org.testng.Assert.*
+
+class BoundedCacheTest {
+
+    @Test
+    void testPutAndGet() {
+        def cache = new BoundedCache('foo', 10, null, null)
+        assertNull cache.put('key', 'value')
+        assertEquals 'value', cache.get('key')
+        assertEquals 'value', cache.put('key', 'value2')
+        assertEquals 'value2', cache.get('key')
+        assertEquals 'value2', cache.remove('key')
+        assertNull cache.get('key')
+        assertEquals 2, cache.hitCount
+        assertEquals 1, cache.missCount
+    }
+
+    @Test
+    void testMaximumSizeIsEnforced() {
+        def cache = new BoundedCache('foo', 100, null, null)
+        (1..1000).each { cache.put("key-$it" as String, it) }
+        cache.cleanUp()
+
+        assertEquals 100, cache.size()
+        assertEquals 100, cache.weightedSize
+        assertEquals 900, cache.evictionCount
+    }
+
+    @Test
+    void testFrequentlyUsedEntriesSurviveAScan() {
+        def cache = new BoundedCache('foo', 100, null, null)
+        def hotKeys = (1..50).collect { "hot-$it" as String }
+        hotKeys.each { cache.put(it, it) }
+        5.times { hotKeys.each { cache.get(it) } }
+
+        // a burst of one-off lookups, much larger than the cache
+        (1..1000).each { cache.put("cold-$it" as String, it) }
+        cache.cleanUp()
+
+        assertEquals 100, cache.size()
+        assertTrue hotKeys.count { cache.get(it) != null } >= 45
+    }
+
+    @Test
+    void testMaximumWeightIsEnforced() {
+        def cache = new BoundedCache('foo', 100, { key, value -> ((String) value).length() }, null, null)
+        cache.put('a', 'x' * 60)
+        cache.put('b', 'x' * 30)
+        cache.cleanUp()
+        assertEquals 90, cache.weightedSize
+
+        cache.put('c', 'x' * 30)
+        cache.cleanUp()
+        assertTrue cache.weightedSize <= 100
+        assertTrue cache.size() < 3
+    }
+
+    @Test
+    void testTimeToLive() {
+        def cache = new BoundedCache('foo', 10, Duration.ofMillis(10), null)
+        cache.put('key', 'value')
+        cache.put('other', 'value')
+        assertEquals 'value', cache.get('key')
+
+        Thread.sleep(15)
+
+        assertNull cache.get('key')
+        assertEquals 1, cache.size()
+
+        // never read again, but swept by maintenance
+        cache.cleanUp()
+        assertEquals 0, cache.size()
+    }
+
+    @Test
+    void testTimeToIdle() {
+        def cache = new BoundedCache('foo', 10, null, Duration.ofMillis(50))
+        cache.put('key', 'value')
+
+        Thread.sleep(5)
+        assertEquals 'value', cache.get('key')
+
+        Thread.sleep(100)
+        assertNull cache.get('key')
+        assertEquals 0, cache.size()
+    }
+
+    @Test
+    void testExpiredEntryWithETagIsKeptForRevalidation() {
+        def cache = new BoundedCache('foo', 10, Duration.ofMillis(10), null)
+        cache.put('key', 'value', 'W/"etag-1"')
+
+        Thread.sleep(15)
+        cache.cleanUp()
+
+        assertNull cache.get('key')
+        assertEquals 'W/"etag-1"', cache.getETag('key')
+        assertNull cache.revalidate('key', 'W/"etag-2"')
+        assertEquals 'value', cache.revalidate('key', 'W/"etag-1"')
+        assertEquals 'value', cache.get('key')
+        cache.cleanUp()
+        assertEquals 1, cache.weightedSize
+    }
+
+    @Test
+    void testClear() {
+        def cache = new BoundedCache('foo', 10, null, null)
+        cache.put('key', 'value')
+        cache.clear()
+        assertEquals 0, cache.size()
+        assertEquals 0, cache.weightedSize
+    }
+
+    @Test
+    void testConcurrentAccessStaysBounded() {
+        def cache = new BoundedCache<String, Integer>('foo', 500, null, null)
+        def threads = 8
+        def executor = Executors.newFixedThreadPool(threads)
+        def start = new CountDownLatch(1)
+        def futures = (1..threads).collect {
+            executor.submit {
+                start.await()
+                def random = ThreadLocalRandom.current()
+                20_000.times {
+                    def key = "key-" + random.nextInt(2_000)
+                    switch (random.nextInt(10)) {
+                        case 0: cache.put(key, it); break
+                        case 1: cache.remove(key); break
+                        default:
+                            def value = cache.get(key)
+                            assertTrue value == null || value instanceof Integer
+                    }
+                }
+            }
+        }
+        start.countDown()
+        futures*.get(30, TimeUnit.SECONDS)
+        executor.shutdown()
+
+        cache.cleanUp()
+        assertTrue cache.size() <= 500
+        assertEquals cache.size() as long, cache.weightedSize
+    }
+
+    @Test
+    void testCacheManagerBuilderCreatesBoundedCaches() {
+        def manager = Caches.newCacheManager()
+            .withDefaultTimeToLive(1, TimeUnit.HOURS)
+            .withMaximumSize(1_000)
+            .build()
+        def cache = manager.getCache('foo')
+        assertTrue cache instanceof BoundedCache
+        assertEquals 1_000, ((BoundedCache) cache).maximum
+        assertEquals Duration.ofHours(1), ((BoundedCache) cache).timeToLive
+    }
+
+    @Test
+    void testRefreshAhead() {
+        def cache = new BoundedCache('foo', 10, Duration.ofMillis(40), null)
+        cache.setRefreshAhead(0.5d, Duration.ofMillis(200))
+
+        cache.put('key', 'value', 'W/"etag-1"')
+        assertFalse cache.claimRefresh('key')
+
+        Thread.sleep(50)
+        // past its TTL the entry is still served while it is reloaded
+        assertEquals 'value', cache.get('key')
+        assertTrue cache.claimRefresh('key')
+        assertFalse cache.claimRefresh('key')
+
+        assertTrue cache.completeRefresh('key', 'value2', 'W/"etag-2"')
+        assertEquals 'value2', cache.get('key')
+        assertEquals 'W/"etag-2"', cache.getETag('key')
+        assertFalse cache.completeRefresh('key', 'value3', null)
+
+        cache.cleanUp()
+        assertEquals 1, cache.size()
+    }
+
+    @Test
+    void testStaleEntryExpiresAfterTheGracePeriod() {
+        def cache = new BoundedCache('foo', 10, Duration.ofMillis(20), null)
+        cache.setRefreshAhead(1.0d, Duration.ofMillis(30))
+
+        cache.put('key', 'value')
+        Thread.sleep(25)
+        assertTrue cache.claimRefresh('key')
+        cache.refreshFailed('key')
+
+        Thread.sleep(50)
+        assertNull cache.get('key')
+        assertFalse cache.claimRefresh('key')
+    }
+}
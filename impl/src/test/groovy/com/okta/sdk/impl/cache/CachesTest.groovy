@@ -73,4 +73,58 @@ class CachesTest {
         assertNotNull cm
         assertTrue cm instanceof DisabledCacheManager
     }
+
+    @Test
+    void testBuildWithRefreshAhead() {
+
+        DefaultCacheManager manager = (DefaultCacheManager) newCacheManager()
+                .withDefaultTimeToLive(1, TimeUnit.HOURS)
+                .withCache(named('foo').withTimeToLive(10, TimeUnit.MINUTES).withRefreshAhead(0.8d, 2, TimeUnit.MINUTES))
+                .build()
+
+        DefaultCache cache = (DefaultCache) manager.getCache('foo')
+        assertEquals cache.refreshAfter, 0.8d
+        assertEquals cache.staleGracePeriod, Duration.ofMinutes(2)
+
+        cache = (DefaultCache) manager.getCache('bar')
+        assertEquals cache.refreshAfter, 0.0d
+        assertNull cache.staleGracePeriod
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException)
+    void testRefreshAheadRequiresAFraction() {
+        named('foo').withRefreshAhead(0, 1, TimeUnit.MINUTES)
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException)
+    void testRefreshAheadRejectsNegativeGrace() {
+        named('foo').withRefreshAhead(0.5d, -1, TimeUnit.MINUTES)
+    }
+
+    @Test
+    void testBuildWithRegionMaximumSize() {
+
+        DefaultCacheManager manager = (DefaultCacheManager) newCacheManager()
+                .withCache(forCollections().withTimeToLive(30, TimeUnit.SECONDS).withMaximumSize(500))
+                .build()
+
+        BoundedCache cache = (BoundedCache) manager.getCache(COLLECTIONS)
+        assertEquals cache.maximum, 500L
+        assertEquals cache.timeToLive, Duration.ofSeconds(30)
+
+        // the other regions are only bounded by memory
+        assertTrue manager.getCache('bar') instanceof DefaultCache
+
+        manager = (DefaultCacheManager) newCacheManager()
+                .withMaximumSize(10_000)
+                .withCache(forCollections().withMaximumSize(500))
+                .build()
+        assertEquals(((BoundedCache) manager.getCache(COLLECTIONS)).maximum, 500L)
+        assertEquals(((BoundedCache) manager.getCache('bar')).maximum, 10_000L)
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException)
+    void testRegionMaximumSizeMustBePositive() {
+        forCollections().withMaximumSize(0)
+    }
 }
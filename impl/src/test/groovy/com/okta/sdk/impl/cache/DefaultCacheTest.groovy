@@ -263,4 +263,132 @@ class DefaultCacheTest {
         assertNull found
         assertEquals 0, (int) cache.size()
     }
+
+    @Test
+    void testExpiredEntryWithETagIsKeptForRevalidation() {
+
+        def cache = new DefaultCache('foo', [:], Duration.ofMillis(10), null)
+
+        cache.put('key', 'value', 'W/"etag-1"')
+        assertEquals 'W/"etag-1"', cache.getETag('key')
+
+        Thread.sleep(15)
+
+        assertNull cache.get('key')
+        assertEquals 1, (int) cache.size()
+        assertEquals 'W/"etag-1"', cache.getETag('key')
+
+        // a different entity tag does not match the stored entry
+        assertNull cache.revalidate('key', 'W/"etag-2"')
+        assertNull cache.get('key')
+
+        assertEquals 'value', cache.revalidate('key', 'W/"etag-1"')
+        assertEquals 'value', cache.get('key')
+    }
+
+    @Test
+    void testRevalidateMissingEntry() {
+        def cache = new DefaultCache('foo')
+        assertNull cache.getETag('key')
+        assertNull cache.revalidate('key', 'W/"etag-1"')
+
+        cache.put('key', 'value')
+        assertNull cache.getETag('key')
+        assertNull cache.revalidate('key', 'W/"etag-1"')
+    }
+
+    @Test
+    void testRemoveDropsExpiredEntryWithETag() {
+
+        def cache = new DefaultCache('foo', [:], Duration.ofMillis(10), null)
+
+        cache.put('key', 'value', 'W/"etag-1"')
+        Thread.sleep(15)
+        assertNull cache.get('key')
+
+        cache.remove('key')
+        assertEquals 0, (int) cache.size()
+        assertNull cache.revalidate('key', 'W/"etag-1"')
+    }
+
+    @Test
+    void testRefreshAheadIsClaimedOnceWithinTheWindow() {
+
+        def cache = new DefaultCache('foo', [:], Duration.ofMillis(100), null)
+        cache.setRefreshAhead(0.5d, Duration.ofMillis(200))
+
+        cache.put('key', 'value', 'W/"etag-1"')
+        // too early
+        assertFalse cache.claimRefresh('key')
+        assertFalse cache.claimRefresh('missing')
+
+        Thread.sleep(60)
+        assertTrue cache.claimRefresh('key')
+        assertFalse cache.claimRefresh('key')
+
+        // a failed reload can be retried by the next reader
+        cache.refreshFailed('key')
+        assertTrue cache.claimRefresh('key')
+
+        assertTrue cache.completeRefresh('key', 'value2', 'W/"etag-2"')
+        assertEquals 'value2', cache.get('key')
+        assertEquals 'W/"etag-2"', cache.getETag('key')
+        // the new entry restarts the TTL
+        assertFalse cache.claimRefresh('key')
+    }
+
+    @Test
+    void testStaleEntryIsServedDuringTheGracePeriod() {
+
+        def cache = new DefaultCache('foo', [:], Duration.ofMillis(20), null)
+        cache.setRefreshAhead(1.0d, Duration.ofMillis(200))
+
+        cache.put('key', 'value')
+        Thread.sleep(30)
+        assertEquals 'value', cache.get('key')
+        assertTrue cache.claimRefresh('key')
+
+        Thread.sleep(200)
+        assertNull cache.get('key')
+        assertFalse cache.claimRefresh('key')
+    }
+
+    @Test
+    void testCompleteRefreshDoesNotResurrectARemovedEntry() {
+
+        def cache = new DefaultCache('foo', [:], Duration.ofMillis(60), null)
+        cache.setRefreshAhead(0.5d, null)
+
+        // without a claim there is nothing to complete
+        cache.put('key', 'value')
+        assertFalse cache.completeRefresh('key', 'value2', null)
+
+        Thread.sleep(35)
+        assertTrue cache.claimRefresh('key')
+        cache.remove('key')
+        assertFalse cache.completeRefresh('key', 'value2', null)
+        assertNull cache.get('key')
+
+        // nor replace a newer value written meanwhile
+        cache.put('key', 'value')
+        Thread.sleep(35)
+        assertTrue cache.claimRefresh('key')
+        cache.put('key', 'value3')
+        assertFalse cache.completeRefresh('key', 'value2', null)
+        assertEquals 'value3', cache.get('key')
+    }
+
+    @Test
+    void testRefreshAheadIsDisabledByDefault() {
+        def cache = new DefaultCache('foo', [:], Duration.ofMillis(10), null)
+        assertEquals 0.0d, cache.refreshAfter
+        cache.put('key', 'value')
+        Thread.sleep(5)
+        assertFalse cache.claimRefresh('key')
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException)
+    void testRefreshAfterOutOfRange() {
+        new DefaultCache('foo').setRefreshAhead(1.5d, null)
+    }
 }
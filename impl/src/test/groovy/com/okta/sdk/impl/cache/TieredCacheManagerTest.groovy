@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.cache
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.client.ApiClient
+import com.okta.sdk.resource.model.User
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit
+
+import static org.testng.Assert.*
+
+class TieredCacheManagerTest {
+
+    private static final long MAXIMUM_BYTES = 4 * DiskStore.MIN_SEGMENT_SIZE
+
+    private final ObjectMapper objectMapper = new ApiClient().objectMapper
+    private Path directory
+    private List<TieredCacheManager> managers = []
+
+    @BeforeMethod
+    void createDirectory() {
+        directory = Files.createTempDirectory('okta-cache')
+    }
+
+    @AfterMethod
+    void deleteDirectory() {
+        managers*.close()
+        directory.toFile().deleteDir()
+    }
+
+    @Test
+    void testEntriesAreServedFromDisk() {
+        def manager = newManager()
+        def cache = manager.<String, Object>getCache('users')
+        assertTrue cache instanceof TieredCache
+
+        (1..20).each { cache.put("https://example.okta.com/api/v1/users/00u$it" as String, user("00u$it")) }
+        // a memory tier of 10 entries
+        ((TieredCache) cache).memoryCache.cleanUp()
+        assertEquals 10, ((TieredCache) cache).memoryCache.size()
+        assertEquals 20, ((TieredCache) cache).size()
+
+        (1..20).each {
+            assertEquals "00u$it" as String, ((User) cache.get("https://example.okta.com/api/v1/users/00u$it" as String)).id
+        }
+    }
+
+    @Test
+    void testEntriesSurviveARestart() {
+        def manager = newManager()
+        def cache = manager.<String, Object>getCache('users')
+        cache.put('00u1', user('00u1'))
+        cache.put('00u2', user('00u2'))
+        ((TieredCache) cache).put('00u3', user('00u3'), 'W/"etag-3"')
+        cache.put('not-a-resource', 'value')
+        cache.remove('00u2')
+        manager.close()
+
+        manager = newManager()
+        cache = manager.<String, Object>getCache('users')
+        assertEquals '00u1', ((User) cache.get('00u1')).id
+        assertNull cache.get('00u2')
+        assertEquals '00u3', ((User) cache.get('00u3')).id
+        assertEquals 'W/"etag-3"', ((TieredCache) cache).getETag('00u3')
+        assertNull cache.get('not-a-resource')
+    }
+
+    @Test
+    void testEntriesExpireAcrossARestart() {
+        def manager = newManager()
+        def cache = manager.<String, Object>getCache('short')
+        cache.put('00u1', user('00u1'))
+        ((TieredCache) cache).put('00u2', user('00u2'), 'W/"etag-2"')
+        manager.close()
+        Thread.sleep(250)
+
+        manager = newManager()
+        cache = manager.<String, Object>getCache('short')
+        assertNull cache.get('00u1')
+        assertNull cache.get('00u2')
+        // kept for revalidation
+        assertEquals 'W/"etag-2"', ((TieredCache) cache).getETag('00u2')
+        assertEquals '00u2', ((User) ((TieredCache) cache).revalidate('00u2', 'W/"etag-2"')).id
+        assertEquals '00u2', ((User) cache.get('00u2')).id
+    }
+
+    @Test
+    void testDiskIsNotUsedWithoutAnObjectMapper() {
+        def manager = newManager()
+        def cache = manager.<String, Object>getCache('users')
+        cache.put('00u1', user('00u1'))
+        manager.close()
+
+        manager = new TieredCacheManager(directory, MAXIMUM_BYTES)
+        managers << manager
+        cache = manager.<String, Object>getCache('users')
+        assertNull cache.get('00u1')
+        // a write without a mapper drops the older entry instead
+        cache.put('00u1', user('00u1-new'))
+        manager.setObjectMapper(objectMapper)
+        ((TieredCache) cache).memoryCache.clear()
+        assertNull cache.get('00u1')
+    }
+
+    @Test
+    void testFilesAreBoundedAndEntriesInUseAreKept() {
+        def manager = newManager()
+        def cache = manager.<String, Object>getCache('users')
+        def padding = 'x' * 1500
+        cache.put('hot', user('hot'))
+        (1..10_000).each {
+            def user = user("00u$it", padding)
+            cache.put("00u$it" as String, user)
+            if (it % 50 == 0) {
+                cache.get('hot')
+            }
+        }
+
+        long bytes = segmentFiles().sum { it.length() } as long
+        assertTrue bytes <= MAXIMUM_BYTES
+        def tiered = (TieredCache) cache
+        assertTrue tiered.size() < 10_000
+        tiered.memoryCache.clear()
+        assertEquals 'hot', ((User) cache.get('hot')).id
+        assertEquals '00u10000', ((User) cache.get('00u10000')).id
+        assertNull cache.get('00u1')
+
+        // and they replay
+        int size = tiered.size()
+        manager.close()
+        cache = newManager().<String, Object>getCache('users')
+        assertEquals size, ((TieredCache) cache).size()
+        assertEquals 'hot', ((User) cache.get('hot')).id
+    }
+
+    @Test
+    void testTornRecordsAreIgnored() {
+        def manager = newManager()
+        def cache = manager.<String, Object>getCache('users')
+        cache.put('00u1', user('00u1'))
+        cache.put('00u2', user('00u2'))
+        manager.close()
+
+        def segment = segmentFiles().first().toPath()
+        def bytes = Files.readAllBytes(segment)
+        // damage the second record
+        int second = 8 + ByteBuffer.wrap(bytes, 8, 4).getInt()
+        bytes[second + 20] = (byte) (bytes[second + 20] ^ 0xFF)
+        Files.write(segment, bytes)
+
+        cache = newManager().<String, Object>getCache('users')
+        assertEquals '00u1', ((User) cache.get('00u1')).id
+        assertNull cache.get('00u2')
+        cache.put('00u3', user('00u3'))
+        assertEquals '00u3', ((User) cache.get('00u3')).id
+    }
+
+    @Test(expectedExceptions = IllegalStateException)
+    void testDirectoryCannotBeShared() {
+        newManager()
+        newManager()
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException)
+    void testMaximumBytesIsValidated() {
+        Caches.newCacheManager().withDiskStore(directory, 1024)
+    }
+
+    private TieredCacheManager newManager() {
+        def manager = (TieredCacheManager) Caches.newCacheManager()
+            .withDefaultTimeToLive(1, TimeUnit.HOURS)
+            .withCache(Caches.named('short').withTimeToLive(200, TimeUnit.MILLISECONDS))
+            .withMaximumSize(10)
+            .withDiskStore(directory, MAXIMUM_BYTES)
+            .build()
+        manager.setObjectMapper(objectMapper)
+        managers << manager
+        return manager
+    }
+
+    private List<File> segmentFiles() {
+        return directory.toFile().listFiles().findAll { it.name.endsWith('.dat') }
+    }
+
+    private User user(String id, String padding = null) {
+        def json = padding != null ? "{\"id\":\"$id\",\"profile\":{\"nickName\":\"$padding\"}}" : "{\"id\":\"$id\"}"
+        return objectMapper.readValue(json as String, User)
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.client
+
+import com.github.tomakehurst.wiremock.WireMockServer
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration
+import com.okta.sdk.cache.CacheManager
+import com.okta.sdk.resource.client.ApiClient
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient
+import org.apache.hc.client5.http.impl.classic.HttpClients
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+
+/**
+ * Base class for the {@link ApiClient} tests that run against WireMock. Starts a server for each test method and
+ * creates clients pointing at it.
+ */
+abstract class ApiClientTestSupport {
+
+    static final String USER_PATH = "/api/v1/users/00u1"
+    static final String USER_JSON = '{"id":"00u1","status":"ACTIVE","profile":{"login":"joe@example.com"}}'
+
+    protected WireMockServer wireMockServer
+    private CloseableHttpAsyncClient asyncHttpClient
+
+    @BeforeMethod
+    void startWireMock() {
+        wireMockServer = new WireMockServer(wireMockOptions())
+        wireMockServer.start()
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void stopWireMock() {
+        if (asyncHttpClient != null) {
+            asyncHttpClient.close()
+            asyncHttpClient = null
+        }
+        wireMockServer.stop()
+    }
+
+    /**
+     * The WireMock configuration of each test method, override to change it.
+     */
+    protected WireMockConfiguration wireMockOptions() {
+        return WireMockConfiguration.wireMockConfig().dynamicPort()
+    }
+
+    protected ApiClient newApiClient(CacheManager cacheManager) {
+        return newApiClient(HttpClients.createDefault(), cacheManager)
+    }
+
+    protected ApiClient newApiClient(CloseableHttpClient httpClient, CacheManager cacheManager) {
+        ApiClient apiClient = new ApiClient(httpClient, cacheManager)
+        apiClient.setBasePath(wireMockServer.baseUrl())
+        return apiClient
+    }
+
+    /**
+     * A started async client, closed after the test method.
+     */
+    protected CloseableHttpAsyncClient asyncHttpClient() {
+        if (asyncHttpClient == null) {
+            asyncHttpClient = HttpAsyncClients.createDefault()
+            asyncHttpClient.start()
+        }
+        return asyncHttpClient
+    }
+
+    protected static CloseableHttpClient pooledHttpClient(int connections) {
+        def connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(connections)
+            .setMaxConnPerRoute(connections)
+            .build()
+        return HttpClients.custom().setConnectionManager(connectionManager).build()
+    }
+
+    protected void stubUser() {
+        stubUser(okJson(USER_JSON))
+    }
+
+    protected void stubUser(ResponseDefinitionBuilder response) {
+        wireMockServer.stubFor(get(urlPathEqualTo(USER_PATH)).willReturn(response))
+    }
+}
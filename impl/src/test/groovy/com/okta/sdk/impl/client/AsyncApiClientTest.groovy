@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.client
+
+import com.okta.sdk.cache.CacheManager
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.api.UserApi
+import com.okta.sdk.resource.client.ApiClient
+import com.okta.sdk.resource.client.ApiException
+import org.testng.annotations.Test
+
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.instanceOf
+import static org.hamcrest.Matchers.is
+import static org.testng.Assert.fail
+
+/**
+ * Tests for the async variant of {@link ApiClient#invokeAPIAsync}.
+ */
+class AsyncApiClientTest extends ApiClientTestSupport {
+
+    private static final String LINKED_USER_JSON = '{"id":"00u1","status":"ACTIVE","profile":{"login":"joe@example.com"},' +
+        '"_links":{"self":{"href":"%s/api/v1/users/00u1"}}}'
+
+    @Test
+    void testGetAsync() {
+        stubLinkedUser()
+        def userApi = new UserApi(apiClient(Caches.newDisabledCacheManager()))
+
+        def user = userApi.getUserAsync("00u1", null, null).get(10, TimeUnit.SECONDS)
+
+        assertThat user.id, is("00u1")
+        assertThat user.profile.login, is("joe@example.com")
+    }
+
+    @Test
+    void testGetAsyncUsesCache() {
+        stubLinkedUser()
+        def userApi = new UserApi(apiClient(Caches.newCacheManager().build()))
+
+        userApi.getUserAsync("00u1", null, null).get(10, TimeUnit.SECONDS)
+        def user = userApi.getUserAsync("00u1", null, null).get(10, TimeUnit.SECONDS)
+
+        assertThat user.id, is("00u1")
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    @Test
+    void testResponseIsReadOnTheResponseExecutor() {
+        stubLinkedUser()
+        def executor = Executors.newSingleThreadExecutor { r -> new Thread(r, "async-response") }
+        def threads = new CopyOnWriteArrayList<String>()
+        def client = apiClient(Caches.newDisabledCacheManager())
+        client.setAsyncResponseExecutor { r -> executor.execute { threads.add(Thread.currentThread().name); r.run() } }
+
+        try {
+            def user = new UserApi(client).getUserAsync("00u1", null, null).get(10, TimeUnit.SECONDS)
+
+            assertThat user.id, is("00u1")
+            assertThat threads, is(["async-response"])
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    void testErrorResponseCompletesExceptionally() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/users/missing"))
+            .willReturn(aResponse()
+                .withStatus(404)
+                .withHeader("Content-Type", "application/json")
+                .withBody('{"errorCode":"E0000007","errorSummary":"Not found: Resource not found: missing (User)"}')))
+        def userApi = new UserApi(apiClient(Caches.newDisabledCacheManager()))
+
+        try {
+            userApi.getUserAsync("missing", null, null).join()
+            fail("expected CompletionException")
+        } catch (CompletionException e) {
+            assertThat e.cause, instanceOf(ApiException)
+            assertThat((e.cause as ApiException).code, is(404))
+        }
+    }
+
+    @Test
+    void testAsyncClientNotConfigured() {
+        def client = newApiClient(Caches.newDisabledCacheManager())
+
+        try {
+            new UserApi(client).getUserAsync("00u1", null, null).join()
+            fail("expected CompletionException")
+        } catch (CompletionException e) {
+            assertThat e.cause, instanceOf(ApiException)
+        }
+    }
+
+    private ApiClient apiClient(CacheManager cacheManager) {
+        def client = newApiClient(cacheManager)
+        client.setAsyncHttpClient(asyncHttpClient())
+        return client
+    }
+
+    private void stubLinkedUser() {
+        stubUser(okJson(String.format(LINKED_USER_JSON, wireMockServer.baseUrl())))
+    }
+}
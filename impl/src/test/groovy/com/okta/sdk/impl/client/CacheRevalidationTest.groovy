@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.client
+
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.api.UserApi
+import com.okta.sdk.resource.client.ApiClient
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.sameInstance
+
+/**
+ * Tests for the {@code If-None-Match} revalidation of expired cache entries in {@link ApiClient}.
+ */
+class CacheRevalidationTest extends ApiClientTestSupport {
+
+    private static final long TTL_MILLIS = 100
+    private static final String ETAG = 'W/"3f9c5a1e"'
+
+    private ApiClient apiClient
+
+    @BeforeMethod
+    void setup() {
+        def cacheManager = Caches.newCacheManager()
+            .withDefaultTimeToLive(TTL_MILLIS, TimeUnit.MILLISECONDS)
+            .build()
+        apiClient = newApiClient(cacheManager)
+        apiClient.setAsyncHttpClient(asyncHttpClient())
+
+        stubUser(okJson(USER_JSON).withHeader("ETag", ETAG))
+        wireMockServer.stubFor(get(urlPathEqualTo(USER_PATH))
+            .withHeader("If-None-Match", equalTo(ETAG))
+            .willReturn(aResponse().withStatus(304).withHeader("ETag", ETAG)))
+    }
+
+    @Test
+    void testExpiredEntryIsRevalidated() {
+        def userApi = new UserApi(apiClient)
+
+        def user = userApi.getUser("00u1", null, null)
+        Thread.sleep(TTL_MILLIS * 2)
+
+        // 304: the cached instance is returned and its TTL restarts
+        assertThat userApi.getUser("00u1", null, null), sameInstance(user)
+        assertThat userApi.getUser("00u1", null, null), sameInstance(user)
+
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(USER_PATH)))
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)).withHeader("If-None-Match", equalTo(ETAG)))
+    }
+
+    @Test
+    void testChangedResourceIsDownloadedAgain() {
+        def userApi = new UserApi(apiClient)
+
+        userApi.getUser("00u1", null, null)
+        Thread.sleep(TTL_MILLIS * 2)
+
+        wireMockServer.stubFor(get(urlPathEqualTo(USER_PATH))
+            .withHeader("If-None-Match", equalTo(ETAG))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withHeader("ETag", 'W/"7b21d0c4"')
+                .withBody(USER_JSON.replace("ACTIVE", "SUSPENDED"))))
+
+        assertThat userApi.getUser("00u1", null, null).status.value, is("SUSPENDED")
+        assertThat userApi.getUser("00u1", null, null).status.value, is("SUSPENDED")
+
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    @Test
+    void testAsyncExpiredEntryIsRevalidated() {
+        def userApi = new UserApi(apiClient)
+
+        def user = userApi.getUserAsync("00u1", null, null).get(10, TimeUnit.SECONDS)
+        Thread.sleep(TTL_MILLIS * 2)
+
+        assertThat userApi.getUserAsync("00u1", null, null).get(10, TimeUnit.SECONDS), sameInstance(user)
+
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)).withHeader("If-None-Match", equalTo(ETAG)))
+    }
+}
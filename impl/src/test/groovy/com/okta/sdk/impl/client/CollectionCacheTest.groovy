@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.client
+
+import com.okta.sdk.cache.CacheManager
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.api.GroupApi
+import com.okta.sdk.resource.client.ApiClient
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.contains
+import static org.hamcrest.Matchers.is
+
+/**
+ * Tests for the caching of list operations, see {@link ApiClient#setCollectionCaching(boolean)}.
+ */
+class CollectionCacheTest extends ApiClientTestSupport {
+
+    private static final String MEMBERS_PATH = "/api/v1/groups/00g1/users"
+
+    private CacheManager cacheManager
+
+    @BeforeMethod
+    void setup() {
+        cacheManager = Caches.newCacheManager()
+            .withCache(Caches.forCollections().withTimeToLive(1, TimeUnit.MINUTES).withMaximumSize(100))
+            .build()
+
+        wireMockServer.stubFor(get(urlPathEqualTo(MEMBERS_PATH))
+            .willReturn(okJson('[{"id":"00u1"},{"id":"00u2"}]')
+                .withHeader("Link", "<${wireMockServer.baseUrl()}${MEMBERS_PATH}?after=00u2&limit=2>; rel=\"next\"")))
+        wireMockServer.stubFor(get(urlPathEqualTo(MEMBERS_PATH))
+            .withQueryParam("after", equalTo("00u2"))
+            .willReturn(okJson('[{"id":"00u3"}]')))
+        wireMockServer.stubFor(put(urlPathEqualTo(MEMBERS_PATH + "/00u4"))
+            .willReturn(aResponse().withStatus(204)))
+    }
+
+    @Test
+    void testCachedPagedIterableMakesNoRequests() {
+        def groupApi = new GroupApi(apiClient(true))
+
+        assertThat groupApi.listGroupUsersPaged("00g1", null, 2).collect { it.id }, contains("00u1", "00u2", "00u3")
+        assertThat groupApi.listGroupUsersPaged("00g1", null, 2).collect { it.id }, contains("00u1", "00u2", "00u3")
+
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(MEMBERS_PATH)))
+    }
+
+    @Test
+    void testListCallsAreCached() {
+        def groupApi = new GroupApi(apiClient(true))
+
+        def members = groupApi.listGroupUsers("00g1", null, 2)
+        members.clear()
+
+        // the cached page is not changed by its callers
+        assertThat groupApi.listGroupUsers("00g1", null, 2).collect { it.id }, contains("00u1", "00u2")
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(MEMBERS_PATH)))
+    }
+
+    @Test
+    void testMembershipChangeInvalidatesAllPages() {
+        def apiClient = apiClient(true)
+        def groupApi = new GroupApi(apiClient)
+
+        groupApi.listGroupUsersPaged("00g1", null, 2).collect()
+        groupApi.assignUserToGroup("00g1", "00u4")
+        groupApi.listGroupUsersPaged("00g1", null, 2).collect()
+
+        wireMockServer.verify(4, getRequestedFor(urlPathEqualTo(MEMBERS_PATH)))
+    }
+
+    @Test
+    void testWriteThroughAnotherClientInvalidatesPages() {
+        def groupApi = new GroupApi(apiClient(true))
+
+        groupApi.listGroupUsers("00g1", null, 2)
+        new GroupApi(apiClient(false)).assignUserToGroup("00g1", "00u4")
+        groupApi.listGroupUsers("00g1", null, 2)
+
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(MEMBERS_PATH)))
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        def apiClient = newApiClient(cacheManager)
+        def groupApi = new GroupApi(apiClient)
+
+        assertThat apiClient.isCollectionCachingEnabled(), is(false)
+        groupApi.listGroupUsers("00g1", null, 2)
+        groupApi.listGroupUsers("00g1", null, 2)
+
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(MEMBERS_PATH)))
+    }
+
+    private ApiClient apiClient(boolean collectionCaching) {
+        ApiClient apiClient = newApiClient(cacheManager)
+        apiClient.setCollectionCaching(collectionCaching)
+        return apiClient
+    }
+}
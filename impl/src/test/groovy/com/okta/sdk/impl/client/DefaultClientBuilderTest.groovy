@@ -26,6 +26,7 @@ import com.okta.sdk.impl.Util
 import com.okta.sdk.impl.io.DefaultResourceFactory
 import com.okta.sdk.impl.io.Resource
 import com.okta.sdk.impl.io.ResourceFactory
+import com.okta.sdk.impl.metrics.DefaultMetricsRecorder
 import com.okta.sdk.impl.oauth2.OAuth2HttpException
 import com.okta.sdk.impl.oauth2.OAuth2TokenRetrieverException
 import com.okta.sdk.impl.test.RestoreEnvironmentVariables
@@ -38,6 +39,7 @@ import org.mockito.stubbing.Answer
 import org.testng.annotations.Listeners
 import org.testng.annotations.Test
 
+import java.lang.management.ManagementFactory
 import java.nio.file.Path
 import java.security.KeyPair
 import java.security.KeyPairGenerator
@@ -45,6 +47,7 @@ import java.security.PrivateKey
 
 import static org.hamcrest.MatcherAssert.assertThat
 import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.notNullValue
 import static org.hamcrest.Matchers.nullValue
 import static org.mockito.ArgumentMatchers.anyString
 import static org.mockito.Mockito.*
@@ -178,6 +181,78 @@ class DefaultClientBuilderTest {
         }
     }
 
+    @Test
+    void testAsyncEnabled() {
+        clearOktaEnvAndSysProps()
+        def client = new DefaultClientBuilder(noDefaultYamlNoAppYamlResourceFactory())
+            .setOrgUrl("https://okta.example.com")
+            .setClientCredentials(new TokenClientCredentials("some-token"))
+            .setAsyncEnabled(true)
+            .build()
+        assertThat client.asyncHttpClient, notNullValue()
+        client.asyncHttpClient.close()
+    }
+
+    @Test
+    void testAsyncDisabledByDefault() {
+        clearOktaEnvAndSysProps()
+        def client = new DefaultClientBuilder(noDefaultYamlNoAppYamlResourceFactory())
+            .setOrgUrl("https://okta.example.com")
+            .setClientCredentials(new TokenClientCredentials("some-token"))
+            .build()
+        assertThat client.asyncHttpClient, nullValue()
+    }
+
+    @Test
+    void testMetricsAreNotRegisteredWithJmxByDefault() {
+        clearOktaEnvAndSysProps()
+        def client = new DefaultClientBuilder(noDefaultYamlNoAppYamlResourceFactory())
+            .setOrgUrl("https://okta.example.com")
+            .setClientCredentials(new TokenClientCredentials("some-token"))
+            .setMetricsEnabled(true)
+            .build()
+        assertThat((client.metricsRecorder as DefaultMetricsRecorder).objectName, nullValue())
+    }
+
+    @Test
+    void testMetricsJmxEnabled() {
+        clearOktaEnvAndSysProps()
+        def client = new DefaultClientBuilder(noDefaultYamlNoAppYamlResourceFactory())
+            .setOrgUrl("https://okta.example.com")
+            .setClientCredentials(new TokenClientCredentials("some-token"))
+            .setMetricsJmxEnabled(true)
+            .build()
+        def recorder = client.metricsRecorder as DefaultMetricsRecorder
+        def name = recorder.objectName
+        assertThat name, notNullValue()
+        assertThat ManagementFactory.platformMBeanServer.isRegistered(name), is(true)
+
+        recorder.unregister()
+        assertThat ManagementFactory.platformMBeanServer.isRegistered(name), is(false)
+    }
+
+    @Test
+    void testRateLimitPacingEnabled() {
+        clearOktaEnvAndSysProps()
+        def client = new DefaultClientBuilder(noDefaultYamlNoAppYamlResourceFactory())
+            .setOrgUrl("https://okta.example.com")
+            .setClientCredentials(new TokenClientCredentials("some-token"))
+            .setRateLimitPacingEnabled(true)
+            .build()
+        assertThat client.rateLimitStatus, notNullValue()
+        assertThat client.rateLimitStatus.buckets.size(), is(0)
+    }
+
+    @Test
+    void testRateLimitPacingDisabledByDefault() {
+        clearOktaEnvAndSysProps()
+        def client = new DefaultClientBuilder(noDefaultYamlNoAppYamlResourceFactory())
+            .setOrgUrl("https://okta.example.com")
+            .setClientCredentials(new TokenClientCredentials("some-token"))
+            .build()
+        assertThat client.rateLimitStatus, nullValue()
+    }
+
     @Test
     void testNullApiToken() {
         clearOktaEnvAndSysProps()
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.client
+
+import com.okta.sdk.cache.CacheManager
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.api.UserApi
+import com.okta.sdk.resource.api.UserLifecycleApi
+import com.okta.sdk.resource.client.ApiClient
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.not
+import static org.hamcrest.Matchers.sameInstance
+
+/**
+ * Tests for the cache keys of requests with query parameters and the cache scope in {@link ApiClient}.
+ */
+class QueryCacheKeyTest extends ApiClientTestSupport {
+
+    private static final String EXPANDED_USER_JSON = '{"id":"00u1","status":"ACTIVE","profile":{"login":"joe@example.com"},' +
+        '"_embedded":{"blocks":[]}}'
+
+    private CacheManager cacheManager
+
+    @BeforeMethod
+    void setup() {
+        cacheManager = Caches.newCacheManager().build()
+
+        stubUser()
+        wireMockServer.stubFor(get(urlPathEqualTo(USER_PATH))
+            .withQueryParam("expand", equalTo("blocks"))
+            .willReturn(okJson(EXPANDED_USER_JSON)))
+        wireMockServer.stubFor(post(urlPathEqualTo(USER_PATH + "/lifecycle/suspend"))
+            .willReturn(aResponse().withStatus(200)))
+    }
+
+    @Test
+    void testExpandedResourceIsCachedSeparately() {
+        def userApi = new UserApi(apiClient(null))
+
+        def expanded = userApi.getUser("00u1", null, "blocks")
+        def plain = userApi.getUser("00u1", null, null)
+
+        assertThat plain, not(sameInstance(expanded))
+        assertThat userApi.getUser("00u1", null, "blocks"), sameInstance(expanded)
+        assertThat userApi.getUser("00u1", null, null), sameInstance(plain)
+
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(USER_PATH)))
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)).withQueryParam("expand", equalTo("blocks")))
+    }
+
+    @Test
+    void testWriteInvalidatesExpandedResource() {
+        def apiClient = apiClient(null)
+        def userApi = new UserApi(apiClient)
+
+        def expanded = userApi.getUser("00u1", null, "blocks")
+        new UserLifecycleApi(apiClient).suspendUser("00u1")
+
+        assertThat userApi.getUser("00u1", null, "blocks"), not(sameInstance(expanded))
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(USER_PATH)).withQueryParam("expand", equalTo("blocks")))
+    }
+
+    @Test
+    void testCacheScopesAreSeparate() {
+        def user = new UserApi(apiClient("client1 okta.users.read")).getUser("00u1", null, "blocks")
+
+        assertThat new UserApi(apiClient("client1 okta.users.read")).getUser("00u1", null, "blocks"), sameInstance(user)
+        assertThat new UserApi(apiClient("client2 okta.users.read")).getUser("00u1", null, "blocks"), not(sameInstance(user))
+        assertThat new UserApi(apiClient(null)).getUser("00u1", null, "blocks"), not(sameInstance(user))
+
+        wireMockServer.verify(3, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    @Test
+    void testWriteInvalidatesExpandedResourceForOtherClients() {
+        def userApi = new UserApi(apiClient(null))
+        def expanded = userApi.getUser("00u1", null, "blocks")
+
+        new UserLifecycleApi(apiClient(null)).suspendUser("00u1")
+
+        assertThat userApi.getUser("00u1", null, "blocks"), not(sameInstance(expanded))
+        assertThat userApi.getUser("00u1", null, "blocks").id, is("00u1")
+    }
+
+    @Test
+    void testWriteInvalidatesResourceInOtherCacheScopes() {
+        def readerApi = new UserApi(apiClient("client1 okta.users.read"))
+        def plain = readerApi.getUser("00u1", null, null)
+        def expanded = readerApi.getUser("00u1", null, "blocks")
+
+        new UserLifecycleApi(apiClient("client2 okta.users.manage")).suspendUser("00u1")
+
+        assertThat readerApi.getUser("00u1", null, null), not(sameInstance(plain))
+        assertThat readerApi.getUser("00u1", null, "blocks"), not(sameInstance(expanded))
+        wireMockServer.verify(4, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    private ApiClient apiClient(String cacheScope) {
+        ApiClient apiClient = newApiClient(cacheManager)
+        apiClient.setCacheScope(cacheScope)
+        return apiClient
+    }
+}
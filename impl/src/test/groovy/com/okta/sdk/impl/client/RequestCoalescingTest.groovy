@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.client
+
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.api.UserApi
+import com.okta.sdk.resource.client.ApiClient
+import com.okta.sdk.resource.client.ApiException
+import com.okta.sdk.resource.model.User
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.instanceOf
+import static org.hamcrest.Matchers.is
+import static org.testng.Assert.fail
+
+/**
+ * Tests for the coalescing of identical concurrent GETs in {@link ApiClient}.
+ */
+class RequestCoalescingTest extends ApiClientTestSupport {
+
+    private static final int CALLERS = 8
+
+    private ExecutorService executor
+    private ApiClient apiClient
+
+    @BeforeMethod
+    void setup() {
+        executor = Executors.newFixedThreadPool(CALLERS)
+        apiClient = newApiClient(pooledHttpClient(CALLERS), Caches.newDisabledCacheManager())
+        apiClient.setAsyncHttpClient(asyncHttpClient())
+        apiClient.setRequestCoalescingEnabled(true)
+    }
+
+    @AfterMethod
+    void teardown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    void testConcurrentIdenticalGetsShareOneRequest() {
+        stubSlowUser(200, USER_JSON)
+        def userApi = new UserApi(apiClient)
+
+        List<User> users = runConcurrently { userApi.getUser("00u1", null, null) }*.get()
+
+        assertThat users.size(), is(CALLERS)
+        users.each { assertThat it.id, is("00u1") }
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)))
+        assertThat apiClient.coalescedRequestCount, is((CALLERS - 1) as long)
+    }
+
+    @Test
+    void testCoalescedCallersSeeTheSharedStatusAndHeaders() {
+        stubSlowUser(200, USER_JSON)
+        def userApi = new UserApi(apiClient)
+
+        def responses = runConcurrently {
+            userApi.getUser("00u1", null, null)
+            return [apiClient.getStatusCode(), apiClient.getResponseHeaders().get("x-okta-request-id")]
+        }*.get()
+
+        responses.each { assertThat it, is([200, ["req-1"]]) }
+        assertThat apiClient.coalescedRequestCount, is((CALLERS - 1) as long)
+    }
+
+    @Test
+    void testFailureIsSharedWithAllCallers() {
+        stubSlowUser(404, '{"errorCode":"E0000007","errorSummary":"Not found: Resource not found: 00u1 (User)"}')
+        def userApi = new UserApi(apiClient)
+
+        runConcurrently { userApi.getUser("00u1", null, null) }.each {
+            try {
+                it.get()
+                fail("expected ApiException")
+            } catch (ExecutionException e) {
+                assertThat e.cause, instanceOf(ApiException)
+                assertThat((e.cause as ApiException).code, is(404))
+            }
+        }
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    @Test
+    void testDifferentHeadersAreNotCoalesced() {
+        stubSlowUser(200, USER_JSON)
+        def userApi = new UserApi(apiClient)
+        int caller = 0
+
+        runConcurrently {
+            // e.g. two different callers' credentials
+            userApi.getUser("00u1", null, null, ["Authorization": "SSWS token-" + (caller++ % 2)])
+        }*.get()
+
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    @Test
+    void testCoalescingCanBeDisabled() {
+        stubSlowUser(200, USER_JSON)
+        apiClient.setRequestCoalescingEnabled(false)
+        def userApi = new UserApi(apiClient)
+
+        runConcurrently { userApi.getUser("00u1", null, null) }*.get()
+
+        wireMockServer.verify(CALLERS, getRequestedFor(urlPathEqualTo(USER_PATH)))
+        assertThat apiClient.coalescedRequestCount, is(0L)
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        stubSlowUser(200, USER_JSON)
+        def userApi = new UserApi(newApiClient(pooledHttpClient(CALLERS), Caches.newDisabledCacheManager()))
+
+        runConcurrently { userApi.getUser("00u1", null, null) }*.get()
+
+        wireMockServer.verify(CALLERS, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    @Test
+    void testAsyncGetsShareOneRequest() {
+        stubSlowUser(200, USER_JSON)
+        def userApi = new UserApi(apiClient)
+
+        def futures = (1..CALLERS).collect { userApi.getUserAsync("00u1", null, null) }
+        // a blocking caller joins the same exchange
+        def user = userApi.getUser("00u1", null, null)
+
+        futures.each { assertThat it.get(10, TimeUnit.SECONDS).id, is("00u1") }
+        assertThat user.id, is("00u1")
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)))
+        assertThat apiClient.coalescedRequestCount, is(CALLERS as long)
+    }
+
+    @Test
+    void testAsyncFailureIsShared() {
+        stubSlowUser(404, '{"errorCode":"E0000007","errorSummary":"Not found"}')
+        def userApi = new UserApi(apiClient)
+
+        def futures = (1..3).collect { userApi.getUserAsync("00u1", null, null) }
+
+        futures.each {
+            try {
+                it.join()
+                fail("expected CompletionException")
+            } catch (CompletionException e) {
+                assertThat e.cause, instanceOf(ApiException)
+            }
+        }
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(USER_PATH)))
+    }
+
+    private <T> List<Future<T>> runConcurrently(Closure<T> call) {
+        def start = new CountDownLatch(1)
+        List<Future<T>> futures = (1..CALLERS).collect {
+            executor.submit({
+                start.await()
+                return call.call()
+            } as Callable<T>)
+        }
+        start.countDown()
+        return futures
+    }
+
+    private void stubSlowUser(int status, String body) {
+        stubUser(aResponse()
+            .withStatus(status)
+            .withFixedDelay(1000)
+            .withHeader("Content-Type", "application/json")
+            .withHeader("x-okta-request-id", "req-1")
+            .withBody(body))
+    }
+}
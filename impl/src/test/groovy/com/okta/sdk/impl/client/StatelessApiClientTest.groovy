@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.client
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.api.UserApi
+import com.okta.sdk.resource.client.ApiClient
+import com.okta.sdk.resource.client.ApiException
+import com.okta.sdk.resource.model.User
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+import static org.testng.Assert.expectThrows
+
+/**
+ * Tests for the stateless mode of {@link ApiClient}, including a stress test sharing one client across many threads.
+ */
+class StatelessApiClientTest extends ApiClientTestSupport {
+
+    private static final int THREADS = 200
+    private static final int CALLS_PER_THREAD = 25
+    private static final int USERS = 50
+
+    private ExecutorService executor
+    private ApiClient apiClient
+
+    @Override
+    protected WireMockConfiguration wireMockOptions() {
+        return super.wireMockOptions().containerThreads(THREADS + 10)
+    }
+
+    @BeforeMethod
+    void setup() {
+        (1..USERS).each { stubNumberedUser(userId(it)) }
+        executor = Executors.newFixedThreadPool(THREADS)
+
+        apiClient = newApiClient(pooledHttpClient(THREADS), Caches.newDisabledCacheManager())
+        apiClient.setStatelessEnabled(true)
+    }
+
+    @AfterMethod
+    void teardown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    void testSharedClientDoesNotLeakAcrossThreads() {
+        def userApi = new UserApi(apiClient)
+        def start = new CountDownLatch(1)
+
+        def futures = (1..THREADS).collect {
+            executor.submit({
+                start.await()
+                int checked = 0
+                CALLS_PER_THREAD.times {
+                    String id = userId(ThreadLocalRandom.current().nextInt(1, USERS + 1))
+                    // every caller only ever sees the response to its own request
+                    assertThat userApi.getUser(id, null, null).id, is(id)
+
+                    def response = getWithHttpInfo(id)
+                    assertThat response.statusCode, is(200)
+                    assertThat response.body.id, is(id)
+                    assertThat response.headers.get("x-user-id"), is([id])
+                    checked++
+                }
+                return checked
+            } as Callable<Integer>)
+        }
+        start.countDown()
+
+        assertThat futures.sum { it.get(2, TimeUnit.MINUTES) } as int, is(THREADS * CALLS_PER_THREAD)
+    }
+
+    @Test
+    void testLastResponseIsNotRecorded() {
+        new UserApi(apiClient).getUser(userId(1), null, null)
+
+        expectThrows(IllegalStateException, { apiClient.getResponseHeaders() })
+        expectThrows(IllegalStateException, { apiClient.getStatusCode() })
+
+        // the default mode still records it for PaginationUtil
+        apiClient.setStatelessEnabled(false)
+        new UserApi(apiClient).getUser(userId(2), null, null)
+        assertThat apiClient.getStatusCode(), is(200)
+        assertThat apiClient.getResponseHeaders().get("x-user-id"), is([userId(2)])
+    }
+
+    @Test
+    void testErrorsStillCarryHeaders() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/users/missing"))
+            .willReturn(aResponse()
+                .withStatus(404)
+                .withHeader("Content-Type", "application/json")
+                .withHeader("x-okta-request-id", "req-1")
+                .withBody('{"errorCode":"E0000007","errorSummary":"Not found"}')))
+
+        def e = expectThrows(ApiException, { new UserApi(apiClient).getUser("missing", null, null) })
+        assertThat e.code, is(404)
+        assertThat e.responseHeaders.get("x-okta-request-id"), is(["req-1"])
+    }
+
+    private def getWithHttpInfo(String id) {
+        return apiClient.invokeAPIWithHttpInfo("/api/v1/users/" + id, "GET", [], [], null, null, [:], [:], [:],
+            "application/json", null, [] as String[], new TypeReference<User>() {})
+    }
+
+    private void stubNumberedUser(String id) {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/users/" + id))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withHeader("x-user-id", id)
+                .withBody('{"id":"' + id + '","status":"ACTIVE","profile":{"login":"' + id + '@example.com"}}')))
+    }
+
+    private static String userId(int i) {
+        return String.format("00u%03d", i)
+    }
+}
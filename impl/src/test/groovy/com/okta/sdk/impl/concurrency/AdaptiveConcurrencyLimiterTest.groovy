@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.concurrency
+
+import com.okta.sdk.client.RequestPriority
+import com.okta.sdk.impl.concurrency.AdaptiveConcurrencyLimiter.Outcome
+import org.testng.annotations.Test
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.greaterThan
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.lessThan
+import static org.hamcrest.Matchers.notNullValue
+import static org.hamcrest.Matchers.nullValue
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter}.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1)
+
+    @Test
+    void testRejectsImmediatelyWithoutQueueTimeout() {
+        def limiter = new AdaptiveConcurrencyLimiter(2, 10, 0, TimeUnit.SECONDS, 10, 0.9, 2.0)
+
+        assertThat limiter.acquire(), is(true)
+        assertThat limiter.acquire(), is(true)
+        assertThat limiter.acquire(), is(false)
+        assertThat limiter.inFlight, is(2)
+        assertThat limiter.rejectedCount, is(1L)
+
+        limiter.release(10 * MILLIS, Outcome.SUCCESS)
+        assertThat limiter.acquire(), is(true)
+    }
+
+    @Test
+    void testQueuedRequestGetsReleasedPermit() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 5, TimeUnit.SECONDS, 10, 0.9, 2.0)
+        assertThat limiter.acquire(), is(true)
+
+        def acquired = new AtomicBoolean()
+        def waiting = new CountDownLatch(1)
+        def thread = Thread.start {
+            waiting.countDown()
+            acquired.set(limiter.acquire())
+        }
+        waiting.await()
+        while (limiter.queueDepth == 0) {
+            Thread.sleep(5)
+        }
+
+        limiter.release(10 * MILLIS, Outcome.SUCCESS)
+        thread.join(5000)
+        assertThat acquired.get(), is(true)
+        assertThat limiter.inFlight, is(1)
+        assertThat limiter.queueDepth, is(0)
+    }
+
+    @Test
+    void testQueueTimeoutRejects() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 50, TimeUnit.MILLISECONDS, 10, 0.9, 2.0)
+        assertThat limiter.acquire(), is(true)
+
+        long start = System.nanoTime()
+        assertThat limiter.acquire(), is(false)
+        assertThat System.nanoTime() - start, greaterThan(40 * MILLIS)
+        assertThat limiter.queueDepth, is(0)
+        assertThat limiter.rejectedCount, is(1L)
+    }
+
+    @Test
+    void testFullQueueRejects() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 5, TimeUnit.SECONDS, 1, 0.9, 2.0)
+        assertThat limiter.acquire(), is(true)
+        assertThat limiter.acquireAsync({}), notNullValue()
+        assertThat limiter.acquireAsync({}), nullValue()
+        assertThat limiter.queueDepth, is(1)
+        assertThat limiter.rejectedCount, is(1L)
+    }
+
+    @Test
+    void testAsyncCallbackRunsOnRelease() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 5, TimeUnit.SECONDS, 10, 0.9, 2.0)
+        def first = new AtomicBoolean()
+        def second = new AtomicBoolean()
+
+        limiter.acquireAsync({ first.set(true) })
+        def wait = limiter.acquireAsync({ second.set(true) })
+        assertThat first.get(), is(true)
+        assertThat second.get(), is(false)
+
+        limiter.release(10 * MILLIS, Outcome.SUCCESS)
+        assertThat second.get(), is(true)
+        // already granted, too late to cancel
+        assertThat wait.cancel(), is(false)
+        assertThat limiter.inFlight, is(1)
+    }
+
+    @Test
+    void testCancelledAsyncWaitIsRejected() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 5, TimeUnit.SECONDS, 10, 0.9, 2.0)
+        def ran = new AtomicBoolean()
+        limiter.acquireAsync({})
+        def wait = limiter.acquireAsync({ ran.set(true) })
+
+        assertThat wait.cancel(), is(true)
+        limiter.release(10 * MILLIS, Outcome.SUCCESS)
+        assertThat ran.get(), is(false)
+        assertThat limiter.inFlight, is(0)
+        assertThat limiter.rejectedCount, is(1L)
+    }
+
+    @Test
+    void testBatchLeavesTheReserveToInteractive() {
+        def limiter = new AdaptiveConcurrencyLimiter(10, 10, 0, TimeUnit.SECONDS, 10, 0.9, 2.0, 0.2)
+
+        8.times { assertThat limiter.acquire(RequestPriority.BATCH), is(true) }
+        assertThat limiter.acquire(RequestPriority.BATCH), is(false)
+        assertThat limiter.acquire(RequestPriority.INTERACTIVE), is(true)
+        assertThat limiter.acquire(RequestPriority.INTERACTIVE), is(true)
+        assertThat limiter.acquire(RequestPriority.INTERACTIVE), is(false)
+
+        limiter.release(RequestPriority.BATCH, 10 * MILLIS, Outcome.SUCCESS)
+        assertThat limiter.acquire(RequestPriority.BATCH), is(true)
+    }
+
+    @Test
+    void testQueuedInteractiveIsGrantedBeforeQueuedBatch() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 5, TimeUnit.SECONDS, 10, 0.9, 2.0, 0.2)
+        def order = []
+        limiter.acquireAsync(RequestPriority.BATCH, { order << "first" })
+        limiter.acquireAsync(RequestPriority.BATCH, { order << "batch" })
+        limiter.acquireAsync(RequestPriority.INTERACTIVE, { order << "interactive" })
+        assertThat limiter.queueDepth, is(2)
+
+        limiter.release(RequestPriority.BATCH, 10 * MILLIS, Outcome.SUCCESS)
+        assertThat order, is(["first", "interactive"])
+
+        limiter.release(RequestPriority.INTERACTIVE, 10 * MILLIS, Outcome.SUCCESS)
+        assertThat order, is(["first", "interactive", "batch"])
+    }
+
+    @Test
+    void testLimitGrowsWhileUsedAndShrinksOnDrops() {
+        def limiter = new AdaptiveConcurrencyLimiter(4, 8, 0, TimeUnit.SECONDS, 10, 0.5, 2.0)
+
+        // keep the limit saturated with fast responses
+        200.times {
+            while (limiter.inFlight < limiter.limit) {
+                limiter.acquire()
+            }
+            limiter.release(10 * MILLIS, Outcome.SUCCESS)
+        }
+        assertThat limiter.limit, is(8)
+
+        while (limiter.inFlight > 0) {
+            limiter.release(10 * MILLIS, Outcome.DROPPED)
+        }
+        assertThat limiter.limit, lessThan(8)
+    }
+
+    @Test
+    void testLimitDoesNotGrowWhenUnused() {
+        def limiter = new AdaptiveConcurrencyLimiter(10, 50, 0, TimeUnit.SECONDS, 10, 0.9, 2.0)
+        200.times {
+            limiter.acquire()
+            limiter.release(10 * MILLIS, Outcome.SUCCESS)
+        }
+        assertThat limiter.limit, is(10)
+    }
+
+    @Test
+    void testSlowResponsesShrinkTheLimit() {
+        def limiter = new AdaptiveConcurrencyLimiter(10, 50, 0, TimeUnit.SECONDS, 10, 0.9, 2.0)
+        limiter.acquire()
+        limiter.release(10 * MILLIS, Outcome.SUCCESS)
+
+        5.times {
+            limiter.acquire()
+            limiter.release(100 * MILLIS, Outcome.SUCCESS)
+        }
+        assertThat limiter.limit, lessThan(10)
+
+        // failures that say nothing about the server leave the limit alone
+        int limit = limiter.limit
+        limiter.acquire()
+        limiter.release(500 * MILLIS, Outcome.IGNORED)
+        assertThat limiter.limit, is(limit)
+    }
+}
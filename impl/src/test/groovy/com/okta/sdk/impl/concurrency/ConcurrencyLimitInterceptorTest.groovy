@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.concurrency
+
+import com.github.tomakehurst.wiremock.WireMockServer
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder
+import org.apache.hc.client5.http.classic.methods.HttpGet
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients
+import org.apache.hc.client5.http.impl.classic.HttpClients
+import org.apache.hc.core5.http.io.entity.EntityUtils
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.instanceOf
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.lessThan
+import static org.testng.Assert.expectThrows
+
+/**
+ * Tests for {@link ConcurrencyLimitInterceptor} against WireMock.
+ */
+class ConcurrencyLimitInterceptorTest {
+
+    private WireMockServer wireMockServer
+
+    @BeforeMethod
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort())
+        wireMockServer.start()
+    }
+
+    @AfterMethod
+    void teardown() {
+        wireMockServer.stop()
+    }
+
+    @Test
+    void testClassicPermitIsReleasedAndThrottlingShrinksTheLimit() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/users")).willReturn(aResponse().withStatus(200)))
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/apps")).willReturn(aResponse().withStatus(429)))
+        def limiter = new AdaptiveConcurrencyLimiter(10, 10, 0, TimeUnit.SECONDS, 10, 0.5, 2.0)
+        def client = HttpClients.custom().addExecInterceptorLast("concurrencyLimit", new ConcurrencyLimitInterceptor(limiter)).build()
+
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/users"), { EntityUtils.consume(it.entity) })
+        assertThat limiter.inFlight, is(0)
+        assertThat limiter.limit, is(10)
+
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/apps"), { EntityUtils.consume(it.entity) })
+        assertThat limiter.inFlight, is(0)
+        assertThat limiter.limit, lessThan(10)
+        client.close()
+    }
+
+    @Test
+    void testClassicPermitIsHeldUntilTheBodyIsRead() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/users")).willReturn(okJson('[{"id":"00u1"}]')))
+        def limiter = new AdaptiveConcurrencyLimiter(10, 10, 0, TimeUnit.SECONDS, 10, 0.5, 2.0)
+        def client = HttpClients.custom().addExecInterceptorLast("concurrencyLimit", new ConcurrencyLimitInterceptor(limiter)).build()
+
+        def response = client.executeOpen(null, new HttpGet(wireMockServer.baseUrl() + "/api/v1/users"), null)
+        assertThat limiter.inFlight, is(1)
+        assertThat EntityUtils.toString(response.entity), is('[{"id":"00u1"}]')
+        assertThat limiter.inFlight, is(0)
+        response.close()
+
+        response = client.executeOpen(null, new HttpGet(wireMockServer.baseUrl() + "/api/v1/users"), null)
+        assertThat limiter.inFlight, is(1)
+        response.close()
+        assertThat limiter.inFlight, is(0)
+        client.close()
+    }
+
+    @Test
+    void testClassicRequestOverTheLimitIsRejected() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 0, TimeUnit.SECONDS, 10, 0.9, 2.0)
+        limiter.acquire()
+        def client = HttpClients.custom().addExecInterceptorLast("concurrencyLimit", new ConcurrencyLimitInterceptor(limiter)).build()
+
+        expectThrows(ConcurrencyLimitExceededException, {
+            client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/users"), { EntityUtils.consume(it.entity) })
+        })
+        wireMockServer.verify(0, getRequestedFor(anyUrl()))
+        client.close()
+    }
+
+    @Test
+    void testAsyncRequestWaitsForPermit() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/groups")).willReturn(aResponse().withStatus(200)))
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 5, TimeUnit.SECONDS, 10, 0.9, 2.0)
+        def client = HttpAsyncClients.custom().addExecInterceptorLast("concurrencyLimit", new ConcurrencyLimitInterceptor(limiter)).build()
+        client.start()
+
+        limiter.acquire()
+        def future = client.execute(SimpleRequestBuilder.get(wireMockServer.baseUrl() + "/api/v1/groups").build(), null)
+        Thread.sleep(100)
+        assertThat future.done, is(false)
+        assertThat limiter.queueDepth, is(1)
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), AdaptiveConcurrencyLimiter.Outcome.SUCCESS)
+        assertThat future.get(10, TimeUnit.SECONDS).code, is(200)
+        // the permit of the async request is returned once its response arrived
+        while (limiter.inFlight > 0) {
+            Thread.sleep(5)
+        }
+        client.close()
+    }
+
+    @Test
+    void testQueuedAsyncRequestTimesOut() {
+        def limiter = new AdaptiveConcurrencyLimiter(1, 1, 100, TimeUnit.MILLISECONDS, 10, 0.9, 2.0)
+        def client = HttpAsyncClients.custom().addExecInterceptorLast("concurrencyLimit", new ConcurrencyLimitInterceptor(limiter)).build()
+        client.start()
+
+        limiter.acquire()
+        def future = client.execute(SimpleRequestBuilder.get(wireMockServer.baseUrl() + "/api/v1/groups").build(), null)
+
+        def e = expectThrows(ExecutionException, { future.get(10, TimeUnit.SECONDS) })
+        assertThat e.cause, instanceOf(ConcurrencyLimitExceededException)
+        assertThat limiter.queueDepth, is(0)
+        assertThat limiter.rejectedCount, is(1L)
+        wireMockServer.verify(0, getRequestedFor(anyUrl()))
+        client.close()
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.metrics
+
+import org.testng.annotations.Test
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.allOf
+import static org.hamcrest.Matchers.closeTo
+import static org.hamcrest.Matchers.greaterThanOrEqualTo
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.lessThanOrEqualTo
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketsCoverEveryValue() {
+        long previous = -1
+        for (int i = 0; i < LatencyHistogram.BUCKETS - 1; i++) {
+            long upper = LatencyHistogram.upperBoundOf(i)
+            assertThat LatencyHistogram.bucketOf(previous + 1), is(i)
+            assertThat LatencyHistogram.bucketOf(upper), is(i)
+            // at most 12.5% wide
+            assertThat((upper - previous) as double, lessThanOrEqualTo(Math.max(1, (previous + 1) / 8.0)))
+            previous = upper
+        }
+        assertThat LatencyHistogram.bucketOf(Long.MAX_VALUE), is(LatencyHistogram.BUCKETS - 1)
+    }
+
+    @Test
+    void testSnapshot() {
+        def histogram = new LatencyHistogram()
+        assertThat histogram.snapshot().count, is(0L)
+
+        // 1..1000 ms
+        (1..1000).each { histogram.record(TimeUnit.MILLISECONDS.toNanos(it)) }
+
+        def snapshot = histogram.snapshot()
+        assertThat snapshot.count, is(1000L)
+        assertThat snapshot.mean, closeTo(500_500d, 1d)
+        assertThat snapshot.max, is(1_000_000L)
+        assertThat snapshot.p50, allOf(greaterThanOrEqualTo(500_000L), lessThanOrEqualTo(562_500L))
+        assertThat snapshot.p90, allOf(greaterThanOrEqualTo(900_000L), lessThanOrEqualTo(1_000_000L))
+        assertThat snapshot.p99, allOf(greaterThanOrEqualTo(990_000L), lessThanOrEqualTo(1_000_000L))
+    }
+
+    @Test
+    void testConcurrentRecording() {
+        def histogram = new LatencyHistogram()
+        def executor = Executors.newFixedThreadPool(8)
+        def start = new CountDownLatch(1)
+        def futures = (1..8).collect {
+            executor.submit {
+                start.await()
+                10_000.times { histogram.record(TimeUnit.MICROSECONDS.toNanos(100)) }
+            }
+        }
+        start.countDown()
+        futures*.get()
+        executor.shutdown()
+
+        def snapshot = histogram.snapshot()
+        assertThat snapshot.count, is(80_000L)
+        assertThat snapshot.p99, allOf(greaterThanOrEqualTo(100L), lessThanOrEqualTo(112L))
+        assertThat snapshot.max, is(100L)
+    }
+}
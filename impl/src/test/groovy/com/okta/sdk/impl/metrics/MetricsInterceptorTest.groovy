@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.metrics
+
+import com.github.tomakehurst.wiremock.WireMockServer
+import com.github.tomakehurst.wiremock.stubbing.Scenario
+import com.okta.sdk.impl.retry.OktaHttpRequestRetryStrategy
+import com.okta.sdk.resource.client.ApiOperation
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder
+import org.apache.hc.client5.http.classic.methods.HttpGet
+import org.apache.hc.client5.http.classic.methods.HttpPost
+import org.apache.hc.client5.http.impl.ChainElement
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients
+import org.apache.hc.client5.http.impl.classic.HttpClients
+import org.apache.hc.client5.http.protocol.HttpClientContext
+import org.apache.hc.core5.http.ContentType
+import org.apache.hc.core5.http.io.entity.EntityUtils
+import org.apache.hc.core5.http.io.entity.StringEntity
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import javax.management.ObjectName
+import javax.management.openmbean.CompositeData
+import javax.management.openmbean.TabularData
+import java.lang.management.ManagementFactory
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.greaterThan
+import static org.hamcrest.Matchers.hasKey
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.notNullValue
+
+/**
+ * Tests for {@link MetricsInterceptor} and {@link DefaultMetricsRecorder} against WireMock.
+ */
+class MetricsInterceptorTest {
+
+    private WireMockServer wireMockServer
+
+    @BeforeMethod
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort())
+        wireMockServer.start()
+    }
+
+    @AfterMethod
+    void teardown() {
+        wireMockServer.stop()
+    }
+
+    @Test
+    void testClassicCallIsRecordedPerOperationAndStatus() {
+        wireMockServer.stubFor(post(urlPathEqualTo("/api/v1/users")).willReturn(aResponse().withStatus(200).withBody("0123456789")))
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/users/missing")).willReturn(aResponse().withStatus(404)))
+        def recorder = new DefaultMetricsRecorder()
+        def interceptor = new MetricsInterceptor(recorder)
+        def client = HttpClients.custom()
+            .addExecInterceptorFirst("metrics", interceptor)
+            .addExecInterceptorBefore(ChainElement.CONNECT.name(), "connectionAcquireStart", interceptor.connectionAcquireStart())
+            .addExecInterceptorAfter(ChainElement.CONNECT.name(), "connectionAcquireEnd", interceptor.connectionAcquireEnd())
+            .build()
+
+        def post = new HttpPost(wireMockServer.baseUrl() + "/api/v1/users")
+        post.setEntity(new StringEntity("hello", ContentType.TEXT_PLAIN))
+        client.execute(post, context("createUser"), { EntityUtils.toString(it.entity) })
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/users/missing"), context("getUser"), { EntityUtils.consume(it.entity) })
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/users/missing"), { EntityUtils.consume(it.entity) })
+
+        def latencies = recorder.requestLatencies
+        assertThat latencies.keySet(), is(["createUser 200", "getUser 404", "unknown 404"] as Set)
+        assertThat latencies["createUser 200"].count, is(1L)
+        assertThat recorder.bytesSent, is(5L)
+        assertThat recorder.bytesReceived, is(10L)
+        assertThat recorder.connectionAcquireLatency.count, is(3L)
+        client.close()
+    }
+
+    @Test
+    void testRetriesAreCountedAndTimedAsOneCall() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/groups")).inScenario("retry")
+            .whenScenarioStateIs(Scenario.STARTED).willReturn(aResponse().withStatus(503)).willSetStateTo("recovered"))
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/groups")).inScenario("retry")
+            .whenScenarioStateIs("recovered").willReturn(aResponse().withStatus(200)))
+        def recorder = new DefaultMetricsRecorder()
+        def retryStrategy = new OktaHttpRequestRetryStrategy(2)
+        retryStrategy.setMetricsRecorder(recorder)
+        def client = HttpClients.custom()
+            .setRetryStrategy(retryStrategy)
+            .addExecInterceptorFirst("metrics", new MetricsInterceptor(recorder))
+            .build()
+
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/groups"), context("listGroups"), { EntityUtils.consume(it.entity) })
+
+        assertThat recorder.retryCounts, is([listGroups: 1L])
+        assertThat recorder.requestLatencies.keySet(), is(["listGroups 200"] as Set)
+        // the call includes the backoff before the retry
+        assertThat recorder.requestLatencies["listGroups 200"].max, greaterThan(TimeUnit.MILLISECONDS.toMicros(250))
+        client.close()
+    }
+
+    @Test
+    void testAsyncCallAndFailureAreRecorded() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/apps")).willReturn(aResponse().withStatus(200).withBody("[]")))
+        def recorder = new DefaultMetricsRecorder()
+        def client = HttpAsyncClients.custom().addExecInterceptorFirst("metrics", new MetricsInterceptor(recorder)).build()
+        client.start()
+
+        def response = client.execute(SimpleRequestBuilder.get(wireMockServer.baseUrl() + "/api/v1/apps").build(),
+            context("listApplications"), null).get(10, TimeUnit.SECONDS)
+        assertThat response.code, is(200)
+        wireMockServer.stop()
+        try {
+            client.execute(SimpleRequestBuilder.get(wireMockServer.baseUrl() + "/api/v1/apps").build(),
+                context("listApplications"), null).get(10, TimeUnit.SECONDS)
+        } catch (Exception ignored) {
+            // connection refused
+        }
+
+        assertThat recorder.requestLatencies.keySet(), is(["listApplications 0", "listApplications 200"] as Set)
+        assertThat recorder.bytesReceived, is(2L)
+        client.close()
+    }
+
+    @Test
+    void testRecorderIsExposedOverJmx() {
+        def recorder = new DefaultMetricsRecorder()
+        recorder.recordRequest("listUsers", 200, TimeUnit.MILLISECONDS.toNanos(20))
+        recorder.recordCacheAccess("com.okta.sdk.resource.model.User", true)
+        recorder.recordCacheAccess("com.okta.sdk.resource.model.User", false)
+        recorder.recordCacheAccess("com.okta.sdk.resource.model.User", true)
+        recorder.registerGauge("pool.leased", { 3L })
+
+        ObjectName name = recorder.register()
+        try {
+            assertThat name, notNullValue()
+            def server = ManagementFactory.platformMBeanServer
+            def latencies = server.getAttribute(name, "RequestLatencies") as TabularData
+            def row = latencies.get(["listUsers 200"] as Object[]) as CompositeData
+            assertThat((row.get("value") as CompositeData).get("count") as Long, is(1L))
+            assertThat recorder.cacheHits, is(["com.okta.sdk.resource.model.User": 2L])
+            assertThat recorder.cacheMisses, is(["com.okta.sdk.resource.model.User": 1L])
+            assertThat recorder.gauges, hasKey("pool.leased")
+            assertThat server.getAttribute(name, "TokenRefreshFailureCount") as Long, is(0L)
+        } finally {
+            recorder.unregister()
+        }
+        assertThat ManagementFactory.platformMBeanServer.isRegistered(name), is(false)
+    }
+
+    private static HttpClientContext context(String operationId) {
+        def context = HttpClientContext.create()
+        context.setAttribute(ApiOperation.CONTEXT_ATTRIBUTE, operationId)
+        return context
+    }
+}
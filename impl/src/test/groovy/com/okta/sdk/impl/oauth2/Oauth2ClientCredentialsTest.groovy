@@ -22,6 +22,13 @@ import com.okta.sdk.resource.client.ApiClient
 import com.okta.sdk.resource.client.auth.ApiKeyAuth
 import org.testng.annotations.Test
 
+import java.lang.ref.WeakReference
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
 import static org.mockito.Mockito.*
 import static org.testng.Assert.*
 
@@ -47,24 +54,152 @@ class Oauth2ClientCredentialsTest {
         //change then token value
         OAuth2AccessToken newOAuth2AccessToken = new OAuth2AccessToken()
         newOAuth2AccessToken.setAccessToken("newAccessToken")
-        newOAuth2AccessToken.setExpiresIn(2)
+        newOAuth2AccessToken.setExpiresIn(3600)
         when(accessTokenRetrieverService.getOAuth2AccessToken()).then { newOAuth2AccessToken }
 
         //previous token not expired yet, token should not be refreshed
-        credentials.applyToParams(new ArrayList<>(), new HashMap<>(), new HashMap<>())
+        def headers = new HashMap<String, String>()
+        credentials.applyToParams(new ArrayList<>(), headers, new HashMap<>())
+        assertEquals(headers.get("Authorization"), "Bearer accessToken")
         assertEquals(credentials.getCredentials().accessToken, "accessToken")
         verify(accessTokenRetrieverService, never()).getOAuth2AccessToken()
         clearInvocations(accessTokenRetrieverService)
 
-        //let token expiration go below 5 minutes
-        Thread.sleep(2000)
+        oAuth2AccessToken.expireNow()
 
-        //token is expired, it should get a new one with the new value
-        credentials.applyToParams(new ArrayList<>(), new HashMap<>(), new HashMap<>())
+        //token is expired, the request waits for a new one with the new value
+        headers = new HashMap<String, String>()
+        credentials.applyToParams(new ArrayList<>(), headers, new HashMap<>())
+        assertEquals(headers.get("Authorization"), "Bearer newAccessToken")
         assertEquals(credentials.getCredentials().accessToken, "newAccessToken")
         verify(accessTokenRetrieverService).getOAuth2AccessToken()
     }
 
+    @Test
+    void testProactiveRefresh() {
+        def accessTokenRetrieverService = mock(AccessTokenRetrieverServiceImpl)
+
+        //short-lived token, background refresh is due after half of its lifetime
+        OAuth2AccessToken oAuth2AccessToken = new OAuth2AccessToken()
+        oAuth2AccessToken.setAccessToken("accessToken")
+        oAuth2AccessToken.setExpiresIn(2)
+        when(accessTokenRetrieverService.getOAuth2AccessToken()).then { oAuth2AccessToken }
+
+        def credentials = new OAuth2ClientCredentials(accessTokenRetrieverService)
+        credentials.refreshOAuth2AccessToken()
+
+        OAuth2AccessToken newOAuth2AccessToken = new OAuth2AccessToken()
+        newOAuth2AccessToken.setAccessToken("newAccessToken")
+        newOAuth2AccessToken.setExpiresIn(3600)
+        when(accessTokenRetrieverService.getOAuth2AccessToken()).then { newOAuth2AccessToken }
+
+        //no request needed, the timer refreshes the token before it expires
+        Thread.sleep(1500)
+        assertEquals(credentials.getCredentials().accessToken, "newAccessToken")
+        assertEquals(credentials.getAccessToken(), "newAccessToken")
+        verify(accessTokenRetrieverService, times(2)).getOAuth2AccessToken()
+    }
+
+    @Test
+    void testConcurrentCallersShareOneRefresh() {
+        def retrievals = new AtomicInteger()
+        AccessTokenRetrieverService accessTokenRetrieverService = {
+            retrievals.incrementAndGet()
+            Thread.sleep(200)
+            OAuth2AccessToken token = new OAuth2AccessToken()
+            token.setAccessToken("accessToken")
+            token.setExpiresIn(3600)
+            return token
+        } as AccessTokenRetrieverService
+
+        def credentials = new OAuth2ClientCredentials(accessTokenRetrieverService)
+        def threads = 16
+        def start = new CountDownLatch(1)
+        def executor = Executors.newFixedThreadPool(threads)
+        try {
+            def futures = (1..threads).collect {
+                executor.submit({
+                    start.await()
+                    def headers = new HashMap<String, String>()
+                    credentials.applyToParams(new ArrayList<>(), headers, new HashMap<>())
+                    return headers.get("Authorization")
+                } as Callable<String>)
+            }
+            start.countDown()
+            futures.each { assertEquals(it.get(10, TimeUnit.SECONDS) as String, "Bearer accessToken") }
+        } finally {
+            executor.shutdownNow()
+        }
+        assertEquals(retrievals.get(), 1 as int)
+    }
+
+    @Test
+    void testValidTokenDoesNotWaitForBackgroundRefresh() {
+        def release = new CountDownLatch(1)
+        def retrievals = new AtomicInteger()
+        AccessTokenRetrieverService accessTokenRetrieverService = {
+            OAuth2AccessToken token = new OAuth2AccessToken()
+            if (retrievals.incrementAndGet() == 1) {
+                token.setAccessToken("accessToken")
+                token.setExpiresIn(2)
+            } else {
+                //slow token endpoint
+                release.await()
+                token.setAccessToken("newAccessToken")
+                token.setExpiresIn(3600)
+            }
+            return token
+        } as AccessTokenRetrieverService
+
+        def credentials = new OAuth2ClientCredentials(accessTokenRetrieverService)
+        credentials.refreshOAuth2AccessToken()
+
+        //background refresh is now running and blocked on the token endpoint
+        Thread.sleep(1200)
+        assertEquals(retrievals.get(), 2 as int)
+
+        def headers = new HashMap<String, String>()
+        long started = System.nanoTime()
+        credentials.applyToParams(new ArrayList<>(), headers, new HashMap<>())
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 500)
+        assertEquals(headers.get("Authorization"), "Bearer accessToken")
+
+        release.countDown()
+        Thread.sleep(200)
+        assertEquals(credentials.getAccessToken(), "newAccessToken")
+    }
+
+    @Test
+    void testDroppedClientStopsRefreshing() {
+        def retrievals = new AtomicInteger()
+        AccessTokenRetrieverService accessTokenRetrieverService = {
+            retrievals.incrementAndGet()
+            OAuth2AccessToken token = new OAuth2AccessToken()
+            token.setAccessToken("accessToken")
+            //background refresh is due after one second
+            token.setExpiresIn(2)
+            return token
+        } as AccessTokenRetrieverService
+
+        def apiClient = new ApiClient(mock(CloseableHttpClient), mock(CacheManager))
+        def credentials = new OAuth2ClientCredentials(accessTokenRetrieverService)
+        apiClient.replaceAuthentication("oauth2", credentials)
+        credentials.refreshOAuth2AccessToken()
+        def reference = new WeakReference(credentials)
+        apiClient = null
+        credentials = null
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc()
+            Thread.sleep(20)
+        }
+        assertNull(reference.get())
+
+        //the pending refresh finds no credentials and requests no token
+        Thread.sleep(1500)
+        assertEquals(retrievals.get(), 1 as int)
+    }
+
     @Test
     void testReplaceAuthentication() {
         def apiClient = new ApiClient(mock(CloseableHttpClient), mock(CacheManager))
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.ratelimit
+
+import com.github.tomakehurst.wiremock.WireMockServer
+import org.apache.hc.client5.http.classic.methods.HttpGet
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder
+import org.apache.hc.client5.http.impl.classic.HttpClients
+import org.apache.hc.core5.http.io.entity.EntityUtils
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.util.concurrent.TimeUnit
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.greaterThanOrEqualTo
+import static org.hamcrest.Matchers.is
+
+/**
+ * Tests for {@link RateLimitInterceptor} against WireMock responses carrying rate limit headers.
+ */
+class RateLimitInterceptorTest {
+
+    private WireMockServer wireMockServer
+    private RateLimitInterceptor interceptor
+
+    @BeforeMethod
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort())
+        wireMockServer.start()
+        interceptor = new RateLimitInterceptor(new RateLimitScheduler())
+    }
+
+    @AfterMethod
+    void teardown() {
+        wireMockServer.stop()
+    }
+
+    @Test
+    void testExhaustedBucketDelaysClassicRequest() {
+        stubExhausted("/api/v1/users")
+        def client = HttpClients.custom().addExecInterceptorLast("rateLimit", interceptor).build()
+
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/users"), { EntityUtils.consume(it.entity) })
+        def bucket = interceptor.scheduler.buckets.get("/api/v1/users")
+        assertThat bucket.limit, is(50)
+        assertThat bucket.remaining, is(0)
+
+        long start = System.nanoTime()
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/users/00u1"), { EntityUtils.consume(it.entity) })
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+
+        // held back until the window reset instead of being sent right away
+        assertThat elapsedMillis, greaterThanOrEqualTo(1000L)
+        wireMockServer.verify(2, getRequestedFor(urlPathMatching("/api/v1/users.*")))
+        client.close()
+    }
+
+    @Test
+    void testOtherBucketsAreNotDelayed() {
+        stubExhausted("/api/v1/users")
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/apps")).willReturn(aResponse().withStatus(200)))
+        def client = HttpClients.custom().addExecInterceptorLast("rateLimit", interceptor).build()
+
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/users"), { EntityUtils.consume(it.entity) })
+        long start = System.nanoTime()
+        client.execute(new HttpGet(wireMockServer.baseUrl() + "/api/v1/apps"), { EntityUtils.consume(it.entity) })
+
+        assertThat TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000L, is(true)
+        client.close()
+    }
+
+    @Test
+    void testExhaustedBucketDelaysAsyncRequest() {
+        stubExhausted("/api/v1/groups")
+        def client = HttpAsyncClients.custom().addExecInterceptorLast("rateLimit", interceptor).build()
+        client.start()
+
+        client.execute(SimpleRequestBuilder.get(wireMockServer.baseUrl() + "/api/v1/groups").build(), null).get(10, TimeUnit.SECONDS)
+        assertThat interceptor.scheduler.buckets.get("/api/v1/groups").remaining, is(0)
+
+        long start = System.nanoTime()
+        def response = client.execute(SimpleRequestBuilder.get(wireMockServer.baseUrl() + "/api/v1/groups").build(), null)
+            .get(10, TimeUnit.SECONDS)
+
+        assertThat response.code, is(200)
+        assertThat TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(1000L)
+        client.close()
+    }
+
+    private void stubExhausted(String path) {
+        // the window resets in two to three seconds, no Date header so the reset is taken as local time
+        long reset = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3
+        wireMockServer.stubFor(get(urlPathMatching(path + ".*"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(RateLimitScheduler.LIMIT_HEADER, "50")
+                .withHeader(RateLimitScheduler.REMAINING_HEADER, "0")
+                .withHeader(RateLimitScheduler.RESET_HEADER, String.valueOf(reset))))
+    }
+}
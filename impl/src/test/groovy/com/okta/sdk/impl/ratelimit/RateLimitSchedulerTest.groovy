@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.ratelimit
+
+import com.okta.sdk.client.RequestPriority
+import org.apache.hc.core5.http.message.BasicHttpResponse
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+
+class RateLimitSchedulerTest {
+
+    // whole seconds, the reset header has second precision
+    private static final long START = 1_700_000_000_000L
+
+    private MutableClock clock
+    private RateLimitScheduler scheduler
+
+    @BeforeMethod
+    void setup() {
+        clock = new MutableClock(START)
+        scheduler = new RateLimitScheduler(0.1d, clock)
+    }
+
+    @Test
+    void testBucketOf() {
+        assertThat RateLimitScheduler.bucketOf("/api/v1/users"), is("/api/v1/users")
+        assertThat RateLimitScheduler.bucketOf("/api/v1/users/00u1/groups?limit=20"), is("/api/v1/users")
+        assertThat RateLimitScheduler.bucketOf("/api/v1/apps?q=x"), is("/api/v1/apps")
+        assertThat RateLimitScheduler.bucketOf("/oauth2/v1/token"), is("/oauth2/v1/token")
+    }
+
+    @Test
+    void testUnknownBucketIsNotDelayed() {
+        assertThat scheduler.reserve("/api/v1/users/00u1"), is(0L)
+        assertThat scheduler.buckets.size(), is(0)
+    }
+
+    @Test
+    void testHeadroomIsNotDelayed() {
+        scheduler.update("/api/v1/users", response(200, 600, 500, 30))
+
+        assertThat scheduler.reserve("/api/v1/users/00u1"), is(0L)
+        assertThat scheduler.buckets.get("/api/v1/users").remaining, is(499)
+    }
+
+    @Test
+    void testLowBucketIsPaced() {
+        // 5 of 100 left with 10 seconds to go
+        scheduler.update("/api/v1/users", response(200, 100, 5, 10))
+
+        assertThat scheduler.reserve("/api/v1/users"), is(0L)
+        // 4 left: the rest of the window is split into 5 intervals
+        assertThat scheduler.reserve("/api/v1/users"), is(2000L)
+        assertThat scheduler.buckets.get("/api/v1/users").waiting, is(1)
+        // other buckets are not affected
+        assertThat scheduler.reserve("/api/v1/apps"), is(0L)
+    }
+
+    @Test
+    void testExhaustedBucketQueuesIntoNextWindow() {
+        scheduler.update("/api/v1/apps", response(429, 60, 3, 5))
+
+        // reset in 5s plus the one second buffer, then one request per second (60 per minute)
+        assertThat scheduler.reserve("/api/v1/apps/0oa1"), is(6000L)
+        assertThat scheduler.reserve("/api/v1/apps/0oa2"), is(7000L)
+        assertThat scheduler.buckets.get("/api/v1/apps").waiting, is(2)
+
+        scheduler.waited("/api/v1/apps")
+        assertThat scheduler.buckets.get("/api/v1/apps").waiting, is(1)
+    }
+
+    @Test
+    void testBatchRequestsLeaveTheReserveToInteractiveOnes() {
+        scheduler = new RateLimitScheduler(0.1d, 0.2d, clock)
+        // 21 of 100 left with 10 seconds to go, 20 are reserved for interactive requests
+        scheduler.update("/api/v1/users", response(200, 100, 21, 10))
+
+        assertThat scheduler.reserve("/api/v1/users", RequestPriority.BATCH), is(0L)
+        // only the reserve is left: batch is queued into the next window
+        assertThat scheduler.reserve("/api/v1/users", RequestPriority.BATCH), is(11000L)
+        // while interactive requests are still sent right away
+        assertThat scheduler.reserve("/api/v1/users", RequestPriority.INTERACTIVE), is(0L)
+        assertThat scheduler.buckets.get("/api/v1/users").remaining, is(19)
+    }
+
+    @Test
+    void testNewWindowResetsBucket() {
+        scheduler.update("/api/v1/groups", response(200, 100, 0, 5))
+        assertThat scheduler.reserve("/api/v1/groups") > 0L, is(true)
+
+        clock.advance(6000)
+        scheduler.update("/api/v1/groups", response(200, 100, 98, 60))
+
+        assertThat scheduler.reserve("/api/v1/groups"), is(0L)
+        // 98 reported minus the request queued into this window, minus the one just reserved
+        assertThat scheduler.buckets.get("/api/v1/groups").remaining, is(96)
+    }
+
+    @Test
+    void testEndpointsWithAnotherLimitDoNotMergeIntoTheBucket() {
+        // a list endpoint and a get endpoint of the same bucket, each with its own counter on the server
+        scheduler.update("/api/v1/users/00u1", response(200, 600, 500, 30))
+        scheduler.update("/api/v1/users", response(200, 100, 2, 30))
+        scheduler.update("/api/v1/users/00u2", response(200, 600, 499, 30))
+
+        assertThat scheduler.buckets.get("/api/v1/users").limit, is(600)
+        assertThat scheduler.buckets.get("/api/v1/users").remaining, is(499)
+        assertThat scheduler.reserve("/api/v1/users/00u3"), is(0L)
+
+        // once the tracked window is over the bucket follows the next response, whatever its limit
+        clock.advance(31_000)
+        scheduler.update("/api/v1/users", response(200, 100, 90, 60))
+
+        assertThat scheduler.buckets.get("/api/v1/users").limit, is(100)
+        assertThat scheduler.buckets.get("/api/v1/users").remaining, is(90)
+    }
+
+    @Test
+    void testStaleResponseDoesNotRaiseRemaining() {
+        scheduler.update("/api/v1/users", response(200, 600, 100, 30))
+        scheduler.update("/api/v1/users", response(200, 600, 120, 30))
+
+        assertThat scheduler.buckets.get("/api/v1/users").remaining, is(100)
+    }
+
+    @Test
+    void testDateHeaderCorrectsClockSkew() {
+        // server clock is 20 seconds ahead of ours
+        def response = response(200, 100, 50, 30)
+        response.setHeader("Date", "Tue, 14 Nov 2023 22:13:40 GMT")
+        assertThat Instant.ofEpochMilli(START + 20_000).toString(), is("2023-11-14T22:13:40Z")
+        // the reset is 30 seconds after our start time, but only 10 seconds after the server's
+        scheduler.update("/api/v1/users", response)
+
+        assertThat scheduler.buckets.get("/api/v1/users").resetAt, is(Instant.ofEpochMilli(START + 10_000))
+    }
+
+    @Test
+    void testResponsesWithoutHeadersAreIgnored() {
+        scheduler.update("/api/v1/users", new BasicHttpResponse(200))
+        assertThat scheduler.buckets.size(), is(0)
+    }
+
+    private static BasicHttpResponse response(int code, int limit, int remaining, int resetInSeconds) {
+        def response = new BasicHttpResponse(code)
+        response.setHeader(RateLimitScheduler.LIMIT_HEADER, String.valueOf(limit))
+        response.setHeader(RateLimitScheduler.REMAINING_HEADER, String.valueOf(remaining))
+        response.setHeader(RateLimitScheduler.RESET_HEADER, String.valueOf((START / 1000L) as long + resetInSeconds))
+        return response
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis
+
+        MutableClock(long millis) {
+            this.millis = millis
+        }
+
+        void advance(long delta) {
+            millis += delta
+        }
+
+        @Override
+        long millis() {
+            return millis
+        }
+
+        @Override
+        Instant instant() {
+            return Instant.ofEpochMilli(millis)
+        }
+
+        @Override
+        ZoneId getZone() {
+            return ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            return this
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.resource
+
+import com.github.tomakehurst.wiremock.WireMockServer
+import com.okta.sdk.cache.Caches
+import com.okta.sdk.resource.api.SystemLogApi
+import com.okta.sdk.resource.client.ApiClient
+import com.okta.sdk.resource.log.LogExportBuilder
+import com.okta.sdk.resource.log.LogSlice
+import com.okta.sdk.resource.model.LogEvent
+import org.apache.hc.client5.http.impl.classic.HttpClients
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import java.time.OffsetDateTime
+import java.util.concurrent.ConcurrentHashMap
+import java.util.stream.Collectors
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.contains
+import static org.hamcrest.Matchers.is
+import static org.testng.Assert.fail
+
+/**
+ * Tests for {@link DefaultLogExportBuilder} against a WireMock System Log endpoint.
+ */
+class DefaultLogExportBuilderTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-01T00:00:00Z")
+
+    private WireMockServer wireMockServer
+    private SystemLogApi systemLogApi
+
+    @BeforeMethod
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort())
+        wireMockServer.start()
+        def client = new ApiClient(HttpClients.createDefault(), Caches.newDisabledCacheManager())
+        client.setBasePath(wireMockServer.baseUrl())
+        systemLogApi = new SystemLogApi(client)
+    }
+
+    @AfterMethod
+    void teardown() {
+        wireMockServer.stop()
+    }
+
+    @Test
+    void testStreamMergesSlicesInOrder() {
+        stubTwoSlices()
+
+        def uuids = LogExportBuilder.instance()
+            .setSince(T0)
+            .setUntil(T0.plusHours(2))
+            .setSlices(2)
+            .stream(systemLogApi)
+            .map { it.uuid }
+            .collect(Collectors.toList())
+
+        assertThat uuids, contains("e1", "e2", "e3", "e4", "e5")
+        wireMockServer.verify(3, getRequestedFor(urlPathEqualTo("/api/v1/logs")))
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/api/v1/logs"))
+            .withQueryParam("since", equalTo("2025-01-01T01:00:00Z"))
+            .withQueryParam("until", equalTo("2025-01-01T02:00:00Z"))
+            .withQueryParam("sortOrder", equalTo("ASCENDING")))
+    }
+
+    @Test
+    void testForEachSliceDeliversEverySlice() {
+        stubTwoSlices()
+        Map<LogSlice, List<String>> received = new ConcurrentHashMap<>()
+
+        LogExportBuilder.instance()
+            .setSince(T0)
+            .setUntil(T0.plusHours(2))
+            .setSlices(2)
+            .forEachSlice(systemLogApi, { slice, events ->
+                received.computeIfAbsent(slice, { Collections.synchronizedList(new ArrayList<>()) })
+                    .addAll(events.collect { it.uuid })
+            })
+
+        assertThat received.size(), is(2)
+        assertThat received.get(new LogSlice(T0, T0.plusHours(1))), contains("e1", "e2", "e3")
+        assertThat received.get(new LogSlice(T0.plusHours(1), T0.plusHours(2))), contains("e4", "e5")
+    }
+
+    @Test
+    void testDenseSliceIsSplit() {
+        // the first page covers one minute of a 100 minute slice
+        stubPage(withQueryParam("since", "2025-01-01T00:00:00Z"),
+            [event("e1", "00:00:00"), event("e2", "00:01:00")], "/api/v1/logs?after=never")
+        stubPage(withQueryParam("since", "2025-01-01T00:01:00Z"),
+            [event("e2", "00:01:00"), event("e3", "00:30:00")], null)
+        stubPage(withQueryParam("since", "2025-01-01T00:50:30Z"),
+            [event("e4", "01:00:00")], null)
+
+        def uuids = LogExportBuilder.instance()
+            .setSince(T0)
+            .setUntil(T0.plusMinutes(100))
+            .setSlices(1)
+            .setMaxConcurrency(2)
+            .setPageSize(2)
+            .setDenseSliceThreshold(2)
+            .stream(systemLogApi)
+            .map { it.uuid }
+            .collect(Collectors.toList())
+
+        assertThat uuids, contains("e1", "e2", "e3", "e4")
+        wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/api/v1/logs")).withQueryParam("after", equalTo("never")))
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/api/v1/logs"))
+            .withQueryParam("since", equalTo("2025-01-01T00:50:30Z"))
+            .withQueryParam("until", equalTo("2025-01-01T01:40:00Z")))
+    }
+
+    @Test
+    void testFailurePropagates() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/logs"))
+            .willReturn(aResponse()
+                .withStatus(400)
+                .withHeader("Content-Type", "application/json")
+                .withBody('{"errorCode":"E0000001","errorSummary":"Api validation failed: since"}')))
+
+        try {
+            LogExportBuilder.instance()
+                .setSince(T0)
+                .setUntil(T0.plusHours(2))
+                .stream(systemLogApi)
+                .count()
+            fail("expected RuntimeException")
+        } catch (RuntimeException e) {
+            assertThat e.message, is("Failed to fetch page")
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException)
+    void testSinceRequired() {
+        LogExportBuilder.instance().stream(systemLogApi)
+    }
+
+    private void stubTwoSlices() {
+        stubPage(withQueryParam("since", "2025-01-01T00:00:00Z"),
+            [event("e1", "00:10:00"), event("e2", "00:20:00")], "/api/v1/logs?after=c1")
+        stubPage(withQueryParam("after", "c1"),
+            [event("e3", "00:30:00")], null)
+        stubPage(withQueryParam("since", "2025-01-01T01:00:00Z"),
+            [event("e4", "01:05:00"), event("e5", "01:50:00")], null)
+    }
+
+    private static Map.Entry<String, String> withQueryParam(String name, String value) {
+        return new AbstractMap.SimpleEntry<>(name, value)
+    }
+
+    private void stubPage(Map.Entry<String, String> queryParam, List<String> events, String next) {
+        def response = aResponse()
+            .withHeader("Content-Type", "application/json")
+            .withBody("[" + events.join(",") + "]")
+        if (next != null) {
+            response.withHeader("link", "<" + wireMockServer.baseUrl() + next + ">; rel=\"next\"")
+        }
+        wireMockServer.stubFor(get(urlPathEqualTo("/api/v1/logs"))
+            .withQueryParam(queryParam.key, equalTo(queryParam.value))
+            .willReturn(response))
+    }
+
+    private static String event(String uuid, String time) {
+        return '{"uuid":"' + uuid + '","published":"2025-01-01T' + time + '.000Z","eventType":"user.session.start"}'
+    }
+}
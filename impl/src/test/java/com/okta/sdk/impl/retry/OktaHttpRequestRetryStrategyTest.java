@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.retry;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.okta.sdk.cache.Caches;
+import com.okta.sdk.resource.client.ApiClient;
+import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.testng.annotations.Test;
+
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.testng.Assert.*;
+
+public class OktaHttpRequestRetryStrategyTest {
+
+    @Test
+    public void testRetriesUpToMaxRetriesWithJitteredDelays() {
+        OktaHttpRequestRetryStrategy strategy = new OktaHttpRequestRetryStrategy(3);
+        HttpClientContext context = HttpClientContext.create();
+        HttpResponse response = new BasicHttpResponse(503);
+
+        for (int execCount = 1; execCount <= 3; execCount++) {
+            assertTrue(strategy.retryRequest(response, execCount, context));
+            long delay = strategy.getRetryInterval(response, execCount, context).toMilliseconds();
+            assertTrue(delay >= 300 && delay <= 20000, "delay " + delay);
+        }
+        assertFalse(strategy.retryRequest(response, 4, context));
+
+        assertEquals(strategy.getRequestCount(), 1);
+        assertEquals(strategy.getRetryCount(), 3);
+        assertFalse(strategy.retryRequest(new BasicHttpResponse(200), 1, HttpClientContext.create()));
+        assertEquals(strategy.getRequestCount(), 2);
+    }
+
+    @Test
+    public void testRateLimitDelayIsSpread() {
+        OktaHttpRequestRetryStrategy strategy = new OktaHttpRequestRetryStrategy(2);
+        Instant now = Instant.now();
+        HttpResponse response = new BasicHttpResponse(429);
+        response.setHeader("Date", DateTimeFormatter.RFC_1123_DATE_TIME.format(now.atOffset(ZoneOffset.UTC)));
+        response.setHeader("x-rate-limit-reset", Long.toString(now.getEpochSecond() + 5));
+
+        HttpClientContext context = HttpClientContext.create();
+        assertTrue(strategy.retryRequest(response, 1, context));
+        long delay = strategy.getRetryInterval(response, 1, context).toMilliseconds();
+        long resetDelay = RetryUtil.get429DelayMillis(response);
+        assertTrue(delay >= resetDelay && delay < resetDelay + 1000, delay + " vs " + resetDelay);
+    }
+
+    @Test
+    public void testRetryDeadline() {
+        OktaHttpRequestRetryStrategy strategy = new OktaHttpRequestRetryStrategy(4, Duration.ofSeconds(2), null);
+        Instant now = Instant.now();
+        HttpResponse response = new BasicHttpResponse(429);
+        response.setHeader("Date", DateTimeFormatter.RFC_1123_DATE_TIME.format(now.atOffset(ZoneOffset.UTC)));
+        response.setHeader("x-rate-limit-reset", Long.toString(now.getEpochSecond() + 30));
+
+        // waiting for the reset would take longer than the deadline allows
+        assertFalse(strategy.retryRequest(response, 1, HttpClientContext.create()));
+        assertEquals(strategy.getRetryDeadlineExceededCount(), 1);
+
+        // short backoffs still fit
+        HttpClientContext context = HttpClientContext.create();
+        assertTrue(strategy.retryRequest(new BasicHttpResponse(503), 1, context));
+        assertEquals(strategy.getRetryCount(), 1);
+    }
+
+    @Test
+    public void testRetryBudget() {
+        RetryBudget budget = new RetryBudget(10, 2, System::nanoTime);
+        OktaHttpRequestRetryStrategy strategy = new OktaHttpRequestRetryStrategy(4, null, budget);
+        HttpResponse unavailable = new BasicHttpResponse(503);
+
+        // every request fails, only the minimum number of retries are sent
+        for (int i = 0; i < 5; i++) {
+            strategy.retryRequest(unavailable, 1, HttpClientContext.create());
+        }
+        assertEquals(strategy.getRequestCount(), 5);
+        assertEquals(strategy.getRetryCount(), 2);
+        assertEquals(strategy.getRetryBudgetExhaustedCount(), 3);
+
+        // I/O failures draw from the same budget
+        BasicHttpRequest request = new BasicHttpRequest("GET", "/api/v1/users");
+        assertFalse(strategy.retryRequest(request, new SocketException("reset"), 1, HttpClientContext.create()));
+        assertEquals(strategy.getRetryBudgetExhaustedCount(), 4);
+    }
+
+    @Test
+    public void testNonRetriableIOException() {
+        OktaHttpRequestRetryStrategy strategy = new OktaHttpRequestRetryStrategy(4);
+        BasicHttpRequest request = new BasicHttpRequest("GET", "/api/v1/users");
+
+        assertFalse(strategy.retryRequest(request, new UnknownHostException("okta"), 1, HttpClientContext.create()));
+        assertTrue(strategy.retryRequest(request, new SocketException("reset"), 1, HttpClientContext.create()));
+        assertEquals(strategy.getRetryCount(), 1);
+        assertEquals(strategy.getRequestCount(), 2);
+    }
+
+    @Test
+    public void testZeroMaxRetries() {
+        HttpResponse unavailable = new BasicHttpResponse(503);
+        BasicHttpRequest request = new BasicHttpRequest("GET", "/api/v1/users");
+
+        assertFalse(new OktaHttpRequestRetryStrategy(0).retryRequest(unavailable, 1, HttpClientContext.create()));
+
+        // a deadline does not turn retries back on
+        OktaHttpRequestRetryStrategy strategy = new OktaHttpRequestRetryStrategy(0, Duration.ofMinutes(5), null);
+        assertFalse(strategy.retryRequest(unavailable, 1, HttpClientContext.create()));
+        assertFalse(strategy.retryRequest(request, new SocketException("reset"), 1, HttpClientContext.create()));
+        assertEquals(strategy.getRetryCount(), 0);
+    }
+
+    @Test
+    public void testIOExceptionRetriesAreJittered() {
+        OktaHttpRequestRetryStrategy strategy = new OktaHttpRequestRetryStrategy(3);
+        BasicHttpRequest request = new BasicHttpRequest("GET", "/api/v1/users");
+        SocketException reset = new SocketException("reset");
+        HttpClientContext context = HttpClientContext.create();
+
+        for (int execCount = 1; execCount <= 3; execCount++) {
+            assertTrue(strategy.retryRequest(request, reset, execCount, context));
+            long delay = strategy.getRetryInterval(request, reset, execCount, context).toMilliseconds();
+            assertTrue(delay >= 300 && delay <= 20000, "delay " + delay);
+        }
+        assertFalse(strategy.retryRequest(request, reset, 4, context));
+    }
+
+    @Test
+    public void testBodyThatCannotBeSerializedIsSentOnce() throws Exception {
+        WireMockServer wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        AtomicInteger attempts = new AtomicInteger();
+        try (CloseableHttpClient client = HttpClients.custom()
+            .setRetryStrategy(new OktaHttpRequestRetryStrategy(3))
+            .addExecInterceptorAfter(ChainElement.RETRY.name(), "attempts", (request, scope, chain) -> {
+                attempts.incrementAndGet();
+                return chain.proceed(request, scope);
+            })
+            .build()) {
+            HttpPut put = new HttpPut(wireMockServer.baseUrl() + "/api/v1/users/00u1");
+            // Jackson has no serializer for an empty bean, it fails while the body is written
+            put.setEntity(new ApiClient(client, Caches.newDisabledCacheManager())
+                .serialize(new Object(), Collections.emptyMap(), ContentType.APPLICATION_JSON));
+
+            expectThrows(JsonMappingException.class, () -> client.execute(put, response -> null));
+            assertEquals(attempts.get(), 1);
+        } finally {
+            wireMockServer.stop();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.impl.retry;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.*;
+
+public class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    public void testRetriesAreCappedToAShareOfRequests() {
+        RetryBudget budget = new RetryBudget(20, 0, clock::get);
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(budget.tryAcquire(), "retry " + i);
+        }
+        assertFalse(budget.tryAcquire());
+
+        // more traffic, more budget
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    public void testMinimumRetriesWithoutTraffic() {
+        RetryBudget budget = new RetryBudget(20, 3, clock::get);
+        budget.recordRequest();
+
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    public void testBudgetSlidesWithTheWindow() {
+        RetryBudget budget = new RetryBudget(10, 0, clock::get);
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+
+        // still inside the window
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(RetryBudget.WINDOW_SECONDS - 1));
+        assertFalse(budget.tryAcquire());
+
+        // the requests and the retry have left the window
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertFalse(budget.tryAcquire());
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertTrue(budget.tryAcquire());
+    }
+}
@@ -24,6 +24,7 @@ import org.testng.annotations.Test;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 
 import static org.mockito.Mockito.*;
@@ -43,6 +44,25 @@ public class RetryUtilTest {
         assertEquals(20000, RetryUtil.getDefaultDelayMillis(10));
     }
 
+    @Test
+    public void testGetDecorrelatedJitterDelayMillis() {
+        Random random = new Random(42);
+        long previous = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (int i = 0; i < 1000; i++) {
+            long delay = RetryUtil.getDecorrelatedJitterDelayMillis(previous, random);
+            assertTrue(delay >= 300, "delay " + delay);
+            assertTrue(delay <= Math.min(Math.max(previous, 300) * 3, 20000), "delay " + delay);
+            min = Math.min(min, delay);
+            max = Math.max(max, delay);
+            previous = delay;
+        }
+        // spread over the whole range instead of a fixed sequence
+        assertTrue(min < 1000);
+        assertTrue(max > 15000);
+    }
+
     @Test
     public void testGetRateLimitResetValue() {
         // Test with header present
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.tests;
+
+import com.okta.sdk.authc.credentials.TokenClientCredentials;
+import com.okta.sdk.client.AuthorizationMode;
+import com.okta.sdk.client.ClientBuilder;
+import com.okta.sdk.client.Clients;
+import com.okta.sdk.resource.api.GroupApi;
+import com.okta.sdk.resource.api.UserApi;
+import com.okta.sdk.resource.client.ApiClient;
+import com.okta.sdk.resource.client.ApiException;
+import com.okta.sdk.resource.model.Group;
+import com.okta.sdk.resource.model.User;
+import com.okta.sdk.standin.Fault;
+import com.okta.sdk.standin.OktaStandInServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Runs the SDK against the local {@link OktaStandInServer}: pagination, rate limits, injected faults and the DPoP
+ * handshake, without network access or a real org.
+ */
+public class OktaStandInClientTest {
+
+    private OktaStandInServer server;
+    private ApiClient client;
+
+    @BeforeClass
+    public void allowHttp() {
+        // the stand-in server speaks plain HTTP
+        System.setProperty(ClientBuilder.DEFAULT_CLIENT_TESTING_DISABLE_HTTPS_CHECK_PROPERTY_NAME, "true");
+    }
+
+    @AfterClass
+    public void restoreHttpsCheck() {
+        System.clearProperty(ClientBuilder.DEFAULT_CLIENT_TESTING_DISABLE_HTTPS_CHECK_PROPERTY_NAME);
+    }
+
+    @AfterMethod
+    public void teardown() throws IOException {
+        if (client != null) {
+            client.getHttpClient().close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testListUsersFollowsLinkHeaders() throws Exception {
+        server = OktaStandInServer.builder()
+            .seed("/api/v1/users", 450)
+            .start();
+        client = apiTokenClient().build();
+
+        Set<String> ids = new HashSet<>();
+        for (User user : new UserApi(client).listUsersPaged(null, null, null, null, null, 100, null, null, null, null)) {
+            assertNotNull(user.getProfile().getLogin());
+            ids.add(user.getId());
+        }
+
+        assertEquals(ids.size(), 450);
+        assertEquals(server.getRequestCount(), 5);
+    }
+
+    @Test
+    public void testRateLimitedRequestsAreRetried() throws Exception {
+        server = OktaStandInServer.builder()
+            .seed("/api/v1/groups", 3)
+            .rateLimit("/api/v1/groups", 2)
+            .rateLimitWindow(Duration.ofSeconds(1))
+            .start();
+        client = apiTokenClient()
+            .setRateLimitPacingEnabled(false)
+            .setRetryMaxAttempts(5)
+            .build();
+
+        GroupApi groupApi = new GroupApi(client);
+        for (int i = 0; i < 4; i++) {
+            List<Group> groups = groupApi.listGroups(null, null, null, null, null, null, null, null);
+            assertEquals(groups.size(), 3);
+        }
+
+        assertTrue(server.getRateLimitedCount() > 0, "no request was rate limited");
+        assertEquals(server.getRequestCount(), 4 + server.getRateLimitedCount());
+    }
+
+    @Test
+    public void testInjectedFaultsAreRetried() throws Exception {
+        server = OktaStandInServer.builder()
+            .fault(Fault.error(1.0, 503))
+            .start();
+        client = apiTokenClient()
+            .setRetryMaxAttempts(2)
+            .build();
+
+        ApiException e = expectThrows(ApiException.class, () -> new UserApi(client).getUser("00u1", null, null));
+
+        assertEquals(e.getCode(), 503);
+        assertTrue(server.getFaultCount() > 1, "the request was not retried");
+    }
+
+    @Test
+    public void testDpopHandshake() throws Exception {
+        server = OktaStandInServer.builder()
+            .seed("/api/v1/users", 1)
+            .dpop(true)
+            .start();
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        PrivateKey privateKey = generator.generateKeyPair().getPrivate();
+        client = Clients.builder()
+            .setOrgUrl(server.getBaseUrl())
+            .setAuthorizationMode(AuthorizationMode.PRIVATE_KEY)
+            .setClientId("0oa1standin")
+            .setScopes(Collections.singleton("okta.users.read"))
+            .setPrivateKey(privateKey)
+            .build();
+
+        User user = new UserApi(client).getUser("me", null, null);
+
+        assertNotNull(user.getId());
+        // invalid_dpop_proof, use_dpop_nonce, the token, then the user
+        assertEquals(server.getRequestCount(), 4);
+    }
+
+    private ClientBuilder apiTokenClient() {
+        return Clients.builder()
+            .setOrgUrl(server.getBaseUrl())
+            .setClientCredentials(new TokenClientCredentials("stand-in"));
+    }
+}
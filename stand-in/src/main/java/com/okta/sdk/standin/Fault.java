@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.standin;
+
+/**
+ * A failure the stand-in server injects into a share of the requests, instead of answering them.
+ *
+ * @since 25.1.0
+ */
+public final class Fault {
+
+    private final double rate;
+    private final int status;
+
+    private Fault(double rate, int status) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("rate must be between 0 and 1");
+        }
+        this.rate = rate;
+        this.status = status;
+    }
+
+    /**
+     * Answers {@code rate} of the requests with {@code status} and an Okta error body, e.g. {@code 503}.
+     */
+    public static Fault error(double rate, int status) {
+        if (status < 400 || status > 599) {
+            throw new IllegalArgumentException("status must be a 4xx or 5xx code");
+        }
+        return new Fault(rate, status);
+    }
+
+    /**
+     * Closes the connection of {@code rate} of the requests without answering, as a crashed server or a broken
+     * proxy would.
+     */
+    public static Fault drop(double rate) {
+        return new Fault(rate, 0);
+    }
+
+    double getRate() {
+        return rate;
+    }
+
+    /**
+     * The status to answer with, {@code 0} to drop the connection.
+     */
+    int getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return status == 0 ? "drop(" + rate + ")" : "error(" + rate + ", " + status + ")";
+    }
+}
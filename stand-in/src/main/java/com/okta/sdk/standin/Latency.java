@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.standin;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A distribution of the time the stand-in server takes to answer a request.
+ *
+ * @since 25.1.0
+ */
+@FunctionalInterface
+public interface Latency {
+
+    /**
+     * No added latency.
+     */
+    Latency NONE = () -> 0;
+
+    /**
+     * Draws the delay of the next response.
+     *
+     * @return the delay in milliseconds
+     */
+    long nextMillis();
+
+    /**
+     * Always the same delay.
+     */
+    static Latency fixed(Duration delay) {
+        long millis = delay.toMillis();
+        return () -> millis;
+    }
+
+    /**
+     * A delay drawn uniformly between {@code min} and {@code max}.
+     */
+    static Latency uniform(Duration min, Duration max) {
+        long from = min.toMillis();
+        long to = max.toMillis();
+        if (to < from) {
+            throw new IllegalArgumentException("max must not be less than min");
+        }
+        return () -> ThreadLocalRandom.current().nextLong(from, to + 1);
+    }
+
+    /**
+     * A long-tailed delay, as observed for real services: log-normal around {@code median}, with 99% of the delays
+     * below {@code p99}.
+     */
+    static Latency logNormal(Duration median, Duration p99) {
+        if (p99.compareTo(median) < 0) {
+            throw new IllegalArgumentException("p99 must not be less than the median");
+        }
+        double mu = Math.log(Math.max(1, median.toMillis()));
+        // 2.326 is the 99th percentile of the standard normal distribution
+        double sigma = (Math.log(Math.max(1, p99.toMillis())) - mu) / 2.326;
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
@@ -0,0 +1,644 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local stand-in for an Okta org, so that load, soak and integration tests of the SDK can run without network
+ * access or a real org.
+ * <p>
+ * Every operation of the management API specification is routed. Resources created through the API, or seeded with
+ * {@link Builder#seed(String, int)}, are kept in memory: collections are listed page by page with {@code Link}
+ * headers, and single resources can be read, updated and deleted. Operations on anything else answer with the
+ * example payload of the specification.
+ * <p>
+ * Around that, the server behaves the way the SDK has to cope with in production:
+ * <ul>
+ *     <li>per-bucket rate limits, with {@code x-rate-limit-*} headers and {@code 429} responses once a budget is
+ *     used up,</li>
+ *     <li>a latency distribution for all or for single operations,</li>
+ *     <li>injected errors and dropped connections,</li>
+ *     <li>the {@code /oauth2/v1/token} endpoint for OAuth 2.0 clients, with the DPoP nonce handshake.</li>
+ * </ul>
+ * <pre>
+ * try (OktaStandInServer server = OktaStandInServer.builder()
+ *         .seed("/api/v1/users", 1000)
+ *         .rateLimit("/api/v1/users", 600)
+ *         .latency(Latency.logNormal(Duration.ofMillis(40), Duration.ofMillis(400)))
+ *         .fault(Fault.error(0.01, 503))
+ *         .start()) {
+ *     ApiClient client = Clients.builder().setOrgUrl(server.getBaseUrl())...build();
+ * }
+ * </pre>
+ * The server speaks plain HTTP, clients need {@code okta.testing.disableHttpsCheck=true}. It can also be run on its
+ * own, see {@link #main(String[])}.
+ *
+ * @since 25.1.0
+ */
+public final class OktaStandInServer implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(OktaStandInServer.class);
+
+    private static final String JSON = "application/json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+
+    private final SpecRoutes routes;
+    private final ResourceStore store = new ResourceStore();
+    private final RateLimits rateLimits;
+    private final TokenEndpoint tokenEndpoint;
+    private final Latency latency;
+    private final Map<String, Latency> operationLatencies;
+    private final List<Fault> faults;
+    private final int defaultPageSize;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder injectedFaults = new LongAdder();
+
+    private OktaStandInServer(Builder builder) throws IOException {
+        this.routes = builder.spec != null ? parse(builder.spec) : SpecRoutes.bundled();
+        this.rateLimits = new RateLimits(new HashMap<>(builder.rateLimits), builder.defaultRateLimit,
+            builder.rateLimitWindow.toMillis(), System::currentTimeMillis);
+        this.tokenEndpoint = new TokenEndpoint(objectMapper, builder.dpop, builder.tokenTtl.toMillis(), System::currentTimeMillis);
+        this.latency = builder.latency;
+        this.operationLatencies = new HashMap<>(builder.operationLatencies);
+        this.faults = new ArrayList<>(builder.faults);
+        this.defaultPageSize = builder.defaultPageSize;
+
+        builder.seeds.forEach((path, count) -> store.seed(path, count, template(path)));
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "okta-stand-in-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), builder.port), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+        this.baseUrl = "http://localhost:" + server.getAddress().getPort();
+        log.info("Okta stand-in server with {} operations listening on {}", routes.size(), baseUrl);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The URL to use as the org URL of the clients, e.g. {@code http://localhost:54321}.
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * The number of requests received, including the rate limited and failed ones.
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * The number of requests answered with {@code 429}.
+     */
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * The number of requests answered with an injected {@link Fault}.
+     */
+    public long getFaultCount() {
+        return injectedFaults.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.increment();
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getRawPath();
+            boolean tokenRequest = "POST".equals(method) && TokenEndpoint.PATH.equals(path);
+            SpecRoutes.Route route = tokenRequest ? null : routes.match(method, SpecRoutes.segments(path));
+
+            pause(operationLatencies.getOrDefault(tokenRequest ? "token" : route != null ? route.operationId : null, latency));
+            Fault fault = nextFault();
+            if (fault != null) {
+                injectedFaults.increment();
+                if (fault.getStatus() == 0) {
+                    // closing the exchange before the response headers are sent closes the connection
+                    return;
+                }
+                send(exchange, error(fault.getStatus(), "E0000009", "Internal Server Error"));
+                return;
+            }
+
+            String proof = exchange.getRequestHeaders().getFirst("DPoP");
+            if (tokenRequest) {
+                send(exchange, tokenEndpoint.token(form(read(exchange.getRequestBody())), proof));
+                return;
+            }
+            if (!tokenEndpoint.authorize(exchange.getRequestHeaders().getFirst("Authorization"), proof)) {
+                send(exchange, error(401, "E0000011", "Invalid token provided"));
+                return;
+            }
+
+            RateLimits.Window.State limit = rateLimits.acquire(path);
+            Reply reply;
+            if (limit != null && !limit.allowed) {
+                rateLimited.increment();
+                reply = error(429, "E0000047", "API call exceeded rate limit due to too many requests.");
+            } else if (route == null) {
+                reply = error(404, "E0000007", "Not found: Resource not found: " + path + " (" + method + ")");
+            } else {
+                reply = respond(exchange, method, path, route);
+            }
+            if (limit != null) {
+                reply.header("x-rate-limit-limit", Integer.toString(limit.limit))
+                    .header("x-rate-limit-remaining", Integer.toString(Math.max(0, limit.remaining)))
+                    .header("x-rate-limit-reset", Long.toString(limit.resetEpochSeconds()));
+            }
+            send(exchange, reply);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Failed to answer {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            send(exchange, error(500, "E0000009", "Internal Server Error"));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Reply respond(HttpExchange exchange, String method, String path, SpecRoutes.Route route) throws IOException {
+        if ("GET".equals(method) && route.list) {
+            return store.hasCollection(path) ? page(exchange, path) : example(route);
+        }
+        if ("POST".equals(method) && !route.endsWithParameter() && isCollection(path)) {
+            JsonNode body = readJson(exchange);
+            if (body instanceof ObjectNode) {
+                return new Reply(route.status, store.create(path, (ObjectNode) body));
+            }
+        }
+
+        int slash = path.lastIndexOf('/');
+        String collection = path.substring(0, slash);
+        String id = decode(path.substring(slash + 1));
+        // me stands for the caller, e.g. /api/v1/users/me, it is answered with the example
+        if (route.endsWithParameter() && store.hasCollection(collection) && !"me".equals(id)) {
+            switch (method) {
+                case "GET":
+                    return found(store.get(collection, id), route.status, path);
+                case "DELETE":
+                    return store.delete(collection, id) ? new Reply(route.status, null) : notFound(path);
+                case "PUT":
+                case "POST": {
+                    JsonNode body = readJson(exchange);
+                    if (body instanceof ObjectNode) {
+                        return found(store.update(collection, id, (ObjectNode) body, "POST".equals(method)), route.status, path);
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+        }
+        return example(route);
+    }
+
+    private Reply page(HttpExchange exchange, String path) {
+        Map<String, String> query = form(exchange.getRequestURI().getRawQuery());
+        int limit = defaultPageSize;
+        if (query.containsKey("limit")) {
+            try {
+                limit = Math.max(1, Integer.parseInt(query.get("limit")));
+            } catch (NumberFormatException e) {
+                return error(400, "E0000001", "Api validation failed: limit");
+            }
+        }
+
+        ResourceStore.Page page = store.page(path, query.get("after"), limit);
+        ArrayNode body = objectMapper.createArrayNode();
+        page.resources.forEach(body::add);
+        Reply reply = new Reply(200, body);
+
+        query.remove("after");
+        query.put("limit", Integer.toString(limit));
+        reply.header("Link", "<" + link(path, query) + ">; rel=\"self\"");
+        if (page.next != null) {
+            query.put("after", page.next);
+            reply.header("Link", "<" + link(path, query) + ">; rel=\"next\"");
+        }
+        return reply;
+    }
+
+    private boolean isCollection(String path) {
+        if (store.hasCollection(path)) {
+            return true;
+        }
+        SpecRoutes.Route list = routes.match("GET", SpecRoutes.segments(path));
+        return list != null && list.list;
+    }
+
+    private Reply example(SpecRoutes.Route route) {
+        if (route.status == 204) {
+            return new Reply(204, null);
+        }
+        if (route.example != null) {
+            return new Reply(route.status, route.example);
+        }
+        return new Reply(route.status, route.list ? objectMapper.createArrayNode() : objectMapper.createObjectNode());
+    }
+
+    private Reply found(ObjectNode resource, int status, String path) {
+        return resource != null ? new Reply(status, resource) : notFound(path);
+    }
+
+    private Reply notFound(String path) {
+        return error(404, "E0000007", "Not found: Resource not found: " + path.substring(path.lastIndexOf('/') + 1));
+    }
+
+    private Reply error(int status, String errorCode, String errorSummary) {
+        ObjectNode body = objectMapper.createObjectNode()
+            .put("errorCode", errorCode)
+            .put("errorSummary", errorSummary)
+            .put("errorLink", errorCode)
+            .put("errorId", "oae" + UUID.randomUUID().toString().replace("-", "").substring(0, 19));
+        body.putArray("errorCauses");
+        return new Reply(status, body);
+    }
+
+    /**
+     * The template resources of a collection are seeded from: the example of reading one resource, or else the first
+     * element of the listing example.
+     */
+    private JsonNode template(String path) {
+        SpecRoutes.Route get = routes.match("GET", SpecRoutes.segments(path + "/id"));
+        if (get != null && get.example != null && get.example.isObject()) {
+            return get.example;
+        }
+        SpecRoutes.Route list = routes.match("GET", SpecRoutes.segments(path));
+        if (list != null && list.example != null && list.example.size() > 0) {
+            return list.example.get(0);
+        }
+        return objectMapper.createObjectNode();
+    }
+
+    private Fault nextFault() {
+        if (faults.isEmpty()) {
+            return null;
+        }
+        double roll = ThreadLocalRandom.current().nextDouble();
+        for (Fault fault : faults) {
+            roll -= fault.getRate();
+            if (roll < 0) {
+                return fault;
+            }
+        }
+        return null;
+    }
+
+    private static void pause(Latency latency) throws InterruptedException {
+        long millis = latency.nextMillis();
+        if (millis > 0) {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+    }
+
+    private JsonNode readJson(HttpExchange exchange) throws IOException {
+        byte[] body = read(exchange.getRequestBody());
+        return body.length > 0 ? objectMapper.readTree(body) : null;
+    }
+
+    private void send(HttpExchange exchange, Reply reply) throws IOException {
+        reply.headers.forEach((name, values) -> exchange.getResponseHeaders().put(name, values));
+        exchange.getResponseHeaders().set("X-Okta-Request-Id", UUID.randomUUID().toString());
+        if (reply.body == null) {
+            exchange.sendResponseHeaders(reply.status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(reply.body);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(reply.status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private String link(String path, Map<String, String> query) {
+        StringBuilder link = new StringBuilder(baseUrl).append(path);
+        char separator = '?';
+        for (Map.Entry<String, String> parameter : query.entrySet()) {
+            link.append(separator).append(encode(parameter.getKey())).append('=').append(encode(parameter.getValue()));
+            separator = '&';
+        }
+        return link.toString();
+    }
+
+    private static SpecRoutes parse(Path spec) throws IOException {
+        try (InputStream in = Files.newInputStream(spec)) {
+            return SpecRoutes.parse(in);
+        }
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int n; (n = in.read(buffer)) != -1; ) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<String, String> form(byte[] body) {
+        return form(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> form(String encoded) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (encoded != null && !encoded.isEmpty()) {
+            for (String pair : encoded.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    parameters.put(decode(pair.substring(0, equals)), decode(pair.substring(equals + 1)));
+                } else if (!pair.isEmpty()) {
+                    parameters.put(decode(pair), "");
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Runs a stand-in server until the process is stopped, for soak tests or to try the SDK out on a laptop.
+     * <pre>
+     * --port=8080                     port to listen on, a free one by default
+     * --spec=path/to/api.yaml         specification to serve, the bundled one by default
+     * --seed=/api/v1/users:1000       resources to create in a collection, repeatable
+     * --rate-limit=/api/v1/users:600  requests per minute allowed in a bucket, repeatable
+     * --default-rate-limit=1200       requests per minute allowed in other buckets
+     * --latency=40:400                log-normal latency, median and p99 in milliseconds
+     * --error-rate=0.01:503           share of the requests answered with an error status, repeatable
+     * --drop-rate=0.001               share of the connections closed without an answer
+     * --dpop                          require DPoP for OAuth 2.0 clients
+     * </pre>
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Builder builder = builder();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = equals > 0 ? arg.substring(0, equals) : arg;
+            String value = equals > 0 ? arg.substring(equals + 1) : "";
+            int colon = value.lastIndexOf(':');
+            switch (name) {
+                case "--port":
+                    builder.port(Integer.parseInt(value));
+                    break;
+                case "--spec":
+                    builder.spec(Paths.get(value));
+                    break;
+                case "--seed":
+                    builder.seed(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+                    break;
+                case "--rate-limit":
+                    builder.rateLimit(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+                    break;
+                case "--default-rate-limit":
+                    builder.defaultRateLimit(Integer.parseInt(value));
+                    break;
+                case "--latency":
+                    builder.latency(Latency.logNormal(Duration.ofMillis(Long.parseLong(value.substring(0, colon))),
+                        Duration.ofMillis(Long.parseLong(value.substring(colon + 1)))));
+                    break;
+                case "--error-rate":
+                    builder.fault(Fault.error(Double.parseDouble(value.substring(0, colon)), Integer.parseInt(value.substring(colon + 1))));
+                    break;
+                case "--drop-rate":
+                    builder.fault(Fault.drop(Double.parseDouble(value)));
+                    break;
+                case "--dpop":
+                    builder.dpop(true);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        OktaStandInServer server = builder.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Okta stand-in server listening on " + server.getBaseUrl());
+        Thread.currentThread().join();
+    }
+
+    /**
+     * A response: status, body and the headers besides {@code Content-Type}.
+     */
+    static final class Reply {
+
+        final int status;
+        final JsonNode body;
+        final Map<String, List<String>> headers = new LinkedHashMap<>();
+
+        Reply(int status, JsonNode body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        Reply header(String name, String value) {
+            headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+            return this;
+        }
+    }
+
+    /**
+     * Configures and starts an {@link OktaStandInServer}. By default, the server listens on a free port, serves the
+     * bundled specification without rate limits, latency or faults, and issues bearer tokens valid for one hour.
+     */
+    public static final class Builder {
+
+        private int port;
+        private Path spec;
+        private final Map<String, Integer> seeds = new LinkedHashMap<>();
+        private final Map<String, Integer> rateLimits = new HashMap<>();
+        private int defaultRateLimit;
+        private Duration rateLimitWindow = Duration.ofMinutes(1);
+        private Latency latency = Latency.NONE;
+        private final Map<String, Latency> operationLatencies = new HashMap<>();
+        private final List<Fault> faults = new ArrayList<>();
+        private boolean dpop;
+        private Duration tokenTtl = Duration.ofHours(1);
+        private int defaultPageSize = 200;
+
+        private Builder() {
+        }
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Serves another OpenAPI specification than the bundled management API one.
+         */
+        public Builder spec(Path spec) {
+            this.spec = spec;
+            return this;
+        }
+
+        /**
+         * Creates {@code count} resources in a collection, e.g. {@code seed("/api/v1/users", 1000)}, modelled on the
+         * example payloads of the specification.
+         */
+        public Builder seed(String collectionPath, int count) {
+            seeds.merge(collectionPath, count, Integer::sum);
+            return this;
+        }
+
+        /**
+         * Allows {@code requestsPerWindow} requests per rate limit window to a bucket, e.g. {@code /api/v1/users}.
+         */
+        public Builder rateLimit(String bucket, int requestsPerWindow) {
+            rateLimits.put(RateLimits.bucketOf(bucket), requestsPerWindow);
+            return this;
+        }
+
+        /**
+         * Allows {@code requestsPerWindow} requests per rate limit window to each bucket without its own limit,
+         * {@code 0} for no limit.
+         */
+        public Builder defaultRateLimit(int requestsPerWindow) {
+            this.defaultRateLimit = requestsPerWindow;
+            return this;
+        }
+
+        /**
+         * The length of the rate limit windows, one minute like Okta's by default. Shorter windows make rate limit
+         * tests quicker.
+         */
+        public Builder rateLimitWindow(Duration window) {
+            if (window.toMillis() < 1000) {
+                throw new IllegalArgumentException("window must be at least one second");
+            }
+            this.rateLimitWindow = window;
+            return this;
+        }
+
+        public Builder latency(Latency latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * The latency of one operation, by its id in the specification, e.g. {@code listUsers}, or {@code token}
+         * for the token endpoint.
+         */
+        public Builder latency(String operationId, Latency latency) {
+            operationLatencies.put(operationId, latency);
+            return this;
+        }
+
+        public Builder fault(Fault fault) {
+            faults.add(fault);
+            return this;
+        }
+
+        /**
+         * Requires DPoP-bound access tokens from OAuth 2.0 clients.
+         */
+        public Builder dpop(boolean dpop) {
+            this.dpop = dpop;
+            return this;
+        }
+
+        public Builder tokenTtl(Duration tokenTtl) {
+            this.tokenTtl = tokenTtl;
+            return this;
+        }
+
+        /**
+         * The page size of listings without a {@code limit} parameter.
+         */
+        public Builder defaultPageSize(int defaultPageSize) {
+            this.defaultPageSize = defaultPageSize;
+            return this;
+        }
+
+        public OktaStandInServer start() throws IOException {
+            double faultRate = faults.stream().mapToDouble(Fault::getRate).sum();
+            if (faultRate > 1) {
+                throw new IllegalArgumentException("the fault rates add up to more than 1");
+            }
+            return new OktaStandInServer(this);
+        }
+    }
+}
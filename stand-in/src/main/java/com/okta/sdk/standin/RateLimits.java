@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.standin;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-bucket request budgets, counted over fixed windows like Okta's rate limits.
+ * <p>
+ * A bucket is the first three path segments of a request, e.g. {@code /api/v1/users}, the same grouping the SDK uses
+ * to pace its requests. A window starts with the first request to its bucket.
+ */
+final class RateLimits {
+
+    private final Map<String, Integer> limits;
+    private final int defaultLimit;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    RateLimits(Map<String, Integer> limits, int defaultLimit, long windowMillis, LongSupplier clock) {
+        this.limits = limits;
+        this.defaultLimit = defaultLimit;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Counts a request against its bucket.
+     *
+     * @return the state of the bucket after the request, or {@code null} if the bucket is not limited
+     */
+    Window.State acquire(String path) {
+        String bucket = bucketOf(path);
+        int limit = limits.getOrDefault(bucket, defaultLimit);
+        if (limit <= 0) {
+            return null;
+        }
+        return windows.computeIfAbsent(bucket, key -> new Window(limit)).acquire(clock.getAsLong(), windowMillis);
+    }
+
+    static String bucketOf(String path) {
+        int segments = 0;
+        for (int i = 1; i < path.length(); i++) {
+            if (path.charAt(i) == '/' && ++segments == 3) {
+                return path.substring(0, i);
+            }
+        }
+        return path;
+    }
+
+    static final class Window {
+
+        private final int limit;
+        private long resetAt;
+        private int used;
+
+        Window(int limit) {
+            this.limit = limit;
+        }
+
+        synchronized State acquire(long now, long windowMillis) {
+            if (now >= resetAt) {
+                resetAt = now + windowMillis;
+                used = 0;
+            }
+            boolean allowed = used < limit;
+            if (allowed) {
+                used++;
+            }
+            return new State(limit, limit - used, resetAt, allowed);
+        }
+
+        static final class State {
+
+            final int limit;
+            final int remaining;
+            final long resetAtMillis;
+            final boolean allowed;
+
+            State(int limit, int remaining, long resetAtMillis, boolean allowed) {
+                this.limit = limit;
+                this.remaining = remaining;
+                this.resetAtMillis = resetAtMillis;
+                this.allowed = allowed;
+            }
+
+            /**
+             * The value of {@code x-rate-limit-reset}: the end of the window in epoch seconds, rounded up.
+             */
+            long resetEpochSeconds() {
+                return (resetAtMillis + 999) / 1000;
+            }
+        }
+    }
+}
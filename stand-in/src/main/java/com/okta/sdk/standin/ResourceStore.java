@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The resources created in, or seeded into, the stand-in server, by collection path, e.g. {@code /api/v1/users} or
+ * {@code /api/v1/groups/00g1/users}.
+ * <p>
+ * Ids are generated in increasing order, so a collection iterates in creation order and the {@code after} cursor of
+ * a page is simply the id of its last resource.
+ */
+final class ResourceStore {
+
+    private static final int ID_LENGTH = 20;
+
+    private final ConcurrentMap<String, NavigableMap<String, ObjectNode>> collections = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    boolean hasCollection(String path) {
+        return collections.containsKey(path);
+    }
+
+    /**
+     * Adds {@code count} copies of {@code template} to a collection, with their own ids and, for users and groups,
+     * their own logins and names.
+     */
+    void seed(String path, int count, JsonNode template) {
+        NavigableMap<String, ObjectNode> collection = collection(path);
+        for (int i = 0; i < count; i++) {
+            ObjectNode resource = template.isObject() ? ((ObjectNode) template).deepCopy() : JsonNodeFactory.instance.objectNode();
+            String id = nextId(path);
+            resource.put("id", id);
+            JsonNode profile = resource.get("profile");
+            if (profile instanceof ObjectNode) {
+                ObjectNode fields = (ObjectNode) profile;
+                if (fields.has("login")) {
+                    fields.put("login", "user" + id + "@example.com");
+                    fields.put("email", "user" + id + "@example.com");
+                }
+                if (fields.has("name")) {
+                    fields.put("name", fields.get("name").asText() + " " + id);
+                }
+            }
+            collection.put(id, resource);
+        }
+    }
+
+    ObjectNode create(String path, ObjectNode resource) {
+        String id = nextId(path);
+        resource.put("id", id);
+        collection(path).put(id, resource);
+        return resource;
+    }
+
+    ObjectNode get(String path, String id) {
+        NavigableMap<String, ObjectNode> collection = collections.get(path);
+        return collection != null ? collection.get(id) : null;
+    }
+
+    /**
+     * Replaces a resource, or with {@code partial} merges the fields of {@code update} into it.
+     *
+     * @return the updated resource, or {@code null} if there is no such resource
+     */
+    ObjectNode update(String path, String id, ObjectNode update, boolean partial) {
+        NavigableMap<String, ObjectNode> collection = collections.get(path);
+        if (collection == null) {
+            return null;
+        }
+        return collection.computeIfPresent(id, (key, current) -> {
+            ObjectNode updated = partial ? merge(current.deepCopy(), update) : update.deepCopy();
+            updated.put("id", id);
+            return updated;
+        });
+    }
+
+    boolean delete(String path, String id) {
+        NavigableMap<String, ObjectNode> collection = collections.get(path);
+        return collection != null && collection.remove(id) != null;
+    }
+
+    /**
+     * Reads up to {@code limit} resources that come after the {@code after} cursor.
+     *
+     * @return the page, and the cursor of the next page if there are more resources
+     */
+    Page page(String path, String after, int limit) {
+        NavigableMap<String, ObjectNode> collection = collections.get(path);
+        List<ObjectNode> resources = new ArrayList<>(Math.min(limit, 256));
+        String next = null;
+        if (collection != null) {
+            Iterator<ObjectNode> iterator = (after != null ? collection.tailMap(after, false) : collection).values().iterator();
+            while (iterator.hasNext() && resources.size() < limit) {
+                resources.add(iterator.next());
+            }
+            if (iterator.hasNext()) {
+                next = resources.get(resources.size() - 1).get("id").asText();
+            }
+        }
+        return new Page(resources, next);
+    }
+
+    private NavigableMap<String, ObjectNode> collection(String path) {
+        return collections.computeIfAbsent(path, key -> new ConcurrentSkipListMap<>());
+    }
+
+    /**
+     * Okta-like ids: {@code 00} and the first letter of the collection, e.g. {@code 00u} for users, then a base 36
+     * sequence number padded to 20 characters.
+     */
+    private String nextId(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        String prefix = "00" + (name.isEmpty() ? "x" : name.substring(0, 1));
+        String number = Long.toString(sequence.incrementAndGet(), 36);
+        StringBuilder id = new StringBuilder(ID_LENGTH).append(prefix);
+        for (int i = prefix.length() + number.length(); i < ID_LENGTH; i++) {
+            id.append('0');
+        }
+        return id.append(number).toString();
+    }
+
+    private static ObjectNode merge(ObjectNode target, ObjectNode update) {
+        Iterator<Map.Entry<String, JsonNode>> fields = update.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode current = target.get(field.getKey());
+            if (current instanceof ObjectNode && field.getValue() instanceof ObjectNode) {
+                merge((ObjectNode) current, (ObjectNode) field.getValue());
+            } else {
+                target.set(field.getKey(), field.getValue());
+            }
+        }
+        return target;
+    }
+
+    static final class Page {
+
+        final List<ObjectNode> resources;
+        final String next;
+
+        Page(List<ObjectNode> resources, String next) {
+            this.resources = resources;
+            this.next = next;
+        }
+    }
+}
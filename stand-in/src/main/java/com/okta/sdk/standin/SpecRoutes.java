@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The operations of an OpenAPI specification, matched against request paths.
+ * <p>
+ * Each route keeps what the stand-in needs to answer without any state: the status of the first successful response,
+ * its example body with {@code $ref}s resolved, and whether the operation lists a collection.
+ */
+final class SpecRoutes {
+
+    private static final String[] METHODS = { "get", "put", "post", "delete", "patch" };
+
+    private static volatile SpecRoutes bundled;
+
+    // routes by method and number of path segments, most specific first
+    private final Map<String, List<Route>> routes;
+    private final int size;
+
+    private SpecRoutes(Map<String, List<Route>> routes, int size) {
+        this.routes = routes;
+        this.size = size;
+    }
+
+    /**
+     * The routes of the management API specification bundled with this module, parsed once per class loader.
+     */
+    static SpecRoutes bundled() {
+        SpecRoutes routes = bundled;
+        if (routes == null) {
+            synchronized (SpecRoutes.class) {
+                routes = bundled;
+                if (routes == null) {
+                    try (InputStream in = SpecRoutes.class.getResourceAsStream("api.yaml")) {
+                        if (in == null) {
+                            throw new IllegalStateException("api.yaml is missing from the classpath");
+                        }
+                        routes = parse(in);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    bundled = routes;
+                }
+            }
+        }
+        return routes;
+    }
+
+    static SpecRoutes parse(InputStream in) throws IOException {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        // the management API specification is well above the default 3 MB
+        loaderOptions.setCodePointLimit(64 * 1024 * 1024);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        Yaml yaml = new Yaml(new SafeConstructor(loaderOptions), new Representer(new DumperOptions()),
+            new DumperOptions(), loaderOptions, new StringTimestampResolver());
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            Object spec = yaml.load(reader);
+            return of(new ObjectMapper().valueToTree(spec));
+        }
+    }
+
+    static SpecRoutes of(JsonNode spec) {
+        Map<String, List<Route>> routes = new HashMap<>();
+        int size = 0;
+        Iterator<Map.Entry<String, JsonNode>> paths = spec.path("paths").fields();
+        while (paths.hasNext()) {
+            Map.Entry<String, JsonNode> path = paths.next();
+            for (String method : METHODS) {
+                JsonNode operation = path.getValue().get(method);
+                if (operation != null) {
+                    Route route = route(spec, method.toUpperCase(Locale.ENGLISH), path.getKey(), operation);
+                    routes.computeIfAbsent(route.method + " " + route.segments.length, key -> new ArrayList<>()).add(route);
+                    size++;
+                }
+            }
+        }
+        routes.values().forEach(list -> list.sort((a, b) -> Integer.compare(b.literals, a.literals)));
+        return new SpecRoutes(routes, size);
+    }
+
+    private static Route route(JsonNode spec, String method, String path, JsonNode operation) {
+        int status = 200;
+        JsonNode content = null;
+        Iterator<Map.Entry<String, JsonNode>> responses = operation.path("responses").fields();
+        while (responses.hasNext()) {
+            Map.Entry<String, JsonNode> response = responses.next();
+            if (response.getKey().startsWith("2")) {
+                status = Integer.parseInt(response.getKey());
+                content = resolve(spec, response.getValue()).path("content").path("application/json");
+                break;
+            }
+        }
+
+        JsonNode example = null;
+        boolean list = false;
+        if (content != null && !content.isMissingNode()) {
+            list = "array".equals(resolve(spec, content.path("schema")).path("type").asText());
+            if (content.has("example")) {
+                example = content.get("example");
+            } else if (content.path("examples").size() > 0) {
+                example = resolve(spec, content.get("examples").elements().next()).get("value");
+            }
+        }
+        return new Route(method, path, operation.path("operationId").asText(null), status, example, list);
+    }
+
+    private static JsonNode resolve(JsonNode spec, JsonNode node) {
+        while (node.has("$ref")) {
+            // only local references, e.g. #/components/examples/user-example
+            node = spec.at(node.get("$ref").asText().substring(1));
+        }
+        return node;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the route of a request, literal segments win over parameters, e.g. {@code /api/v1/users/me} over
+     * {@code /api/v1/users/{id}}.
+     *
+     * @return the route, or {@code null} if the specification has no such operation
+     */
+    Route match(String method, String[] segments) {
+        List<Route> candidates = routes.getOrDefault(method + " " + segments.length, Collections.emptyList());
+        for (Route route : candidates) {
+            if (route.matches(segments)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    static String[] segments(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+    }
+
+    static final class Route {
+
+        final String method;
+        final String template;
+        final String operationId;
+        final int status;
+        final JsonNode example;
+        final boolean list;
+
+        private final String[] segments;
+        private final int literals;
+
+        Route(String method, String template, String operationId, int status, JsonNode example, boolean list) {
+            this.method = method;
+            this.template = template;
+            this.operationId = operationId != null ? operationId : method + " " + template;
+            this.status = status;
+            this.example = example;
+            this.list = list;
+            this.segments = segments(template);
+            this.literals = (int) Arrays.stream(segments).filter(segment -> !isParameter(segment)).count();
+        }
+
+        boolean matches(String[] path) {
+            for (int i = 0; i < segments.length; i++) {
+                if (!isParameter(segments[i]) && !segments[i].equals(path[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether the last path segment is a parameter, e.g. {@code /api/v1/users/{id}}.
+         */
+        boolean endsWithParameter() {
+            return segments.length > 0 && isParameter(segments[segments.length - 1]);
+        }
+
+        private static boolean isParameter(String segment) {
+            return segment.startsWith("{") && segment.endsWith("}");
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + template + " (" + operationId + ")";
+        }
+    }
+
+    /**
+     * Keeps timestamps as strings, so the example payloads are served the way they are written in the specification.
+     */
+    private static final class StringTimestampResolver extends Resolver {
+
+        @Override
+        public void addImplicitResolver(Tag tag, Pattern regexp, String first, int limit) {
+            if (!Tag.TIMESTAMP.equals(tag)) {
+                super.addImplicitResolver(tag, regexp, first, limit);
+            }
+        }
+    }
+}
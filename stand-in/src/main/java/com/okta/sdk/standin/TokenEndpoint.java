@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025-Present, Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.sdk.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The org authorization server's {@code /oauth2/v1/token} endpoint, for the client credentials grant with a client
+ * assertion, and the access tokens it issued.
+ * <p>
+ * With DPoP enabled, the handshake goes the way the SDK expects it: a request without a proof is answered with
+ * {@code invalid_dpop_proof}, a proof without the server's nonce with {@code use_dpop_nonce} and a {@code DPoP-Nonce}
+ * header, and only a proof carrying the nonce gets a {@code DPoP} token. Proofs are decoded but their signatures are
+ * not verified.
+ */
+final class TokenEndpoint {
+
+    static final String PATH = "/oauth2/v1/token";
+
+    private final ObjectMapper objectMapper;
+    private final boolean dpop;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final String nonce = UUID.randomUUID().toString();
+    // access token -> expiry in epoch millis
+    private final ConcurrentMap<String, Long> tokens = new ConcurrentHashMap<>();
+
+    TokenEndpoint(ObjectMapper objectMapper, boolean dpop, long ttlMillis, LongSupplier clock) {
+        this.objectMapper = objectMapper;
+        this.dpop = dpop;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    OktaStandInServer.Reply token(Map<String, String> form, String proof) {
+        if (!"client_credentials".equals(form.get("grant_type"))) {
+            return oauthError("unsupported_grant_type", "The grant type is not supported by the stand-in server.");
+        }
+        if (form.get("client_assertion") == null) {
+            return oauthError("invalid_client", "A client assertion is required.");
+        }
+        if (dpop) {
+            if (proof == null) {
+                return oauthError("invalid_dpop_proof", "The DPoP proof JWT header is missing.");
+            }
+            JsonNode claims = claims(proof);
+            if (claims == null) {
+                return oauthError("invalid_dpop_proof", "The DPoP proof JWT is malformed.");
+            }
+            if (!nonce.equals(claims.path("nonce").asText(null))) {
+                return oauthError("use_dpop_nonce", "Authorization server requires nonce in DPoP proof.")
+                    .header("DPoP-Nonce", nonce);
+            }
+        }
+
+        String accessToken = UUID.randomUUID().toString();
+        tokens.put(accessToken, clock.getAsLong() + ttlMillis);
+        ObjectNode body = objectMapper.createObjectNode()
+            .put("token_type", dpop ? "DPoP" : "Bearer")
+            .put("expires_in", ttlMillis / 1000)
+            .put("access_token", accessToken);
+        body.put("scope", form.getOrDefault("scope", ""));
+        return new OktaStandInServer.Reply(200, body);
+    }
+
+    /**
+     * Checks the {@code Authorization} header of an API request: any {@code SSWS} token, or a token issued by this
+     * endpoint that has not expired, sent with the scheme it was issued for.
+     */
+    boolean authorize(String authorization, String proof) {
+        if (authorization == null) {
+            return false;
+        }
+        int space = authorization.indexOf(' ');
+        if (space < 0) {
+            return false;
+        }
+        String scheme = authorization.substring(0, space);
+        String token = authorization.substring(space + 1);
+        if ("SSWS".equals(scheme)) {
+            return !token.isEmpty();
+        }
+        if (!(dpop ? "DPoP".equals(scheme) && proof != null : "Bearer".equals(scheme))) {
+            return false;
+        }
+        Long expiry = tokens.get(token);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry <= clock.getAsLong()) {
+            tokens.remove(token);
+            return false;
+        }
+        return true;
+    }
+
+    private JsonNode claims(String proof) {
+        String[] parts = proof.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+            if (!"dpop+jwt".equals(header.path("typ").asText())) {
+                return null;
+            }
+            return objectMapper.readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private OktaStandInServer.Reply oauthError(String error, String description) {
+        ObjectNode body = objectMapper.createObjectNode()
+            .put("error", error)
+            .put("error_description", description);
+        return new OktaStandInServer.Reply(400, body);
+    }
+}